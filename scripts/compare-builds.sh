@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Compares builds of the application: time to ready (process launch to readiness UP), resident set size
+# when idle and after load, and steady-state throughput and p99 latency from the load-test harness.
+#
+# Usage: scripts/compare-builds.sh [--rate N] [--duration 2m] [--port 8080] LABEL=COMMAND...
+#   e.g. scripts/compare-builds.sh "jvm=java -jar build/jvm/election-app-1.0.0.jar" "native=build/native/election-app"
+# Builds run one after another against the database in DB_URL, DB_USER and DB_PASS, which must already be migrated.
+set -euo pipefail
+
+rate=1000
+duration=2m
+port=8080
+builds=()
+
+while [[ $# -gt 0 ]]; do
+    case "$1" in
+        --rate) rate=$2; shift 2 ;;
+        --duration) duration=$2; shift 2 ;;
+        --port) port=$2; shift 2 ;;
+        -h|--help) sed -n '2,7p' "$0"; exit 0 ;;
+        *=*) builds+=("$1"); shift ;;
+        *) echo "Expected LABEL=COMMAND, got: $1" >&2; exit 1 ;;
+    esac
+done
+
+if [[ ${#builds[@]} -eq 0 ]]; then
+    echo "No builds given" >&2
+    exit 1
+fi
+
+jdbc_url=${DB_URL:-jdbc:postgresql://localhost:5432/election}
+export SERVER_PORT=$port MIGRATION_MODE=skip RATE_LIMIT_CAPACITY=1000000000 RATE_LIMIT_REFILL_TOKENS=1000000000
+mkdir -p target/compare
+
+results=()
+for build in "${builds[@]}"; do
+    label=${build%%=*}
+    command=${build#*=}
+    started=$(date +%s%N)
+    # shellcheck disable=SC2086 # the command is split into program and arguments on purpose
+    $command > "target/compare/$label.log" 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$port/actuator/health/readiness" > /dev/null; do
+        kill -0 "$pid" 2> /dev/null || { echo "$label exited before becoming ready, see target/compare/$label.log" >&2; exit 1; }
+        sleep 0.05
+    done
+    ready_ms=$(( ($(date +%s%N) - started) / 1000000 ))
+    idle_rss_mb=$(( $(ps -o rss= -p "$pid") / 1024 ))
+
+    load=$(mvn -q -Ploadtest -DskipTests verify -Dloadtest.args="--base-url http://localhost:$port \
+        --jdbc-url $jdbc_url --db-user ${DB_USER:-election} --db-password ${DB_PASS:-election} \
+        --rate $rate --duration $duration --output target/compare/$label" | awk '$1 == "TOTAL" { print $3, $6 }')
+    loaded_rss_mb=$(( $(ps -o rss= -p "$pid") / 1024 ))
+
+    kill "$pid"
+    wait "$pid" || true
+    results+=("$(printf '%-10s %14s %14s %16s %12s %10s' "$label" "$ready_ms" "$idle_rss_mb" "$loaded_rss_mb" $load)")
+done
+
+printf '%-10s %14s %14s %16s %12s %10s\n' build "ready ms" "idle RSS MB" "loaded RSS MB" "req/s" "p99 ms"
+printf '%s\n' "${results[@]}"
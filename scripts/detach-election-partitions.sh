@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Detaches the votes partitions of archived elections and moves them to an archive schema.
+# Uses DETACH PARTITION ... CONCURRENTLY, so vote traffic for other elections is not blocked.
+# Detached votes no longer count towards results, and new votes for the election are rejected with
+# ELECTION_NOT_FOUND; reattach with
+#   ALTER TABLE votes ATTACH PARTITION archive.votes_<id> FOR VALUES IN ('<id>');
+#
+# Usage: scripts/detach-election-partitions.sh [--archive-schema NAME] [--dry-run] \
+#          (--created-before YYYY-MM-DD | ELECTION_ID...)
+# Connection settings come from the standard libpq variables (PGHOST, PGPORT, PGDATABASE, PGUSER, PGPASSWORD).
+set -euo pipefail
+
+archive_schema=archive
+created_before=
+dry_run=false
+election_ids=()
+
+while [[ $# -gt 0 ]]; do
+    case "$1" in
+        --archive-schema) archive_schema=$2; shift 2 ;;
+        --created-before) created_before=$2; shift 2 ;;
+        --dry-run) dry_run=true; shift ;;
+        -h|--help) sed -n '2,10p' "$0"; exit 0 ;;
+        *) election_ids+=("$1"); shift ;;
+    esac
+done
+
+# Both end up inside SQL text, so only accept values that cannot carry anything else.
+[[ -z "$created_before" || "$created_before" =~ ^[0-9]{4}-[0-9]{2}-[0-9]{2}$ ]] \
+    || { echo "Invalid --created-before date, expected YYYY-MM-DD: $created_before" >&2; exit 1; }
+[[ "$archive_schema" =~ ^[a-z_][a-z0-9_]*$ ]] \
+    || { echo "Invalid --archive-schema name: $archive_schema" >&2; exit 1; }
+
+psql_cmd=(psql -v ON_ERROR_STOP=1 -X -q -At)
+
+if [[ -n "$created_before" ]]; then
+    mapfile -t election_ids < <("${psql_cmd[@]}" -c \
+        "SELECT id FROM elections WHERE created_at < '${created_before}'::date ORDER BY created_at")
+fi
+
+if [[ ${#election_ids[@]} -eq 0 ]]; then
+    echo "No elections selected" >&2
+    exit 1
+fi
+
+for election_id in "${election_ids[@]}"; do
+    [[ "$election_id" =~ ^[0-9a-fA-F-]{36}$ ]] || { echo "Invalid election id: $election_id" >&2; exit 1; }
+    partition="votes_${election_id//-/}"
+    attached=$("${psql_cmd[@]}" -c \
+        "SELECT count(*) FROM pg_inherits WHERE inhparent = 'votes'::regclass AND inhrelid = to_regclass('${partition}')")
+    if [[ "$attached" != 1 ]]; then
+        echo "skip  ${election_id} (no attached partition)"
+        continue
+    fi
+    rows=$("${psql_cmd[@]}" -c "SELECT count(*) FROM ${partition}")
+    if $dry_run; then
+        echo "would detach ${election_id} (${rows} votes) -> ${archive_schema}.${partition}"
+        continue
+    fi
+    # Each -c runs in its own transaction; DETACH ... CONCURRENTLY cannot run inside a transaction block.
+    "${psql_cmd[@]}" \
+        -c "ALTER TABLE votes DETACH PARTITION ${partition} CONCURRENTLY" \
+        -c "CREATE SCHEMA IF NOT EXISTS ${archive_schema}" \
+        -c "ALTER TABLE ${partition} SET SCHEMA ${archive_schema}"
+    echo "detached ${election_id} (${rows} votes) -> ${archive_schema}.${partition}"
+done
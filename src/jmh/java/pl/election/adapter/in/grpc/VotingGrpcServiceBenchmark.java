@@ -0,0 +1,154 @@
+package pl.election.adapter.in.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import pl.election.adapter.in.web.RequestPriority;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Votes per second through one {@code CastVotes} stream and calls per second of {@code GetResults},
+ * over an in-process channel against a stub {@link VotingUseCase}, so the numbers isolate the gRPC
+ * framing, flow control and wire format from persistence.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VotingGrpcServiceBenchmark {
+
+    private static final int VOTES_PER_STREAM = 1_000;
+
+    private Server server;
+    private ManagedChannel channel;
+    private List<byte[]> commands;
+    private byte[] getResultsRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        var electionId = ElectionId.generate();
+        var optionId = VotingOptionId.generate();
+        var vote = Vote.cast(VoteId.generate(), VoterId.generate(), electionId, optionId, Instant.now());
+        var results = new ElectionResults(electionId, "Benchmark Election",
+                List.of(new ElectionResults.OptionResult(optionId, "Option A", 42)));
+        var accepted = new VoteOutcome.Accepted(vote);
+        VotingUseCase votingUseCase = new VotingUseCase() {
+            @Override
+            public VoteOutcome tryCastVote(VoterId voterId, ElectionId election, VotingOptionId option) {
+                return accepted;
+            }
+
+            @Override
+            public ElectionResults getResults(ElectionId election) {
+                return results;
+            }
+        };
+
+        var name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new VotingGrpcService(votingUseCase, new ElectionWebMapperImpl(),
+                        new ClientRateLimiter(1_000_000_000_000L, 1_000_000_000L, Duration.ofSeconds(1)), admissionLimiter()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+
+        commands = new ArrayList<>(VOTES_PER_STREAM);
+        for (long sequence = 1; sequence <= VOTES_PER_STREAM; sequence++) {
+            var current = sequence;
+            commands.add(message(out -> {
+                out.writeUInt64(1, current);
+                out.writeBytes(2, uuid(electionId.value()));
+                out.writeBytes(3, uuid(UUID.randomUUID()));
+                out.writeBytes(4, uuid(optionId.value()));
+            }));
+        }
+        getResultsRequest = message(out -> out.writeBytes(1, uuid(electionId.value())));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VOTES_PER_STREAM)
+    public int castVotes() throws Exception {
+        var outcomes = new AtomicInteger();
+        var done = new CompletableFuture<Void>();
+        var requests = ClientCalls.asyncBidiStreamingCall(channel.newCall(VotingGrpcService.CAST_VOTES, CallOptions.DEFAULT),
+                new StreamObserver<byte[]>() {
+                    @Override public void onNext(byte[] outcome) { outcomes.incrementAndGet(); }
+                    @Override public void onError(Throwable t) { done.completeExceptionally(t); }
+                    @Override public void onCompleted() { done.complete(null); }
+                });
+        for (var command : commands) requests.onNext(command);
+        requests.onCompleted();
+        done.get(30, TimeUnit.SECONDS);
+        return outcomes.get();
+    }
+
+    @Benchmark
+    public byte[] getResults() {
+        return ClientCalls.blockingUnaryCall(channel, VotingGrpcService.GET_RESULTS, CallOptions.DEFAULT, getResultsRequest);
+    }
+
+    private static byte[] message(Body body) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(bytes);
+        body.write(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ByteString uuid(UUID uuid) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void write(CodedOutputStream out) throws IOException;
+    }
+
+    private static AdmissionLimiter admissionLimiter() {
+        var unlimited = new AdmissionLimiter.Limit(Integer.MAX_VALUE, Duration.ZERO);
+        return new AdmissionLimiter(Map.of(RequestPriority.CRITICAL, unlimited, RequestPriority.NORMAL, unlimited,
+                RequestPriority.BEST_EFFORT, unlimited), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+}
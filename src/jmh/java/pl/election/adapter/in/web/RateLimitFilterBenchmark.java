@@ -0,0 +1,52 @@
+package pl.election.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter allowingFilter;
+    private RateLimitFilter rejectingFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        allowingFilter = new RateLimitFilter(new ClientRateLimiter(1_000_000_000_000L, 1_000_000_000L, Duration.ofSeconds(1)), objectMapper);
+        rejectingFilter = new RateLimitFilter(new ClientRateLimiter(1, 1, Duration.ofDays(1)), objectMapper);
+        request = new MockHttpServletRequest("POST", "/api/elections/22222222-2222-2222-2222-222222222222/votes");
+        request.setRemoteAddr("10.0.0.1");
+        response = new MockHttpServletResponse();
+        rejectingFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse allowed() throws Exception {
+        allowingFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejected() throws Exception {
+        response.setCommitted(false);
+        response.reset();
+        rejectingFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,40 @@
+package pl.election.adapter.in.web.mapper;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElectionWebMapperBenchmark {
+
+    @Param({"5", "100", "10000"})
+    private int optionCount;
+
+    private final ElectionWebMapper mapper = new ElectionWebMapperImpl();
+    private ElectionResults results;
+
+    @Setup
+    public void setUp() {
+        var optionResults = new ArrayList<OptionResult>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            optionResults.add(new OptionResult(VotingOptionId.generate(), "Option " + i, i * 7L));
+        }
+        results = new ElectionResults(ElectionId.generate(), "Benchmark Election", optionResults);
+    }
+
+    @Benchmark
+    public ElectionResultsResponse toResultsResponse() {
+        return mapper.toResultsResponse(results);
+    }
+}
@@ -0,0 +1,86 @@
+package pl.election.adapter.in.web.protobuf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.adapter.in.web.dto.OptionResultResponse;
+import pl.election.adapter.in.web.dto.VoteResponse;
+import pl.election.adapter.in.web.dto.VoterResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time of the hot response bodies as JSON, CBOR and protobuf. Payload sizes are
+ * printed once per trial, since they do not vary between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Param({"vote", "results", "voters"})
+    private String payload;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+    private Object body;
+
+    @Setup
+    public void setUp() throws Exception {
+        body = switch (payload) {
+            case "vote" -> new VoteResponse(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), NOW);
+            case "results" -> results(100);
+            case "voters" -> voters(100);
+            default -> throw new IllegalArgumentException(payload);
+        };
+        System.out.printf("%n%s bytes: json=%d cbor=%d protobuf=%d%n",
+                payload, json().length, cbor().length, protobuf().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return json.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cbor.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] protobuf() {
+        return switch (body) {
+            case VoteResponse vote -> ProtobufWireFormat.encode(vote);
+            case ElectionResultsResponse results -> ProtobufWireFormat.encode(results);
+            case List<?> voters -> ProtobufWireFormat.encode((List<VoterResponse>) voters);
+            default -> throw new IllegalStateException("Unknown payload: " + payload);
+        };
+    }
+
+    private static ElectionResultsResponse results(int optionCount) {
+        var options = new ArrayList<OptionResultResponse>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new OptionResultResponse(UUID.randomUUID(), "Option " + i, i * 7L, 100.0 * i / optionCount));
+        }
+        return new ElectionResultsResponse(UUID.randomUUID(), "Benchmark Election", options, 7L * optionCount);
+    }
+
+    private static List<VoterResponse> voters(int count) {
+        var voters = new ArrayList<VoterResponse>(count);
+        for (int i = 0; i < count; i++) {
+            voters.add(new VoterResponse(UUID.randomUUID(), "Voter " + i, "voter" + i + "@example.com", "ACTIVE", NOW));
+        }
+        return voters;
+    }
+}
@@ -0,0 +1,29 @@
+package pl.election.adapter.out.id;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.domain.model.VoteId;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class IdGeneratorBenchmark {
+
+    private final UuidIdGeneratorAdapter v4 = new UuidIdGeneratorAdapter();
+    private final UuidV7IdGeneratorAdapter v7 = new UuidV7IdGeneratorAdapter();
+
+    @Benchmark
+    public VoteId randomV4() {
+        return v4.generateVoteId();
+    }
+
+    @Benchmark
+    public VoteId timeOrderedV7() {
+        return v7.generateVoteId();
+    }
+}
@@ -0,0 +1,79 @@
+package pl.election.adapter.out.persistence.mapper;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.adapter.out.persistence.entity.ElectionEntity;
+import pl.election.adapter.out.persistence.entity.VoteEntity;
+import pl.election.adapter.out.persistence.entity.VoterEntity;
+import pl.election.domain.model.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceMapperBenchmark {
+
+    @Param({"5", "100"})
+    private int optionCount;
+
+    private final VotePersistenceMapper voteMapper = new VotePersistenceMapperImpl();
+    private final VoterPersistenceMapper voterMapper = new VoterPersistenceMapperImpl();
+    private final ElectionPersistenceMapper electionMapper = new ElectionPersistenceMapperImpl();
+
+    private Vote vote;
+    private VoteEntity voteEntity;
+    private Voter voter;
+    private VoterEntity voterEntity;
+    private Election election;
+    private ElectionEntity electionEntity;
+
+    @Setup
+    public void setUp() {
+        var now = Instant.now();
+        vote = Vote.cast(VoteId.generate(), VoterId.generate(), ElectionId.generate(), VotingOptionId.generate(), now);
+        voteEntity = voteMapper.toEntity(vote);
+        voter = Voter.create(VoterId.generate(), "Bench Voter", "bench@example.com", now);
+        voterEntity = voterMapper.toEntity(voter);
+        var options = new ArrayList<VotingOption>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(VotingOption.reconstitute(VotingOptionId.generate(), "Option " + i));
+        }
+        election = Election.reconstitute(ElectionId.generate(), "Benchmark Election", options, now);
+        electionEntity = electionMapper.toEntity(election);
+    }
+
+    @Benchmark
+    public VoteEntity voteToEntity() {
+        return voteMapper.toEntity(vote);
+    }
+
+    @Benchmark
+    public Vote voteToDomain() {
+        return voteMapper.toDomain(voteEntity);
+    }
+
+    @Benchmark
+    public VoterEntity voterToEntity() {
+        return voterMapper.toEntity(voter);
+    }
+
+    @Benchmark
+    public Voter voterToDomain() {
+        return voterMapper.toDomain(voterEntity);
+    }
+
+    @Benchmark
+    public ElectionEntity electionToEntity() {
+        return electionMapper.toEntity(election);
+    }
+
+    @Benchmark
+    public Election electionToDomain() {
+        return electionMapper.toDomain(electionEntity);
+    }
+}
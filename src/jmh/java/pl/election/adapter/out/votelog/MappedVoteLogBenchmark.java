@@ -0,0 +1,57 @@
+package pl.election.adapter.out.votelog;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.domain.model.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class MappedVoteLogBenchmark {
+
+    private static final Instant CAST_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private Path directory;
+    private MappedVoteLogRepository repository;
+    private ElectionId electionId;
+    private VotingOptionId optionId;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("vote-log-bench");
+        repository = new MappedVoteLogRepository(directory, 1 << 22, Duration.ofMillis(10));
+        electionId = ElectionId.generate();
+        optionId = VotingOptionId.generate();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        repository.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Vote append() {
+        var random = ThreadLocalRandom.current();
+        return repository.save(Vote.cast(VoteId.of(new UUID(random.nextLong(), random.nextLong())),
+                VoterId.of(new UUID(random.nextLong(), random.nextLong())), electionId, optionId, CAST_AT));
+    }
+}
@@ -0,0 +1,100 @@
+package pl.election.application.service;
+
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.out.CachePort;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.IdGeneratorPort;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.application.port.out.VoterRepository;
+import pl.election.domain.model.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+final class BenchmarkFixtures {
+
+    static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    static Election electionWithOptions(int optionCount) {
+        var options = new ArrayList<VotingOption>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(VotingOption.reconstitute(VotingOptionId.generate(), "Option " + i));
+        }
+        return Election.reconstitute(ElectionId.generate(), "Benchmark Election", options, NOW);
+    }
+
+    static Map<VotingOptionId, Long> tally(Election election) {
+        var counts = new HashMap<VotingOptionId, Long>();
+        long n = 1;
+        for (var option : election.votingOptions()) {
+            counts.put(option.id(), n++);
+        }
+        return counts;
+    }
+
+    record FixedVoterRepository(Voter voter) implements VoterRepository {
+        @Override public Voter save(Voter v) { return v; }
+        @Override public Optional<Voter> findById(VoterId id) { return Optional.of(voter); }
+        @Override public List<Voter> findAll() { return List.of(voter); }
+        @Override public boolean existsByEmail(String email) { return false; }
+    }
+
+    record FixedElectionRepository(Election election) implements ElectionRepository {
+        @Override public Election save(Election e) { return e; }
+        @Override public Optional<Election> findById(ElectionId id) { return Optional.of(election); }
+        @Override public List<Election> findAll() { return List.of(election); }
+        @Override public List<Election> findAllById(Collection<ElectionId> ids) { return List.of(election); }
+        @Override public boolean existsById(ElectionId id) { return true; }
+        @Override public void appendVotingOptions(ElectionId electionId, List<VotingOption> options) { }
+        @Override public List<ElectionSummary> findSummaries(ElectionSummary.Cursor after, int limit) { return List.of(); }
+    }
+
+    record DiscardingVoteRepository(Map<VotingOptionId, Long> counts, boolean voted) implements VoteRepository {
+        DiscardingVoteRepository(Map<VotingOptionId, Long> counts) { this(counts, false); }
+
+        @Override public Vote save(Vote vote) { return vote; }
+        @Override public boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) { return voted; }
+        @Override public Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) { return Optional.empty(); }
+        @Override public List<Vote> findByElectionId(ElectionId electionId) { return List.of(); }
+        @Override public Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId) { return counts; }
+        @Override public Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore) { return counts; }
+        @Override public Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore) { return counts; }
+        @Override public Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId) { return Optional.empty(); }
+        @Override public List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit) { return List.of(); }
+        @Override public Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds) { return Map.of(); }
+    }
+
+    static final class MapCachePort implements CachePort {
+        private final Map<ElectionId, ElectionResults> cache = new HashMap<>();
+        private final boolean retain;
+
+        MapCachePort(boolean retain) { this.retain = retain; }
+
+        @Override public Optional<ElectionResults> getResults(ElectionId electionId) {
+            return Optional.ofNullable(cache.get(electionId));
+        }
+        @Override public void putResults(ElectionId electionId, ElectionResults results) {
+            if (retain) cache.put(electionId, results);
+        }
+        @Override public void evictResults(ElectionId electionId) { cache.remove(electionId); }
+    }
+
+    static final class RandomIdGenerator implements IdGeneratorPort {
+        @Override public VoterId generateVoterId() { return VoterId.generate(); }
+        @Override public ElectionId generateElectionId() { return ElectionId.generate(); }
+        @Override public VoteId generateVoteId() { return VoteId.generate(); }
+        @Override public VotingOptionId generateVotingOptionId() { return VotingOptionId.generate(); }
+    }
+
+    static final ClockPort FIXED_CLOCK = () -> NOW;
+}
@@ -0,0 +1,52 @@
+package pl.election.application.service;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+
+import java.util.concurrent.TimeUnit;
+
+import static pl.election.application.service.BenchmarkFixtures.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CachingVotingServiceBenchmark {
+
+    @Param({"5", "100"})
+    private int optionCount;
+
+    private Election election;
+    private CachingVotingService hitService;
+    private CachingVotingService missService;
+
+    @Setup
+    public void setUp() {
+        var voter = Voter.create(VoterId.generate(), "Bench Voter", "bench@example.com", NOW);
+        election = electionWithOptions(optionCount);
+        var core = new VotingService(
+                new FixedVoterRepository(voter),
+                new FixedElectionRepository(election),
+                new DiscardingVoteRepository(tally(election)),
+                new RandomIdGenerator(),
+                FIXED_CLOCK);
+        hitService = new CachingVotingService(core, new MapCachePort(true));
+        hitService.getResults(election.id());
+        missService = new CachingVotingService(core, new MapCachePort(false));
+    }
+
+    @Benchmark
+    public ElectionResults cacheHit() {
+        return hitService.getResults(election.id());
+    }
+
+    @Benchmark
+    public ElectionResults cacheMiss() {
+        return missService.getResults(election.id());
+    }
+}
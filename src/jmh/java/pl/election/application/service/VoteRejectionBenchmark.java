@@ -0,0 +1,83 @@
+package pl.election.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import pl.election.adapter.in.web.ErrorCode;
+import pl.election.adapter.in.web.VotingController;
+import pl.election.adapter.in.web.dto.ApiError;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
+import pl.election.adapter.in.web.mapper.ElectionWebMapper;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static pl.election.application.service.BenchmarkFixtures.*;
+
+/**
+ * Rejected votes per second, from the voting rules to the JSON error body: {@code exception} through the
+ * throwing {@code castVote} and an {@link ApiError} built the way {@code GlobalExceptionHandler} builds it,
+ * as before outcomes existed, {@code controller} through {@link VotingController#castVote} and its
+ * shared rejection response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoteRejectionBenchmark {
+
+    @Param({"VOTER_BLOCKED", "DUPLICATE_VOTE"})
+    private VoteOutcome.Rejected rejection;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ElectionWebMapper webMapper = new ElectionWebMapperImpl();
+    private VotingService service;
+    private VotingController controller;
+    private Voter voter;
+    private Election election;
+    private VotingOptionId option;
+    private CastVoteRequest request;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        var active = Voter.create(VoterId.generate(), "Bench Voter", "bench@example.com", NOW);
+        voter = rejection == VoteOutcome.Rejected.VOTER_BLOCKED ? active.block() : active;
+        election = electionWithOptions(5);
+        option = election.votingOptions().getFirst().id();
+        service = new VotingService(
+                new FixedVoterRepository(voter),
+                new FixedElectionRepository(election),
+                new DiscardingVoteRepository(tally(election), rejection == VoteOutcome.Rejected.DUPLICATE_VOTE),
+                new RandomIdGenerator(),
+                FIXED_CLOCK);
+        controller = new VotingController(service, null, webMapper);
+        request = new CastVoteRequest(voter.id().value(), option.value());
+        path = "/api/elections/" + election.id().value() + "/votes";
+    }
+
+    @Benchmark
+    public byte[] exception() throws IOException {
+        try {
+            return objectMapper.writeValueAsBytes(webMapper.toVoteResponse(service.castVote(voter.id(), election.id(), option)));
+        } catch (RuntimeException e) {
+            var code = ErrorCode.of(e);
+            return objectMapper.writeValueAsBytes(
+                    new ApiError(Instant.now(), code.status().value(), code.name(), e.getMessage(), path));
+        }
+    }
+
+    @Benchmark
+    public byte[] controller() throws IOException {
+        return objectMapper.writeValueAsBytes(controller.castVote(election.id().value(), request, null).getBody());
+    }
+}
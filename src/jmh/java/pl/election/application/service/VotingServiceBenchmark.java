@@ -0,0 +1,53 @@
+package pl.election.application.service;
+
+import org.openjdk.jmh.annotations.*;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.concurrent.TimeUnit;
+
+import static pl.election.application.service.BenchmarkFixtures.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VotingServiceBenchmark {
+
+    @Param({"5", "100"})
+    private int optionCount;
+
+    private VotingService service;
+    private Voter voter;
+    private Election election;
+    private VotingOptionId lastOption;
+
+    @Setup
+    public void setUp() {
+        voter = Voter.create(VoterId.generate(), "Bench Voter", "bench@example.com", NOW);
+        election = electionWithOptions(optionCount);
+        lastOption = election.votingOptions().getLast().id();
+        service = new VotingService(
+                new FixedVoterRepository(voter),
+                new FixedElectionRepository(election),
+                new DiscardingVoteRepository(tally(election)),
+                new RandomIdGenerator(),
+                FIXED_CLOCK);
+    }
+
+    @Benchmark
+    public Vote castVote() {
+        return service.castVote(voter.id(), election.id(), lastOption);
+    }
+
+    @Benchmark
+    public ElectionResults getResults() {
+        return service.getResults(election.id());
+    }
+}
@@ -0,0 +1,44 @@
+package pl.election.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElectionBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int optionCount;
+
+    private Election election;
+    private VotingOptionId lastOption;
+    private VotingOptionId missingOption;
+
+    @Setup
+    public void setUp() {
+        var options = new ArrayList<VotingOption>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(VotingOption.reconstitute(VotingOptionId.generate(), "Option " + i));
+        }
+        election = Election.reconstitute(ElectionId.generate(), "Benchmark Election", options, Instant.now());
+        lastOption = options.getLast().id();
+        missingOption = VotingOptionId.generate();
+    }
+
+    @Benchmark
+    public boolean hasOptionLast() {
+        return election.hasOption(lastOption);
+    }
+
+    @Benchmark
+    public boolean hasOptionMissing() {
+        return election.hasOption(missingOption);
+    }
+}
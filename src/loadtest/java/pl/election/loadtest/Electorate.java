@@ -0,0 +1,10 @@
+package pl.election.loadtest;
+
+import java.util.UUID;
+
+record Electorate(UUID[] activeVoters, UUID[] blockedVoters, UUID[] elections, UUID[][] options, ZipfSampler popularity) {
+
+    UUID pickOption(int election) {
+        return options[election][popularity.next()];
+    }
+}
@@ -0,0 +1,78 @@
+package pl.election.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Bulk-loads a synthetic electorate with {@code COPY ... FROM STDIN}, bypassing the API so that
+ * millions of voters can be provisioned in seconds.
+ */
+final class ElectorateGenerator {
+
+    private static final int BATCH_ROWS = 50_000;
+
+    private final Connection connection;
+
+    ElectorateGenerator(Connection connection) {
+        this.connection = connection;
+    }
+
+    Electorate generate(LoadTestOptions options) throws SQLException, IOException {
+        var runId = Long.toString(System.currentTimeMillis(), 36);
+        var now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC).toString();
+        var blockedCount = (int) Math.round(options.voters() * options.blockedRatio());
+        var active = new UUID[options.voters() - blockedCount];
+        var blocked = new UUID[blockedCount];
+
+        var copy = connection.unwrap(PGConnection.class).getCopyAPI();
+        var rows = new StringBuilder();
+        for (int i = 0; i < options.voters(); i++) {
+            var id = UUID.randomUUID();
+            var isBlocked = i < blockedCount;
+            if (isBlocked) blocked[i] = id; else active[i - blockedCount] = id;
+            rows.append(id).append('\t')
+                    .append("Load Voter ").append(i).append('\t')
+                    .append("load-").append(runId).append('-').append(i).append("@example.com").append('\t')
+                    .append(isBlocked ? "BLOCKED" : "ACTIVE").append('\t')
+                    .append(now).append('\n');
+            if ((i + 1) % BATCH_ROWS == 0) flush(copy, "voters (id, name, email, status, created_at)", rows);
+        }
+        flush(copy, "voters (id, name, email, status, created_at)", rows);
+
+        var elections = new UUID[options.elections()];
+        var votingOptions = new UUID[options.elections()][options.optionsPerElection()];
+        for (int e = 0; e < elections.length; e++) {
+            elections[e] = UUID.randomUUID();
+            rows.append(elections[e]).append('\t').append("Load Election ").append(runId).append('-').append(e)
+                    .append('\t').append(now).append('\n');
+        }
+        flush(copy, "elections (id, name, created_at)", rows);
+        for (int e = 0; e < elections.length; e++) {
+            for (int o = 0; o < options.optionsPerElection(); o++) {
+                votingOptions[e][o] = UUID.randomUUID();
+                rows.append(votingOptions[e][o]).append('\t').append(elections[e]).append('\t')
+                        .append("Option ").append(o).append('\n');
+            }
+        }
+        flush(copy, "voting_options (id, election_id, name)", rows);
+
+        return new Electorate(active, blocked, elections, votingOptions,
+                new ZipfSampler(options.optionsPerElection(), options.skew()));
+    }
+
+    private static void flush(CopyManager copy, String target, StringBuilder rows)
+            throws SQLException, IOException {
+        if (rows.isEmpty()) return;
+        copy.copyIn("COPY " + target + " FROM STDIN", new StringReader(rows.toString()));
+        rows.setLength(0);
+    }
+}
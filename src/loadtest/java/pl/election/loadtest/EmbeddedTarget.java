@@ -0,0 +1,81 @@
+package pl.election.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import pl.election.ElectionApplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL in a Testcontainer plus the application started in-process on a random port, with
+ * the per-IP rate limit lifted so the harness measures the service rather than the limiter.
+ */
+final class EmbeddedTarget implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext application;
+
+    private EmbeddedTarget(PostgreSQLContainer<?> postgres, ConfigurableApplicationContext application) {
+        this.postgres = postgres;
+        this.application = application;
+    }
+
+    /** {@code extraArgs} are appended to the application's command line, e.g. to activate profiles. */
+    static EmbeddedTarget start(String... extraArgs) {
+        var postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("election")
+                .withUsername("election")
+                .withPassword("election");
+        postgres.start();
+        var args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--rate-limit.capacity=100000000",
+                "--rate-limit.refill-tokens=100000000",
+                "--rate-limit.refill-duration=1s"));
+        args.addAll(List.of(extraArgs));
+        var application = new SpringApplicationBuilder(ElectionApplication.class).run(args.toArray(String[]::new));
+        return new EmbeddedTarget(postgres, application);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * Base URL of the reactive server; only valid when built with the {@code reactive} Maven profile and
+     * started with the {@code reactive} Spring profile and a fixed {@code reactive.port}.
+     */
+    String reactiveBaseUrl() {
+        return "http://localhost:" + application.getEnvironment().getProperty("reactive.port");
+    }
+
+    static int freePort() {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    String jdbcUrl() { return postgres.getJdbcUrl(); }
+
+    String username() { return postgres.getUsername(); }
+
+    String password() { return postgres.getPassword(); }
+
+    <T> T bean(Class<T> type) { return application.getBean(type); }
+
+    @Override
+    public void close() {
+        application.close();
+        postgres.stop();
+    }
+}
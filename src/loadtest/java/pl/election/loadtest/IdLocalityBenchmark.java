@@ -0,0 +1,151 @@
+package pl.election.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import pl.election.adapter.out.id.UuidIdGeneratorAdapter;
+import pl.election.adapter.out.id.UuidV7IdGeneratorAdapter;
+import pl.election.application.port.out.IdGeneratorPort;
+
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inserts the same number of rows into two copies of the {@code votes} table, one keyed by random
+ * UUIDv4 and one by time-ordered UUIDv7 ids, and reports insert throughput per interval plus the
+ * final table and index sizes (and B-tree leaf density when {@code pgstattuple} is available).
+ * Run with {@code mvn -Ploadtest -DskipTests verify -Dloadtest.main=pl.election.loadtest.IdLocalityBenchmark}.
+ */
+public final class IdLocalityBenchmark {
+
+    private static final int OPTIONS = 8;
+    private static final int ELECTIONS = 10;
+
+    private IdLocalityBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var values = new HashMap<String, String>();
+        var testcontainers = false;
+        for (int i = 0; i < args.length; i++) {
+            var key = args[i].substring(2);
+            if (key.equals("testcontainers")) testcontainers = true;
+            else values.put(key, args[++i]);
+        }
+        var rows = Long.parseLong(values.getOrDefault("rows", "50000000"));
+        var batch = Integer.parseInt(values.getOrDefault("batch", "1000"));
+        var reportEvery = Long.parseLong(values.getOrDefault("report-every", "1000000"));
+
+        PostgreSQLContainer<?> postgres = null;
+        if (testcontainers) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("election").withUsername("election").withPassword("election")
+                    .withCommand("postgres", "-c", "shared_buffers=256MB", "-c", "max_wal_size=4GB");
+            postgres.start();
+        }
+        try {
+            var jdbcUrl = postgres != null ? postgres.getJdbcUrl() : values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/election");
+            var user = postgres != null ? postgres.getUsername() : values.getOrDefault("db-user", "election");
+            var password = postgres != null ? postgres.getPassword() : values.getOrDefault("db-password", "election");
+            try (var connection = DriverManager.getConnection(jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true", user, password)) {
+                var v4 = run(connection, "id_bench_v4", new UuidIdGeneratorAdapter(), rows, batch, reportEvery, System.out);
+                var v7 = run(connection, "id_bench_v7", new UuidV7IdGeneratorAdapter(), rows, batch, reportEvery, System.out);
+                System.out.printf("%n%-28s %15s %15s%n", "", "v4", "v7");
+                for (var metric : v4.keySet()) {
+                    System.out.printf("%-28s %15s %15s%n", metric, v4.get(metric), v7.get(metric));
+                }
+            }
+        } finally {
+            if (postgres != null) postgres.stop();
+        }
+    }
+
+    private static Map<String, String> run(Connection connection, String table, IdGeneratorPort ids,
+                                           long rows, int batch, long reportEvery, PrintStream out) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("""
+                    CREATE TABLE %1$s (
+                        id               UUID PRIMARY KEY,
+                        voter_id         UUID      NOT NULL,
+                        election_id      UUID      NOT NULL,
+                        voting_option_id UUID      NOT NULL,
+                        cast_at          TIMESTAMP NOT NULL,
+                        UNIQUE (voter_id, election_id)
+                    )""".formatted(table));
+            statement.execute("CREATE INDEX %1$s_election_id_id ON %1$s (election_id, id) INCLUDE (voting_option_id)".formatted(table));
+            statement.execute("CREATE INDEX %1$s_voter_id ON %1$s (voter_id)".formatted(table));
+            statement.execute("CREATE INDEX %1$s_voting_option_id ON %1$s (voting_option_id)".formatted(table));
+        }
+        var elections = new UUID[ELECTIONS];
+        var options = new UUID[ELECTIONS][OPTIONS];
+        for (int e = 0; e < ELECTIONS; e++) {
+            elections[e] = ids.generateElectionId().value();
+            for (int o = 0; o < OPTIONS; o++) options[e][o] = ids.generateVotingOptionId().value();
+        }
+
+        out.printf("%n%s: inserting %,d rows in batches of %d%n", table, rows, batch);
+        connection.setAutoCommit(false);
+        var random = ThreadLocalRandom.current();
+        var started = System.nanoTime();
+        var intervalStart = started;
+        try (var insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, voter_id, election_id, voting_option_id, cast_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (long row = 1; row <= rows; row++) {
+                var election = random.nextInt(ELECTIONS);
+                insert.setObject(1, ids.generateVoteId().value());
+                insert.setObject(2, ids.generateVoterId().value());
+                insert.setObject(3, elections[election]);
+                insert.setObject(4, options[election][random.nextInt(OPTIONS)]);
+                insert.setTimestamp(5, Timestamp.from(Instant.now()));
+                insert.addBatch();
+                if (row % batch == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % reportEvery == 0) {
+                    var now = System.nanoTime();
+                    out.printf("  %,15d rows  %,12.0f rows/s%n", row, reportEvery / ((now - intervalStart) / 1e9));
+                    intervalStart = now;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        var result = new LinkedHashMap<String, String>();
+        result.put("elapsed", elapsed.toSeconds() + " s");
+        result.put("rows/s", "%,.0f".formatted(rows / (elapsed.toNanos() / 1e9)));
+        try (var statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+            try (var sizes = statement.executeQuery("""
+                    SELECT c.relname, pg_size_pretty(pg_relation_size(c.oid))
+                    FROM pg_class c
+                    WHERE c.relname = '%1$s' OR c.oid IN (SELECT indexrelid FROM pg_index WHERE indrelid = '%1$s'::regclass)
+                    ORDER BY c.relname""".formatted(table))) {
+                while (sizes.next()) result.put(sizes.getString(1).replace(table, "table"), sizes.getString(2));
+            }
+            try {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+                try (var density = statement.executeQuery(
+                        "SELECT avg_leaf_density, leaf_fragmentation FROM pgstatindex('" + table + "_pkey')")) {
+                    density.next();
+                    result.put("pkey leaf density %", "%.1f".formatted(density.getDouble(1)));
+                    result.put("pkey leaf fragmentation %", "%.1f".formatted(density.getDouble(2)));
+                }
+            } catch (SQLException e) {
+                out.println("  pgstattuple unavailable, skipping leaf density: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+}
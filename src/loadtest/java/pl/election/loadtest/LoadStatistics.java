@@ -0,0 +1,76 @@
+package pl.election.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LoadStatistics {
+
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    LoadStatistics() {
+        for (var operation : Operation.values()) {
+            recorders.put(operation, new Recorder(MAX_TRACKED_NANOS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, String outcome) {
+        recorders.get(operation).recordValue(Math.min(latencyNanos, MAX_TRACKED_NANOS));
+        outcomes.get(operation).computeIfAbsent(outcome, k -> new LongAdder()).increment();
+    }
+
+    void report(Duration measured, Path outputDir, PrintStream out) throws IOException {
+        Files.createDirectories(outputDir);
+        var seconds = measured.toNanos() / 1e9;
+        var total = new Histogram(MAX_TRACKED_NANOS, 3);
+        out.printf(Locale.ROOT, "%-10s %9s %10s %9s %9s %9s %9s %9s %8s  %s%n",
+                "operation", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "outcomes");
+        for (var operation : Operation.values()) {
+            var histogram = recorders.get(operation).getIntervalHistogram();
+            total.add(histogram);
+            var outcomeCounts = new TreeMap<String, Long>();
+            outcomes.get(operation).forEach((k, v) -> outcomeCounts.put(k, v.sum()));
+            var count = histogram.getTotalCount();
+            var expected = outcomeCounts.getOrDefault(Integer.toString(operation.expectedStatus()), 0L);
+            var errorRate = count == 0 ? 0.0 : (count - expected) * 100.0 / count;
+            out.printf(Locale.ROOT, "%-10s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7.2f%%  %s%n",
+                    operation, count, count / seconds,
+                    millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / NANOS_PER_MILLI, errorRate, outcomeCounts);
+            write(histogram, outputDir.resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm"));
+        }
+        out.printf(Locale.ROOT, "%-10s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                "TOTAL", total.getTotalCount(), total.getTotalCount() / seconds,
+                millis(total, 50), millis(total, 95), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / NANOS_PER_MILLI);
+        write(total, outputDir.resolve("total.hgrm"));
+        out.println("Histograms written to " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static void write(Histogram histogram, Path file) throws IOException {
+        try (var stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, NANOS_PER_MILLI);
+        }
+    }
+}
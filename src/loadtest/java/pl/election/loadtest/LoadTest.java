@@ -0,0 +1,63 @@
+package pl.election.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.time.Duration;
+
+/**
+ * End-to-end load test: provisions a synthetic electorate with COPY and drives the REST API with an
+ * open-model arrival rate. Run with {@code mvn -Ploadtest -DskipTests verify -Dloadtest.args="..."}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.usage());
+            System.exit(2);
+            return;
+        }
+
+        EmbeddedTarget embedded = options.testcontainers() ? EmbeddedTarget.start() : null;
+        try {
+            var baseUrl = embedded != null ? embedded.baseUrl() : options.baseUrl();
+            var jdbcUrl = embedded != null ? embedded.jdbcUrl() : options.jdbcUrl();
+            var user = embedded != null ? embedded.username() : options.dbUser();
+            var password = embedded != null ? embedded.password() : options.dbPassword();
+            drive(baseUrl, jdbcUrl, user, password, options, options.outputDir());
+        } finally {
+            if (embedded != null) embedded.close();
+        }
+    }
+
+    /** Provisions a fresh electorate, drives {@code baseUrl} with it and prints the report. */
+    static void drive(String baseUrl, String jdbcUrl, String user, String password, LoadTestOptions options,
+                      Path outputDir) throws Exception {
+        Electorate electorate;
+        var generationStart = System.nanoTime();
+        try (var connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            electorate = new ElectorateGenerator(connection).generate(options);
+        }
+        System.out.printf("Generated %d voters, %d elections x %d options in %d ms%n",
+                options.voters(), options.elections(), options.optionsPerElection(),
+                Duration.ofNanos(System.nanoTime() - generationStart).toMillis());
+
+        var statistics = new LoadStatistics();
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var workload = new Workload(baseUrl, electorate, options.mix());
+        System.out.printf("Driving %s at %d req/s for %s (warm-up %s)%n",
+                baseUrl, options.rate(), options.duration(), options.warmup());
+        new OpenModelDriver(client, workload, statistics).run(options.rate(), options.warmup(), options.duration());
+        statistics.report(options.duration(), outputDir, System.out);
+    }
+}
@@ -0,0 +1,100 @@
+package pl.election.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+record LoadTestOptions(
+        String baseUrl,
+        String reactiveUrl,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        int voters,
+        int elections,
+        int optionsPerElection,
+        double skew,
+        double blockedRatio,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Mix mix,
+        boolean testcontainers,
+        Path outputDir
+) {
+
+    record Mix(int cast, int duplicate, int blocked, int results) {
+
+        int total() { return cast + duplicate + blocked + results; }
+
+        static Mix parse(String value) {
+            var weights = new HashMap<String, Integer>();
+            for (var part : value.split(",")) {
+                var kv = part.split("=");
+                weights.put(kv[0].strip(), Integer.parseInt(kv[1].strip()));
+            }
+            return new Mix(weights.getOrDefault("cast", 0), weights.getOrDefault("duplicate", 0),
+                    weights.getOrDefault("blocked", 0), weights.getOrDefault("results", 0));
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        boolean testcontainers = false;
+        for (int i = 0; i < args.length; i++) {
+            var arg = args[i];
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + arg);
+            var key = arg.substring(2);
+            if (key.equals("testcontainers")) {
+                testcontainers = true;
+            } else if (key.equals("help")) {
+                throw new IllegalArgumentException(usage());
+            } else if (key.contains("=")) {
+                values.put(key.substring(0, key.indexOf('=')), key.substring(key.indexOf('=') + 1));
+            } else {
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + arg);
+                values.put(key, args[++i]);
+            }
+        }
+        return new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                values.getOrDefault("reactive-url", "http://localhost:8081"),
+                values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/election"),
+                values.getOrDefault("db-user", "election"),
+                values.getOrDefault("db-password", "election"),
+                Integer.parseInt(values.getOrDefault("voters", "100000")),
+                Integer.parseInt(values.getOrDefault("elections", "10")),
+                Integer.parseInt(values.getOrDefault("options", "8")),
+                Double.parseDouble(values.getOrDefault("skew", "1.1")),
+                Double.parseDouble(values.getOrDefault("blocked-ratio", "0.02")),
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s").toUpperCase()),
+                Duration.parse("PT" + values.getOrDefault("warmup", "10s").toUpperCase()),
+                Mix.parse(values.getOrDefault("mix", "cast=70,duplicate=10,blocked=5,results=15")),
+                testcontainers,
+                Path.of(values.getOrDefault("output", "target/loadtest")));
+    }
+
+    static String usage() {
+        return """
+                Usage: LoadTest [options]
+                  --testcontainers          start PostgreSQL and the application locally instead of using --base-url/--jdbc-url
+                  --base-url URL            application base URL (default http://localhost:8080)
+                  --reactive-url URL        reactive-profile base URL, StackComparison only (default http://localhost:8081)
+                  --jdbc-url URL            PostgreSQL JDBC URL used for COPY (default jdbc:postgresql://localhost:5432/election)
+                  --db-user USER            (default election)
+                  --db-password PASSWORD    (default election)
+                  --voters N                synthetic voters (default 100000)
+                  --elections M             synthetic elections (default 10)
+                  --options K               options per election (default 8)
+                  --skew S                  Zipf exponent of option popularity (default 1.1, 0 = uniform)
+                  --blocked-ratio R         share of blocked voters (default 0.02)
+                  --rate R                  open-model arrival rate in requests/s (default 500)
+                  --duration D              measured duration, e.g. 60s, 5m (default 60s)
+                  --warmup D                unrecorded warm-up duration (default 10s)
+                  --mix SPEC                weights, e.g. cast=70,duplicate=10,blocked=5,results=15
+                  --output DIR              directory for .hgrm histogram files (default target/loadtest)
+                """;
+    }
+}
@@ -0,0 +1,63 @@
+package pl.election.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests on a fixed schedule regardless of how many are still in flight. Latency is
+ * measured from the intended send time, so a stalled server is charged for the requests that
+ * queued up behind it (no coordinated omission).
+ */
+final class OpenModelDriver {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadStatistics statistics;
+    private final AtomicLong inFlight = new AtomicLong();
+
+    OpenModelDriver(HttpClient client, Workload workload, LoadStatistics statistics) {
+        this.client = client;
+        this.workload = workload;
+        this.statistics = statistics;
+    }
+
+    void run(int ratePerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        var start = System.nanoTime();
+        var recordFrom = start + warmup.toNanos();
+        var end = recordFrom + duration.toNanos();
+        for (long i = 0; ; i++) {
+            var intended = start + i * intervalNanos;
+            if (intended >= end) break;
+            parkUntil(intended);
+            var request = workload.next();
+            inFlight.incrementAndGet();
+            client.sendAsync(request.http(), BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        var latency = System.nanoTime() - intended;
+                        var status = response == null ? -1 : response.statusCode();
+                        if (intended >= recordFrom) {
+                            statistics.record(request.operation(), latency,
+                                    error == null ? Integer.toString(status) : error.getClass().getSimpleName());
+                        }
+                        workload.completed(request, status);
+                        inFlight.decrementAndGet();
+                    });
+        }
+        var drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package pl.election.loadtest;
+
+enum Operation {
+    CAST(201),
+    DUPLICATE(409),
+    BLOCKED(409),
+    RESULTS(200);
+
+    private final int expectedStatus;
+
+    Operation(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+}
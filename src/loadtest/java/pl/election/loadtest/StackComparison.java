@@ -0,0 +1,45 @@
+package pl.election.loadtest;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Drives the servlet/JDBC stack and the {@code reactive} profile's WebFlux/R2DBC stack one after the
+ * other with the same open-model rate and mix, each against a freshly provisioned electorate of the
+ * same shape, so every cast is a new vote on both. Run with {@code mvn -Ploadtest,reactive -DskipTests verify
+ * -Dloadtest.main=pl.election.loadtest.StackComparison -Dloadtest.args="--testcontainers --rate 3000"}.
+ */
+public final class StackComparison {
+
+    private StackComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.usage());
+            System.exit(2);
+            return;
+        }
+
+        EmbeddedTarget embedded = options.testcontainers() ? EmbeddedTarget.start("--spring.profiles.active=reactive",
+                "--reactive.port=" + EmbeddedTarget.freePort()) : null;
+        try {
+            var stacks = new LinkedHashMap<String, String>();
+            stacks.put("mvc", embedded != null ? embedded.baseUrl() : options.baseUrl());
+            stacks.put("reactive", embedded != null ? embedded.reactiveBaseUrl() : options.reactiveUrl());
+            var jdbcUrl = embedded != null ? embedded.jdbcUrl() : options.jdbcUrl();
+            var user = embedded != null ? embedded.username() : options.dbUser();
+            var password = embedded != null ? embedded.password() : options.dbPassword();
+            for (var stack : stacks.entrySet()) {
+                System.out.printf("%n=== %s ===%n", stack.getKey());
+                LoadTest.drive(stack.getValue(), jdbcUrl, user, password, options,
+                        options.outputDir().resolve(stack.getKey()));
+            }
+        } finally {
+            if (embedded != null) embedded.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package pl.election.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Produces the request mix. Fresh votes walk the voter x election space so every cast is a new
+ * pair; duplicate attempts replay pairs that were already accepted.
+ */
+final class Workload {
+
+    private static final int CAST_HISTORY = 1 << 16;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final Electorate electorate;
+    private final LoadTestOptions.Mix mix;
+    private final long pairSpace;
+    private final AtomicLong nextPair = new AtomicLong();
+    private final AtomicLongArray castHistory = new AtomicLongArray(CAST_HISTORY);
+    private final AtomicLong castHistoryWrites = new AtomicLong();
+
+    Workload(String baseUrl, Electorate electorate, LoadTestOptions.Mix mix) {
+        this.baseUrl = baseUrl;
+        this.electorate = electorate;
+        this.mix = mix;
+        this.pairSpace = (long) electorate.activeVoters().length * electorate.elections().length;
+    }
+
+    record Request(Operation operation, HttpRequest http, long pair) {}
+
+    Request next() {
+        var roll = ThreadLocalRandom.current().nextInt(mix.total());
+        if (roll < mix.cast()) return cast();
+        roll -= mix.cast();
+        if (roll < mix.duplicate()) return duplicate();
+        roll -= mix.duplicate();
+        if (roll < mix.blocked() && electorate.blockedVoters().length > 0) return blocked();
+        return results();
+    }
+
+    void completed(Request request, int status) {
+        if (request.operation() == Operation.CAST && status == Operation.CAST.expectedStatus()) {
+            var slot = (int) (castHistoryWrites.getAndIncrement() & (CAST_HISTORY - 1));
+            castHistory.set(slot, request.pair() + 1);
+        }
+    }
+
+    private Request cast() {
+        var pair = nextPair.getAndIncrement();
+        if (pair >= pairSpace) return duplicate();
+        return vote(Operation.CAST, pair);
+    }
+
+    private Request duplicate() {
+        var written = Math.min(castHistoryWrites.get(), CAST_HISTORY);
+        if (written == 0) return results();
+        var stored = castHistory.get(ThreadLocalRandom.current().nextInt((int) written));
+        if (stored == 0) return results();
+        return vote(Operation.DUPLICATE, stored - 1);
+    }
+
+    private Request blocked() {
+        var random = ThreadLocalRandom.current();
+        var voter = electorate.blockedVoters()[random.nextInt(electorate.blockedVoters().length)];
+        var election = random.nextInt(electorate.elections().length);
+        return new Request(Operation.BLOCKED, votePost(voter.toString(), election), -1);
+    }
+
+    private Request results() {
+        var election = electorate.elections()[ThreadLocalRandom.current().nextInt(electorate.elections().length)];
+        var http = HttpRequest.newBuilder(URI.create(baseUrl + "/api/elections/" + election + "/results"))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        return new Request(Operation.RESULTS, http, -1);
+    }
+
+    private Request vote(Operation operation, long pair) {
+        var voters = electorate.activeVoters();
+        var voter = voters[(int) (pair % voters.length)];
+        var election = (int) (pair / voters.length);
+        return new Request(operation, votePost(voter.toString(), election), pair);
+    }
+
+    private HttpRequest votePost(String voterId, int election) {
+        var body = "{\"voterId\":\"" + voterId + "\",\"votingOptionId\":\"" + electorate.pickOption(election) + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/elections/" + electorate.elections()[election] + "/votes"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+    }
+}
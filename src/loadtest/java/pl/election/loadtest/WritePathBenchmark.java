@@ -0,0 +1,105 @@
+package pl.election.loadtest;
+
+import pl.election.adapter.out.id.UuidV7IdGeneratorAdapter;
+import pl.election.adapter.out.persistence.adapter.ElectionRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoteRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoterRepositoryAdapter;
+import pl.election.adapter.out.persistence.mapper.VotePersistenceMapper;
+import pl.election.adapter.out.persistence.mapper.VoterPersistenceMapper;
+import pl.election.adapter.out.persistence.repository.SpringVoteRepository;
+import pl.election.adapter.out.persistence.repository.SpringVoterRepository;
+import pl.election.application.port.out.IdGeneratorPort;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VotingOption;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Compares the old JPA {@code save} (merge: SELECT by id, then INSERT) against the single-statement
+ * JDBC write paths of {@link VoterRepositoryAdapter} and {@link VoteRepositoryAdapter}, saving the
+ * same number of voters and votes through each against the application started in-process.
+ * Run with {@code mvn -Ploadtest -DskipTests verify -Dloadtest.main=pl.election.loadtest.WritePathBenchmark
+ * -Dloadtest.args="--rows 20000 --threads 8"}.
+ */
+public final class WritePathBenchmark {
+
+    private WritePathBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var values = new HashMap<String, String>();
+        for (int i = 0; i < args.length; i++) {
+            var key = args[i].substring(2);
+            if (!key.equals("testcontainers")) values.put(key, args[++i]);
+        }
+        var rows = Integer.parseInt(values.getOrDefault("rows", "20000"));
+        var threads = Integer.parseInt(values.getOrDefault("threads", "8"));
+
+        try (var embedded = EmbeddedTarget.start();
+             var executor = Executors.newFixedThreadPool(threads)) {
+            var springVoters = embedded.bean(SpringVoterRepository.class);
+            var springVotes = embedded.bean(SpringVoteRepository.class);
+            var voterMapper = embedded.bean(VoterPersistenceMapper.class);
+            var voteMapper = embedded.bean(VotePersistenceMapper.class);
+            var voterAdapter = embedded.bean(VoterRepositoryAdapter.class);
+            var voteAdapter = embedded.bean(VoteRepositoryAdapter.class);
+            var elections = embedded.bean(ElectionRepositoryAdapter.class);
+            IdGeneratorPort ids = new UuidV7IdGeneratorAdapter();
+
+            // warm-up both paths so the JIT and connection pool are settled before measuring
+            for (var round = 0; round < 2; round++) {
+                var measured = round == 1;
+                var merge = measure(executor, threads, rows, ids, elections,
+                        voter -> springVoters.save(voterMapper.toEntity(voter)),
+                        vote -> springVotes.save(voteMapper.toEntity(vote)));
+                var insert = measure(executor, threads, rows, ids, elections, voterAdapter::save, voteAdapter::save);
+                if (measured) {
+                    System.out.printf("%n%-14s %15s %15s%n", "", "JPA merge", "JDBC insert");
+                    System.out.printf("%-14s %,15.0f %,15.0f%n", "voters/s", merge[0], insert[0]);
+                    System.out.printf("%-14s %,15.0f %,15.0f%n", "votes/s", merge[1], insert[1]);
+                }
+            }
+        }
+    }
+
+    private static double[] measure(ExecutorService executor, int threads, int rows, IdGeneratorPort ids,
+                                     ElectionRepositoryAdapter elections,
+                                     Consumer<Voter> saveVoter, Consumer<Vote> saveVote) throws Exception {
+        var election = elections.save(Election.create(ids.generateElectionId(), "Write path benchmark", Instant.now())
+                .addVotingOption(VotingOption.create(ids.generateVotingOptionId(), "Option")));
+        var option = election.votingOptions().getFirst().id();
+        var voters = new ArrayList<Voter>(rows);
+        for (int i = 0; i < rows; i++) {
+            var id = ids.generateVoterId();
+            voters.add(Voter.create(id, "Voter " + i, id.value() + "@bench.test", Instant.now()));
+        }
+        var votersPerSecond = run(executor, threads, voters, saveVoter);
+        var votes = voters.stream()
+                .map(voter -> Vote.cast(ids.generateVoteId(), voter.id(), election.id(), option, Instant.now()))
+                .toList();
+        var votesPerSecond = run(executor, threads, votes, saveVote);
+        return new double[]{votersPerSecond, votesPerSecond};
+    }
+
+    private static <T> double run(ExecutorService executor, int threads, List<T> items, Consumer<T> save) throws Exception {
+        var started = System.nanoTime();
+        var tasks = new ArrayList<Future<?>>(threads);
+        for (int t = 0; t < threads; t++) {
+            var slice = t;
+            tasks.add(executor.submit(() -> {
+                for (int i = slice; i < items.size(); i += threads) save.accept(items.get(i));
+            }));
+        }
+        for (var task : tasks) task.get();
+        return items.size() / ((System.nanoTime() - started) / 1e9);
+    }
+}
@@ -2,11 +2,18 @@ package pl.election;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import pl.election.config.MigrationConfig;
 
-@SpringBootApplication
+// R2DBC is only on the classpath with the reactive Maven profile, whose R2dbcConfig builds its own pool and no second transaction manager
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class ElectionApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ElectionApplication.class, args);
+        var context = SpringApplication.run(ElectionApplication.class, args);
+        if (context.getBean(MigrationConfig.class).getMode() == MigrationConfig.Mode.ONLY) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
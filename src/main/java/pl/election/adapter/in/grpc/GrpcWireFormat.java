@@ -0,0 +1,94 @@
+package pl.election.adapter.in.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import pl.election.adapter.in.web.dto.VoteResponse;
+import pl.election.adapter.in.web.protobuf.ProtobufWireFormat;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static pl.election.adapter.in.web.protobuf.ProtobufWireFormat.readUuid;
+
+/**
+ * Encodes the {@code VotingIngestion} messages of {@code src/main/proto/election.proto}. Nested
+ * {@code VoteResponse} and {@code ElectionResultsResponse} bodies come from {@link ProtobufWireFormat}.
+ */
+final class GrpcWireFormat {
+
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private GrpcWireFormat() {
+    }
+
+    record CastVoteCommand(long sequence, UUID electionId, UUID voterId, UUID votingOptionId) {}
+
+    static CastVoteCommand decodeCastVoteCommand(byte[] body) throws IOException {
+        var in = CodedInputStream.newInstance(body);
+        long sequence = 0;
+        UUID electionId = null;
+        UUID voterId = null;
+        UUID votingOptionId = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (tag) {
+                case 1 << 3 | WireFormat.WIRETYPE_VARINT -> sequence = in.readUInt64();
+                case 2 << 3 | LENGTH_DELIMITED -> electionId = readUuid(in);
+                case 3 << 3 | LENGTH_DELIMITED -> voterId = readUuid(in);
+                case 4 << 3 | LENGTH_DELIMITED -> votingOptionId = readUuid(in);
+                default -> in.skipField(tag);
+            }
+        }
+        return new CastVoteCommand(sequence, electionId, voterId, votingOptionId);
+    }
+
+    /** The {@code election_id} of a {@code GetResultsRequest}, or {@code null} when absent. */
+    static UUID decodeGetResultsRequest(byte[] body) throws IOException {
+        var in = CodedInputStream.newInstance(body);
+        UUID electionId = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == (1 << 3 | LENGTH_DELIMITED)) electionId = readUuid(in);
+            else in.skipField(tag);
+        }
+        return electionId;
+    }
+
+    static byte[] encodeAccepted(long sequence, VoteResponse vote) {
+        var body = ProtobufWireFormat.encode(vote);
+        var bytes = new byte[sequenceSize(sequence) + CodedOutputStream.computeByteArraySize(2, body)];
+        var out = CodedOutputStream.newInstance(bytes);
+        try {
+            writeSequence(out, sequence);
+            out.writeByteArray(2, body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Protobuf size and content disagree", e);
+        }
+        return bytes;
+    }
+
+    static byte[] encodeRejected(long sequence, String errorCode, String message) {
+        var rejection = CodedOutputStream.computeStringSize(1, errorCode)
+                + (message == null ? 0 : CodedOutputStream.computeStringSize(2, message));
+        var bytes = new byte[sequenceSize(sequence) + CodedOutputStream.computeTagSize(3)
+                + CodedOutputStream.computeUInt32SizeNoTag(rejection) + rejection];
+        var out = CodedOutputStream.newInstance(bytes);
+        try {
+            writeSequence(out, sequence);
+            out.writeTag(3, LENGTH_DELIMITED);
+            out.writeUInt32NoTag(rejection);
+            out.writeString(1, errorCode);
+            if (message != null) out.writeString(2, message);
+        } catch (IOException e) {
+            throw new IllegalStateException("Protobuf size and content disagree", e);
+        }
+        return bytes;
+    }
+
+    private static int sequenceSize(long sequence) {
+        return sequence == 0 ? 0 : CodedOutputStream.computeUInt64Size(1, sequence);
+    }
+
+    private static void writeSequence(CodedOutputStream out, long sequence) throws IOException {
+        if (sequence != 0) out.writeUInt64(1, sequence);
+    }
+}
@@ -0,0 +1,245 @@
+package pl.election.adapter.in.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import pl.election.adapter.in.web.ErrorCode;
+import pl.election.adapter.in.web.RequestPriority;
+import pl.election.adapter.in.web.mapper.ElectionWebMapper;
+import pl.election.adapter.in.web.protobuf.ProtobufWireFormat;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.UUID;
+
+/**
+ * {@code VotingIngestion} from {@code src/main/proto/election.proto} over {@link VotingUseCase}. Messages
+ * cross the transport as raw bytes and are decoded here, so a malformed command is rejected on its own
+ * instead of failing the whole stream. Every command and results call draws from the caller's rate-limit
+ * bucket and takes an admission slot like the HTTP API does; a command over either limit is rejected
+ * with {@code RATE_LIMIT_EXCEEDED} or {@code SERVICE_OVERLOADED} and the stream stays open.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotingGrpcService implements BindableService {
+
+    public static final String SERVICE_NAME = "pl.election.v1.VotingIngestion";
+
+    public static final MethodDescriptor<byte[], byte[]> CAST_VOTES = MethodDescriptor.<byte[], byte[]>newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "CastVotes"))
+            .setRequestMarshaller(RawMarshaller.INSTANCE)
+            .setResponseMarshaller(RawMarshaller.INSTANCE)
+            .build();
+
+    public static final MethodDescriptor<byte[], byte[]> GET_RESULTS = MethodDescriptor.<byte[], byte[]>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "GetResults"))
+            .setRequestMarshaller(RawMarshaller.INSTANCE)
+            .setResponseMarshaller(RawMarshaller.INSTANCE)
+            .build();
+
+    private static final Context.Key<String> CLIENT_ADDRESS = Context.key("client-address");
+
+    private final VotingUseCase votingUseCase;
+    private final ElectionWebMapper mapper;
+    private final ClientRateLimiter rateLimiter;
+    private final AdmissionLimiter admissionLimiter;
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerInterceptors.intercept(ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(CAST_VOTES, ServerCalls.asyncBidiStreamingCall(this::castVotes))
+                .addMethod(GET_RESULTS, ServerCalls.asyncUnaryCall(this::getResults))
+                .build(), new ClientAddressInterceptor());
+    }
+
+    private StreamObserver<byte[]> castVotes(StreamObserver<byte[]> responses) {
+        return new CastVotesStream((ServerCallStreamObserver<byte[]>) responses, CLIENT_ADDRESS.get());
+    }
+
+    private void getResults(byte[] request, StreamObserver<byte[]> responses) {
+        if (!rateLimiter.tryConsume(CLIENT_ADDRESS.get())) {
+            responses.onError(Status.RESOURCE_EXHAUSTED.withDescription("Rate limit exceeded").asRuntimeException());
+            return;
+        }
+        if (!admissionLimiter.tryAcquire(RequestPriority.NORMAL)) {
+            responses.onError(Status.UNAVAILABLE.withDescription("Server is overloaded, retry later").asRuntimeException());
+            return;
+        }
+        try {
+            results(request, responses);
+        } finally {
+            admissionLimiter.release();
+        }
+    }
+
+    private void results(byte[] request, StreamObserver<byte[]> responses) {
+        UUID electionId;
+        try {
+            electionId = GrpcWireFormat.decodeGetResultsRequest(request);
+        } catch (IOException e) {
+            responses.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+        if (electionId == null) {
+            responses.onError(Status.INVALID_ARGUMENT.withDescription("election_id is required").asRuntimeException());
+            return;
+        }
+        try {
+            var results = votingUseCase.getResults(ElectionId.of(electionId));
+            responses.onNext(ProtobufWireFormat.encode(mapper.toResultsResponse(results)));
+            responses.onCompleted();
+        } catch (ElectionNotFoundException e) {
+            responses.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+        }
+    }
+
+    private byte[] castVote(byte[] message, String clientAddress) {
+        GrpcWireFormat.CastVoteCommand command;
+        try {
+            command = GrpcWireFormat.decodeCastVoteCommand(message);
+        } catch (IOException e) {
+            return GrpcWireFormat.encodeRejected(0, ErrorCode.VALIDATION_ERROR.name(), e.getMessage());
+        }
+        if (command.electionId() == null || command.voterId() == null || command.votingOptionId() == null)
+            return GrpcWireFormat.encodeRejected(command.sequence(), ErrorCode.VALIDATION_ERROR.name(),
+                    "election_id, voter_id and voting_option_id are required");
+        if (!rateLimiter.tryConsume(clientAddress))
+            return GrpcWireFormat.encodeRejected(command.sequence(), ErrorCode.RATE_LIMIT_EXCEEDED.name(),
+                    "Rate limit exceeded");
+        if (!admissionLimiter.tryAcquire(RequestPriority.CRITICAL))
+            return GrpcWireFormat.encodeRejected(command.sequence(), ErrorCode.SERVICE_OVERLOADED.name(),
+                    "Server is overloaded, retry later");
+        try {
+            return castVote(command);
+        } finally {
+            admissionLimiter.release();
+        }
+    }
+
+    private byte[] castVote(GrpcWireFormat.CastVoteCommand command) {
+        try {
+            return switch (votingUseCase.tryCastVote(VoterId.of(command.voterId()), ElectionId.of(command.electionId()),
+                    VotingOptionId.of(command.votingOptionId()))) {
+                case VoteOutcome.Accepted(var vote) ->
+                        GrpcWireFormat.encodeAccepted(command.sequence(), mapper.toVoteResponse(vote));
+                case VoteOutcome.Rejected rejected ->
+                        GrpcWireFormat.encodeRejected(command.sequence(), ErrorCode.of(rejected).name(), rejected.message());
+            };
+        } catch (RuntimeException e) {
+            var code = ErrorCode.of(e);
+            if (code != ErrorCode.INTERNAL_ERROR)
+                return GrpcWireFormat.encodeRejected(command.sequence(), code.name(), e.getMessage());
+            var correlationId = UUID.randomUUID().toString();
+            log.error("Unhandled exception in CastVotes [correlationId={}]", correlationId, e);
+            return GrpcWireFormat.encodeRejected(command.sequence(), code.name(),
+                    "Internal server error [" + correlationId + "]");
+        }
+    }
+
+    /**
+     * Manual inbound flow control: the next command is requested only after the previous outcome was
+     * handed to the transport and the transport can take more, so HTTP/2 flow control pushes back on
+     * the client whenever the database or the client's reads fall behind. gRPC serializes the
+     * callbacks of one call, so the state needs no locking.
+     */
+    private final class CastVotesStream implements StreamObserver<byte[]> {
+
+        private final ServerCallStreamObserver<byte[]> responses;
+        private final String clientAddress;
+        private boolean awaitingReady = true;
+
+        CastVotesStream(ServerCallStreamObserver<byte[]> responses, String clientAddress) {
+            this.responses = responses;
+            this.clientAddress = clientAddress;
+            responses.disableAutoRequest();
+            responses.setOnReadyHandler(this::onReady);
+        }
+
+        private void onReady() {
+            if (awaitingReady && responses.isReady()) {
+                awaitingReady = false;
+                responses.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(byte[] message) {
+            var outcome = castVote(message, clientAddress);
+            if (responses.isCancelled()) return;
+            responses.onNext(outcome);
+            if (responses.isReady()) responses.request(1);
+            else awaitingReady = true;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("CastVotes stream failed: {}", Status.fromThrowable(t));
+        }
+
+        @Override
+        public void onCompleted() {
+            responses.onCompleted();
+        }
+    }
+
+    /** Makes the caller's address, without the port, available to handlers as the rate-limit key. */
+    private static final class ClientAddressInterceptor implements ServerInterceptor {
+
+        @Override
+        public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                           ServerCallHandler<Q, R> next) {
+            var address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+            var client = address instanceof InetSocketAddress inet && inet.getAddress() != null
+                    ? inet.getAddress().getHostAddress()
+                    : String.valueOf(address);
+            return Contexts.interceptCall(Context.current().withValue(CLIENT_ADDRESS, client), call, headers, next);
+        }
+    }
+
+    private enum RawMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+        INSTANCE;
+
+        @Override
+        public InputStream stream(byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
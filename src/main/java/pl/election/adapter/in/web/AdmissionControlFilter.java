@@ -0,0 +1,54 @@
+package pl.election.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import pl.election.adapter.in.web.dto.ApiError;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionLimiter admissionLimiter;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(AdmissionLimiter admissionLimiter, Duration retryAfter, ObjectMapper objectMapper) {
+        this.admissionLimiter = admissionLimiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var priority = RequestPriority.of(request.getMethod(), request.getRequestURI());
+        if (!admissionLimiter.tryAcquire(priority)) {
+            var status = ErrorCode.SERVICE_OVERLOADED.status();
+            response.setStatus(status.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            var error = new ApiError(Instant.now(), status.value(), ErrorCode.SERVICE_OVERLOADED.name(),
+                    "Server is overloaded, retry later", request.getRequestURI());
+            objectMapper.writeValue(response.getWriter(), error);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            admissionLimiter.release();
+        }
+    }
+}
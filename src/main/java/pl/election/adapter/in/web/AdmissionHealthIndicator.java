@@ -0,0 +1,25 @@
+package pl.election.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Out of service only while votes are being shed; a pod shedding reads alone keeps serving votes and
+ * stays ready.
+ */
+@RequiredArgsConstructor
+public class AdmissionHealthIndicator implements HealthIndicator {
+
+    private final AdmissionLimiter admissionLimiter;
+
+    @Override
+    public Health health() {
+        var shedding = admissionLimiter.shedding();
+        var health = shedding.contains(RequestPriority.CRITICAL) ? Health.outOfService() : Health.up();
+        return health
+                .withDetail("inFlight", admissionLimiter.inFlight())
+                .withDetail("shedding", shedding)
+                .build();
+    }
+}
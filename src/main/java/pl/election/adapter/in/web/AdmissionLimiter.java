@@ -0,0 +1,131 @@
+package pl.election.adapter.in.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One in-flight count shared by all API requests, with a lower ceiling for each lower
+ * {@link RequestPriority}. A request over its ceiling waits up to its class's queue timeout for a slot
+ * and is shed if none frees up, so best-effort requests go first, normal ones next and votes only once
+ * even their ceiling stays full. Publishes {@code http.admission.in.flight}, {@code http.admission.shed}
+ * and {@code http.admission.queue.delay}; the last one records every admission, zero when a slot was
+ * free, so its mean is usable as an autoscaling signal.
+ */
+public class AdmissionLimiter {
+
+    public record Limit(int maxInFlight, Duration queueTimeout) {
+    }
+
+    private final Map<RequestPriority, Limit> limits;
+    private final long readinessWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<RequestPriority, AtomicLong> lastShed = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, Timer> queueDelay = new EnumMap<>(RequestPriority.class);
+
+    public AdmissionLimiter(Map<RequestPriority, Limit> limits, Duration readinessWindow, MeterRegistry registry) {
+        this.limits = new EnumMap<>(limits);
+        this.readinessWindowNanos = readinessWindow.toNanos();
+        for (var priority : RequestPriority.values()) {
+            if (!this.limits.containsKey(priority)) throw new IllegalArgumentException("No limit for " + priority);
+            lastShed.put(priority, new AtomicLong());
+            shed.put(priority, Counter.builder("http.admission.shed").tag("priority", priority.name()).register(registry));
+            queueDelay.put(priority, Timer.builder("http.admission.queue.delay").tag("priority", priority.name()).register(registry));
+        }
+        Gauge.builder("http.admission.in.flight", inFlight, AtomicInteger::get).register(registry);
+    }
+
+    /** Takes a slot for a request of the given class; every {@code true} must be paired with {@link #release()}. */
+    public boolean tryAcquire(RequestPriority priority) {
+        var limit = limits.get(priority);
+        if (tryIncrement(limit.maxInFlight())) {
+            queueDelay.get(priority).record(0, TimeUnit.NANOSECONDS);
+            return true;
+        }
+        if (limit.queueTimeout().isPositive() && await(priority, limit)) return true;
+        lastShed.get(priority).set(System.nanoTime());
+        shed.get(priority).increment();
+        return false;
+    }
+
+    /**
+     * Takes a slot only if one is free right now, without waiting or counting a shed, for callers that must
+     * not block their thread; on {@code false} they call {@link #tryAcquire} from a thread that may wait.
+     */
+    public boolean tryAcquireNow(RequestPriority priority) {
+        if (!tryIncrement(limits.get(priority).maxInFlight())) return false;
+        queueDelay.get(priority).record(0, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+        if (waiting.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** Classes that had a request shed within the readiness window. */
+    public Set<RequestPriority> shedding() {
+        var now = System.nanoTime();
+        var result = EnumSet.noneOf(RequestPriority.class);
+        lastShed.forEach((priority, last) -> {
+            var at = last.get();
+            if (at != 0 && now - at < readinessWindowNanos) result.add(priority);
+        });
+        return result;
+    }
+
+    private boolean tryIncrement(int max) {
+        for (int current = inFlight.get(); current < max; current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+        return false;
+    }
+
+    private boolean await(RequestPriority priority, Limit limit) {
+        var start = System.nanoTime();
+        var remaining = limit.queueTimeout().toNanos();
+        waiting.incrementAndGet();
+        lock.lock();
+        try {
+            while (!tryIncrement(limit.maxInFlight())) {
+                if (remaining <= 0) return false;
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+            waiting.decrementAndGet();
+            queueDelay.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package pl.election.adapter.in.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+import java.time.Duration;
+
+/**
+ * A token bucket per client address, shared by every transport that accepts requests so a client gets
+ * one budget whichever port it calls.
+ */
+public class ClientRateLimiter {
+
+    private final long capacity;
+    private final long refillTokens;
+    private final Duration refillDuration;
+    private final Cache<String, Bucket> buckets;
+
+    public ClientRateLimiter(long capacity, long refillTokens, Duration refillDuration) {
+        this.capacity = capacity;
+        this.refillTokens = refillTokens;
+        this.refillDuration = refillDuration;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    public boolean tryConsume(String clientAddress) {
+        return buckets.get(clientAddress, this::createBucket).tryConsume(1);
+    }
+
+    private Bucket createBucket(String key) {
+        var bandwidth = Bandwidth.builder()
+                .capacity(capacity)
+                .refillGreedy(refillTokens, refillDuration)
+                .build();
+        return Bucket.builder().addLimit(bandwidth).build();
+    }
+}
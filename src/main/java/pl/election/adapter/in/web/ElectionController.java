@@ -11,10 +11,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import pl.election.adapter.in.web.dto.AddVotingOptionRequest;
+import pl.election.adapter.in.web.dto.AddVotingOptionsRequest;
 import pl.election.adapter.in.web.dto.ElectionResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryPageResponse;
 import pl.election.adapter.in.web.dto.VotingOptionResponse;
 import pl.election.adapter.in.web.mapper.ElectionWebMapper;
 import pl.election.application.port.in.ElectionUseCase;
@@ -46,6 +49,14 @@ public class ElectionController {
         return electionUseCase.getAllElections().stream().map(mapper::toResponse).toList();
     }
 
+    @Operation(summary = "List election summaries, newest first, with keyset pagination")
+    @GetMapping("/summary")
+    public ElectionSummaryPageResponse getSummaries(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        var after = cursor == null ? null : mapper.toCursor(cursor);
+        return mapper.toSummaryPageResponse(electionUseCase.getElectionSummaries(after, limit));
+    }
+
     @Operation(summary = "Get election by ID")
     @GetMapping("/{id}")
     public ElectionResponse getById(@PathVariable UUID id) {
@@ -59,4 +70,14 @@ public class ElectionController {
     public VotingOptionResponse addOption(@PathVariable UUID id, @Valid @RequestBody AddVotingOptionRequest request) {
         return mapper.toOptionResponse(electionUseCase.addVotingOption(ElectionId.of(id), request.name()));
     }
+
+    @Operation(summary = "Add voting options to an election in bulk")
+    @ApiResponse(responseCode = "201", description = "Options added")
+    @PostMapping("/{id}/options/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<VotingOptionResponse> addOptions(@PathVariable UUID id, @Valid @RequestBody AddVotingOptionsRequest request) {
+        return electionUseCase.addVotingOptions(ElectionId.of(id), request.names()).stream()
+                .map(mapper::toOptionResponse)
+                .toList();
+    }
 }
@@ -1,13 +1,63 @@
 package pl.election.adapter.in.web;
 
+import org.springframework.http.HttpStatus;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.domain.exception.DuplicateEmailException;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.IdempotencyKeyReusedException;
+import pl.election.domain.exception.RecountNotFoundException;
+import pl.election.domain.exception.VoterBlockedException;
+import pl.election.domain.exception.VoterNotFoundException;
+import pl.election.domain.exception.VotingOptionNotFoundException;
+
 public enum ErrorCode {
-    VOTER_NOT_FOUND,
-    ELECTION_NOT_FOUND,
-    VOTING_OPTION_NOT_FOUND,
-    VOTER_BLOCKED,
-    DUPLICATE_VOTE,
-    DUPLICATE_EMAIL,
-    VALIDATION_ERROR,
-    RATE_LIMIT_EXCEEDED,
-    INTERNAL_ERROR
+    VOTER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    ELECTION_NOT_FOUND(HttpStatus.NOT_FOUND),
+    VOTING_OPTION_NOT_FOUND(HttpStatus.NOT_FOUND),
+    VOTER_BLOCKED(HttpStatus.CONFLICT),
+    DUPLICATE_VOTE(HttpStatus.CONFLICT),
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT),
+    RECOUNT_NOT_FOUND(HttpStatus.NOT_FOUND),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY),
+    VALIDATION_ERROR(HttpStatus.BAD_REQUEST),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    /** The code {@link GlobalExceptionHandler} answers with, for transports that map exceptions by hand. */
+    public static ErrorCode of(Throwable e) {
+        return switch (e) {
+            case VoterNotFoundException ignored -> VOTER_NOT_FOUND;
+            case ElectionNotFoundException ignored -> ELECTION_NOT_FOUND;
+            case VotingOptionNotFoundException ignored -> VOTING_OPTION_NOT_FOUND;
+            case RecountNotFoundException ignored -> RECOUNT_NOT_FOUND;
+            case VoterBlockedException ignored -> VOTER_BLOCKED;
+            case DuplicateVoteException ignored -> DUPLICATE_VOTE;
+            case DuplicateEmailException ignored -> DUPLICATE_EMAIL;
+            case IdempotencyKeyReusedException ignored -> IDEMPOTENCY_KEY_REUSED;
+            case IllegalArgumentException ignored -> VALIDATION_ERROR;
+            default -> INTERNAL_ERROR;
+        };
+    }
+
+    public static ErrorCode of(VoteOutcome.Rejected rejected) {
+        return switch (rejected) {
+            case VOTER_NOT_FOUND -> VOTER_NOT_FOUND;
+            case VOTER_BLOCKED -> VOTER_BLOCKED;
+            case ELECTION_NOT_FOUND -> ELECTION_NOT_FOUND;
+            case VOTING_OPTION_NOT_FOUND -> VOTING_OPTION_NOT_FOUND;
+            case DUPLICATE_VOTE -> DUPLICATE_VOTE;
+        };
+    }
 }
@@ -11,6 +11,8 @@ import pl.election.adapter.in.web.dto.ApiError;
 import pl.election.domain.exception.DuplicateEmailException;
 import pl.election.domain.exception.DuplicateVoteException;
 import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.IdempotencyKeyReusedException;
+import pl.election.domain.exception.RecountNotFoundException;
 import pl.election.domain.exception.VoterBlockedException;
 import pl.election.domain.exception.VoterNotFoundException;
 import pl.election.domain.exception.VotingOptionNotFoundException;
@@ -42,6 +44,12 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.NOT_FOUND, ErrorCode.VOTING_OPTION_NOT_FOUND, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(RecountNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ApiError handle(RecountNotFoundException ex, HttpServletRequest request) {
+        return buildError(HttpStatus.NOT_FOUND, ErrorCode.RECOUNT_NOT_FOUND, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(VoterBlockedException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ApiError handle(VoterBlockedException ex, HttpServletRequest request) {
@@ -60,6 +68,12 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.CONFLICT, ErrorCode.DUPLICATE_EMAIL, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ApiError handle(IdempotencyKeyReusedException ex, HttpServletRequest request) {
+        return buildError(HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.IDEMPOTENCY_KEY_REUSED, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiError handle(MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -69,6 +83,12 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR, message, request);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiError handle(IllegalArgumentException ex, HttpServletRequest request) {
+        return buildError(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ApiError handle(Exception ex, HttpServletRequest request) {
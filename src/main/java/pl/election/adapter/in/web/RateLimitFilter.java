@@ -1,10 +1,6 @@
 package pl.election.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,34 +11,22 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import pl.election.adapter.in.web.dto.ApiError;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.time.Instant;
 
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final long capacity;
-    private final long refillTokens;
-    private final Duration refillDuration;
+    private final ClientRateLimiter rateLimiter;
     private final ObjectMapper objectMapper;
-    private final Cache<String, Bucket> buckets;
 
-    public RateLimitFilter(long capacity, long refillTokens, Duration refillDuration, ObjectMapper objectMapper) {
-        this.capacity = capacity;
-        this.refillTokens = refillTokens;
-        this.refillDuration = refillDuration;
+    public RateLimitFilter(ClientRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
         this.objectMapper = objectMapper;
-        this.buckets = Caffeine.newBuilder()
-                .expireAfterAccess(Duration.ofHours(1))
-                .maximumSize(10_000)
-                .build();
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        var clientIp = request.getRemoteAddr();
-        var bucket = buckets.get(clientIp, this::createBucket);
-        if (bucket.tryConsume(1)) {
+        if (rateLimiter.tryConsume(request.getRemoteAddr())) {
             chain.doFilter(request, response);
         } else {
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -52,12 +36,4 @@ public class RateLimitFilter extends OncePerRequestFilter {
             objectMapper.writeValue(response.getWriter(), error);
         }
     }
-
-    private Bucket createBucket(String key) {
-        var bandwidth = Bandwidth.builder()
-                .capacity(capacity)
-                .refillGreedy(refillTokens, refillDuration)
-                .build();
-        return Bucket.builder().addLimit(bandwidth).build();
-    }
 }
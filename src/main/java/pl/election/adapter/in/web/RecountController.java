@@ -0,0 +1,50 @@
+package pl.election.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import pl.election.adapter.in.web.dto.RecountResponse;
+import pl.election.adapter.in.web.mapper.ElectionWebMapper;
+import pl.election.application.port.in.RecountUseCase;
+import pl.election.domain.model.ElectionId;
+
+import java.util.UUID;
+
+@Tag(name = "Recounts")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class RecountController {
+
+    private final RecountUseCase recountUseCase;
+    private final ElectionWebMapper mapper;
+
+    @Operation(summary = "Start an audit recount of an election")
+    @ApiResponse(responseCode = "202", description = "Recount started")
+    @PostMapping("/elections/{electionId}/recounts")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RecountResponse startRecount(@PathVariable UUID electionId) {
+        return mapper.toRecountResponse(recountUseCase.startRecount(ElectionId.of(electionId)));
+    }
+
+    @Operation(summary = "Get recount progress and result")
+    @GetMapping("/recounts/{recountId}")
+    public RecountResponse getRecount(@PathVariable UUID recountId) {
+        return mapper.toRecountResponse(recountUseCase.getRecount(recountId));
+    }
+
+    @Operation(summary = "Cancel a running recount")
+    @DeleteMapping("/recounts/{recountId}")
+    public RecountResponse cancelRecount(@PathVariable UUID recountId) {
+        return mapper.toRecountResponse(recountUseCase.cancelRecount(recountId));
+    }
+}
@@ -0,0 +1,23 @@
+package pl.election.adapter.in.web;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/** Admission class of an API request; under saturation the lower classes are shed first. */
+public enum RequestPriority {
+    CRITICAL,
+    NORMAL,
+    BEST_EFFORT;
+
+    private static final Pattern VOTES = Pattern.compile("/api/elections/[^/]+/votes");
+    private static final Pattern RECOUNTS = Pattern.compile("/api/elections/[^/]+/recounts");
+    private static final Set<String> LISTINGS = Set.of("/api/elections", "/api/elections/summary", "/api/voters");
+
+    /** Vote casting is critical, listings and recounts are best-effort, everything else (results, lookups, admin writes) is normal. */
+    public static RequestPriority of(String method, String path) {
+        if ("POST".equals(method) && VOTES.matcher(path).matches()) return CRITICAL;
+        if ("GET".equals(method) && LISTINGS.contains(path)) return BEST_EFFORT;
+        if ("POST".equals(method) && RECOUNTS.matcher(path).matches()) return BEST_EFFORT;
+        return NORMAL;
+    }
+}
@@ -0,0 +1,44 @@
+package pl.election.adapter.in.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Adds the {@link StageTimings} of the request as a {@code Server-Timing} header. Off unless
+ * {@code server-timing.enabled} is set, since the header tells any client which stores a request touched.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StageTimings.current()
+                .map(StageTimings::stages)
+                .filter(stages -> !stages.isEmpty())
+                .map(stages -> stages.stream()
+                        .map(s -> String.format(Locale.ROOT, "%s;dur=%.3f", s.name(), s.totalNanos() / 1_000_000.0))
+                        .collect(joining(", ")))
+                .ifPresent(header -> response.getHeaders().add(SERVER_TIMING, header));
+        return body;
+    }
+}
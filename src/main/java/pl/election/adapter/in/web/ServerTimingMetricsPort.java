@@ -0,0 +1,38 @@
+package pl.election.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.ElectionId;
+
+/** Also adds every out-port call to the {@link StageTimings} of the request being served. */
+@RequiredArgsConstructor
+public class ServerTimingMetricsPort implements MetricsPort {
+
+    private final MetricsPort delegate;
+
+    @Override
+    public void recordVoteStarted() {
+        delegate.recordVoteStarted();
+    }
+
+    @Override
+    public void recordVoteFinished() {
+        delegate.recordVoteFinished();
+    }
+
+    @Override
+    public void recordVoteCast(ElectionId electionId, long durationNanos) {
+        delegate.recordVoteCast(electionId, durationNanos);
+    }
+
+    @Override
+    public void recordResultsQuery(ElectionId electionId, long durationNanos) {
+        delegate.recordResultsQuery(electionId, durationNanos);
+    }
+
+    @Override
+    public void recordPortCall(String port, String method, long durationNanos) {
+        delegate.recordPortCall(port, method, durationNanos);
+        StageTimings.record(port + "." + method, durationNanos);
+    }
+}
@@ -0,0 +1,54 @@
+package pl.election.adapter.in.web;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-request breakdown of time spent in out-port calls. Bound to the calling thread between
+ * {@link #begin()} and {@link #end()}; recording outside of that window is a no-op.
+ */
+public final class StageTimings {
+
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, long[]> stages = new LinkedHashMap<>();
+
+    private StageTimings() {
+    }
+
+    public static StageTimings begin() {
+        var timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static Optional<StageTimings> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void record(String stage, long durationNanos) {
+        var timings = CURRENT.get();
+        if (timings != null) timings.add(stage, durationNanos);
+    }
+
+    public List<Stage> stages() {
+        var result = new ArrayList<Stage>(stages.size());
+        stages.forEach((name, acc) -> result.add(new Stage(name, acc[0], acc[1])));
+        return result;
+    }
+
+    private void add(String stage, long durationNanos) {
+        var acc = stages.computeIfAbsent(stage, k -> new long[2]);
+        acc[0]++;
+        acc[1] += durationNanos;
+    }
+
+    public record Stage(String name, long calls, long totalNanos) {}
+}
@@ -1,27 +1,36 @@
 package pl.election.adapter.in.web;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import pl.election.adapter.in.web.dto.ApiError;
 import pl.election.adapter.in.web.dto.CastVoteRequest;
 import pl.election.adapter.in.web.dto.ElectionResultsResponse;
 import pl.election.adapter.in.web.dto.VoteResponse;
 import pl.election.adapter.in.web.mapper.ElectionWebMapper;
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.VoteOutcome;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.VoterId;
 import pl.election.domain.model.VotingOptionId;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Voting")
@@ -30,19 +39,32 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class VotingController {
 
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final Map<VoteOutcome.Rejected, ResponseEntity<ApiError>> REJECTIONS = rejections();
+
     private final VotingUseCase votingUseCase;
+    private final IdempotentVotingUseCase idempotentVotingUseCase;
     private final ElectionWebMapper mapper;
 
-    @Operation(summary = "Cast a vote in an election")
-    @ApiResponse(responseCode = "201", description = "Vote cast")
+    @Operation(summary = "Cast a vote in an election",
+            description = "A retry with the same Idempotency-Key is answered with the vote first cast under it.")
+    @ApiResponse(responseCode = "201", description = "Vote cast",
+            content = @Content(schema = @Schema(implementation = VoteResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Voter blocked or already voted",
+            content = @Content(schema = @Schema(implementation = ApiError.class)))
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different vote",
+            content = @Content(schema = @Schema(implementation = ApiError.class)))
     @PostMapping("/votes")
-    @ResponseStatus(HttpStatus.CREATED)
-    public VoteResponse castVote(@PathVariable UUID electionId, @Valid @RequestBody CastVoteRequest request) {
-        var vote = votingUseCase.castVote(
-                VoterId.of(request.voterId()),
-                ElectionId.of(electionId),
-                VotingOptionId.of(request.votingOptionId()));
-        return mapper.toVoteResponse(vote);
+    public ResponseEntity<?> castVote(@PathVariable UUID electionId, @Valid @RequestBody CastVoteRequest request,
+                                      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        var voterId = VoterId.of(request.voterId());
+        var votingOptionId = VotingOptionId.of(request.votingOptionId());
+        if (idempotencyKey == null)
+            return respond(votingUseCase.tryCastVote(voterId, ElectionId.of(electionId), votingOptionId), false);
+        var result = idempotentVotingUseCase.tryCastVote(idempotencyKey, voterId, ElectionId.of(electionId), votingOptionId);
+        return respond(result.outcome(), result.replayed());
     }
 
     @Operation(summary = "Get election results")
@@ -50,4 +72,29 @@ public class VotingController {
     public ElectionResultsResponse getResults(@PathVariable UUID electionId) {
         return mapper.toResultsResponse(votingUseCase.getResults(ElectionId.of(electionId)));
     }
+
+    private ResponseEntity<?> respond(VoteOutcome outcome, boolean replayed) {
+        return switch (outcome) {
+            case VoteOutcome.Accepted(var vote) -> {
+                var response = ResponseEntity.status(HttpStatus.CREATED);
+                if (replayed) response.header(IDEMPOTENT_REPLAYED, "true");
+                yield response.body(mapper.toVoteResponse(vote));
+            }
+            case VoteOutcome.Rejected rejected -> REJECTIONS.get(rejected);
+        };
+    }
+
+    /**
+     * One immutable response per rejection, carrying the status, code and message {@link GlobalExceptionHandler}
+     * would answer with but no timestamp or path, so a retry storm shares them instead of building a body each.
+     */
+    private static Map<VoteOutcome.Rejected, ResponseEntity<ApiError>> rejections() {
+        var responses = new EnumMap<VoteOutcome.Rejected, ResponseEntity<ApiError>>(VoteOutcome.Rejected.class);
+        for (var rejected : VoteOutcome.Rejected.values()) {
+            var code = ErrorCode.of(rejected);
+            responses.put(rejected, ResponseEntity.status(code.status())
+                    .body(new ApiError(null, code.status().value(), code.name(), rejected.message(), null)));
+        }
+        return Collections.unmodifiableMap(responses);
+    }
 }
@@ -0,0 +1,9 @@
+package pl.election.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AddVotingOptionsRequest(@NotEmpty @Size(max = 10_000) List<@NotBlank @Size(min = 2, max = 200) String> names) {}
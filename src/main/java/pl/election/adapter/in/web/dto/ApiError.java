@@ -1,5 +1,9 @@
 package pl.election.adapter.in.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 
+/** Vote rejections are shared constants without a timestamp or path; those fields are then left out. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ApiError(Instant timestamp, int status, String errorCode, String message, String path) {}
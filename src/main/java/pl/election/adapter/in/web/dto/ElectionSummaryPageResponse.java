@@ -0,0 +1,5 @@
+package pl.election.adapter.in.web.dto;
+
+import java.util.List;
+
+public record ElectionSummaryPageResponse(List<ElectionSummaryResponse> summaries, String nextCursor) {}
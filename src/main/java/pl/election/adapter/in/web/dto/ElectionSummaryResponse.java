@@ -0,0 +1,6 @@
+package pl.election.adapter.in.web.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ElectionSummaryResponse(UUID id, String name, Instant createdAt, long optionCount) {}
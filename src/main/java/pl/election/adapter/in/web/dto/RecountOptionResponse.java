@@ -0,0 +1,6 @@
+package pl.election.adapter.in.web.dto;
+
+import java.util.UUID;
+
+public record RecountOptionResponse(UUID optionId, String optionName, long recounted, long live, long castAfterCutoff,
+                                    long difference) {}
@@ -0,0 +1,9 @@
+package pl.election.adapter.in.web.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record RecountResponse(UUID id, UUID electionId, String status, int partitions, int partitionsCompleted,
+                              long votesCounted, Instant startedAt, Instant finishedAt, boolean matchesLive,
+                              List<RecountOptionResponse> options, String failure) {}
@@ -3,14 +3,28 @@ package pl.election.adapter.in.web.mapper;
 import org.mapstruct.Mapper;
 import pl.election.adapter.in.web.dto.ElectionResponse;
 import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryPageResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryResponse;
 import pl.election.adapter.in.web.dto.OptionResultResponse;
+import pl.election.adapter.in.web.dto.RecountOptionResponse;
+import pl.election.adapter.in.web.dto.RecountResponse;
 import pl.election.adapter.in.web.dto.VoteResponse;
 import pl.election.adapter.in.web.dto.VotingOptionResponse;
 import pl.election.application.port.in.ElectionResults;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.in.ElectionSummaryPage;
+import pl.election.application.port.in.Recount;
 import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.Vote;
 import pl.election.domain.model.VotingOption;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
 @Mapper(componentModel = "spring")
 public interface ElectionWebMapper {
 
@@ -21,6 +35,31 @@ public interface ElectionWebMapper {
         return new ElectionResponse(election.id().value(), election.name(), options, election.createdAt());
     }
 
+    default ElectionSummaryPageResponse toSummaryPageResponse(ElectionSummaryPage page) {
+        var summaries = page.summaries().stream()
+                .map(s -> new ElectionSummaryResponse(s.id().value(), s.name(), s.createdAt(), s.optionCount()))
+                .toList();
+        return new ElectionSummaryPageResponse(summaries, page.next() == null ? null : toCursorToken(page.next()));
+    }
+
+    /** Opaque, URL-safe keyset cursor: {@code createdAt|id}, base64url-encoded. */
+    default String toCursorToken(ElectionSummary.Cursor cursor) {
+        var raw = cursor.createdAt() + "|" + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    default ElectionSummary.Cursor toCursor(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separator = raw.indexOf('|');
+            return new ElectionSummary.Cursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    ElectionId.of(UUID.fromString(raw.substring(separator + 1))));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
     default VotingOptionResponse toOptionResponse(VotingOption option) {
         return new VotingOptionResponse(option.id().value(), option.name());
     }
@@ -45,4 +84,15 @@ public interface ElectionWebMapper {
                 .toList();
         return new ElectionResultsResponse(results.electionId().value(), results.electionName(), optionResults, totalVotes);
     }
+
+    default RecountResponse toRecountResponse(Recount recount) {
+        var options = recount.options().stream()
+                .map(o -> new RecountOptionResponse(
+                        o.optionId().value(), o.optionName(), o.recounted(), o.live(), o.castAfterCutoff(),
+                        o.difference()))
+                .toList();
+        return new RecountResponse(recount.id(), recount.electionId().value(), recount.status().name(),
+                recount.partitions(), recount.partitionsCompleted(), recount.votesCounted(),
+                recount.startedAt(), recount.finishedAt(), recount.matchesLive(), options, recount.failure());
+    }
 }
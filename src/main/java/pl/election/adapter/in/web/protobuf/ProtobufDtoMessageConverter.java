@@ -0,0 +1,93 @@
+package pl.election.adapter.in.web.protobuf;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import pl.election.adapter.in.web.dto.ApiError;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
+import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryPageResponse;
+import pl.election.adapter.in.web.dto.VoteResponse;
+import pl.election.adapter.in.web.dto.VoterResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves {@code application/x-protobuf} for the hot endpoints by encoding their DTOs with
+ * {@link ProtobufWireFormat}, so controllers stay unchanged and the format follows {@code Accept}
+ * and {@code Content-Type} negotiation.
+ */
+public class ProtobufDtoMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final Set<Class<?>> WRITABLE = Set.of(VoteResponse.class, ElectionResultsResponse.class,
+            VoterResponse.class, ElectionSummaryPageResponse.class, ApiError.class);
+
+    public ProtobufDtoMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == CastVoteRequest.class || WRITABLE.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == CastVoteRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (isVoterList(type) || WRITABLE.contains(type == null ? clazz : ResolvableType.forType(type).resolve(clazz)))
+                && canWrite(mediaType);
+    }
+
+    /** Writability of lists depends on the element type, which {@link #canWrite(Type, Class, MediaType)} checks. */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : super.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(CastVoteRequest.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return ProtobufWireFormat.decodeCastVoteRequest(inputMessage.getBody().readAllBytes());
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Malformed protobuf body: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        var bytes = switch (body) {
+            case VoteResponse vote -> ProtobufWireFormat.encode(vote);
+            case ElectionResultsResponse results -> ProtobufWireFormat.encode(results);
+            case VoterResponse voter -> ProtobufWireFormat.encode(voter);
+            case ElectionSummaryPageResponse page -> ProtobufWireFormat.encode(page);
+            case ApiError error -> ProtobufWireFormat.encode(error);
+            case List<?> voters -> ProtobufWireFormat.encode((List<VoterResponse>) voters);
+            default -> throw new IllegalArgumentException("Not a protobuf DTO: " + body.getClass().getName());
+        };
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    private static boolean isVoterList(Type type) {
+        var resolved = ResolvableType.forType(type == null ? Object.class : type);
+        return List.class.isAssignableFrom(resolved.toClass()) && resolved.getGeneric(0).toClass() == VoterResponse.class;
+    }
+}
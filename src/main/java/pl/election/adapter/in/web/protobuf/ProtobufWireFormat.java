@@ -0,0 +1,272 @@
+package pl.election.adapter.in.web.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import pl.election.adapter.in.web.dto.ApiError;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
+import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryPageResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryResponse;
+import pl.election.adapter.in.web.dto.OptionResultResponse;
+import pl.election.adapter.in.web.dto.VoteResponse;
+import pl.election.adapter.in.web.dto.VoterResponse;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes the web DTOs as the messages of {@code src/main/proto/election.proto} without generated
+ * classes. Each message has a {@code size} and a {@code write} method, so a body is written into one
+ * exactly sized buffer. Fields holding their proto3 default are omitted, as protoc-generated code does.
+ * UUIDs are 16 bytes, most significant byte first.
+ */
+public final class ProtobufWireFormat {
+
+    private static final int UUID_BYTES = 16;
+
+    private ProtobufWireFormat() {
+    }
+
+    public static byte[] encode(VoteResponse vote) {
+        return encode(size(vote), out -> write(out, vote));
+    }
+
+    public static byte[] encode(ElectionResultsResponse results) {
+        return encode(size(results), out -> write(out, results));
+    }
+
+    public static byte[] encode(VoterResponse voter) {
+        return encode(size(voter), out -> write(out, voter));
+    }
+
+    /** A {@code VoterList} message. */
+    public static byte[] encode(List<VoterResponse> voters) {
+        var size = 0;
+        for (var voter : voters) size += messageSize(1, size(voter));
+        return encode(size, out -> {
+            for (var voter : voters) writeMessage(out, 1, size(voter), () -> write(out, voter));
+        });
+    }
+
+    public static byte[] encode(ElectionSummaryPageResponse page) {
+        return encode(size(page), out -> write(out, page));
+    }
+
+    public static byte[] encode(ApiError error) {
+        return encode(size(error), out -> write(out, error));
+    }
+
+    public static CastVoteRequest decodeCastVoteRequest(byte[] body) throws IOException {
+        var in = CodedInputStream.newInstance(body);
+        UUID voterId = null;
+        UUID votingOptionId = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (tag) {
+                case 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> voterId = readUuid(in);
+                case 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> votingOptionId = readUuid(in);
+                default -> in.skipField(tag);
+            }
+        }
+        return new CastVoteRequest(voterId, votingOptionId);
+    }
+
+    private static int size(VoteResponse vote) {
+        return uuidSize(1, vote.id()) + uuidSize(2, vote.voterId()) + uuidSize(3, vote.electionId())
+                + uuidSize(4, vote.votingOptionId()) + timestampSize(5, vote.castAt());
+    }
+
+    private static void write(CodedOutputStream out, VoteResponse vote) throws IOException {
+        writeUuid(out, 1, vote.id());
+        writeUuid(out, 2, vote.voterId());
+        writeUuid(out, 3, vote.electionId());
+        writeUuid(out, 4, vote.votingOptionId());
+        writeTimestamp(out, 5, vote.castAt());
+    }
+
+    private static int size(OptionResultResponse option) {
+        return uuidSize(1, option.optionId()) + stringSize(2, option.optionName()) + int64Size(3, option.voteCount())
+                + doubleSize(4, option.percentage());
+    }
+
+    private static void write(CodedOutputStream out, OptionResultResponse option) throws IOException {
+        writeUuid(out, 1, option.optionId());
+        writeString(out, 2, option.optionName());
+        writeInt64(out, 3, option.voteCount());
+        writeDouble(out, 4, option.percentage());
+    }
+
+    private static int size(ElectionResultsResponse results) {
+        var size = uuidSize(1, results.electionId()) + stringSize(2, results.electionName())
+                + int64Size(4, results.totalVotes());
+        for (var option : results.results()) size += messageSize(3, size(option));
+        return size;
+    }
+
+    private static void write(CodedOutputStream out, ElectionResultsResponse results) throws IOException {
+        writeUuid(out, 1, results.electionId());
+        writeString(out, 2, results.electionName());
+        for (var option : results.results()) writeMessage(out, 3, size(option), () -> write(out, option));
+        writeInt64(out, 4, results.totalVotes());
+    }
+
+    private static int size(VoterResponse voter) {
+        return uuidSize(1, voter.id()) + stringSize(2, voter.name()) + stringSize(3, voter.email())
+                + stringSize(4, voter.status()) + timestampSize(5, voter.createdAt());
+    }
+
+    private static void write(CodedOutputStream out, VoterResponse voter) throws IOException {
+        writeUuid(out, 1, voter.id());
+        writeString(out, 2, voter.name());
+        writeString(out, 3, voter.email());
+        writeString(out, 4, voter.status());
+        writeTimestamp(out, 5, voter.createdAt());
+    }
+
+    private static int size(ElectionSummaryResponse summary) {
+        return uuidSize(1, summary.id()) + stringSize(2, summary.name()) + timestampSize(3, summary.createdAt())
+                + int64Size(4, summary.optionCount());
+    }
+
+    private static void write(CodedOutputStream out, ElectionSummaryResponse summary) throws IOException {
+        writeUuid(out, 1, summary.id());
+        writeString(out, 2, summary.name());
+        writeTimestamp(out, 3, summary.createdAt());
+        writeInt64(out, 4, summary.optionCount());
+    }
+
+    private static int size(ElectionSummaryPageResponse page) {
+        var size = stringSize(2, page.nextCursor());
+        for (var summary : page.summaries()) size += messageSize(1, size(summary));
+        return size;
+    }
+
+    private static void write(CodedOutputStream out, ElectionSummaryPageResponse page) throws IOException {
+        for (var summary : page.summaries()) writeMessage(out, 1, size(summary), () -> write(out, summary));
+        writeString(out, 2, page.nextCursor());
+    }
+
+    private static int size(ApiError error) {
+        return timestampSize(1, error.timestamp()) + int32Size(2, error.status()) + stringSize(3, error.errorCode())
+                + stringSize(4, error.message()) + stringSize(5, error.path());
+    }
+
+    private static void write(CodedOutputStream out, ApiError error) throws IOException {
+        writeTimestamp(out, 1, error.timestamp());
+        writeInt32(out, 2, error.status());
+        writeString(out, 3, error.errorCode());
+        writeString(out, 4, error.message());
+        writeString(out, 5, error.path());
+    }
+
+    private static byte[] encode(int size, Body body) {
+        var bytes = new byte[size];
+        var out = CodedOutputStream.newInstance(bytes);
+        try {
+            body.write(out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Protobuf size and content disagree", e);
+        }
+        return bytes;
+    }
+
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeMessage(CodedOutputStream out, int field, int size, Field content) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+        content.write();
+    }
+
+    private static int uuidSize(int field, UUID uuid) {
+        return uuid == null ? 0 : messageSize(field, UUID_BYTES);
+    }
+
+    private static void writeUuid(CodedOutputStream out, int field, UUID uuid) throws IOException {
+        if (uuid == null) return;
+        writeMessage(out, field, UUID_BYTES, () -> {
+            writeBigEndian(out, uuid.getMostSignificantBits());
+            writeBigEndian(out, uuid.getLeastSignificantBits());
+        });
+    }
+
+    private static void writeBigEndian(CodedOutputStream out, long value) throws IOException {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) out.writeRawByte((byte) (value >>> shift));
+    }
+
+    /** Reads a length-delimited 16-byte UUID, rejecting any other length. */
+    public static UUID readUuid(CodedInputStream in) throws IOException {
+        var bytes = in.readByteArray();
+        if (bytes.length != UUID_BYTES)
+            throw new InvalidProtocolBufferException("UUID must be " + UUID_BYTES + " bytes, got " + bytes.length);
+        long most = 0;
+        long least = 0;
+        for (int i = 0; i < Long.BYTES; i++) most = most << Byte.SIZE | (bytes[i] & 0xFF);
+        for (int i = Long.BYTES; i < UUID_BYTES; i++) least = least << Byte.SIZE | (bytes[i] & 0xFF);
+        return new UUID(most, least);
+    }
+
+    private static int timestampSize(int field, Instant instant) {
+        return instant == null ? 0 : messageSize(field, timestampContentSize(instant));
+    }
+
+    private static int timestampContentSize(Instant instant) {
+        return int64Size(1, instant.getEpochSecond()) + int32Size(2, instant.getNano());
+    }
+
+    private static void writeTimestamp(CodedOutputStream out, int field, Instant instant) throws IOException {
+        if (instant == null) return;
+        writeMessage(out, field, timestampContentSize(instant), () -> {
+            writeInt64(out, 1, instant.getEpochSecond());
+            writeInt32(out, 2, instant.getNano());
+        });
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) out.writeString(field, value);
+    }
+
+    private static int int64Size(int field, long value) {
+        return value == 0 ? 0 : CodedOutputStream.computeInt64Size(field, value);
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, long value) throws IOException {
+        if (value != 0) out.writeInt64(field, value);
+    }
+
+    private static int int32Size(int field, int value) {
+        return value == 0 ? 0 : CodedOutputStream.computeInt32Size(field, value);
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, int value) throws IOException {
+        if (value != 0) out.writeInt32(field, value);
+    }
+
+    private static int doubleSize(int field, double value) {
+        return Double.doubleToRawLongBits(value) == 0 ? 0 : CodedOutputStream.computeDoubleSize(field, value);
+    }
+
+    private static void writeDouble(CodedOutputStream out, int field, double value) throws IOException {
+        if (Double.doubleToRawLongBits(value) != 0) out.writeDouble(field, value);
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void write(CodedOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Field {
+        void write() throws IOException;
+    }
+}
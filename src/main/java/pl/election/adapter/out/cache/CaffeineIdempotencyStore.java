@@ -0,0 +1,61 @@
+package pl.election.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Keeps keys recorded by this instance in memory for a short window, so the retries that follow a
+ * dropped response within seconds are answered without a database round trip. Misses fall through to
+ * the durable store.
+ */
+public class CaffeineIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyStore delegate;
+    private final Cache<String, Recorded> recent;
+
+    public CaffeineIdempotencyStore(IdempotencyStore delegate, Duration ttl, long maxSize) {
+        this.delegate = delegate;
+        this.recent = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    }
+
+    @Override
+    public Optional<Vote> find(String idempotencyKey, Instant recordedAfter) {
+        var recorded = recent.getIfPresent(idempotencyKey);
+        if (recorded != null && recorded.at().isAfter(recordedAfter)) return Optional.of(recorded.vote());
+        return delegate.find(idempotencyKey, recordedAfter);
+    }
+
+    @Override
+    public Reservation reserve(String idempotencyKey, VoterId voterId, ElectionId electionId,
+                               VotingOptionId votingOptionId, Instant reservedAt) {
+        return delegate.reserve(idempotencyKey, voterId, electionId, votingOptionId, reservedAt);
+    }
+
+    @Override
+    public void save(String idempotencyKey, Vote vote, Instant recordedAt) {
+        delegate.save(idempotencyKey, vote, recordedAt);
+        recent.put(idempotencyKey, new Recorded(vote, recordedAt));
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        delegate.release(idempotencyKey);
+    }
+
+    @Override
+    public int deleteRecordedBefore(Instant cutoff) {
+        recent.asMap().values().removeIf(recorded -> recorded.at().isBefore(cutoff));
+        return delegate.deleteRecordedBefore(cutoff);
+    }
+
+    private record Recorded(Vote vote, Instant at) {}
+}
@@ -1,31 +1,151 @@
 package pl.election.adapter.out.health;
 
-import lombok.RequiredArgsConstructor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
-import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
-@Component
-@RequiredArgsConstructor
-public class DatabaseHealthIndicator implements HealthIndicator {
+/**
+ * Database health from state sampled in the background, so a probe never opens or waits for a
+ * connection. The ping goes through its own connection, so it never queues behind the serving pools;
+ * a failing ping reports DOWN. A readiness pool whose threads awaiting a connection stay above
+ * {@code maxPending} for {@code pendingFor} reports OUT_OF_SERVICE, so traffic moves to pods that are
+ * not queueing on their pools. A ping that has not completed for {@code staleAfter} reports DOWN
+ * rather than repeating the last result.
+ */
+public class DatabaseHealthIndicator implements HealthIndicator, AutoCloseable {
 
-    private final DataSource dataSource;
+    private record Ping(Instant at, long atNanos, Duration latency, String error) {
+    }
+
+    private final Map<String, HikariDataSource> pools;
+    private final Set<String> readinessPools;
+    private final DataSource pingTarget;
+    private final int pingTimeoutSeconds;
+    private final long staleAfterNanos;
+    private final int maxPending;
+    private final long pendingForNanos;
+    private final MeterRegistry registry;
+    private final Map<String, Long> pendingSince = new ConcurrentHashMap<>();
+    private volatile Ping lastPing;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        var thread = new Thread(runnable, "database-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DatabaseHealthIndicator(Map<String, HikariDataSource> pools, Set<String> readinessPools, DataSource pingTarget,
+                                   Duration pingTimeout, Duration staleAfter, int maxPending, Duration pendingFor,
+                                   MeterRegistry registry) {
+        this.pools = new LinkedHashMap<>(pools);
+        this.readinessPools = Set.copyOf(readinessPools);
+        this.pingTarget = pingTarget;
+        this.pingTimeoutSeconds = (int) Math.max(1, pingTimeout.toSeconds());
+        this.staleAfterNanos = staleAfter.toNanos();
+        this.maxPending = maxPending;
+        this.pendingForNanos = pendingFor.toNanos();
+        this.registry = registry;
+    }
+
+    public DatabaseHealthIndicator start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::samplePools, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::ping, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    void samplePools() {
+        var now = System.nanoTime();
+        pools.forEach((name, pool) -> {
+            var stats = pool.getHikariPoolMXBean();
+            var pending = stats == null ? 0 : stats.getThreadsAwaitingConnection();
+            if (pending > maxPending) pendingSince.putIfAbsent(name, now);
+            else pendingSince.remove(name);
+        });
+    }
+
+    void ping() {
+        var start = System.nanoTime();
+        String error = null;
+        try (var connection = pingTarget.getConnection()) {
+            if (!connection.isValid(pingTimeoutSeconds)) error = "Connection is not valid";
+        } catch (SQLException e) {
+            error = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
+        }
+        var end = System.nanoTime();
+        lastPing = new Ping(Instant.now(), end, Duration.ofNanos(end - start), error);
+    }
 
     @Override
     public Health health() {
-        try (var conn = dataSource.getConnection()) {
-            return Health.up()
-                    .withDetail("database", "PostgreSQL")
-                    .withDetail("validConnection", true)
-                    .build();
-        } catch (SQLException e) {
-            return Health.down(e)
-                    .withDetail("database", "PostgreSQL")
-                    .withDetail("error", e.getMessage())
-                    .build();
+        var ping = lastPing;
+        var saturated = saturatedPools();
+        Health.Builder health;
+        if (ping == null) health = Health.unknown();
+        else if (ping.error() != null) health = Health.down().withDetail("error", ping.error());
+        else if (System.nanoTime() - ping.atNanos() > staleAfterNanos) health = Health.down().withDetail("error", "No ping completed since " + ping.at());
+        else if (!saturated.isEmpty()) health = Health.outOfService().withDetail("saturatedPools", saturated);
+        else health = Health.up();
+        if (ping != null) {
+            health.withDetail("lastPingAt", ping.at()).withDetail("pingLatencyMs", ping.latency().toNanos() / 1e6);
+        }
+        return health
+                .withDetail("database", "PostgreSQL")
+                .withDetail("pools", poolDetails())
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        if (pingTarget instanceof Closeable closeable) closeable.close();
+    }
+
+    private Set<String> saturatedPools() {
+        var now = System.nanoTime();
+        var saturated = new TreeSet<String>();
+        pendingSince.forEach((name, since) -> {
+            if (readinessPools.contains(name) && now - since >= pendingForNanos) saturated.add(name);
+        });
+        return saturated;
+    }
+
+    private Map<String, Object> poolDetails() {
+        var details = new LinkedHashMap<String, Object>();
+        pools.forEach((name, pool) -> {
+            var stats = pool.getHikariPoolMXBean();
+            var detail = new LinkedHashMap<String, Object>();
+            detail.put("active", stats == null ? 0 : stats.getActiveConnections());
+            detail.put("idle", stats == null ? 0 : stats.getIdleConnections());
+            detail.put("pending", stats == null ? 0 : stats.getThreadsAwaitingConnection());
+            detail.put("max", pool.getMaximumPoolSize());
+            var acquire = registry.find("hikaricp.connections.acquire").tag("pool", name).timer();
+            if (acquire != null) detail.putAll(acquirePercentiles(acquire));
+            details.put(name, detail);
+        });
+        return details;
+    }
+
+    private static Map<String, Object> acquirePercentiles(Timer acquire) {
+        var percentiles = new LinkedHashMap<String, Object>();
+        for (var value : acquire.takeSnapshot().percentileValues()) {
+            percentiles.put("acquireP" + Math.round(value.percentile() * 100) + "Ms", value.value(TimeUnit.MILLISECONDS));
         }
+        return percentiles;
     }
 }
@@ -1,10 +1,12 @@
 package pl.election.adapter.out.id;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import pl.election.application.port.out.IdGeneratorPort;
 import pl.election.domain.model.*;
 
 @Component
+@ConditionalOnProperty(name = "id-generator.type", havingValue = "v4")
 public class UuidIdGeneratorAdapter implements IdGeneratorPort {
     @Override
     public VoterId generateVoterId() {
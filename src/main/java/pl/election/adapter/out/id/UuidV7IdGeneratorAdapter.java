@@ -0,0 +1,70 @@
+package pl.election.adapter.out.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.election.application.port.out.IdGeneratorPort;
+import pl.election.domain.model.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDv7 (RFC 9562) ids, so new rows land on the right-most pages
+ * of B-tree indexes instead of random ones. The 48-bit millisecond timestamp and
+ * the 12-bit {@code rand_a} counter share one {@link AtomicLong}, which makes ids
+ * strictly increasing across threads without locking. The counter starts at a
+ * random value in each millisecond; once it overflows, the timestamp runs ahead
+ * of the clock until the clock catches up. The remaining 62 bits come from
+ * {@link ThreadLocalRandom} rather than a shared {@code SecureRandom}.
+ */
+@Component
+@ConditionalOnProperty(name = "id-generator.type", havingValue = "v7", matchIfMissing = true)
+public class UuidV7IdGeneratorAdapter implements IdGeneratorPort {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7IdGeneratorAdapter() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7IdGeneratorAdapter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public VoterId generateVoterId() {
+        return VoterId.of(next());
+    }
+
+    @Override
+    public ElectionId generateElectionId() {
+        return ElectionId.of(next());
+    }
+
+    @Override
+    public VoteId generateVoteId() {
+        return VoteId.of(next());
+    }
+
+    @Override
+    public VotingOptionId generateVotingOptionId() {
+        return VotingOptionId.of(next());
+    }
+
+    UUID next() {
+        var random = ThreadLocalRandom.current();
+        var candidate = clock.getAsLong() << COUNTER_BITS | random.nextInt(1 << (COUNTER_BITS - 1));
+        var timestampAndCounter = lastTimestampAndCounter.accumulateAndGet(candidate,
+                (last, fresh) -> (fresh >>> COUNTER_BITS) > (last >>> COUNTER_BITS) ? fresh : last + 1);
+        var msb = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION | (timestampAndCounter & 0xFFF);
+        return new UUID(msb, VARIANT | (random.nextLong() & RANDOM_MASK));
+    }
+}
@@ -0,0 +1,97 @@
+package pl.election.adapter.out.inmemory;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryElectionRepository implements ElectionRepository {
+
+    private static final Comparator<ElectionSummary.Cursor> NEWEST_FIRST = Comparator
+            .comparing(ElectionSummary.Cursor::createdAt)
+            .thenComparing(cursor -> cursor.id().value(), VoteIdRange.ORDER)
+            .reversed();
+
+    private final ConcurrentHashMap<UUID, Election> elections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, UUID> optionOwners = new ConcurrentHashMap<>();
+
+    @Override
+    public Election save(Election election) {
+        var id = election.id().value();
+        claimOptions(id, election.votingOptions());
+        elections.put(id, election);
+        return election;
+    }
+
+    @Override
+    public Optional<Election> findById(ElectionId id) {
+        return Optional.ofNullable(elections.get(id.value()));
+    }
+
+    @Override
+    public List<Election> findAll() {
+        return List.copyOf(elections.values());
+    }
+
+    @Override
+    public List<Election> findAllById(Collection<ElectionId> ids) {
+        return ids.stream().distinct().map(id -> elections.get(id.value())).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public boolean existsById(ElectionId id) {
+        return elections.containsKey(id.value());
+    }
+
+    @Override
+    public void appendVotingOptions(ElectionId electionId, List<VotingOption> options) {
+        var id = electionId.value();
+        var updated = elections.computeIfPresent(id, (key, election) -> {
+            claimOptions(id, options);
+            var appended = new ArrayList<>(election.votingOptions());
+            appended.addAll(options);
+            return Election.reconstitute(election.id(), election.name(), appended, election.createdAt());
+        });
+        if (updated == null) throw new DataIntegrityViolationException("Election not found: " + id);
+    }
+
+    @Override
+    public List<ElectionSummary> findSummaries(ElectionSummary.Cursor after, int limit) {
+        return elections.values().stream()
+                .map(election -> new ElectionSummary.Cursor(election.createdAt(), election.id()))
+                .filter(cursor -> after == null || NEWEST_FIRST.compare(cursor, after) > 0)
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .map(cursor -> summarize(elections.get(cursor.id().value())))
+                .toList();
+    }
+
+    private static ElectionSummary summarize(Election election) {
+        return new ElectionSummary(election.id(), election.name(), election.createdAt(), election.votingOptions().size());
+    }
+
+    private void claimOptions(UUID electionId, List<VotingOption> options) {
+        for (var option : options) {
+            var owner = optionOwners.putIfAbsent(option.id().value(), electionId);
+            if (owner != null && !owner.equals(electionId))
+                throw new DuplicateKeyException("Voting option belongs to another election: " + option.id().value());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package pl.election.adapter.out.inmemory;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Recorded> keys = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Vote> find(String idempotencyKey, Instant recordedAfter) {
+        return Optional.ofNullable(keys.get(idempotencyKey))
+                .filter(recorded -> recorded.vote() != null && recorded.at().isAfter(recordedAfter))
+                .map(Recorded::vote);
+    }
+
+    @Override
+    public Reservation reserve(String idempotencyKey, VoterId voterId, ElectionId electionId,
+                               VotingOptionId votingOptionId, Instant reservedAt) {
+        var reservation = new Recorded(voterId, electionId, votingOptionId, null, reservedAt);
+        var holder = keys.putIfAbsent(idempotencyKey, reservation);
+        if (holder == null) return Reservation.NEW;
+        return holder.sameSubmission(reservation) ? Reservation.RESUMED : Reservation.CONFLICT;
+    }
+
+    @Override
+    public void save(String idempotencyKey, Vote vote, Instant recordedAt) {
+        var recorded = new Recorded(vote.voterId(), vote.electionId(), vote.votingOptionId(), vote, recordedAt);
+        keys.merge(idempotencyKey, recorded,
+                (held, next) -> held.vote() == null && held.sameSubmission(next) ? next : held);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        keys.computeIfPresent(idempotencyKey, (key, held) -> held.vote() == null ? null : held);
+    }
+
+    @Override
+    public int deleteRecordedBefore(Instant cutoff) {
+        var before = keys.size();
+        keys.values().removeIf(recorded -> recorded.at().isBefore(cutoff));
+        return before - keys.size();
+    }
+
+    private record Recorded(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId, Vote vote, Instant at) {
+
+        boolean sameSubmission(Recorded other) {
+            return voterId.equals(other.voterId) && electionId.equals(other.electionId)
+                    && votingOptionId.equals(other.votingOptionId);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package pl.election.adapter.out.inmemory;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@Repository
+@Profile("inmemory & !votelog")
+public class InMemoryVoteRepository implements VoteRepository {
+
+    private final Set<UUID> voteIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<UUID, ElectionVotes> elections = new ConcurrentHashMap<>();
+
+    @Override
+    public Vote save(Vote vote) {
+        var election = elections.computeIfAbsent(vote.electionId().value(), k -> new ElectionVotes());
+        if (!election.voters.add(vote.voterId().value()))
+            throw new DuplicateVoteException("Voter already voted in this election");
+        if (!voteIds.add(vote.id().value())) {
+            election.voters.remove(vote.voterId().value());
+            throw new DuplicateKeyException("Vote already exists: " + vote.id().value());
+        }
+        election.votes.add(vote);
+        election.tally.computeIfAbsent(vote.votingOptionId(), k -> new LongAdder()).increment();
+        election.lastCastAt.accumulateAndGet(vote.castAt(), (last, castAt) -> castAt.isAfter(last) ? castAt : last);
+        return vote;
+    }
+
+    @Override
+    public boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        var election = elections.get(electionId.value());
+        return election != null && election.voters.contains(voterId.value());
+    }
+
+    @Override
+    public Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        return findByElectionId(electionId).stream().filter(vote -> vote.voterId().equals(voterId)).findFirst();
+    }
+
+    @Override
+    public List<Vote> findByElectionId(ElectionId electionId) {
+        var election = elections.get(electionId.value());
+        return election == null ? List.of() : List.copyOf(election.votes);
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId) {
+        var election = elections.get(electionId.value());
+        if (election == null) return Map.of();
+        var counts = new HashMap<VotingOptionId, Long>();
+        election.tally.forEach((option, count) -> counts.put(option, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore) {
+        var election = elections.get(electionId.value());
+        if (election == null) return Map.of();
+        var counts = new HashMap<VotingOptionId, Long>();
+        for (var vote : election.votes) {
+            if (vote.castAt().isBefore(castBefore)) counts.merge(vote.votingOptionId(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore) {
+        var election = elections.get(electionId.value());
+        if (election == null) return Map.of();
+        var counts = new HashMap<VotingOptionId, Long>();
+        for (var vote : election.votes) {
+            if (range.contains(vote.id().value()) && vote.castAt().isBefore(castBefore))
+                counts.merge(vote.votingOptionId(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId) {
+        var election = elections.get(electionId.value());
+        if (election == null || election.votes.isEmpty()) return Optional.empty();
+        var ids = election.votes.stream().map(vote -> vote.id().value()).toList();
+        return Optional.of(new VoteIdRange(
+                ids.stream().min(VoteIdRange.ORDER).orElseThrow(),
+                ids.stream().max(VoteIdRange.ORDER).orElseThrow()));
+    }
+
+    @Override
+    public List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit) {
+        return elections.entrySet().stream()
+                .filter(entry -> !entry.getValue().lastCastAt.get().isBefore(since))
+                .sorted(Comparator.comparing((Map.Entry<UUID, ElectionVotes> entry) -> entry.getValue().lastCastAt.get()).reversed())
+                .limit(limit)
+                .map(entry -> ElectionId.of(entry.getKey()))
+                .toList();
+    }
+
+    @Override
+    public Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds) {
+        var counts = new HashMap<ElectionId, Map<VotingOptionId, Long>>();
+        for (var electionId : electionIds) {
+            var tally = countByElectionIdGroupByOption(electionId);
+            if (!tally.isEmpty()) counts.put(electionId, tally);
+        }
+        return counts;
+    }
+
+    private static final class ElectionVotes {
+        private final Set<UUID> voters = ConcurrentHashMap.newKeySet();
+        private final ConcurrentLinkedQueue<Vote> votes = new ConcurrentLinkedQueue<>();
+        private final ConcurrentHashMap<VotingOptionId, LongAdder> tally = new ConcurrentHashMap<>();
+        private final AtomicReference<Instant> lastCastAt = new AtomicReference<>(Instant.MIN);
+    }
+}
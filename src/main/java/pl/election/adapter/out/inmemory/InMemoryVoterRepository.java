@@ -0,0 +1,46 @@
+package pl.election.adapter.out.inmemory;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.VoterRepository;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("inmemory")
+public class InMemoryVoterRepository implements VoterRepository {
+
+    private final ConcurrentHashMap<UUID, Voter> voters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UUID> emails = new ConcurrentHashMap<>();
+
+    @Override
+    public Voter save(Voter voter) {
+        var id = voter.id().value();
+        var owner = emails.putIfAbsent(voter.email(), id);
+        if (owner != null && !owner.equals(id))
+            throw new DuplicateKeyException("Email already registered: " + voter.email());
+        var previous = voters.put(id, voter);
+        if (previous != null && !previous.email().equals(voter.email()))
+            emails.remove(previous.email(), id);
+        return voter;
+    }
+
+    @Override
+    public Optional<Voter> findById(VoterId id) {
+        return Optional.ofNullable(voters.get(id.value()));
+    }
+
+    @Override
+    public List<Voter> findAll() {
+        return List.copyOf(voters.values());
+    }
+
+    @Override
+    public boolean existsByEmail(String email) { return emails.containsKey(email); }
+}
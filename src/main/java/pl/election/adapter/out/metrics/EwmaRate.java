@@ -0,0 +1,53 @@
+package pl.election.adapter.out.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Events per second, exponentially smoothed over {@code window} the way the Unix load average is:
+ * events are counted into fixed ticks, and each tick moves the rate towards that tick's rate. Ticks
+ * are caught up lazily on {@link #mark()} and {@link #perSecond()}, so nothing has to run in the background.
+ */
+class EwmaRate {
+
+    static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final double alpha;
+    private final LongSupplier nanoTime;
+    private final LongAdder uncounted = new LongAdder();
+    private final AtomicLong lastTick;
+    private volatile double rate;
+    private volatile boolean initialized;
+
+    EwmaRate(Duration window, LongSupplier nanoTime) {
+        this.alpha = 1 - Math.exp(-(double) TICK_NANOS / window.toNanos());
+        this.nanoTime = nanoTime;
+        this.lastTick = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    void mark() {
+        tickIfNecessary();
+        uncounted.increment();
+    }
+
+    double perSecond() {
+        tickIfNecessary();
+        return rate;
+    }
+
+    private void tickIfNecessary() {
+        var last = lastTick.get();
+        var age = nanoTime.getAsLong() - last;
+        if (age < TICK_NANOS) return;
+        var ticks = age / TICK_NANOS;
+        if (!lastTick.compareAndSet(last, last + ticks * TICK_NANOS)) return;
+        var tickRate = uncounted.sumThenReset() / (TICK_NANOS / 1e9);
+        var current = initialized ? rate + alpha * (tickRate - rate) : tickRate;
+        initialized = true;
+        // the remaining ticks saw no events
+        rate = current * Math.pow(1 - alpha, ticks - 1);
+    }
+}
@@ -1,27 +1,56 @@
 package pl.election.adapter.out.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
 import pl.election.application.port.out.MetricsPort;
 import pl.election.domain.model.ElectionId;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@Component
-@RequiredArgsConstructor
 public class MicrometerMetricsAdapter implements MetricsPort {
 
+    private static final Duration[] PORT_CALL_SLO = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500)
+    };
+
+    private static final Duration ARRIVAL_RATE_WINDOW = Duration.ofMinutes(1);
+
     private final MeterRegistry registry;
+    private final AtomicInteger votesInFlight = new AtomicInteger();
+    private final EwmaRate voteArrivals = new EwmaRate(ARRIVAL_RATE_WINDOW, System::nanoTime);
+
+    public MicrometerMetricsAdapter(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("votes.in.flight", votesInFlight, AtomicInteger::get)
+                .description("castVote calls currently running")
+                .register(registry);
+        Gauge.builder("votes.arrival.rate", voteArrivals, EwmaRate::perSecond)
+                .description("castVote calls per second, exponentially smoothed over one minute")
+                .register(registry);
+    }
+
+    @Override
+    public void recordVoteStarted() {
+        votesInFlight.incrementAndGet();
+        voteArrivals.mark();
+    }
 
     @Override
-    public void recordVoteCast(ElectionId electionId, long durationMs) {
+    public void recordVoteFinished() {
+        votesInFlight.decrementAndGet();
+    }
+
+    @Override
+    public void recordVoteCast(ElectionId electionId, long durationNanos) {
         Timer.builder("votes.cast.duration")
                 .tag("electionId", electionId.value().toString())
                 .register(registry)
-                .record(Duration.ofMillis(durationMs));
+                .record(durationNanos, TimeUnit.NANOSECONDS);
 
         Counter.builder("votes.cast.total")
                 .tag("electionId", electionId.value().toString())
@@ -30,10 +59,21 @@ public class MicrometerMetricsAdapter implements MetricsPort {
     }
 
     @Override
-    public void recordResultsQuery(ElectionId electionId, long durationMs) {
+    public void recordResultsQuery(ElectionId electionId, long durationNanos) {
         Timer.builder("results.query.duration")
                 .tag("electionId", electionId.value().toString())
                 .register(registry)
-                .record(Duration.ofMillis(durationMs));
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPortCall(String port, String method, long durationNanos) {
+        Timer.builder("port.call.duration")
+                .tag("port", port)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(PORT_CALL_SLO)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
     }
 }
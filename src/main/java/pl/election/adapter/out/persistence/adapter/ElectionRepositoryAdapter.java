@@ -1,35 +1,94 @@
 package pl.election.adapter.out.persistence.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import pl.election.adapter.out.persistence.mapper.ElectionPersistenceMapper;
 import pl.election.adapter.out.persistence.repository.SpringElectionRepository;
+import pl.election.domain.model.ElectionSummary;
 import pl.election.application.port.out.ElectionRepository;
 import pl.election.domain.model.Election;
 import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+
+import static pl.election.adapter.out.persistence.pool.Workload.BULK;
+import static pl.election.adapter.out.persistence.pool.Workload.INTERACTIVE;
+import static pl.election.adapter.out.persistence.pool.Workload.VOTE;
+import static pl.election.adapter.out.persistence.pool.WorkloadContext.run;
 
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class ElectionRepositoryAdapter implements ElectionRepository {
 
+    private static final String APPEND_OPTIONS = """
+            INSERT INTO voting_options (id, election_id, name)
+            SELECT appended.id, ?, appended.name FROM unnest(?, ?) AS appended(id, name)
+            """;
+
     private final SpringElectionRepository springRepository;
     private final ElectionPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Election save(Election election) {
-        return mapper.toDomain(springRepository.save(mapper.toEntity(election)));
+        run(INTERACTIVE, () -> springRepository.save(mapper.toEntity(election)));
+        return election;
     }
 
     @Override
     public Optional<Election> findById(ElectionId id) {
-        return springRepository.findById(id.value()).map(mapper::toDomain);
+        return run(VOTE, () -> springRepository.findWithOptionsById(id.value())).map(mapper::toDomain);
     }
 
     @Override
     public List<Election> findAll() {
-        return springRepository.findAll().stream().map(mapper::toDomain).toList();
+        return run(INTERACTIVE, springRepository::findAllWithOptions).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Election> findAllById(Collection<ElectionId> ids) {
+        if (ids.isEmpty()) return List.of();
+        var values = ids.stream().map(ElectionId::value).toList();
+        return run(BULK, () -> springRepository.findAllWithOptionsByIdIn(values)).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public boolean existsById(ElectionId id) {
+        return run(INTERACTIVE, () -> springRepository.existsById(id.value()));
+    }
+
+    /** One INSERT over unnested arrays, however many options are appended. */
+    @Override
+    public void appendVotingOptions(ElectionId electionId, List<VotingOption> options) {
+        if (options.isEmpty()) return;
+        var ids = options.stream().map(option -> option.id().value()).toArray();
+        var names = options.stream().map(VotingOption::name).toArray();
+        run(BULK, () -> jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(APPEND_OPTIONS);
+            statement.setObject(1, electionId.value());
+            statement.setArray(2, connection.createArrayOf("uuid", ids));
+            statement.setArray(3, connection.createArrayOf("varchar", names));
+            return statement;
+        }));
+    }
+
+    @Override
+    public List<ElectionSummary> findSummaries(ElectionSummary.Cursor after, int limit) {
+        var rows = run(INTERACTIVE, () -> after == null
+                ? springRepository.findSummaries(Limit.of(limit))
+                : springRepository.findSummariesAfter(after.createdAt(), after.id().value(), Limit.of(limit)));
+        return rows.stream()
+                .map(row -> new ElectionSummary(ElectionId.of((UUID) row[0]), (String) row[1], (Instant) row[2],
+                        (Long) row[3]))
+                .toList();
     }
 }
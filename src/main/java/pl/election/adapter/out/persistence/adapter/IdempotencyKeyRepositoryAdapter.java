@@ -0,0 +1,111 @@
+package pl.election.adapter.out.persistence.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static pl.election.adapter.out.persistence.pool.Workload.BULK;
+import static pl.election.adapter.out.persistence.pool.Workload.VOTE;
+import static pl.election.adapter.out.persistence.pool.WorkloadContext.run;
+
+@Repository
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class IdempotencyKeyRepositoryAdapter implements IdempotencyStore {
+
+    private static final String FIND_VOTE = """
+            SELECT vote_id, voter_id, election_id, voting_option_id, cast_at FROM idempotency_keys
+            WHERE idempotency_key = ? AND recorded_at > ? AND vote_id IS NOT NULL
+            """;
+    private static final String RESERVE_KEY = """
+            INSERT INTO idempotency_keys (idempotency_key, voter_id, election_id, voting_option_id, recorded_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """;
+    private static final String FIND_HOLDER = """
+            SELECT voter_id, election_id, voting_option_id FROM idempotency_keys WHERE idempotency_key = ?
+            """;
+    private static final String COMPLETE_KEY = """
+            UPDATE idempotency_keys SET vote_id = ?, cast_at = ?, recorded_at = ?
+            WHERE idempotency_key = ? AND vote_id IS NULL AND voter_id = ? AND election_id = ? AND voting_option_id = ?
+            """;
+    private static final String INSERT_KEY = """
+            INSERT INTO idempotency_keys (idempotency_key, vote_id, voter_id, election_id, voting_option_id, cast_at, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """;
+    private static final String RELEASE_KEY = "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND vote_id IS NULL";
+    private static final String DELETE_BEFORE = "DELETE FROM idempotency_keys WHERE recorded_at < ?";
+
+    private static final RowMapper<Vote> VOTE_ROW = (rs, row) -> Vote.cast(
+            VoteId.of(rs.getObject("vote_id", UUID.class)),
+            VoterId.of(rs.getObject("voter_id", UUID.class)),
+            ElectionId.of(rs.getObject("election_id", UUID.class)),
+            VotingOptionId.of(rs.getObject("voting_option_id", UUID.class)),
+            rs.getObject("cast_at", LocalDateTime.class).toInstant(ZoneOffset.UTC));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Vote> find(String idempotencyKey, Instant recordedAfter) {
+        return run(VOTE, () -> jdbcTemplate.query(FIND_VOTE, VOTE_ROW, idempotencyKey,
+                recordedAfter.atOffset(ZoneOffset.UTC))).stream().findFirst();
+    }
+
+    @Override
+    public Reservation reserve(String idempotencyKey, VoterId voterId, ElectionId electionId,
+                               VotingOptionId votingOptionId, Instant reservedAt) {
+        return run(VOTE, () -> {
+            var inserted = jdbcTemplate.update(RESERVE_KEY, idempotencyKey, voterId.value(), electionId.value(),
+                    votingOptionId.value(), reservedAt.atOffset(ZoneOffset.UTC));
+            if (inserted == 1) return Reservation.NEW;
+            var sameSubmission = jdbcTemplate.query(FIND_HOLDER, (rs, row) ->
+                            voterId.value().equals(rs.getObject("voter_id", UUID.class))
+                                    && electionId.value().equals(rs.getObject("election_id", UUID.class))
+                                    && votingOptionId.value().equals(rs.getObject("voting_option_id", UUID.class)),
+                    idempotencyKey);
+            // purged between the two statements: nothing holds the key any more
+            if (sameSubmission.isEmpty()) return reserve(idempotencyKey, voterId, electionId, votingOptionId, reservedAt);
+            return sameSubmission.getFirst() ? Reservation.RESUMED : Reservation.CONFLICT;
+        });
+    }
+
+    @Override
+    public void save(String idempotencyKey, Vote vote, Instant recordedAt) {
+        run(VOTE, () -> {
+            var completed = jdbcTemplate.update(COMPLETE_KEY, vote.id().value(), vote.castAt().atOffset(ZoneOffset.UTC),
+                    recordedAt.atOffset(ZoneOffset.UTC), idempotencyKey, vote.voterId().value(),
+                    vote.electionId().value(), vote.votingOptionId().value());
+            if (completed == 0) {
+                jdbcTemplate.update(INSERT_KEY, idempotencyKey, vote.id().value(), vote.voterId().value(),
+                        vote.electionId().value(), vote.votingOptionId().value(), vote.castAt().atOffset(ZoneOffset.UTC),
+                        recordedAt.atOffset(ZoneOffset.UTC));
+            }
+            return completed;
+        });
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        run(VOTE, () -> jdbcTemplate.update(RELEASE_KEY, idempotencyKey));
+    }
+
+    @Override
+    public int deleteRecordedBefore(Instant cutoff) {
+        return run(BULK, () -> jdbcTemplate.update(DELETE_BEFORE, cutoff.atOffset(ZoneOffset.UTC)));
+    }
+}
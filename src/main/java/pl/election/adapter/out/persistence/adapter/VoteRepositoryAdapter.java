@@ -1,48 +1,139 @@
 package pl.election.adapter.out.persistence.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import pl.election.adapter.out.persistence.mapper.VotePersistenceMapper;
 import pl.election.adapter.out.persistence.repository.SpringVoteRepository;
+import pl.election.application.port.out.VoteIdRange;
 import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
 import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.Vote;
 import pl.election.domain.model.VoterId;
 import pl.election.domain.model.VotingOptionId;
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.stream.Collectors.toMap;
+import static pl.election.adapter.out.persistence.pool.Workload.BULK;
+import static pl.election.adapter.out.persistence.pool.Workload.INTERACTIVE;
+import static pl.election.adapter.out.persistence.pool.Workload.VOTE;
+import static pl.election.adapter.out.persistence.pool.WorkloadContext.run;
 
 @Repository
+@Profile("!inmemory & !votelog")
 @RequiredArgsConstructor
 public class VoteRepositoryAdapter implements VoteRepository {
 
+    private static final String INSERT_VOTE =
+            "INSERT INTO votes (id, voter_id, election_id, voting_option_id, cast_at) VALUES (?, ?, ?, ?, ?)";
+    /** Raised by PostgreSQL as "no partition of relation votes found for row"; votes have no CHECK constraints. */
+    private static final String CHECK_VIOLATION = "23514";
+
     private final SpringVoteRepository springRepository;
     private final VotePersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Votes are immutable, so a plain INSERT replaces the SELECT-then-INSERT of a JPA merge. Vote ids are
+     * generated, so the only key a new vote can collide on is {@code (voter_id, election_id)}. An election
+     * whose partition was detached by {@code scripts/detach-election-partitions.sh} no longer takes votes.
+     */
     @Override
     public Vote save(Vote vote) {
-        return mapper.toDomain(springRepository.save(mapper.toEntity(vote)));
+        try {
+            run(VOTE, () -> jdbcTemplate.update(INSERT_VOTE, vote.id().value(), vote.voterId().value(),
+                    vote.electionId().value(), vote.votingOptionId().value(), vote.castAt().atOffset(ZoneOffset.UTC)));
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateVoteException("Voter already voted in this election");
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMostSpecificCause() instanceof SQLException cause && CHECK_VIOLATION.equals(cause.getSQLState()))
+                throw new ElectionNotFoundException("Election not found: " + vote.electionId().value());
+            throw e;
+        }
+        return vote;
     }
 
     @Override
     public boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
-        return springRepository.existsByVoterIdAndElectionId(voterId.value(), electionId.value());
+        return run(VOTE, () -> springRepository.existsByVoterIdAndElectionId(voterId.value(), electionId.value()));
+    }
+
+    @Override
+    public Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        return run(VOTE, () -> springRepository.findByVoterIdAndElectionId(voterId.value(), electionId.value())
+                .map(mapper::toDomain));
     }
 
     @Override
     public List<Vote> findByElectionId(ElectionId electionId) {
-        return springRepository.findByElectionId(electionId.value()).stream().map(mapper::toDomain).toList();
+        return run(BULK, () -> springRepository.findByElectionId(electionId.value()).stream().map(mapper::toDomain).toList());
     }
 
     @Override
     public Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId) {
-        return springRepository.countByElectionIdGroupByOption(electionId.value()).stream()
+        return run(INTERACTIVE, () -> springRepository.countByElectionIdGroupByOption(electionId.value())).stream()
                 .collect(toMap(
                         row -> VotingOptionId.of((UUID) row[0]),
                         row -> (Long) row[1]));
     }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore) {
+        return run(BULK, () -> springRepository.countByElectionIdAndCastAtBeforeGroupByOption(electionId.value(), castBefore))
+                .stream()
+                .collect(toMap(
+                        row -> VotingOptionId.of((UUID) row[0]),
+                        row -> (Long) row[1]));
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore) {
+        return run(BULK, () -> springRepository.countByElectionIdAndIdBetweenGroupByOption(
+                        electionId.value(), range.first(), range.last(), castBefore))
+                .stream()
+                .collect(toMap(
+                        row -> VotingOptionId.of((UUID) row[0]),
+                        row -> (Long) row[1]));
+    }
+
+    @Override
+    public Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId) {
+        return run(BULK, () -> springRepository.findFirstByElectionIdOrderByIdAsc(electionId.value())
+                .flatMap(first -> springRepository.findFirstByElectionIdOrderByIdDesc(electionId.value())
+                        .map(last -> new VoteIdRange(first.getId(), last.getId()))));
+    }
+
+    @Override
+    public List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit) {
+        return run(BULK, () -> springRepository.findElectionIdsActiveSince(since, Limit.of(limit))).stream()
+                .map(ElectionId::of)
+                .toList();
+    }
+
+    @Override
+    public Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds) {
+        if (electionIds.isEmpty()) return Map.of();
+        var ids = electionIds.stream().map(ElectionId::value).toList();
+        var counts = new HashMap<ElectionId, Map<VotingOptionId, Long>>();
+        for (var row : run(BULK, () -> springRepository.countByElectionIdInGroupByOption(ids))) {
+            counts.computeIfAbsent(ElectionId.of((UUID) row[0]), k -> new HashMap<>())
+                    .put(VotingOptionId.of((UUID) row[1]), (Long) row[2]);
+        }
+        return counts;
+    }
 }
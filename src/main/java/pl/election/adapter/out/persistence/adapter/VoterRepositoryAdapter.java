@@ -1,6 +1,8 @@
 package pl.election.adapter.out.persistence.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import pl.election.adapter.out.persistence.mapper.VoterPersistenceMapper;
 import pl.election.adapter.out.persistence.repository.SpringVoterRepository;
@@ -8,31 +10,46 @@ import pl.election.application.port.out.VoterRepository;
 import pl.election.domain.model.Voter;
 import pl.election.domain.model.VoterId;
 
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
+import static pl.election.adapter.out.persistence.pool.Workload.INTERACTIVE;
+import static pl.election.adapter.out.persistence.pool.Workload.VOTE;
+import static pl.election.adapter.out.persistence.pool.WorkloadContext.run;
+
 @Repository
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class VoterRepositoryAdapter implements VoterRepository {
 
+    private static final String UPSERT_VOTER = """
+            INSERT INTO voters (id, name, email, status, created_at) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, email = EXCLUDED.email, status = EXCLUDED.status
+            """;
+
     private final SpringVoterRepository springRepository;
     private final VoterPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
+    /** Single-statement upsert: registration inserts, block/unblock update, without a JPA merge SELECT. */
     @Override
     public Voter save(Voter voter) {
-        return mapper.toDomain(springRepository.save(mapper.toEntity(voter)));
+        run(INTERACTIVE, () -> jdbcTemplate.update(UPSERT_VOTER, voter.id().value(), voter.name(), voter.email(),
+                voter.status().name(), voter.createdAt().atOffset(ZoneOffset.UTC)));
+        return voter;
     }
 
     @Override
     public Optional<Voter> findById(VoterId id) {
-        return springRepository.findById(id.value()).map(mapper::toDomain);
+        return run(VOTE, () -> springRepository.findById(id.value())).map(mapper::toDomain);
     }
 
     @Override
     public List<Voter> findAll() {
-        return springRepository.findAll().stream().map(mapper::toDomain).toList();
+        return run(INTERACTIVE, springRepository::findAll).stream().map(mapper::toDomain).toList();
     }
 
     @Override
-    public boolean existsByEmail(String email) { return springRepository.existsByEmail(email); }
+    public boolean existsByEmail(String email) { return run(INTERACTIVE, () -> springRepository.existsByEmail(email)); }
 }
@@ -0,0 +1,11 @@
+package pl.election.adapter.out.persistence.pool;
+
+/** Connection pool a persistence call is served from. */
+public enum Workload {
+    /** The castVote write path: point lookups and the vote insert. */
+    VOTE,
+    /** Interactive reads and admin writes behind the REST API. */
+    INTERACTIVE,
+    /** Exports, recounts and imports that may hold connections for long. */
+    BULK
+}
@@ -0,0 +1,27 @@
+package pl.election.adapter.out.persistence.pool;
+
+import java.util.function.Supplier;
+
+/** Thread-bound workload consulted by {@link WorkloadRoutingDataSource} when a connection is opened. */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static <T> T run(Workload workload, Supplier<T> call) {
+        var previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    static Workload current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,43 @@
+package pl.election.adapter.out.persistence.pool;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves each persistence call from the pool of its {@link Workload}, so a saturated bulk or
+ * interactive pool cannot starve the vote write path. Calls outside any workload, such as
+ * schema migration and health checks, use the interactive pool.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<Workload, DataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, DataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        setTargetDataSources(new HashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Workload.INTERACTIVE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public DataSource pool(Workload workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var workload = WorkloadContext.current();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (var pool : pools.values()) {
+            if (pool instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
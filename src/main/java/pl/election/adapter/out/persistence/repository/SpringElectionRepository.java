@@ -1,9 +1,39 @@
 package pl.election.adapter.out.persistence.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import pl.election.adapter.out.persistence.entity.ElectionEntity;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringElectionRepository extends JpaRepository<ElectionEntity, UUID> {
+
+    @Query("SELECT e FROM ElectionEntity e LEFT JOIN FETCH e.votingOptions WHERE e.id = :id")
+    Optional<ElectionEntity> findWithOptionsById(UUID id);
+
+    @Query("SELECT DISTINCT e FROM ElectionEntity e LEFT JOIN FETCH e.votingOptions")
+    List<ElectionEntity> findAllWithOptions();
+
+    @Query("SELECT DISTINCT e FROM ElectionEntity e LEFT JOIN FETCH e.votingOptions WHERE e.id IN :ids")
+    List<ElectionEntity> findAllWithOptionsByIdIn(Collection<UUID> ids);
+
+    @Query("""
+            SELECT e.id, e.name, e.createdAt,
+                   (SELECT COUNT(o) FROM VotingOptionEntity o WHERE o.election = e)
+            FROM ElectionEntity e
+            ORDER BY e.createdAt DESC, e.id DESC""")
+    List<Object[]> findSummaries(Limit limit);
+
+    @Query("""
+            SELECT e.id, e.name, e.createdAt,
+                   (SELECT COUNT(o) FROM VotingOptionEntity o WHERE o.election = e)
+            FROM ElectionEntity e
+            WHERE e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)
+            ORDER BY e.createdAt DESC, e.id DESC""")
+    List<Object[]> findSummariesAfter(Instant createdAt, UUID id, Limit limit);
 }
@@ -1,18 +1,40 @@
 package pl.election.adapter.out.persistence.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import pl.election.adapter.out.persistence.entity.VoteEntity;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringVoteRepository extends JpaRepository<VoteEntity, UUID> {
 
     boolean existsByVoterIdAndElectionId(UUID voterId, UUID electionId);
 
+    Optional<VoteEntity> findByVoterIdAndElectionId(UUID voterId, UUID electionId);
+
     List<VoteEntity> findByElectionId(UUID electionId);
 
     @Query("SELECT v.votingOptionId, COUNT(v) FROM VoteEntity v WHERE v.electionId = :electionId GROUP BY v.votingOptionId")
     List<Object[]> countByElectionIdGroupByOption(UUID electionId);
+
+    @Query("SELECT v.votingOptionId, COUNT(v) FROM VoteEntity v WHERE v.electionId = :electionId AND v.castAt < :castBefore GROUP BY v.votingOptionId")
+    List<Object[]> countByElectionIdAndCastAtBeforeGroupByOption(UUID electionId, Instant castBefore);
+
+    @Query("SELECT v.votingOptionId, COUNT(v) FROM VoteEntity v WHERE v.electionId = :electionId AND v.id BETWEEN :first AND :last AND v.castAt < :castBefore GROUP BY v.votingOptionId")
+    List<Object[]> countByElectionIdAndIdBetweenGroupByOption(UUID electionId, UUID first, UUID last, Instant castBefore);
+
+    @Query("SELECT v.electionId FROM VoteEntity v WHERE v.castAt >= :since GROUP BY v.electionId ORDER BY MAX(v.castAt) DESC")
+    List<UUID> findElectionIdsActiveSince(Instant since, Limit limit);
+
+    @Query("SELECT v.electionId, v.votingOptionId, COUNT(v) FROM VoteEntity v WHERE v.electionId IN :electionIds GROUP BY v.electionId, v.votingOptionId")
+    List<Object[]> countByElectionIdInGroupByOption(Collection<UUID> electionIds);
+
+    Optional<VoteEntity> findFirstByElectionIdOrderByIdAsc(UUID electionId);
+
+    Optional<VoteEntity> findFirstByElectionIdOrderByIdDesc(UUID electionId);
 }
@@ -0,0 +1,26 @@
+package pl.election.adapter.out.replica;
+
+import pl.election.application.port.out.ReadRoutingPort;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class ReadRoutingAdapter implements ReadRoutingPort {
+
+    private final Duration pinAfterWrite;
+
+    /** @param pinAfterWrite how long a client that wrote keeps reading from the primary, at least the replica lag bound */
+    public ReadRoutingAdapter(Duration pinAfterWrite) {
+        this.pinAfterWrite = pinAfterWrite;
+    }
+
+    @Override
+    public <T> T readOnly(Supplier<T> query) {
+        return RoutingContext.readOnly(query);
+    }
+
+    @Override
+    public <T> T readWrite(Supplier<T> command) {
+        return RoutingContext.readWrite(pinAfterWrite, command);
+    }
+}
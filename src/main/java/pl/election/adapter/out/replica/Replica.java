@@ -0,0 +1,35 @@
+package pl.election.adapter.out.replica;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/** A read replica and its last measured lag; kept out of rotation until the first lag check passes. */
+public final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean inRotation;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() { return name; }
+
+    public DataSource dataSource() { return dataSource; }
+
+    public Duration lag() { return lag; }
+
+    public boolean inRotation() { return inRotation; }
+
+    void update(Duration lag, boolean inRotation) {
+        this.lag = lag;
+        this.inRotation = inRotation;
+    }
+
+    void takeOutOfRotation() {
+        this.inRotation = false;
+    }
+}
@@ -0,0 +1,97 @@
+package pl.election.adapter.out.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures replay lag on each replica, publishes it as {@code db.replica.lag} and
+ * {@code db.replica.in.rotation}, and takes replicas lagging beyond {@code maxLag} (or failing the
+ * check) out of rotation until they catch up.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface LagProbe {
+
+        Duration measure(DataSource replica) throws SQLException;
+
+        /** Zero when everything received has been replayed, otherwise time since the last replayed commit. */
+        LagProbe POSTGRES = replica -> {
+            try (var connection = replica.getConnection();
+                 var statement = connection.createStatement();
+                 var result = statement.executeQuery("""
+                         SELECT CASE
+                                    WHEN NOT pg_is_in_recovery() THEN NULL
+                                    WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                                    ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                                END""")) {
+                result.next();
+                var seconds = result.getBigDecimal(1);
+                if (seconds == null) throw new SQLException("Not a standby: " + connection.getMetaData().getURL());
+                return Duration.ofNanos(seconds.movePointRight(9).longValue());
+            }
+        };
+    }
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final LagProbe probe;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaLagMonitor(List<Replica> replicas, Duration maxLag, LagProbe probe, MeterRegistry registry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.probe = probe;
+        for (var replica : this.replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lag().toNanos() / 1e9)
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(registry);
+            Gauge.builder("db.replica.in.rotation", replica, r -> r.inRotation() ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(registry);
+        }
+    }
+
+    public ReplicaLagMonitor start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    void check() {
+        for (var replica : replicas) {
+            var wasInRotation = replica.inRotation();
+            try {
+                var lag = probe.measure(replica.dataSource());
+                var healthy = lag.compareTo(maxLag) <= 0;
+                replica.update(lag, healthy);
+                if (wasInRotation != healthy) {
+                    log.info("Replica {} {} rotation, lag {} ms (max {} ms)", replica.name(),
+                            healthy ? "back in" : "out of", lag.toMillis(), maxLag.toMillis());
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.takeOutOfRotation();
+                if (wasInRotation) log.warn("Replica {} out of rotation, lag check failed: {}", replica.name(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,77 @@
+package pl.election.adapter.out.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections, round-robin over replicas in rotation, while a query-only
+ * use-case call is running; everything else, and any replica that cannot connect, goes to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public DataSource primary() { return primary; }
+
+    public List<Replica> replicas() { return replicas; }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var replica = RoutingContext.replicaAllowed() ? nextInRotation() : null;
+        if (replica != null) {
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica {} unavailable, reading from primary: {}", replica.name(), e.getMessage());
+                replica.takeOutOfRotation();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) closeable.close();
+        for (var replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    private Replica nextInRotation() {
+        var start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.inRotation()) return replica;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package pl.election.adapter.out.replica;
+
+import jakarta.servlet.http.Cookie;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing decision read by {@link ReplicaRoutingDataSource} whenever a connection is
+ * opened. A state-changing call pins the rest of the current web request to the primary, and sets a
+ * cookie that keeps the client's later requests on the primary until replicas have caught up.
+ */
+final class RoutingContext {
+
+    static final String PRIMARY_PIN_COOKIE = "db-primary-pin";
+
+    private enum Mode { READ_ONLY, READ_WRITE }
+
+    private static final ThreadLocal<Mode> MODE = new ThreadLocal<>();
+    private static final String PRIMARY_PINNED = RoutingContext.class.getName() + ".primaryPinned";
+
+    private RoutingContext() {
+    }
+
+    static <T> T readOnly(Supplier<T> query) {
+        return within(Mode.READ_ONLY, query);
+    }
+
+    static <T> T readWrite(Duration pinFor, Supplier<T> command) {
+        var request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(PRIMARY_PINNED, RequestAttributes.SCOPE_REQUEST) == null) {
+            request.setAttribute(PRIMARY_PINNED, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            pinClient(request, pinFor);
+        }
+        return within(Mode.READ_WRITE, command);
+    }
+
+    static boolean replicaAllowed() {
+        if (MODE.get() != Mode.READ_ONLY) return false;
+        var request = RequestContextHolder.getRequestAttributes();
+        if (request == null) return true;
+        return request.getAttribute(PRIMARY_PINNED, RequestAttributes.SCOPE_REQUEST) == null && !clientPinned(request);
+    }
+
+    private static void pinClient(RequestAttributes request, Duration pinFor) {
+        if (!(request instanceof ServletRequestAttributes servlet) || servlet.getResponse() == null) return;
+        var cookie = new Cookie(PRIMARY_PIN_COOKIE, "1");
+        cookie.setMaxAge((int) Math.max(1, Math.ceil(pinFor.toMillis() / 1000.0)));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        servlet.getResponse().addCookie(cookie);
+    }
+
+    private static boolean clientPinned(RequestAttributes request) {
+        if (!(request instanceof ServletRequestAttributes servlet)) return false;
+        var cookies = servlet.getRequest().getCookies();
+        return cookies != null && Arrays.stream(cookies).anyMatch(cookie -> PRIMARY_PIN_COOKIE.equals(cookie.getName()));
+    }
+
+    private static <T> T within(Mode mode, Supplier<T> call) {
+        var previous = MODE.get();
+        // queries nested in a command keep reading from the primary
+        MODE.set(previous == Mode.READ_WRITE ? previous : mode);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) MODE.remove();
+            else MODE.set(previous);
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package pl.election.adapter.out.votelog;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static pl.election.adapter.out.votelog.VoteLogFormat.HEADER_SIZE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.RECORD_SIZE;
+
+/**
+ * Append-only vote log on memory-mapped segment files. Votes become visible as
+ * soon as they are copied into the mapping, which survives a process crash;
+ * segments are forced to disk in batches every {@code flushInterval}, bounding
+ * what an OS crash can lose. The tally and duplicate-check indexes live in
+ * memory and are rebuilt by replaying the log on startup. Retired elections are
+ * kept in {@code retired.elections} and take no more votes.
+ */
+@Slf4j
+public class MappedVoteLogRepository implements VoteRepository, AutoCloseable {
+
+    static final String DICTIONARY_FILE = "options.dict";
+    static final String RETIRED_FILE = "retired.elections";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int MAX_SEGMENT_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final OptionDictionary dictionary;
+    private final ConcurrentHashMap<UUID, ElectionIndex> elections = new ConcurrentHashMap<>();
+    private final Set<UUID> retired = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Long> retiredRecords = new ConcurrentHashMap<>();
+    private final List<Segment> segments = new ArrayList<>();
+    private final ReentrantReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<Segment> unflushed = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+    private final Recovery recovery;
+    private volatile Segment active;
+
+    public MappedVoteLogRepository(Path directory, int segmentCapacity, Duration flushInterval) throws IOException {
+        if (segmentCapacity <= 0 || segmentCapacity > MAX_SEGMENT_CAPACITY)
+            throw new IllegalArgumentException("Segment capacity must be between 1 and " + MAX_SEGMENT_CAPACITY);
+        this.directory = Files.createDirectories(directory);
+        this.segmentCapacity = segmentCapacity;
+        this.dictionary = OptionDictionary.open(directory.resolve(DICTIONARY_FILE));
+        loadRetired();
+        this.recovery = replay();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "vote-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var intervalNanos = flushInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        log.info("Vote log recovered {} votes from {} segments in {} ms ({} torn records skipped)",
+                recovery.votes(), recovery.segments(), recovery.duration().toMillis(), recovery.tornRecords());
+    }
+
+    @Override
+    public Vote save(Vote vote) {
+        if (retired.contains(vote.electionId().value()))
+            throw new ElectionNotFoundException("Election not found: " + vote.electionId().value());
+        var index = elections.computeIfAbsent(vote.electionId().value(), k -> new ElectionIndex());
+        if (!index.voters.add(vote.voterId().value()))
+            throw new DuplicateVoteException("Voter already voted in this election");
+        var castAt = vote.castAt().truncatedTo(ChronoUnit.MICROS);
+        try {
+            var record = new byte[RECORD_SIZE];
+            VoteLogFormat.encode(record, vote.id().value(), vote.voterId().value(), vote.electionId().value(),
+                    dictionary.ordinalOf(vote.votingOptionId()), castAt);
+            append(record);
+        } catch (RuntimeException e) {
+            index.voters.remove(vote.voterId().value());
+            throw e;
+        }
+        index.increment(vote.votingOptionId(), castAt);
+        return Vote.cast(vote.id(), vote.voterId(), vote.electionId(), vote.votingOptionId(), castAt);
+    }
+
+    @Override
+    public boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        var index = elections.get(electionId.value());
+        return index != null && index.voters.contains(voterId.value());
+    }
+
+    @Override
+    public Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        if (!existsByVoterIdAndElectionId(voterId, electionId)) return Optional.empty();
+        return findByElectionId(electionId).stream().filter(vote -> vote.voterId().equals(voterId)).findFirst();
+    }
+
+    @Override
+    public List<Vote> findByElectionId(ElectionId electionId) {
+        if (!elections.containsKey(electionId.value())) return List.of();
+        var votes = new ArrayList<Vote>();
+        var record = new byte[RECORD_SIZE];
+        segmentsLock.readLock().lock();
+        try {
+            for (var segment : segments) {
+                for (int slot = 0, used = segment.used(); slot < used; slot++) {
+                    segment.read(slot, record);
+                    if (VoteLogFormat.belongsTo(record, electionId.value()) && VoteLogFormat.isValid(record))
+                        votes.add(toVote(record));
+                }
+            }
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        return votes;
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId) {
+        var index = elections.get(electionId.value());
+        if (index == null) return Map.of();
+        var counts = new HashMap<VotingOptionId, Long>();
+        index.tally.forEach((option, count) -> counts.put(option, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit) {
+        return elections.entrySet().stream()
+                .filter(entry -> !entry.getValue().lastCastAt.get().isBefore(since))
+                .sorted(Comparator.comparing((Map.Entry<UUID, ElectionIndex> entry) -> entry.getValue().lastCastAt.get()).reversed())
+                .limit(limit)
+                .map(entry -> ElectionId.of(entry.getKey()))
+                .toList();
+    }
+
+    @Override
+    public Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds) {
+        var counts = new HashMap<ElectionId, Map<VotingOptionId, Long>>();
+        for (var electionId : electionIds) {
+            var tally = countByElectionIdGroupByOption(electionId);
+            if (!tally.isEmpty()) counts.put(electionId, tally);
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore) {
+        var counts = new HashMap<VotingOptionId, Long>();
+        for (var vote : findByElectionId(electionId)) {
+            if (vote.castAt().isBefore(castBefore)) counts.merge(vote.votingOptionId(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /** Counts straight from the segments, ignoring the in-memory tally. */
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore) {
+        var counts = new HashMap<VotingOptionId, Long>();
+        var record = new byte[RECORD_SIZE];
+        segmentsLock.readLock().lock();
+        try {
+            for (var segment : segments) {
+                for (int slot = 0, used = segment.used(); slot < used; slot++) {
+                    segment.read(slot, record);
+                    if (VoteLogFormat.belongsTo(record, electionId.value()) && VoteLogFormat.isValid(record)
+                            && range.contains(VoteLogFormat.voteId(record))
+                            && VoteLogFormat.castAt(record).isBefore(castBefore))
+                        counts.merge(dictionary.optionAt(VoteLogFormat.ordinal(record)), 1L, Long::sum);
+                }
+            }
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    @Override
+    public Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId) {
+        UUID first = null;
+        UUID last = null;
+        var record = new byte[RECORD_SIZE];
+        segmentsLock.readLock().lock();
+        try {
+            for (var segment : segments) {
+                for (int slot = 0, used = segment.used(); slot < used; slot++) {
+                    segment.read(slot, record);
+                    if (!VoteLogFormat.belongsTo(record, electionId.value()) || !VoteLogFormat.isValid(record)) continue;
+                    var id = VoteLogFormat.voteId(record);
+                    if (first == null || VoteIdRange.ORDER.compare(id, first) < 0) first = id;
+                    if (last == null || VoteIdRange.ORDER.compare(id, last) > 0) last = id;
+                }
+            }
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        return first == null ? Optional.empty() : Optional.of(new VoteIdRange(first, last));
+    }
+
+    /**
+     * Closes the given elections for good: from now on {@link #save} rejects their
+     * votes and compaction drops the ones already in the log.
+     */
+    public synchronized void retire(Collection<ElectionId> electionIds) throws IOException {
+        var added = new HashSet<UUID>();
+        electionIds.forEach(id -> {
+            if (!retired.contains(id.value())) added.add(id.value());
+        });
+        if (added.isEmpty()) return;
+        var lines = new ArrayList<String>();
+        retired.forEach(id -> lines.add(id.toString()));
+        added.forEach(id -> lines.add(id.toString()));
+        var file = directory.resolve(RETIRED_FILE);
+        var temporary = file.resolveSibling(RETIRED_FILE + ".tmp");
+        Files.write(temporary, lines);
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        retired.addAll(added);
+        var record = new byte[RECORD_SIZE];
+        segmentsLock.readLock().lock();
+        try {
+            for (var segment : segments) {
+                countRetired(segment, added, record);
+            }
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    public boolean hasRetiredElections() {
+        return !retired.isEmpty();
+    }
+
+    /** Whether a sealed segment still holds votes of a retired election. */
+    public boolean isCompactionDue() {
+        segmentsLock.readLock().lock();
+        try {
+            return segments.stream().anyMatch(segment -> segment.isSettled() && retiredRecords.containsKey(segment.id()));
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites all sealed segments into densely packed ones, dropping the votes of
+     * retired elections. Votes still sitting in the active segment stay counted
+     * until a later compaction drops them.
+     */
+    public synchronized Compaction compact() throws IOException {
+        List<Segment> sealed;
+        segmentsLock.readLock().lock();
+        try {
+            sealed = segments.stream().filter(Segment::isSettled).toList();
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+        if (sealed.isEmpty()) return new Compaction(0, 0, 0);
+
+        var outputs = new ArrayList<Segment>();
+        var record = new byte[RECORD_SIZE];
+        var dropped = new ArrayList<DroppedVote>();
+        Segment output = null;
+        for (var segment : sealed) {
+            for (int slot = 0; slot < segment.capacity(); slot++) {
+                segment.read(slot, record);
+                if (!VoteLogFormat.isValid(record)) continue;
+                if (retired.contains(VoteLogFormat.electionId(record))) {
+                    dropped.add(new DroppedVote(VoteLogFormat.electionId(record), VoteLogFormat.voterId(record),
+                            VoteLogFormat.ordinal(record)));
+                    continue;
+                }
+                var target = output == null ? -1 : output.tryReserve();
+                if (target < 0) {
+                    output = createCompacted(sealed.get(outputs.size()));
+                    outputs.add(output);
+                    target = output.tryReserve();
+                }
+                output.write(target, record);
+            }
+        }
+        for (var compacted : outputs) {
+            compacted.force();
+        }
+
+        var replaced = new ArrayList<Segment>();
+        segmentsLock.writeLock().lock();
+        try {
+            for (int i = 0; i < sealed.size(); i++) {
+                var original = sealed.get(i);
+                if (i < outputs.size()) {
+                    var compacted = outputs.get(i);
+                    Files.move(compacted.file(), original.file(),
+                            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    compacted.close();
+                    var reopened = Segment.open(original.file());
+                    reopened.resumeAt(compacted.used());
+                    reopened.seal();
+                    segments.set(segments.indexOf(original), reopened);
+                } else {
+                    Files.delete(original.file());
+                    segments.remove(original);
+                }
+                retiredRecords.remove(original.id());
+                replaced.add(original);
+            }
+            for (var vote : dropped) {
+                var index = elections.get(vote.electionId());
+                if (index == null) continue;
+                if (index.voters.remove(vote.voterId())) index.decrement(dictionary.optionAt(vote.ordinal()));
+                if (index.voters.isEmpty()) elections.remove(vote.electionId(), index);
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        for (var original : replaced) {
+            unflushed.remove(original);
+            original.close();
+        }
+        log.info("Vote log compacted {} segments into {}, dropped {} votes", sealed.size(), outputs.size(), dropped.size());
+        return new Compaction(sealed.size(), outputs.size(), dropped.size());
+    }
+
+    public Recovery recovery() {
+        return recovery;
+    }
+
+    public int segmentCount() {
+        segmentsLock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /** Forces every segment with unflushed writes to disk. */
+    public void flush() {
+        try {
+            for (var segment : unflushed) {
+                segment.force();
+                if (segment.isSettled() && segment != active) unflushed.remove(segment);
+            }
+        } catch (RuntimeException e) {
+            log.error("Vote log flush failed", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        segmentsLock.writeLock().lock();
+        try {
+            for (var segment : segments) {
+                segment.close();
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        dictionary.close();
+    }
+
+    private void append(byte[] record) {
+        while (true) {
+            var segment = active;
+            var slot = segment.tryReserve();
+            if (slot >= 0) {
+                segment.write(slot, record);
+                return;
+            }
+            roll(segment);
+        }
+    }
+
+    private void roll(Segment full) {
+        segmentsLock.writeLock().lock();
+        try {
+            if (active != full) return;
+            full.seal();
+            var next = Segment.create(segmentFile(full.id() + 1), full.id() + 1, segmentCapacity);
+            segments.add(next);
+            unflushed.add(next);
+            active = next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll vote log segment", e);
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    private Recovery replay() throws IOException {
+        var started = System.nanoTime();
+        try (var files = Files.list(directory)) {
+            for (var file : files.sorted().toList()) {
+                var name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) segments.add(Segment.open(file));
+                else if (name.endsWith(".compact") || name.endsWith(".tmp")) Files.delete(file);
+            }
+        }
+        long votes = 0;
+        long torn = 0;
+        var record = new byte[RECORD_SIZE];
+        for (var segment : segments) {
+            var used = 0;
+            long retiredInSegment = 0;
+            for (int slot = 0; slot < segment.capacity(); slot++) {
+                segment.read(slot, record);
+                if (VoteLogFormat.isEmpty(record)) continue;
+                if (!VoteLogFormat.isValid(record)) {
+                    torn++;
+                    continue;
+                }
+                used = slot + 1;
+                var electionId = VoteLogFormat.electionId(record);
+                if (retired.contains(electionId)) retiredInSegment++;
+                var index = elections.computeIfAbsent(electionId, k -> new ElectionIndex());
+                if (index.voters.add(VoteLogFormat.voterId(record))) {
+                    index.increment(dictionary.optionAt(VoteLogFormat.ordinal(record)), VoteLogFormat.castAt(record));
+                    votes++;
+                }
+            }
+            segment.resumeAt(used);
+            if (segment != segments.getLast()) segment.seal();
+            if (retiredInSegment > 0) retiredRecords.put(segment.id(), retiredInSegment);
+        }
+        if (segments.isEmpty()) segments.add(Segment.create(segmentFile(0), 0, segmentCapacity));
+        active = segments.getLast();
+        unflushed.add(active);
+        return new Recovery(segments.size(), votes, torn, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void loadRetired() throws IOException {
+        var file = directory.resolve(RETIRED_FILE);
+        if (!Files.exists(file)) return;
+        for (var line : Files.readAllLines(file)) {
+            if (!line.isBlank()) retired.add(UUID.fromString(line.strip()));
+        }
+    }
+
+    private void countRetired(Segment segment, Set<UUID> electionIds, byte[] record) {
+        long count = 0;
+        for (int slot = 0, used = segment.used(); slot < used; slot++) {
+            segment.read(slot, record);
+            if (VoteLogFormat.isValid(record) && electionIds.contains(VoteLogFormat.electionId(record))) count++;
+        }
+        if (count > 0) retiredRecords.merge(segment.id(), count, Long::sum);
+    }
+
+    private Segment createCompacted(Segment original) throws IOException {
+        var file = original.file().resolveSibling(original.file().getFileName() + ".compact");
+        Files.deleteIfExists(file);
+        return Segment.create(file, original.id(), original.capacity());
+    }
+
+    private Path segmentFile(long id) {
+        return directory.resolve(segmentName(id));
+    }
+
+    private static String segmentName(long id) {
+        return "votes-%016d%s".formatted(id, SEGMENT_SUFFIX);
+    }
+
+    private Vote toVote(byte[] record) {
+        return Vote.cast(VoteId.of(VoteLogFormat.voteId(record)), VoterId.of(VoteLogFormat.voterId(record)),
+                ElectionId.of(VoteLogFormat.electionId(record)),
+                dictionary.optionAt(VoteLogFormat.ordinal(record)), VoteLogFormat.castAt(record));
+    }
+
+    public record Recovery(int segments, long votes, long tornRecords, Duration duration) {}
+
+    public record Compaction(int segmentsBefore, int segmentsAfter, long votesDropped) {}
+
+    private record DroppedVote(UUID electionId, UUID voterId, int ordinal) {}
+
+    private static final class ElectionIndex {
+        private final Set<UUID> voters = ConcurrentHashMap.newKeySet();
+        private final ConcurrentHashMap<VotingOptionId, LongAdder> tally = new ConcurrentHashMap<>();
+        private final AtomicReference<Instant> lastCastAt = new AtomicReference<>(Instant.MIN);
+
+        private void increment(VotingOptionId option, Instant castAt) {
+            tally.computeIfAbsent(option, k -> new LongAdder()).increment();
+            lastCastAt.accumulateAndGet(castAt, (last, cast) -> cast.isAfter(last) ? cast : last);
+        }
+
+        private void decrement(VotingOptionId option) {
+            tally.computeIfPresent(option, (k, count) -> {
+                count.decrement();
+                return count.sum() == 0 ? null : count;
+            });
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package pl.election.adapter.out.votelog;
+
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.DICTIONARY_ENTRY_SIZE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.DICTIONARY_MAGIC;
+import static pl.election.adapter.out.votelog.VoteLogFormat.HEADER_SIZE;
+
+/**
+ * Maps voting option ids to the ordinals stored in vote records. New entries
+ * are forced to disk before any record can reference them.
+ */
+final class OptionDictionary implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ConcurrentHashMap<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<VotingOptionId> options = new CopyOnWriteArrayList<>();
+
+    private OptionDictionary(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    static OptionDictionary open(Path file) throws IOException {
+        var exists = Files.exists(file);
+        var channel = FileChannel.open(file, CREATE, READ, WRITE);
+        try {
+            var dictionary = new OptionDictionary(channel);
+            if (exists && channel.size() > 0) {
+                dictionary.load(file);
+            } else {
+                channel.write(VoteLogFormat.header(DICTIONARY_MAGIC, 0, 0), 0);
+                channel.force(true);
+            }
+            return dictionary;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    int ordinalOf(VotingOptionId optionId) {
+        var ordinal = ordinals.get(optionId.value());
+        return ordinal != null ? ordinal : register(optionId);
+    }
+
+    VotingOptionId optionAt(int ordinal) {
+        return options.get(ordinal);
+    }
+
+    int size() {
+        return options.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized int register(VotingOptionId optionId) {
+        var existing = ordinals.get(optionId.value());
+        if (existing != null) return existing;
+        var ordinal = options.size();
+        var entry = ByteBuffer.allocate(DICTIONARY_ENTRY_SIZE);
+        entry.putLong(0, optionId.value().getMostSignificantBits())
+                .putLong(8, optionId.value().getLeastSignificantBits())
+                .putInt(16, VoteLogFormat.crc(entry.array(), 0, 16));
+        try {
+            channel.write(entry, HEADER_SIZE + (long) ordinal * DICTIONARY_ENTRY_SIZE);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to register voting option " + optionId.value(), e);
+        }
+        options.add(optionId);
+        ordinals.put(optionId.value(), ordinal);
+        return ordinal;
+    }
+
+    private void load(Path file) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        VoteLogFormat.verifyHeader(header, DICTIONARY_MAGIC, file);
+        var entry = ByteBuffer.allocate(DICTIONARY_ENTRY_SIZE);
+        long position = HEADER_SIZE;
+        while (channel.read(entry.clear(), position) == DICTIONARY_ENTRY_SIZE
+                && entry.getInt(16) == VoteLogFormat.crc(entry.array(), 0, 16)) {
+            var id = new UUID(entry.getLong(0), entry.getLong(8));
+            ordinals.put(id, options.size());
+            options.add(VotingOptionId.of(id));
+            position += DICTIONARY_ENTRY_SIZE;
+        }
+        channel.truncate(position);
+    }
+}
@@ -0,0 +1,133 @@
+package pl.election.adapter.out.votelog;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.HEADER_SIZE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.RECORD_SIZE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.SEGMENT_MAGIC;
+
+/**
+ * Fixed-capacity, memory-mapped segment file. Writers reserve slots with a
+ * single atomic increment and copy their record in without further locking.
+ */
+final class Segment implements AutoCloseable {
+
+    private final long id;
+    private final Path file;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger reserved;
+    private final AtomicInteger completed;
+    private volatile int flushed;
+    private volatile boolean sealed;
+
+    private Segment(long id, Path file, int capacity, FileChannel channel, MappedByteBuffer buffer, int used) {
+        this.id = id;
+        this.file = file;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.reserved = new AtomicInteger(used);
+        this.completed = new AtomicInteger(used);
+        this.flushed = used;
+    }
+
+    static Segment create(Path file, long id, int capacity) throws IOException {
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, CREATE_NEW, WRITE)) {
+            channel.write(VoteLogFormat.header(SEGMENT_MAGIC, capacity, id));
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        return open(file);
+    }
+
+    static Segment open(Path file) throws IOException {
+        var channel = FileChannel.open(file, READ, WRITE);
+        try {
+            var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            VoteLogFormat.verifyHeader(header, SEGMENT_MAGIC, file);
+            var capacity = VoteLogFormat.headerCapacity(header);
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            return new Segment(VoteLogFormat.headerId(header), file, capacity, channel, buffer, 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /** Returns the reserved slot, or -1 when the segment is full or sealed. */
+    int tryReserve() {
+        if (sealed || reserved.get() >= capacity) return -1;
+        var slot = reserved.getAndIncrement();
+        return slot < capacity ? slot : -1;
+    }
+
+    void write(int slot, byte[] record) {
+        buffer.put(offset(slot), record, 0, RECORD_SIZE);
+        completed.incrementAndGet();
+    }
+
+    void read(int slot, byte[] record) {
+        buffer.get(offset(slot), record, 0, RECORD_SIZE);
+    }
+
+    /** Sets the append position after recovery. */
+    void resumeAt(int used) {
+        reserved.set(used);
+        completed.set(used);
+        flushed = used;
+    }
+
+    int used() {
+        return Math.min(reserved.get(), capacity);
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    /** Sealed, with every reserved write completed and forced to disk. */
+    boolean isSettled() {
+        var done = completed.get();
+        return sealed && done == used() && flushed == done;
+    }
+
+    void force() {
+        var upTo = completed.get();
+        if (upTo == flushed) return;
+        buffer.force();
+        flushed = upTo;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
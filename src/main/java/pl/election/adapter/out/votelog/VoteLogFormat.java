@@ -0,0 +1,122 @@
+package pl.election.adapter.out.votelog;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout of the vote log. Every file starts with a 64-byte header
+ * (magic, version, record size, capacity, file id, creation time, CRC32C).
+ * Segment records are 64 bytes: vote, voter and election ids, option ordinal,
+ * cast time in epoch micros and a CRC32C of the preceding 60 bytes.
+ */
+final class VoteLogFormat {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final int DICTIONARY_ENTRY_SIZE = 20;
+    static final int SEGMENT_MAGIC = 0x564C4F47;
+    static final int DICTIONARY_MAGIC = 0x564C4443;
+    static final int VERSION = 1;
+
+    private static final int HEADER_CRC_OFFSET = 60;
+    private static final int RECORD_CRC_OFFSET = 60;
+
+    private VoteLogFormat() {
+    }
+
+    static ByteBuffer header(int magic, int capacity, long id) {
+        var header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(0, magic)
+                .putInt(4, VERSION)
+                .putInt(8, magic == SEGMENT_MAGIC ? RECORD_SIZE : DICTIONARY_ENTRY_SIZE)
+                .putInt(12, capacity)
+                .putLong(16, id)
+                .putLong(24, System.currentTimeMillis());
+        header.putInt(HEADER_CRC_OFFSET, crc(header.array(), 0, HEADER_CRC_OFFSET));
+        return header;
+    }
+
+    static void verifyHeader(ByteBuffer header, int magic, Path file) {
+        var bytes = new byte[HEADER_SIZE];
+        header.get(0, bytes);
+        var buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(HEADER_CRC_OFFSET) != crc(bytes, 0, HEADER_CRC_OFFSET))
+            throw new IllegalStateException("Corrupted vote log header: " + file);
+        if (buffer.getInt(0) != magic || buffer.getInt(4) != VERSION)
+            throw new IllegalStateException("Unsupported vote log file: " + file);
+    }
+
+    static int headerCapacity(ByteBuffer header) {
+        return header.getInt(12);
+    }
+
+    static long headerId(ByteBuffer header) {
+        return header.getLong(16);
+    }
+
+    static void encode(byte[] target, UUID voteId, UUID voterId, UUID electionId, int ordinal, Instant castAt) {
+        var buffer = ByteBuffer.wrap(target);
+        buffer.putLong(0, voteId.getMostSignificantBits())
+                .putLong(8, voteId.getLeastSignificantBits())
+                .putLong(16, voterId.getMostSignificantBits())
+                .putLong(24, voterId.getLeastSignificantBits())
+                .putLong(32, electionId.getMostSignificantBits())
+                .putLong(40, electionId.getLeastSignificantBits())
+                .putInt(48, ordinal)
+                .putLong(52, ChronoUnit.MICROS.between(Instant.EPOCH, castAt));
+        buffer.putInt(RECORD_CRC_OFFSET, crc(target, 0, RECORD_CRC_OFFSET));
+    }
+
+    static boolean isValid(byte[] record) {
+        return ByteBuffer.wrap(record).getInt(RECORD_CRC_OFFSET) == crc(record, 0, RECORD_CRC_OFFSET)
+                && !isEmpty(record);
+    }
+
+    static boolean isEmpty(byte[] record) {
+        for (byte b : record) {
+            if (b != 0) return false;
+        }
+        return true;
+    }
+
+    static UUID voteId(byte[] record) {
+        return uuid(record, 0);
+    }
+
+    static UUID voterId(byte[] record) {
+        return uuid(record, 16);
+    }
+
+    static UUID electionId(byte[] record) {
+        return uuid(record, 32);
+    }
+
+    static boolean belongsTo(byte[] record, UUID electionId) {
+        var buffer = ByteBuffer.wrap(record);
+        return buffer.getLong(32) == electionId.getMostSignificantBits()
+                && buffer.getLong(40) == electionId.getLeastSignificantBits();
+    }
+
+    static int ordinal(byte[] record) {
+        return ByteBuffer.wrap(record).getInt(48);
+    }
+
+    static Instant castAt(byte[] record) {
+        return Instant.EPOCH.plus(ByteBuffer.wrap(record).getLong(52), ChronoUnit.MICROS);
+    }
+
+    static int crc(byte[] bytes, int offset, int length) {
+        var crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static UUID uuid(byte[] record, int offset) {
+        var buffer = ByteBuffer.wrap(record);
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+    }
+}
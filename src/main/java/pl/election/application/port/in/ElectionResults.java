@@ -1,11 +1,21 @@
 package pl.election.application.port.in;
 
+import pl.election.domain.model.Election;
 import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.VotingOptionId;
 
 import java.util.List;
+import java.util.Map;
 
 public record ElectionResults(ElectionId electionId, String electionName, List<OptionResult> results) {
 
+    /** Results for every option of the election, with zero for options nobody voted for. */
+    public static ElectionResults of(Election election, Map<VotingOptionId, Long> voteCounts) {
+        var results = election.votingOptions().stream()
+                .map(option -> new OptionResult(option.id(), option.name(), voteCounts.getOrDefault(option.id(), 0L)))
+                .toList();
+        return new ElectionResults(election.id(), election.name(), results);
+    }
+
     public record OptionResult(VotingOptionId optionId, String optionName, long voteCount) {}
 }
@@ -0,0 +1,13 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.model.ElectionSummary;
+
+import java.util.List;
+
+/** One page of summaries; {@code next} is {@code null} on the last page. */
+public record ElectionSummaryPage(List<ElectionSummary> summaries, ElectionSummary.Cursor next) {
+
+    public ElectionSummaryPage {
+        summaries = List.copyOf(summaries);
+    }
+}
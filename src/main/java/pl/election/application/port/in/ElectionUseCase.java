@@ -2,6 +2,7 @@ package pl.election.application.port.in;
 
 import pl.election.domain.model.Election;
 import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.ElectionSummary;
 import pl.election.domain.model.VotingOption;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface ElectionUseCase {
 
     VotingOption addVotingOption(ElectionId electionId, String optionName);
 
+    List<VotingOption> addVotingOptions(ElectionId electionId, List<String> optionNames);
+
     Election getElection(ElectionId electionId);
 
     List<Election> getAllElections();
+
+    ElectionSummaryPage getElectionSummaries(ElectionSummary.Cursor after, int limit);
 }
@@ -0,0 +1,15 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+/** Vote submission that a client may retry under the same key without casting twice. */
+public interface IdempotentVotingUseCase {
+
+    IdempotentOutcome tryCastVote(String idempotencyKey, VoterId voterId, ElectionId electionId,
+                                  VotingOptionId votingOptionId);
+
+    /** The outcome; {@code replayed} when it was answered from an earlier call with the same key. */
+    record IdempotentOutcome(VoteOutcome outcome, boolean replayed) {}
+}
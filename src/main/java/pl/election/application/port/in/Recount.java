@@ -0,0 +1,28 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record Recount(UUID id, ElectionId electionId, Status status, int partitions, int partitionsCompleted,
+                      long votesCounted, Instant startedAt, Instant finishedAt, List<OptionDiff> options,
+                      String failure) {
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    /**
+     * {@code live} is the count the results endpoint serves, {@code castAfterCutoff} the votes cast between
+     * the recount's cutoff and that read, which the recount leaves out by design.
+     */
+    public record OptionDiff(VotingOptionId optionId, String optionName, long recounted, long live, long castAfterCutoff) {
+
+        public long difference() { return recounted + castAfterCutoff - live; }
+    }
+
+    public boolean matchesLive() {
+        return status == Status.COMPLETED && options.stream().allMatch(o -> o.difference() == 0);
+    }
+}
@@ -0,0 +1,14 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.model.ElectionId;
+
+import java.util.UUID;
+
+public interface RecountUseCase {
+
+    Recount startRecount(ElectionId electionId);
+
+    Recount getRecount(UUID recountId);
+
+    Recount cancelRecount(UUID recountId);
+}
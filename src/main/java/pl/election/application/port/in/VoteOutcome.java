@@ -0,0 +1,50 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.VoterBlockedException;
+import pl.election.domain.exception.VoterNotFoundException;
+import pl.election.domain.exception.VotingOptionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+/** What became of a vote: accepted, or rejected by one of the voting rules. */
+public sealed interface VoteOutcome {
+
+    record Accepted(Vote vote) implements VoteOutcome {}
+
+    /**
+     * Expected rejections are shared constants with a fixed message, so retry storms of duplicate or
+     * blocked votes cost neither a stack trace nor a string per request.
+     */
+    enum Rejected implements VoteOutcome {
+        VOTER_NOT_FOUND("Voter not found"),
+        VOTER_BLOCKED("Voter is blocked"),
+        ELECTION_NOT_FOUND("Election not found"),
+        VOTING_OPTION_NOT_FOUND("Voting option not found"),
+        DUPLICATE_VOTE("Voter already voted in this election");
+
+        private final String message;
+
+        Rejected(String message) {
+            this.message = message;
+        }
+
+        public String message() {
+            return message;
+        }
+
+        /** The exception callers of {@link VotingUseCase#castVote} have always received for this rejection. */
+        public RuntimeException toException(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+            return switch (this) {
+                case VOTER_NOT_FOUND -> new VoterNotFoundException(message + ": " + voterId.value());
+                case VOTER_BLOCKED -> new VoterBlockedException(message + ": " + voterId.value());
+                case ELECTION_NOT_FOUND -> new ElectionNotFoundException(message + ": " + electionId.value());
+                case VOTING_OPTION_NOT_FOUND -> new VotingOptionNotFoundException(message + ": " + votingOptionId.value());
+                case DUPLICATE_VOTE -> new DuplicateVoteException(message);
+            };
+        }
+    }
+}
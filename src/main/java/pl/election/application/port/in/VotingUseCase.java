@@ -7,7 +7,15 @@ import pl.election.domain.model.VotingOptionId;
 
 public interface VotingUseCase {
 
-    Vote castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId);
+    /** Casts a vote; rule violations come back as a {@link VoteOutcome.Rejected}, only true errors are thrown. */
+    VoteOutcome tryCastVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId);
+
+    default Vote castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        return switch (tryCastVote(voterId, electionId, votingOptionId)) {
+            case VoteOutcome.Accepted accepted -> accepted.vote();
+            case VoteOutcome.Rejected rejected -> throw rejected.toException(voterId, electionId, votingOptionId);
+        };
+    }
 
     ElectionResults getResults(ElectionId electionId);
 }
@@ -1,8 +1,11 @@
 package pl.election.application.port.out;
 
+import pl.election.domain.model.ElectionSummary;
 import pl.election.domain.model.Election;
 import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +16,15 @@ public interface ElectionRepository {
     Optional<Election> findById(ElectionId id);
 
     List<Election> findAll();
+
+    /** The elections among {@code ids} that exist, in no particular order. */
+    List<Election> findAllById(Collection<ElectionId> ids);
+
+    boolean existsById(ElectionId id);
+
+    /** Inserts the given options for an existing election, leaving the options it already has untouched. */
+    void appendVotingOptions(ElectionId electionId, List<VotingOption> options);
+
+    /** Summaries strictly after {@code after} (or from the newest when {@code null}), newest first. */
+    List<ElectionSummary> findSummaries(ElectionSummary.Cursor after, int limit);
 }
@@ -0,0 +1,36 @@
+package pl.election.application.port.out;
+
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    enum Reservation {
+        /** The key was free and is now held for this submission. */
+        NEW,
+        /** An earlier attempt of the same submission holds the key; it may have cast the vote already. */
+        RESUMED,
+        /** The key is held for a different submission. */
+        CONFLICT
+    }
+
+    /** Votes recorded under the key after {@code recordedAfter}; reservations without a vote are not returned. */
+    Optional<Vote> find(String idempotencyKey, Instant recordedAfter);
+
+    /** Holds the key for a submission before its vote is cast, so a retry on any instance can tell it apart. */
+    Reservation reserve(String idempotencyKey, VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId,
+                        Instant reservedAt);
+
+    /** Records the vote under the key unless a vote is already recorded there; the first write wins. */
+    void save(String idempotencyKey, Vote vote, Instant recordedAt);
+
+    /** Drops a reservation that no vote was recorded under, so the key can be used again. */
+    void release(String idempotencyKey);
+
+    int deleteRecordedBefore(Instant cutoff);
+}
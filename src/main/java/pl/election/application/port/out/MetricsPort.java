@@ -3,6 +3,10 @@ package pl.election.application.port.out;
 import pl.election.domain.model.ElectionId;
 
 public interface MetricsPort {
-    void recordVoteCast(ElectionId electionId, long durationMs);
-    void recordResultsQuery(ElectionId electionId, long durationMs);
+    /** A castVote call arrived; paired with {@link #recordVoteFinished()} whatever its outcome. */
+    void recordVoteStarted();
+    void recordVoteFinished();
+    void recordVoteCast(ElectionId electionId, long durationNanos);
+    void recordResultsQuery(ElectionId electionId, long durationNanos);
+    void recordPortCall(String port, String method, long durationNanos);
 }
@@ -0,0 +1,14 @@
+package pl.election.application.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks use-case calls as query-only or state-changing so storage can serve queries from a read
+ * replica. Once a state-changing call has run, later queries in the same request stay on the primary.
+ */
+public interface ReadRoutingPort {
+
+    <T> T readOnly(Supplier<T> query);
+
+    <T> T readWrite(Supplier<T> command);
+}
@@ -0,0 +1,52 @@
+package pl.election.application.port.out;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inclusive range of vote ids in unsigned byte order, the order PostgreSQL uses
+ * for {@code uuid} columns.
+ */
+public record VoteIdRange(UUID first, UUID last) {
+
+    public static final Comparator<UUID> ORDER = VoteIdRange::compareUnsigned;
+
+    private static final BigInteger UNSIGNED_LONG = BigInteger.ONE.shiftLeft(64);
+
+    public boolean contains(UUID id) {
+        return ORDER.compare(first, id) <= 0 && ORDER.compare(id, last) <= 0;
+    }
+
+    /** Splits the range into at most {@code count} contiguous ranges of equal width. */
+    public List<VoteIdRange> split(int count) {
+        if (count < 1) throw new IllegalArgumentException("Partition count must be positive: " + count);
+        var start = toNumber(first);
+        var width = toNumber(last).subtract(start).add(BigInteger.ONE);
+        var parts = width.min(BigInteger.valueOf(count)).intValue();
+        var step = width.divide(BigInteger.valueOf(parts));
+        var ranges = new ArrayList<VoteIdRange>(parts);
+        for (int i = 0; i < parts; i++) {
+            var from = start.add(step.multiply(BigInteger.valueOf(i)));
+            var to = i == parts - 1 ? last : toUuid(from.add(step).subtract(BigInteger.ONE));
+            ranges.add(new VoteIdRange(toUuid(from), to));
+        }
+        return ranges;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        var high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static BigInteger toNumber(UUID id) {
+        var high = new BigInteger(Long.toUnsignedString(id.getMostSignificantBits()));
+        return high.multiply(UNSIGNED_LONG).add(new BigInteger(Long.toUnsignedString(id.getLeastSignificantBits())));
+    }
+
+    private static UUID toUuid(BigInteger value) {
+        return new UUID(value.shiftRight(64).longValue(), value.longValue());
+    }
+}
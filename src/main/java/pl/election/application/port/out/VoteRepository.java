@@ -1,20 +1,45 @@
 package pl.election.application.port.out;
 
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
 import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.Vote;
 import pl.election.domain.model.VoterId;
 import pl.election.domain.model.VotingOptionId;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface VoteRepository {
 
+    /**
+     * @throws DuplicateVoteException when the voter already has a vote in the election
+     * @throws ElectionNotFoundException when the election's votes were archived and it takes no more votes
+     */
     Vote save(Vote vote);
 
     boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId);
 
+    Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId);
+
     List<Vote> findByElectionId(ElectionId electionId);
 
     Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId);
+
+    /** Tally of the votes cast before {@code castBefore}, from the same aggregation that backs live results. */
+    Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore);
+
+    /** Tally of the votes with an id in {@code range} cast before {@code castBefore}. */
+    Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore);
+
+    Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId);
+
+    /** Elections with a vote cast at or after {@code since}, most recently voted first. */
+    List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit);
+
+    /** Tallies of several elections in one pass; elections without votes are absent from the result. */
+    Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds);
 }
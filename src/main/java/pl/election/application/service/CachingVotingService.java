@@ -2,10 +2,10 @@ package pl.election.application.service;
 
 import lombok.RequiredArgsConstructor;
 import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.VoteOutcome;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.CachePort;
 import pl.election.domain.model.ElectionId;
-import pl.election.domain.model.Vote;
 import pl.election.domain.model.VoterId;
 import pl.election.domain.model.VotingOptionId;
 
@@ -16,10 +16,10 @@ public class CachingVotingService implements VotingUseCase {
     private final CachePort cachePort;
 
     @Override
-    public Vote castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
-        var vote = delegate.castVote(voterId, electionId, votingOptionId);
-        cachePort.evictResults(electionId);
-        return vote;
+    public VoteOutcome tryCastVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        var outcome = delegate.tryCastVote(voterId, electionId, votingOptionId);
+        if (outcome instanceof VoteOutcome.Accepted) cachePort.evictResults(electionId);
+        return outcome;
     }
 
     @Override
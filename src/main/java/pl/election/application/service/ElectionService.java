@@ -1,7 +1,10 @@
 package pl.election.application.service;
 
 import lombok.RequiredArgsConstructor;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.in.ElectionSummaryPage;
 import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.out.CachePort;
 import pl.election.application.port.out.ClockPort;
 import pl.election.application.port.out.ElectionRepository;
 import pl.election.application.port.out.IdGeneratorPort;
@@ -15,9 +18,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ElectionService implements ElectionUseCase {
 
+    static final int MAX_SUMMARY_PAGE_SIZE = 500;
+
     private final ElectionRepository electionRepository;
     private final IdGeneratorPort idGenerator;
     private final ClockPort clock;
+    private final CachePort cachePort;
 
     @Override
     public Election createElection(String name) {
@@ -28,13 +34,19 @@ public class ElectionService implements ElectionUseCase {
 
     @Override
     public VotingOption addVotingOption(ElectionId electionId, String optionName) {
-        var election = findOrThrow(electionId);
-        var optionId = idGenerator.generateVotingOptionId();
-        var option = VotingOption.create(optionId, optionName);
-        var updatedElection = election.addVotingOption(option);
-        var savedElection = electionRepository.save(updatedElection);
-        return savedElection.findOption(option.id())
-                .orElseThrow(() -> new IllegalStateException("Option not found after save"));
+        return addVotingOptions(electionId, List.of(optionName)).getFirst();
+    }
+
+    @Override
+    public List<VotingOption> addVotingOptions(ElectionId electionId, List<String> optionNames) {
+        if (!electionRepository.existsById(electionId))
+            throw new ElectionNotFoundException("Election not found: " + electionId.value());
+        var options = optionNames.stream()
+                .map(name -> VotingOption.create(idGenerator.generateVotingOptionId(), name))
+                .toList();
+        electionRepository.appendVotingOptions(electionId, options);
+        cachePort.evictResults(electionId);
+        return options;
     }
 
     @Override
@@ -43,6 +55,16 @@ public class ElectionService implements ElectionUseCase {
     @Override
     public List<Election> getAllElections() { return electionRepository.findAll(); }
 
+    @Override
+    public ElectionSummaryPage getElectionSummaries(ElectionSummary.Cursor after, int limit) {
+        if (limit < 1 || limit > MAX_SUMMARY_PAGE_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SUMMARY_PAGE_SIZE);
+        var summaries = electionRepository.findSummaries(after, limit + 1);
+        if (summaries.size() <= limit) return new ElectionSummaryPage(summaries, null);
+        var page = summaries.subList(0, limit);
+        return new ElectionSummaryPage(page, page.getLast().cursor());
+    }
+
     private Election findOrThrow(ElectionId id) {
         return electionRepository.findById(id)
                 .orElseThrow(() -> new ElectionNotFoundException("Election not found: " + id.value()));
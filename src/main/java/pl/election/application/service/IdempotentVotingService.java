@@ -0,0 +1,132 @@
+package pl.election.application.service;
+
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.application.port.out.IdempotencyStore.Reservation;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.IdempotencyKeyReusedException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers a retried submission with the vote its key was first accepted with, without casting again.
+ * Calls with a key that is still in flight on this instance wait for that call and share its outcome,
+ * rejections and errors included. The key is reserved for the submission before the vote is cast, so a
+ * retry that lands on another instance while the first attempt is in flight, or that follows a crash
+ * between the vote and its key being recorded, finds the reservation and replays the voter's vote
+ * instead of reporting a duplicate. A rejected submission releases its key, so it can be retried once
+ * its cause is fixed.
+ */
+public class IdempotentVotingService implements IdempotentVotingUseCase {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final VotingUseCase delegate;
+    private final IdempotencyStore store;
+    private final VoteRepository voteRepository;
+    private final ClockPort clock;
+    private final Duration retention;
+    private final ConcurrentHashMap<String, CompletableFuture<VoteOutcome>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentVotingService(VotingUseCase delegate, IdempotencyStore store, VoteRepository voteRepository,
+                                   ClockPort clock, Duration retention) {
+        this.delegate = delegate;
+        this.store = store;
+        this.voteRepository = voteRepository;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    @Override
+    public IdempotentOutcome tryCastVote(String idempotencyKey, VoterId voterId, ElectionId electionId,
+                                         VotingOptionId votingOptionId) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        var call = new CompletableFuture<VoteOutcome>();
+        var running = inFlight.putIfAbsent(idempotencyKey, call);
+        if (running != null) return replay(idempotencyKey, await(running), voterId, electionId, votingOptionId);
+        try {
+            var stored = store.find(idempotencyKey, clock.now().minus(retention));
+            if (stored.isPresent()) {
+                var accepted = new VoteOutcome.Accepted(stored.get());
+                call.complete(accepted);
+                return replay(idempotencyKey, accepted, voterId, electionId, votingOptionId);
+            }
+            var reservation = store.reserve(idempotencyKey, voterId, electionId, votingOptionId, clock.now());
+            if (reservation == Reservation.CONFLICT) throw reused(idempotencyKey);
+            var outcome = delegate.tryCastVote(voterId, electionId, votingOptionId);
+            if (outcome instanceof VoteOutcome.Accepted accepted) {
+                store.save(idempotencyKey, accepted.vote(), clock.now());
+                call.complete(outcome);
+                return new IdempotentOutcome(outcome, false);
+            }
+            if (outcome == VoteOutcome.Rejected.DUPLICATE_VOTE) {
+                var recovered = recover(idempotencyKey, reservation, voterId, electionId, votingOptionId);
+                if (recovered.isPresent()) {
+                    var accepted = new VoteOutcome.Accepted(recovered.get());
+                    call.complete(accepted);
+                    return new IdempotentOutcome(accepted, true);
+                }
+            }
+            // an exception leaves the reservation in place: the vote may have been stored before it was thrown
+            store.release(idempotencyKey);
+            call.complete(outcome);
+            return new IdempotentOutcome(outcome, false);
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, call);
+        }
+    }
+
+    /** Removes keys older than the retention window; returns how many were removed. */
+    public int purgeExpired() {
+        return store.deleteRecordedBefore(clock.now().minus(retention));
+    }
+
+    /**
+     * The vote this submission's key stands for, when the voter's existing vote was cast under it: by an
+     * earlier attempt that held the reservation, or by one that resumed it on another instance.
+     */
+    private Optional<Vote> recover(String idempotencyKey, Reservation reservation, VoterId voterId,
+                                   ElectionId electionId, VotingOptionId votingOptionId) {
+        if (reservation == Reservation.NEW) return store.find(idempotencyKey, clock.now().minus(retention));
+        var vote = voteRepository.findByVoterIdAndElectionId(voterId, electionId)
+                .filter(existing -> existing.votingOptionId().equals(votingOptionId));
+        vote.ifPresent(existing -> store.save(idempotencyKey, existing, clock.now()));
+        return vote;
+    }
+
+    private static IdempotentOutcome replay(String idempotencyKey, VoteOutcome outcome, VoterId voterId,
+                                            ElectionId electionId, VotingOptionId votingOptionId) {
+        if (outcome instanceof VoteOutcome.Accepted(Vote vote) && (!vote.voterId().equals(voterId)
+                || !vote.electionId().equals(electionId) || !vote.votingOptionId().equals(votingOptionId)))
+            throw reused(idempotencyKey);
+        return new IdempotentOutcome(outcome, true);
+    }
+
+    private static IdempotencyKeyReusedException reused(String idempotencyKey) {
+        return new IdempotencyKeyReusedException("Idempotency key " + idempotencyKey + " was already used for a different vote");
+    }
+
+    private static VoteOutcome await(CompletableFuture<VoteOutcome> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) throw error;
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package pl.election.application.service;
+
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.out.CachePort;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.ElectionId;
+
+import java.util.Optional;
+
+public class ObservableCachePort implements CachePort {
+
+    private final CachePort delegate;
+    private final PortTimer timer;
+
+    public ObservableCachePort(CachePort delegate, MetricsPort metricsPort) {
+        this.delegate = delegate;
+        this.timer = new PortTimer("cache", metricsPort);
+    }
+
+    @Override
+    public Optional<ElectionResults> getResults(ElectionId electionId) {
+        return timer.time("getResults", () -> delegate.getResults(electionId));
+    }
+
+    @Override
+    public void putResults(ElectionId electionId, ElectionResults results) {
+        timer.run("putResults", () -> delegate.putResults(electionId, results));
+    }
+
+    @Override
+    public void evictResults(ElectionId electionId) {
+        timer.run("evictResults", () -> delegate.evictResults(electionId));
+    }
+}
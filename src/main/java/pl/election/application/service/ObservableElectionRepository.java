@@ -0,0 +1,58 @@
+package pl.election.application.service;
+
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class ObservableElectionRepository implements ElectionRepository {
+
+    private final ElectionRepository delegate;
+    private final PortTimer timer;
+
+    public ObservableElectionRepository(ElectionRepository delegate, MetricsPort metricsPort) {
+        this.delegate = delegate;
+        this.timer = new PortTimer("electionRepository", metricsPort);
+    }
+
+    @Override
+    public Election save(Election election) {
+        return timer.time("save", () -> delegate.save(election));
+    }
+
+    @Override
+    public Optional<Election> findById(ElectionId id) {
+        return timer.time("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Election> findAll() {
+        return timer.time("findAll", delegate::findAll);
+    }
+
+    @Override
+    public List<Election> findAllById(Collection<ElectionId> ids) {
+        return timer.time("findAllById", () -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public boolean existsById(ElectionId id) {
+        return timer.time("existsById", () -> delegate.existsById(id));
+    }
+
+    @Override
+    public void appendVotingOptions(ElectionId electionId, List<VotingOption> options) {
+        timer.run("appendVotingOptions", () -> delegate.appendVotingOptions(electionId, options));
+    }
+
+    @Override
+    public List<ElectionSummary> findSummaries(ElectionSummary.Cursor after, int limit) {
+        return timer.time("findSummaries", () -> delegate.findSummaries(after, limit));
+    }
+}
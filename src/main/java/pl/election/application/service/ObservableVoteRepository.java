@@ -0,0 +1,81 @@
+package pl.election.application.service;
+
+import pl.election.application.port.out.MetricsPort;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ObservableVoteRepository implements VoteRepository {
+
+    private final VoteRepository delegate;
+    private final PortTimer timer;
+
+    public ObservableVoteRepository(VoteRepository delegate, MetricsPort metricsPort) {
+        this.delegate = delegate;
+        this.timer = new PortTimer("voteRepository", metricsPort);
+    }
+
+    @Override
+    public Vote save(Vote vote) {
+        return timer.time("save", () -> delegate.save(vote));
+    }
+
+    @Override
+    public boolean existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        return timer.time("existsByVoterIdAndElectionId",
+                () -> delegate.existsByVoterIdAndElectionId(voterId, electionId));
+    }
+
+    @Override
+    public Optional<Vote> findByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        return timer.time("findByVoterIdAndElectionId", () -> delegate.findByVoterIdAndElectionId(voterId, electionId));
+    }
+
+    @Override
+    public List<Vote> findByElectionId(ElectionId electionId) {
+        return timer.time("findByElectionId", () -> delegate.findByElectionId(electionId));
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdGroupByOption(ElectionId electionId) {
+        return timer.time("countByElectionIdGroupByOption",
+                () -> delegate.countByElectionIdGroupByOption(electionId));
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdCastBeforeGroupByOption(ElectionId electionId, Instant castBefore) {
+        return timer.time("countByElectionIdCastBeforeGroupByOption",
+                () -> delegate.countByElectionIdCastBeforeGroupByOption(electionId, castBefore));
+    }
+
+    @Override
+    public Map<VotingOptionId, Long> countByElectionIdAndVoteIdRange(ElectionId electionId, VoteIdRange range, Instant castBefore) {
+        return timer.time("countByElectionIdAndVoteIdRange",
+                () -> delegate.countByElectionIdAndVoteIdRange(electionId, range, castBefore));
+    }
+
+    @Override
+    public Optional<VoteIdRange> findVoteIdBounds(ElectionId electionId) {
+        return timer.time("findVoteIdBounds", () -> delegate.findVoteIdBounds(electionId));
+    }
+
+    @Override
+    public List<ElectionId> findRecentlyActiveElectionIds(Instant since, int limit) {
+        return timer.time("findRecentlyActiveElectionIds", () -> delegate.findRecentlyActiveElectionIds(since, limit));
+    }
+
+    @Override
+    public Map<ElectionId, Map<VotingOptionId, Long>> countByElectionIdsGroupByOption(Collection<ElectionId> electionIds) {
+        return timer.time("countByElectionIdsGroupByOption",
+                () -> delegate.countByElectionIdsGroupByOption(electionIds));
+    }
+}
@@ -0,0 +1,40 @@
+package pl.election.application.service;
+
+import pl.election.application.port.out.MetricsPort;
+import pl.election.application.port.out.VoterRepository;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ObservableVoterRepository implements VoterRepository {
+
+    private final VoterRepository delegate;
+    private final PortTimer timer;
+
+    public ObservableVoterRepository(VoterRepository delegate, MetricsPort metricsPort) {
+        this.delegate = delegate;
+        this.timer = new PortTimer("voterRepository", metricsPort);
+    }
+
+    @Override
+    public Voter save(Voter voter) {
+        return timer.time("save", () -> delegate.save(voter));
+    }
+
+    @Override
+    public Optional<Voter> findById(VoterId id) {
+        return timer.time("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Voter> findAll() {
+        return timer.time("findAll", delegate::findAll);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return timer.time("existsByEmail", () -> delegate.existsByEmail(email));
+    }
+}
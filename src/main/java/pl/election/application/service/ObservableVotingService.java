@@ -2,10 +2,10 @@ package pl.election.application.service;
 
 import lombok.RequiredArgsConstructor;
 import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.VoteOutcome;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.MetricsPort;
 import pl.election.domain.model.ElectionId;
-import pl.election.domain.model.Vote;
 import pl.election.domain.model.VoterId;
 import pl.election.domain.model.VotingOptionId;
 
@@ -16,19 +16,24 @@ public class ObservableVotingService implements VotingUseCase {
     private final MetricsPort metricsPort;
 
     @Override
-    public Vote castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
-        var start = System.currentTimeMillis();
-        var vote = delegate.castVote(voterId, electionId, votingOptionId);
-        var duration = System.currentTimeMillis() - start;
-        metricsPort.recordVoteCast(electionId, duration);
-        return vote;
+    public VoteOutcome tryCastVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        metricsPort.recordVoteStarted();
+        try {
+            var start = System.nanoTime();
+            var outcome = delegate.tryCastVote(voterId, electionId, votingOptionId);
+            var duration = System.nanoTime() - start;
+            if (outcome instanceof VoteOutcome.Accepted) metricsPort.recordVoteCast(electionId, duration);
+            return outcome;
+        } finally {
+            metricsPort.recordVoteFinished();
+        }
     }
 
     @Override
     public ElectionResults getResults(ElectionId electionId) {
-        var start = System.currentTimeMillis();
+        var start = System.nanoTime();
         var results = delegate.getResults(electionId);
-        var duration = System.currentTimeMillis() - start;
+        var duration = System.nanoTime() - start;
         metricsPort.recordResultsQuery(electionId, duration);
         return results;
     }
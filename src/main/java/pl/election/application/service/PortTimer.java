@@ -0,0 +1,35 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.out.MetricsPort;
+
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+class PortTimer {
+
+    private final String port;
+    private final MetricsPort metricsPort;
+
+    <T> T time(String method, Supplier<T> call) {
+        var start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            record(method, System.nanoTime() - start);
+        }
+    }
+
+    void run(String method, Runnable call) {
+        var start = System.nanoTime();
+        try {
+            call.run();
+        } finally {
+            record(method, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String method, long durationNanos) {
+        metricsPort.recordPortCall(port, method, durationNanos);
+    }
+}
@@ -0,0 +1,49 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.in.ElectionSummaryPage;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.out.ReadRoutingPort;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReadRoutingElectionService implements ElectionUseCase {
+
+    private final ElectionUseCase delegate;
+    private final ReadRoutingPort readRouting;
+
+    @Override
+    public Election createElection(String name) {
+        return readRouting.readWrite(() -> delegate.createElection(name));
+    }
+
+    @Override
+    public VotingOption addVotingOption(ElectionId electionId, String optionName) {
+        return readRouting.readWrite(() -> delegate.addVotingOption(electionId, optionName));
+    }
+
+    @Override
+    public List<VotingOption> addVotingOptions(ElectionId electionId, List<String> optionNames) {
+        return readRouting.readWrite(() -> delegate.addVotingOptions(electionId, optionNames));
+    }
+
+    @Override
+    public Election getElection(ElectionId electionId) {
+        return readRouting.readOnly(() -> delegate.getElection(electionId));
+    }
+
+    @Override
+    public List<Election> getAllElections() {
+        return readRouting.readOnly(delegate::getAllElections);
+    }
+
+    @Override
+    public ElectionSummaryPage getElectionSummaries(ElectionSummary.Cursor after, int limit) {
+        return readRouting.readOnly(() -> delegate.getElectionSummaries(after, limit));
+    }
+}
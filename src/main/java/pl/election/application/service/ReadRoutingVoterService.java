@@ -0,0 +1,41 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.in.VoterUseCase;
+import pl.election.application.port.out.ReadRoutingPort;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReadRoutingVoterService implements VoterUseCase {
+
+    private final VoterUseCase delegate;
+    private final ReadRoutingPort readRouting;
+
+    @Override
+    public Voter createVoter(String name, String email) {
+        return readRouting.readWrite(() -> delegate.createVoter(name, email));
+    }
+
+    @Override
+    public Voter blockVoter(VoterId id) {
+        return readRouting.readWrite(() -> delegate.blockVoter(id));
+    }
+
+    @Override
+    public Voter unblockVoter(VoterId id) {
+        return readRouting.readWrite(() -> delegate.unblockVoter(id));
+    }
+
+    @Override
+    public Voter getVoter(VoterId id) {
+        return readRouting.readOnly(() -> delegate.getVoter(id));
+    }
+
+    @Override
+    public List<Voter> getAllVoters() {
+        return readRouting.readOnly(delegate::getAllVoters);
+    }
+}
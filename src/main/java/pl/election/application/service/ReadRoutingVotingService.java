@@ -0,0 +1,28 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ReadRoutingPort;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+@RequiredArgsConstructor
+public class ReadRoutingVotingService implements VotingUseCase {
+
+    private final VotingUseCase delegate;
+    private final ReadRoutingPort readRouting;
+
+    @Override
+    public VoteOutcome tryCastVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        return readRouting.readWrite(() -> delegate.tryCastVote(voterId, electionId, votingOptionId));
+    }
+
+    /** Not routed to replicas: the results cache in front is shared, so a lagging tally would outlive its read. */
+    @Override
+    public ElectionResults getResults(ElectionId electionId) {
+        return delegate.getResults(electionId);
+    }
+}
@@ -0,0 +1,237 @@
+package pl.election.application.service;
+
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.Recount;
+import pl.election.application.port.in.Recount.OptionDiff;
+import pl.election.application.port.in.Recount.Status;
+import pl.election.application.port.in.RecountUseCase;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.RecountNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit recount that ignores cached and incremental counters. The span between
+ * the election's lowest and highest vote id is split into ranges which are counted in parallel by a fork-join
+ * pool and merged pairwise. At most {@code parallelism} partition queries run
+ * at once and partition starts are paced to {@code partitionsPerSecond}, so a
+ * recount cannot take more than that many connections from the live vote path.
+ * <p>
+ * The partitions count only votes cast before a cutoff fixed when the recount starts, {@code commitGrace}
+ * in the past so that votes still committing at that moment are not half counted. The merged counts are
+ * compared with the results the application serves, which may come from the cache; votes cast between
+ * the cutoff and that read are counted from the primary and reported apart, so they do not show as a
+ * difference. Finished recounts are kept for {@code retention}, then forgotten when the next recount starts.
+ */
+public class RecountService implements RecountUseCase {
+
+    private final ElectionRepository electionRepository;
+    private final VoteRepository voteRepository;
+    private final VotingUseCase votingUseCase;
+    private final ClockPort clock;
+    private final Duration commitGrace;
+    private final Duration retention;
+    private final int partitions;
+    private final Semaphore connections;
+    private final long pacingNanos;
+    private final AtomicLong nextStart = new AtomicLong(System.nanoTime());
+    private final ForkJoinPool pool;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    public RecountService(ElectionRepository electionRepository, VoteRepository voteRepository,
+                          VotingUseCase votingUseCase, ClockPort clock, Duration commitGrace, Duration retention,
+                          int partitions, int parallelism, double partitionsPerSecond) {
+        this.electionRepository = electionRepository;
+        this.voteRepository = voteRepository;
+        this.votingUseCase = votingUseCase;
+        this.clock = clock;
+        this.commitGrace = commitGrace;
+        this.retention = retention;
+        this.partitions = partitions;
+        this.connections = new Semaphore(parallelism);
+        this.pacingNanos = (long) (TimeUnit.SECONDS.toNanos(1) / partitionsPerSecond);
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public Recount startRecount(ElectionId electionId) {
+        var election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ElectionNotFoundException("Election not found: " + electionId.value()));
+        var startedAt = clock.now();
+        evictFinishedBefore(startedAt.minus(retention));
+        var ranges = voteRepository.findVoteIdBounds(electionId)
+                .map(bounds -> bounds.split(partitions))
+                .orElse(List.of());
+        var job = new Job(UUID.randomUUID(), election.id(), ranges, startedAt, startedAt.minus(commitGrace));
+        jobs.put(job.id, job);
+        pool.execute(job::run);
+        return job.snapshot();
+    }
+
+    @Override
+    public Recount getRecount(UUID recountId) {
+        return find(recountId).snapshot();
+    }
+
+    @Override
+    public Recount cancelRecount(UUID recountId) {
+        var job = find(recountId);
+        job.cancelled = true;
+        return job.snapshot();
+    }
+
+    public void shutdown() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        pool.shutdownNow();
+    }
+
+    private void evictFinishedBefore(Instant threshold) {
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private Job find(UUID recountId) {
+        var job = jobs.get(recountId);
+        if (job == null) throw new RecountNotFoundException("Recount not found: " + recountId);
+        return job;
+    }
+
+    private void awaitTurn() {
+        var start = nextStart.getAndUpdate(previous -> Math.max(previous, System.nanoTime()) + pacingNanos);
+        var delay = start - System.nanoTime();
+        if (delay > 0) LockSupport.parkNanos(delay);
+    }
+
+    private static List<OptionDiff> diff(Map<VotingOptionId, Long> recounted, ElectionResults served,
+                                         Map<VotingOptionId, Long> castAfterCutoff) {
+        var options = new ArrayList<OptionDiff>();
+        var unmatched = new HashMap<>(recounted);
+        for (var result : served.results()) {
+            var count = unmatched.remove(result.optionId());
+            options.add(new OptionDiff(result.optionId(), result.optionName(), count == null ? 0 : count,
+                    result.voteCount(), castAfterCutoff.getOrDefault(result.optionId(), 0L)));
+        }
+        unmatched.forEach((optionId, count) ->
+                options.add(new OptionDiff(optionId, null, count, 0, castAfterCutoff.getOrDefault(optionId, 0L))));
+        return options;
+    }
+
+    private final class Job {
+
+        private final UUID id;
+        private final ElectionId electionId;
+        private final List<VoteIdRange> ranges;
+        private final Instant startedAt;
+        private final Instant castBefore;
+        private final AtomicInteger partitionsCompleted = new AtomicInteger();
+        private final AtomicLong votesCounted = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Status status = Status.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile List<OptionDiff> options = List.of();
+        private volatile RuntimeException failure;
+
+        private Job(UUID id, ElectionId electionId, List<VoteIdRange> ranges, Instant startedAt, Instant castBefore) {
+            this.id = id;
+            this.electionId = electionId;
+            this.ranges = ranges;
+            this.startedAt = startedAt;
+            this.castBefore = castBefore;
+        }
+
+        private void run() {
+            try {
+                var recounted = new PartitionTask(this, 0, ranges.size()).invoke();
+                var servedAt = clock.now();
+                var served = votingUseCase.getResults(electionId);
+                options = diff(recounted, served, castBetween(castBefore, servedAt));
+                finish(Status.COMPLETED);
+            } catch (CancellationException e) {
+                finish(Status.CANCELLED);
+            } catch (RuntimeException e) {
+                failure = e;
+                finish(cancelled ? Status.CANCELLED : Status.FAILED);
+            }
+        }
+
+        private Map<VotingOptionId, Long> count(VoteIdRange range) {
+            awaitTurn();
+            if (cancelled) throw new CancellationException("Recount cancelled: " + id);
+            connections.acquireUninterruptibly();
+            try {
+                var counts = voteRepository.countByElectionIdAndVoteIdRange(electionId, range, castBefore);
+                votesCounted.addAndGet(counts.values().stream().mapToLong(Long::longValue).sum());
+                partitionsCompleted.incrementAndGet();
+                return counts;
+            } finally {
+                connections.release();
+            }
+        }
+
+        private Map<VotingOptionId, Long> castBetween(Instant from, Instant to) {
+            var counts = new HashMap<>(voteRepository.countByElectionIdCastBeforeGroupByOption(electionId, to));
+            voteRepository.countByElectionIdCastBeforeGroupByOption(electionId, from)
+                    .forEach((option, count) -> counts.merge(option, -count, Long::sum));
+            return counts;
+        }
+
+        private void finish(Status outcome) {
+            finishedAt = clock.now();
+            status = outcome;
+        }
+
+        private Recount snapshot() {
+            var current = status;
+            var cause = current == Status.FAILED ? failure : null;
+            return new Recount(id, electionId, current, ranges.size(), partitionsCompleted.get(), votesCounted.get(),
+                    startedAt, finishedAt, current == Status.COMPLETED ? options : List.of(),
+                    cause == null ? null : cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+    }
+
+    private static final class PartitionTask extends RecursiveTask<Map<VotingOptionId, Long>> {
+
+        private final Job job;
+        private final int from;
+        private final int to;
+
+        private PartitionTask(Job job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<VotingOptionId, Long> compute() {
+            if (to - from == 0) return Map.of();
+            if (to - from == 1) return job.count(job.ranges.get(from));
+            var middle = (from + to) >>> 1;
+            var left = new PartitionTask(job, from, middle);
+            left.fork();
+            var merged = new HashMap<>(new PartitionTask(job, middle, to).compute());
+            left.join().forEach((option, count) -> merged.merge(option, count, Long::sum));
+            return merged;
+        }
+    }
+}
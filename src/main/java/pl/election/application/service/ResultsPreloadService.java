@@ -0,0 +1,79 @@
+package pl.election.application.service;
+
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.out.CachePort;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Fills the results cache for elections that received votes within {@code activeWithin}, most recently
+ * voted first. Elections, options and tallies are loaded in batches with one query each, so the cost is
+ * a handful of set-based queries rather than two per election. Stops at {@code maxElections}, once the
+ * cached results would exceed {@code maxOptions} option rows, or at {@code maxDuration}.
+ */
+public class ResultsPreloadService {
+
+    static final int BATCH_SIZE = 100;
+
+    private final ElectionRepository electionRepository;
+    private final VoteRepository voteRepository;
+    private final CachePort cachePort;
+    private final ClockPort clock;
+    private final Duration activeWithin;
+    private final int maxElections;
+    private final long maxOptions;
+    private final Duration maxDuration;
+
+    public ResultsPreloadService(ElectionRepository electionRepository, VoteRepository voteRepository,
+                                 CachePort cachePort, ClockPort clock, Duration activeWithin,
+                                 int maxElections, long maxOptions, Duration maxDuration) {
+        this.electionRepository = electionRepository;
+        this.voteRepository = voteRepository;
+        this.cachePort = cachePort;
+        this.clock = clock;
+        this.activeWithin = activeWithin;
+        this.maxElections = maxElections;
+        this.maxOptions = maxOptions;
+        this.maxDuration = maxDuration;
+    }
+
+    public Preload preload() {
+        var deadline = System.nanoTime() + maxDuration.toNanos();
+        var active = voteRepository.findRecentlyActiveElectionIds(clock.now().minus(activeWithin), maxElections);
+        var elections = 0;
+        var options = 0L;
+        for (int from = 0; from < active.size(); from += BATCH_SIZE) {
+            if (System.nanoTime() >= deadline) return new Preload(active.size(), elections, options, false);
+            var batch = active.subList(from, Math.min(from + BATCH_SIZE, active.size()));
+            var loaded = byId(electionRepository.findAllById(batch));
+            var tallies = voteRepository.countByElectionIdsGroupByOption(batch);
+            for (var id : batch) {
+                var election = loaded.get(id);
+                if (election == null) continue;
+                if (options + election.votingOptions().size() > maxOptions)
+                    return new Preload(active.size(), elections, options, false);
+                cachePort.putResults(id, ElectionResults.of(election, tallies.getOrDefault(id, Map.of())));
+                elections++;
+                options += election.votingOptions().size();
+            }
+        }
+        return new Preload(active.size(), elections, options, true);
+    }
+
+    private static Map<ElectionId, Election> byId(List<Election> elections) {
+        return elections.stream().collect(toMap(Election::id, Function.identity()));
+    }
+
+    /** {@code complete} is false when a time or size limit cut the preload short. */
+    public record Preload(int active, int elections, long options, boolean complete) {}
+}
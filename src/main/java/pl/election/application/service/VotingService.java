@@ -2,7 +2,8 @@ package pl.election.application.service;
 
 import lombok.RequiredArgsConstructor;
 import pl.election.application.port.in.ElectionResults;
-import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.application.port.in.VoteOutcome.Rejected;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.ClockPort;
 import pl.election.application.port.out.ElectionRepository;
@@ -11,9 +12,6 @@ import pl.election.application.port.out.VoteRepository;
 import pl.election.application.port.out.VoterRepository;
 import pl.election.domain.exception.DuplicateVoteException;
 import pl.election.domain.exception.ElectionNotFoundException;
-import pl.election.domain.exception.VoterBlockedException;
-import pl.election.domain.exception.VoterNotFoundException;
-import pl.election.domain.exception.VotingOptionNotFoundException;
 import pl.election.domain.model.ElectionId;
 import pl.election.domain.model.Vote;
 import pl.election.domain.model.VoterId;
@@ -29,33 +27,31 @@ public class VotingService implements VotingUseCase {
     private final ClockPort clock;
 
     @Override
-    public Vote castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
-        var voter = voterRepository.findById(voterId)
-                .orElseThrow(() -> new VoterNotFoundException("Voter not found: " + voterId.value()));
-        if (voter.isBlocked())
-            throw new VoterBlockedException("Voter is blocked: " + voterId.value());
-        var election = electionRepository.findById(electionId)
-                .orElseThrow(() -> new ElectionNotFoundException("Election not found: " + electionId.value()));
-        if (!election.hasOption(votingOptionId))
-            throw new VotingOptionNotFoundException("Voting option not found: " + votingOptionId.value());
-        if (voteRepository.existsByVoterIdAndElectionId(voterId, electionId))
-            throw new DuplicateVoteException("Voter already voted in this election");
+    public VoteOutcome tryCastVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        var voter = voterRepository.findById(voterId).orElse(null);
+        if (voter == null) return Rejected.VOTER_NOT_FOUND;
+        if (voter.isBlocked()) return Rejected.VOTER_BLOCKED;
+        var election = electionRepository.findById(electionId).orElse(null);
+        if (election == null) return Rejected.ELECTION_NOT_FOUND;
+        if (!election.hasOption(votingOptionId)) return Rejected.VOTING_OPTION_NOT_FOUND;
+        if (voteRepository.existsByVoterIdAndElectionId(voterId, electionId)) return Rejected.DUPLICATE_VOTE;
         var voteId = idGenerator.generateVoteId();
         var now = clock.now();
-        return voteRepository.save(Vote.cast(voteId, voterId, electionId, votingOptionId, now));
+        try {
+            return new VoteOutcome.Accepted(voteRepository.save(Vote.cast(voteId, voterId, electionId, votingOptionId, now)));
+        } catch (DuplicateVoteException e) {
+            // a concurrent submission for the same voter committed between the check and the insert
+            return Rejected.DUPLICATE_VOTE;
+        } catch (ElectionNotFoundException e) {
+            // the election's votes were archived; the election row stays for its history
+            return Rejected.ELECTION_NOT_FOUND;
+        }
     }
 
     @Override
     public ElectionResults getResults(ElectionId electionId) {
         var election = electionRepository.findById(electionId)
                 .orElseThrow(() -> new ElectionNotFoundException("Election not found: " + electionId.value()));
-        var voteCounts = voteRepository.countByElectionIdGroupByOption(electionId);
-        var results = election.votingOptions().stream()
-                .map(option -> new OptionResult(
-                        option.id(),
-                        option.name(),
-                        voteCounts.getOrDefault(option.id(), 0L)))
-                .toList();
-        return new ElectionResults(election.id(), election.name(), results);
+        return ElectionResults.of(election, voteRepository.countByElectionIdGroupByOption(electionId));
     }
 }
@@ -0,0 +1,36 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionConfig {
+
+    private Limit critical = new Limit(100, Duration.ofMillis(500));
+    private Limit normal = new Limit(60, Duration.ofMillis(50));
+    private Limit bestEffort = new Limit(20, Duration.ZERO);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Duration readinessWindow = Duration.ofSeconds(10);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int maxInFlight;
+        private Duration queueTimeout;
+
+        public Limit() {
+        }
+
+        Limit(int maxInFlight, Duration queueTimeout) {
+            this.maxInFlight = maxInFlight;
+            this.queueTimeout = queueTimeout;
+        }
+    }
+}
@@ -1,28 +1,70 @@
 package pl.election.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.BindableService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import pl.election.adapter.in.web.AdmissionControlFilter;
+import pl.election.adapter.in.web.AdmissionHealthIndicator;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.ClientRateLimiter;
 import pl.election.adapter.in.web.RateLimitFilter;
+import pl.election.adapter.in.web.RequestPriority;
+import pl.election.adapter.in.web.ServerTimingMetricsPort;
+import pl.election.adapter.in.web.VotingController;
+import pl.election.adapter.out.cache.CaffeineIdempotencyStore;
+import pl.election.adapter.out.metrics.MicrometerMetricsAdapter;
+import pl.election.adapter.out.replica.ReadRoutingAdapter;
+import pl.election.adapter.out.votelog.MappedVoteLogRepository;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.in.VoterUseCase;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.*;
 import pl.election.application.service.*;
+import pl.election.domain.model.ElectionId;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class BeanConfig {
 
     @Bean
-    VoterService voterService(VoterRepository voterRepository,
+    ReadRoutingPort readRouting(ReplicaConfig config) {
+        return new ReadRoutingAdapter(config.getMaxLag());
+    }
+
+    @Bean
+    WarmUpMetricsPort metricsPort(MeterRegistry registry, ServerTimingConfig config) {
+        var metrics = new MicrometerMetricsAdapter(registry);
+        return new WarmUpMetricsPort(config.isEnabled() ? new ServerTimingMetricsPort(metrics) : metrics);
+    }
+
+    @Bean
+    VoterUseCase voterService(VoterRepository voterRepository,
                               IdGeneratorPort idGenerator,
-                              ClockPort clock) {
-        return new VoterService(voterRepository, idGenerator, clock);
+                              ClockPort clock,
+                              ReadRoutingPort readRouting) {
+        return new ReadRoutingVoterService(new VoterService(voterRepository, idGenerator, clock), readRouting);
     }
 
     @Bean
-    ElectionService electionService(ElectionRepository electionRepository,
+    ElectionUseCase electionService(ElectionRepository electionRepository,
                                      IdGeneratorPort idGenerator,
-                                     ClockPort clock) {
-        return new ElectionService(electionRepository, idGenerator, clock);
+                                     ClockPort clock,
+                                     CachePort cachePort,
+                                     MetricsPort metricsPort,
+                                     ReadRoutingPort readRouting) {
+        var core = new ElectionService(electionRepository, idGenerator, clock, new ObservableCachePort(cachePort, metricsPort));
+        return new ReadRoutingElectionService(core, readRouting);
     }
 
     @Bean
@@ -32,15 +74,124 @@ public class BeanConfig {
                                 IdGeneratorPort idGenerator,
                                 ClockPort clock,
                                 CachePort cachePort,
-                                MetricsPort metricsPort) {
-        var core = new VotingService(voterRepository, electionRepository, voteRepository, idGenerator, clock);
-        var cached = new CachingVotingService(core, cachePort);
+                                MetricsPort metricsPort,
+                                ReadRoutingPort readRouting) {
+        var core = new VotingService(
+                new ObservableVoterRepository(voterRepository, metricsPort),
+                new ObservableElectionRepository(electionRepository, metricsPort),
+                new ObservableVoteRepository(voteRepository, metricsPort),
+                idGenerator, clock);
+        var routed = new ReadRoutingVotingService(core, readRouting);
+        var cached = new CachingVotingService(routed, new ObservableCachePort(cachePort, metricsPort));
         return new ObservableVotingService(cached, metricsPort);
     }
 
     @Bean
-    RateLimitFilter rateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper) {
-        return new RateLimitFilter(config.getCapacity(), config.getRefillTokens(),
-                config.getRefillDuration(), objectMapper);
+    IdempotentVotingService idempotentVotingUseCase(VotingUseCase votingUseCase,
+                                                    IdempotencyStore idempotencyStore,
+                                                    VoteRepository voteRepository,
+                                                    ClockPort clock,
+                                                    MetricsPort metricsPort,
+                                                    IdempotencyConfig config) {
+        var store = new CaffeineIdempotencyStore(idempotencyStore, config.getMemoryTtl(), config.getMemoryMaxSize());
+        return new IdempotentVotingService(votingUseCase, store, new ObservableVoteRepository(voteRepository, metricsPort),
+                clock, config.getRetention());
+    }
+
+    @Bean
+    IdempotencyPurger idempotencyPurger(IdempotentVotingService idempotentVotingUseCase, IdempotencyConfig config) {
+        return new IdempotencyPurger(idempotentVotingUseCase, config.getPurgeInterval());
+    }
+
+    @Bean
+    RecountService recountService(ElectionRepository electionRepository,
+                                  VoteRepository voteRepository,
+                                  VotingUseCase votingUseCase,
+                                  ClockPort clock,
+                                  MetricsPort metricsPort,
+                                  RecountConfig config) {
+        return new RecountService(electionRepository, new ObservableVoteRepository(voteRepository, metricsPort),
+                votingUseCase, clock, config.getCommitGrace(), config.getRetention(), config.getPartitions(), config.getParallelism(),
+                config.getPartitionsPerSecond());
+    }
+
+    @Bean
+    ClientRateLimiter clientRateLimiter(RateLimitConfig config) {
+        return new ClientRateLimiter(config.getCapacity(), config.getRefillTokens(), config.getRefillDuration());
+    }
+
+    @Bean
+    RateLimitFilter rateLimitFilter(ClientRateLimiter clientRateLimiter, ObjectMapper objectMapper) {
+        return new RateLimitFilter(clientRateLimiter, objectMapper);
+    }
+
+    @Bean
+    AdmissionLimiter admissionLimiter(AdmissionConfig config, MeterRegistry registry) {
+        return new AdmissionLimiter(Map.of(
+                RequestPriority.CRITICAL, limit(config.getCritical()),
+                RequestPriority.NORMAL, limit(config.getNormal()),
+                RequestPriority.BEST_EFFORT, limit(config.getBestEffort())), config.getReadinessWindow(), registry);
+    }
+
+    @Bean
+    AdmissionControlFilter admissionControlFilter(AdmissionLimiter admissionLimiter, AdmissionConfig config,
+                                                  ObjectMapper objectMapper) {
+        return new AdmissionControlFilter(admissionLimiter, config.getRetryAfter(), objectMapper);
+    }
+
+    @Bean
+    AdmissionHealthIndicator admissionHealthIndicator(AdmissionLimiter admissionLimiter) {
+        return new AdmissionHealthIndicator(admissionLimiter);
+    }
+
+    @Bean
+    @Conditional(ServingCondition.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    WarmUpRunner warmUpRunner(WarmUpConfig config, ElectionUseCase electionUseCase,
+                              VotingController votingController, ObjectMapper objectMapper, Validator validator,
+                              WarmUpMetricsPort metricsPort, ObjectProvider<DataSource> dataSource,
+                              MeterRegistry registry) {
+        return new WarmUpRunner(config, electionUseCase, votingController, objectMapper, validator,
+                metricsPort, dataSource.getIfAvailable(), registry);
+    }
+
+    @Bean
+    @Conditional(ServingCondition.class)
+    ResultsPreloadRunner resultsPreloadRunner(PreloadConfig config,
+                                              ElectionRepository electionRepository,
+                                              VoteRepository voteRepository,
+                                              CachePort cachePort,
+                                              ClockPort clock,
+                                              MetricsPort metricsPort,
+                                              MeterRegistry registry) {
+        var service = new ResultsPreloadService(
+                new ObservableElectionRepository(electionRepository, metricsPort),
+                new ObservableVoteRepository(voteRepository, metricsPort),
+                cachePort, clock, config.getActiveWithin(), config.getMaxElections(), config.getMaxOptions(),
+                config.getMaxDuration());
+        return new ResultsPreloadRunner(config, service, registry);
+    }
+
+    @Bean
+    GrpcServerLifecycle grpcServerLifecycle(GrpcConfig config, List<BindableService> services) {
+        return new GrpcServerLifecycle(config, services);
+    }
+
+    @Bean
+    @Profile("votelog")
+    MappedVoteLogRepository voteLogRepository(VoteLogConfig config) throws IOException {
+        var repository = new MappedVoteLogRepository(config.getDirectory(), config.getSegmentRecords(), config.getFlushInterval());
+        repository.retire(config.getRetiredElections().stream().map(ElectionId::of).toList());
+        return repository;
+    }
+
+    @Bean
+    @Profile("votelog")
+    VoteLogCompactor voteLogCompactor(MappedVoteLogRepository voteLogRepository, VoteLogConfig config) {
+        return new VoteLogCompactor(voteLogRepository, config.getCompactionInterval());
+    }
+
+    private static AdmissionLimiter.Limit limit(AdmissionConfig.Limit limit) {
+        return new AdmissionLimiter.Limit(limit.getMaxInFlight(), limit.getQueueTimeout());
     }
 }
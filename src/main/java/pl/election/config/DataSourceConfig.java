@@ -0,0 +1,117 @@
+package pl.election.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import pl.election.adapter.out.health.DatabaseHealthIndicator;
+import pl.election.adapter.out.persistence.pool.Workload;
+import pl.election.adapter.out.persistence.pool.WorkloadRoutingDataSource;
+import pl.election.adapter.out.replica.Replica;
+import pl.election.adapter.out.replica.ReplicaLagMonitor;
+import pl.election.adapter.out.replica.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource: one Hikari pool per {@link Workload} against the primary
+ * ({@code db-pools.*}), optionally fronted by replica routing for query-only use-case calls
+ * ({@code replica.*}). Connection details still come from {@code spring.datasource.*}, and
+ * {@code migration.mode} decides whether Flyway runs as part of startup. Database health is sampled
+ * from the pools in the background and pinged over a single-connection pool of its own
+ * ({@code db-health.*}).
+ */
+@Configuration
+@Profile("!inmemory")
+public class DataSourceConfig {
+
+    @Bean
+    DataSource dataSource(DataSourceProperties properties, PoolConfig pools, ReplicaConfig replicas, MeterRegistry registry) {
+        var primary = new WorkloadRoutingDataSource(Map.of(
+                Workload.VOTE, pool("vote", properties, pools.getVote(), registry),
+                Workload.INTERACTIVE, pool("interactive", properties, pools.getInteractive(), registry),
+                Workload.BULK, pool("bulk", properties, pools.getBulk(), registry)));
+        if (!replicas.isEnabled()) return primary;
+        return new ReplicaRoutingDataSource(primary, replicas.getNodes().stream()
+                .map(node -> new Replica(node.getName(), replicaPool(node, replicas)))
+                .toList());
+    }
+
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(MigrationConfig migration) {
+        return flyway -> {
+            if (migration.getMode() != MigrationConfig.Mode.SKIP) flyway.migrate();
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+    ReplicaLagMonitor replicaLagMonitor(DataSource dataSource, ReplicaConfig config, MeterRegistry registry) throws SQLException {
+        var replicas = dataSource.unwrap(ReplicaRoutingDataSource.class).replicas();
+        return new ReplicaLagMonitor(replicas, config.getMaxLag(), ReplicaLagMonitor.LagProbe.POSTGRES, registry)
+                .start(config.getLagCheckInterval());
+    }
+
+    @Bean(destroyMethod = "close")
+    DatabaseHealthIndicator databaseHealthIndicator(DataSource dataSource, DataSourceProperties properties,
+                                                    DbHealthConfig config, MeterRegistry registry) throws SQLException {
+        var primary = dataSource instanceof ReplicaRoutingDataSource routing ? routing.primary() : dataSource;
+        var workloads = primary.unwrap(WorkloadRoutingDataSource.class);
+        var pools = new LinkedHashMap<String, HikariDataSource>();
+        for (var workload : Workload.values()) {
+            var pool = workloads.pool(workload).unwrap(HikariDataSource.class);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new DatabaseHealthIndicator(pools, config.getReadinessPools(), pingPool(properties, config),
+                config.getPingTimeout(), config.getStaleAfter(), config.getMaxPending(), config.getPendingFor(), registry)
+                .start(config.getInterval());
+    }
+
+    private static HikariDataSource pool(String name, DataSourceProperties properties, PoolConfig.Pool config,
+                                         MeterRegistry registry) {
+        var pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(config.getMaxSize());
+        pool.setMinimumIdle(config.getMinIdle());
+        pool.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+        pool.setMetricRegistry(registry);
+        Gauge.builder("db.pool.saturation", pool, DataSourceConfig::saturation)
+                .description("Share of the pool's connections in use")
+                .tag("pool", name)
+                .register(registry);
+        return pool;
+    }
+
+    private static HikariDataSource pingPool(DataSourceProperties properties, DbHealthConfig config) {
+        var pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("health");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(Math.max(250, config.getPingTimeout().toMillis()));
+        return pool;
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        var stats = pool.getHikariPoolMXBean();
+        return stats == null ? 0 : (double) stats.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource replicaPool(ReplicaConfig.Node node, ReplicaConfig config) {
+        var pool = new HikariDataSource();
+        pool.setPoolName("replica-" + node.getName());
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername());
+        pool.setPassword(node.getPassword());
+        pool.setMaximumPoolSize(config.getPoolSize());
+        pool.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        return pool;
+    }
+}
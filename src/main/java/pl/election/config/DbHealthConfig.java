@@ -0,0 +1,23 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "db-health")
+public class DbHealthConfig {
+
+    private Duration interval = Duration.ofSeconds(2);
+    private Duration pingTimeout = Duration.ofSeconds(1);
+    private Duration staleAfter = Duration.ofSeconds(10);
+    private int maxPending = 10;
+    private Duration pendingFor = Duration.ofSeconds(6);
+    private Set<String> readinessPools = Set.of("vote", "interactive");
+}
@@ -0,0 +1,21 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "grpc")
+public class GrpcConfig {
+
+    private boolean enabled;
+    private int port = 9090;
+    /** Threads running gRPC handlers; each open CastVotes stream occupies at most one at a time. */
+    private int handlerThreads = 16;
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
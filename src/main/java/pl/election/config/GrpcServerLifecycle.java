@@ -0,0 +1,78 @@
+package pl.election.config;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the gRPC server in the application's process, next to the servlet container. Handlers run on a
+ * fixed pool of {@code grpc.handler-threads}, so gRPC cannot take more vote-pool connections than that.
+ * On shutdown, calls in flight get {@code grpc.shutdown-timeout} to finish.
+ */
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcConfig config;
+    private final List<BindableService> services;
+    private volatile Server server;
+    private ExecutorService executor;
+
+    public GrpcServerLifecycle(GrpcConfig config, List<BindableService> services) {
+        this.config = config;
+        this.services = services;
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled()) return;
+        var threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(config.getHandlerThreads(),
+                task -> new Thread(task, "grpc-handler-" + threads.incrementAndGet()));
+        var builder = Grpc.newServerBuilderForPort(config.getPort(), InsecureServerCredentials.create()).executor(executor);
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Could not start gRPC server on port " + config.getPort(), e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(config.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                server.shutdownNow();
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** The bound port, which differs from {@code grpc.port} when that is 0. */
+    public int getPort() {
+        return server == null ? -1 : server.getPort();
+    }
+}
@@ -0,0 +1,20 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfig {
+
+    private Duration retention = Duration.ofHours(24);
+    private Duration memoryTtl = Duration.ofMinutes(5);
+    private long memoryMaxSize = 100_000;
+    private Duration purgeInterval = Duration.ofHours(1);
+}
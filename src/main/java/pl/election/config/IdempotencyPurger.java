@@ -0,0 +1,56 @@
+package pl.election.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import pl.election.application.service.IdempotentVotingService;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/** Removes idempotency keys past {@code idempotency.retention} every {@code idempotency.purge-interval}. */
+@Slf4j
+public class IdempotencyPurger implements SmartLifecycle {
+
+    private final IdempotentVotingService service;
+    private final Duration interval;
+    private volatile ScheduledExecutorService scheduler;
+
+    public IdempotencyPurger(IdempotentVotingService service, Duration interval) {
+        this.service = service;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "idempotency-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purge, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void purge() {
+        try {
+            var purged = service.purgeExpired();
+            if (purged > 0) log.info("Purged {} expired idempotency keys", purged);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency key purge failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler == null) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
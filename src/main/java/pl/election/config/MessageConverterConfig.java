@@ -0,0 +1,31 @@
+package pl.election.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import pl.election.adapter.in.web.protobuf.ProtobufDtoMessageConverter;
+
+import java.util.List;
+
+/**
+ * Binary representations next to JSON, chosen by {@code Accept} and {@code Content-Type}. CBOR replaces
+ * Spring's default CBOR converter so it shares the application's Jackson configuration; it writes UUIDs
+ * as 16-byte strings. Protobuf is appended last, so clients that accept anything still get JSON.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufDtoMessageConverter());
+    }
+}
@@ -0,0 +1,24 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "migration")
+public class MigrationConfig {
+
+    private Mode mode = Mode.STARTUP;
+
+    public enum Mode {
+        /** Apply pending Flyway migrations before serving traffic. */
+        STARTUP,
+        /** Leave the schema to a separate migration run. */
+        SKIP,
+        /** Apply pending migrations, then exit. */
+        ONLY
+    }
+}
@@ -0,0 +1,35 @@
+package pl.election.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import pl.election.adapter.in.web.dto.ApiError;
+
+/**
+ * Reachability metadata for a native image that Spring AOT and the GraalVM metadata repository do not
+ * infer: Caffeine picks its generated cache and node classes by name, and the rate-limit and admission filters
+ * serialize {@link ApiError} outside a controller.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.Hints.class)
+public class NativeConfig {
+
+    /** Cache ({@code SS*}) and node ({@code P*}) classes for the specs in use: size + access, size + write. */
+    static final String[] CAFFEINE_CLASSES = {"SSMSA", "SSMSW", "PS", "PSA", "PSW", "PSAMS", "PSWMS"};
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (var name : CAFFEINE_CLASSES) {
+                hints.reflection().registerType(TypeReference.of("com.github.benmanes.caffeine.cache." + name),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+            }
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), ApiError.class);
+        }
+    }
+}
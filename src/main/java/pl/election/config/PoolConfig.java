@@ -0,0 +1,36 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "db-pools")
+public class PoolConfig {
+
+    private Pool vote = new Pool(10, 10, Duration.ofSeconds(2));
+    private Pool interactive = new Pool(8, 2, Duration.ofSeconds(5));
+    private Pool bulk = new Pool(4, 0, Duration.ofSeconds(30));
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxSize;
+        private int minIdle;
+        private Duration connectionTimeout;
+
+        public Pool() {
+        }
+
+        Pool(int maxSize, int minIdle, Duration connectionTimeout) {
+            this.maxSize = maxSize;
+            this.minIdle = minIdle;
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+}
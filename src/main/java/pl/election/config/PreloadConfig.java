@@ -0,0 +1,21 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "preload")
+public class PreloadConfig {
+
+    private boolean enabled = true;
+    private Duration activeWithin = Duration.ofHours(1);
+    private int maxElections = 500;
+    private long maxOptions = 100_000;
+    private Duration maxDuration = Duration.ofSeconds(10);
+}
@@ -0,0 +1,21 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "recount")
+public class RecountConfig {
+
+    private int partitions = 16;
+    private int parallelism = 2;
+    private double partitionsPerSecond = 20;
+    private Duration commitGrace = Duration.ofSeconds(5);
+    private Duration retention = Duration.ofHours(1);
+}
@@ -0,0 +1,33 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaConfig {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    private int poolSize = 10;
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
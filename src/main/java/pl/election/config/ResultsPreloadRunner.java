@@ -0,0 +1,54 @@
+package pl.election.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import pl.election.application.service.ResultsPreloadService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the results cache before readiness flips to accepting traffic, so a restarted pod does not send
+ * the first request for every active election to the database at once. A failed preload is logged and
+ * startup continues with a cold cache.
+ */
+@Slf4j
+public class ResultsPreloadRunner implements ApplicationRunner {
+
+    private final PreloadConfig config;
+    private final ResultsPreloadService service;
+    private final MeterRegistry registry;
+
+    public ResultsPreloadRunner(PreloadConfig config, ResultsPreloadService service, MeterRegistry registry) {
+        this.config = config;
+        this.service = service;
+        this.registry = registry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!config.isEnabled()) return;
+        var started = System.nanoTime();
+        ResultsPreloadService.Preload preload;
+        try {
+            preload = service.preload();
+        } catch (DataAccessException e) {
+            log.warn("Results preload failed, starting with a cold cache: {}", e.getMessage());
+            return;
+        }
+        var elapsed = System.nanoTime() - started;
+        TimeGauge.builder("cache.preload.duration", () -> elapsed, TimeUnit.NANOSECONDS)
+                .description("Time spent preloading election results before accepting traffic")
+                .register(registry);
+        Gauge.builder("cache.preload.elections", preload::elections)
+                .description("Elections whose results were preloaded into the cache")
+                .register(registry);
+        log.info("Preloaded results of {} of {} active elections ({} options) in {} ms{}",
+                preload.elections(), preload.active(), preload.options(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                preload.complete() ? "" : ", stopped at the configured limit");
+    }
+}
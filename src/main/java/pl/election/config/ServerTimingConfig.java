@@ -0,0 +1,16 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingConfig {
+
+    /** Send the per-request out-port breakdown to clients in a Server-Timing header. */
+    private boolean enabled;
+}
@@ -0,0 +1,16 @@
+package pl.election.config;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/** Matches unless {@code migration.mode=only}, whose run applies the schema and exits without serving. */
+class ServingCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return Binder.get(context.getEnvironment()).bind("migration.mode", MigrationConfig.Mode.class)
+                .orElse(MigrationConfig.Mode.STARTUP) != MigrationConfig.Mode.ONLY;
+    }
+}
@@ -0,0 +1,60 @@
+package pl.election.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import pl.election.adapter.out.votelog.MappedVoteLogRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compacts the vote log every {@code vote-log.compaction-interval} while a sealed segment still holds
+ * votes of a retired election, so the log is not rewritten when there is nothing to drop.
+ */
+@Slf4j
+public class VoteLogCompactor implements SmartLifecycle {
+
+    private final MappedVoteLogRepository voteLog;
+    private final Duration interval;
+    private volatile ScheduledExecutorService scheduler;
+
+    public VoteLogCompactor(MappedVoteLogRepository voteLog, Duration interval) {
+        this.voteLog = voteLog;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        if (!voteLog.hasRetiredElections()) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "vote-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::compact, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void compact() {
+        if (!voteLog.isCompactionDue()) return;
+        try {
+            voteLog.compact();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Vote log compaction failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler == null) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
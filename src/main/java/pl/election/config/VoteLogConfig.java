@@ -0,0 +1,26 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "vote-log")
+public class VoteLogConfig {
+
+    private Path directory = Path.of("data/vote-log");
+    private int segmentRecords = 1 << 20;
+    private Duration flushInterval = Duration.ofMillis(10);
+    /** Elections closed for good; their votes are dropped from sealed segments by the compactor. */
+    private List<UUID> retiredElections = new ArrayList<>();
+    private Duration compactionInterval = Duration.ofHours(1);
+}
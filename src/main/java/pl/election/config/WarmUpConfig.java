@@ -0,0 +1,19 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "warm-up")
+public class WarmUpConfig {
+
+    private boolean enabled = true;
+    private int iterations = 10_000;
+    private Duration maxDuration = Duration.ofSeconds(5);
+}
@@ -0,0 +1,51 @@
+package pl.election.config;
+
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.ElectionId;
+
+/**
+ * Drops whatever the warm-up thread records, so its synthetic calls never reach the vote counters, the
+ * arrival rate the autoscaler reads, or the port timers. Every other thread records as usual.
+ */
+final class WarmUpMetricsPort implements MetricsPort {
+
+    private final MetricsPort delegate;
+    private final ThreadLocal<Boolean> muted = ThreadLocal.withInitial(() -> false);
+
+    WarmUpMetricsPort(MetricsPort delegate) {
+        this.delegate = delegate;
+    }
+
+    void mute() {
+        muted.set(true);
+    }
+
+    void unmute() {
+        muted.remove();
+    }
+
+    @Override
+    public void recordVoteStarted() {
+        if (!muted.get()) delegate.recordVoteStarted();
+    }
+
+    @Override
+    public void recordVoteFinished() {
+        if (!muted.get()) delegate.recordVoteFinished();
+    }
+
+    @Override
+    public void recordVoteCast(ElectionId electionId, long durationNanos) {
+        if (!muted.get()) delegate.recordVoteCast(electionId, durationNanos);
+    }
+
+    @Override
+    public void recordResultsQuery(ElectionId electionId, long durationNanos) {
+        if (!muted.get()) delegate.recordResultsQuery(electionId, durationNanos);
+    }
+
+    @Override
+    public void recordPortCall(String port, String method, long durationNanos) {
+        if (!muted.get()) delegate.recordPortCall(port, method, durationNanos);
+    }
+}
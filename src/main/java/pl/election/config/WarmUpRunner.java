@@ -0,0 +1,159 @@
+package pl.election.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import pl.election.adapter.in.web.VotingController;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
+import pl.election.adapter.out.persistence.pool.Workload;
+import pl.election.adapter.out.persistence.pool.WorkloadRoutingDataSource;
+import pl.election.adapter.out.replica.ReplicaRoutingDataSource;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.in.VotingUseCase;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs before readiness flips to accepting traffic: opens every pool's idle connections, then replays
+ * castVote / getResults through the beans that serve requests: JSON parsing and validation, the
+ * {@link VotingController} over the decorated {@link VotingUseCase}, and JSON output. The vote names a
+ * voter that cannot exist, so it is rejected and nothing is written; results are read for the newest
+ * election, if there is one. Metrics recorded meanwhile are dropped by {@link WarmUpMetricsPort}. Stops after
+ * {@code warm-up.iterations} or {@code warm-up.max-duration}, whichever comes first.
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final UUID MISSING = new UUID(0, 0);
+    private static final byte[] UNKNOWN_VOTER =
+            ("{\"voterId\":\"" + MISSING + "\",\"votingOptionId\":\"" + MISSING + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final WarmUpConfig config;
+    private final ElectionUseCase electionUseCase;
+    private final VotingController votingController;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final WarmUpMetricsPort metrics;
+    private final DataSource dataSource;
+    private final MeterRegistry registry;
+
+    public WarmUpRunner(WarmUpConfig config, ElectionUseCase electionUseCase,
+                        VotingController votingController, ObjectMapper objectMapper, Validator validator,
+                        WarmUpMetricsPort metrics, DataSource dataSource, MeterRegistry registry) {
+        this.config = config;
+        this.electionUseCase = electionUseCase;
+        this.votingController = votingController;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.metrics = metrics;
+        this.dataSource = dataSource;
+        this.registry = registry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!config.isEnabled()) return;
+        var started = System.nanoTime();
+        var connections = openConnections();
+        var iterations = 0;
+        if (config.getIterations() > 0) {
+            var deadline = started + config.getMaxDuration().toNanos();
+            metrics.mute();
+            try {
+                var election = newestElection();
+                while (iterations < config.getIterations() && System.nanoTime() < deadline) {
+                    iteration(election);
+                    iterations++;
+                }
+            } finally {
+                metrics.unmute();
+            }
+        }
+        var elapsed = System.nanoTime() - started;
+        TimeGauge.builder("warmup.duration", () -> elapsed, TimeUnit.NANOSECONDS)
+                .description("Time spent warming up before accepting traffic")
+                .register(registry);
+        var completed = iterations;
+        Gauge.builder("warmup.iterations", () -> completed)
+                .description("Synthetic request iterations replayed during warm-up")
+                .register(registry);
+        log.info("Warm-up finished in {} ms: {} connections opened, {} iterations",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), connections, iterations);
+    }
+
+    private UUID newestElection() {
+        var newest = electionUseCase.getElectionSummaries(null, 1).summaries();
+        if (newest.isEmpty()) {
+            log.info("No election to read results from; warming up the vote path only");
+            return null;
+        }
+        return newest.getFirst().id().value();
+    }
+
+    private void iteration(UUID election) throws IOException {
+        var request = objectMapper.readValue(UNKNOWN_VOTER, CastVoteRequest.class);
+        if (!validator.validate(request).isEmpty()) throw new IllegalStateException("Invalid warm-up request");
+        var response = votingController.castVote(MISSING, request, null);
+        if (response.getStatusCode().is2xxSuccessful()) throw new IllegalStateException("Warm-up vote was accepted");
+        objectMapper.writeValueAsBytes(response.getBody());
+        if (election != null) objectMapper.writeValueAsBytes(votingController.getResults(election));
+    }
+
+    private int openConnections() {
+        if (dataSource == null) return 0;
+        var opened = 0;
+        for (var pool : pools()) {
+            var held = new ArrayList<Connection>();
+            try {
+                for (int i = 0; i < Math.max(1, pool.getMinimumIdle()); i++) held.add(pool.getConnection());
+            } catch (SQLException e) {
+                log.warn("Could not pre-open connections for pool {}: {}", pool.getPoolName(), e.getMessage());
+            } finally {
+                opened += held.size();
+                held.forEach(WarmUpRunner::closeQuietly);
+            }
+        }
+        return opened;
+    }
+
+    private List<HikariDataSource> pools() {
+        var pools = new ArrayList<DataSource>();
+        try {
+            if (dataSource.isWrapperFor(WorkloadRoutingDataSource.class)) {
+                var routing = dataSource.unwrap(WorkloadRoutingDataSource.class);
+                for (var workload : Workload.values()) pools.add(routing.pool(workload));
+            }
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                dataSource.unwrap(ReplicaRoutingDataSource.class).replicas().forEach(replica -> pools.add(replica.dataSource()));
+            }
+        } catch (SQLException e) {
+            log.warn("Could not resolve connection pools: {}", e.getMessage());
+        }
+        return pools.stream()
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .toList();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // returning a connection to the pool only fails if the pool is already closed
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package pl.election.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) { super(message); }
+}
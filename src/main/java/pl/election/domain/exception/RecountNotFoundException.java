@@ -0,0 +1,6 @@
+package pl.election.domain.exception;
+
+public class RecountNotFoundException extends RuntimeException {
+
+    public RecountNotFoundException(String message) { super(message); }
+}
@@ -0,0 +1,12 @@
+package pl.election.domain.model;
+
+import java.time.Instant;
+
+/** Listing row of an election; vote totals come from the results endpoint, which is served from the results cache. */
+public record ElectionSummary(ElectionId id, String name, Instant createdAt, long optionCount) {
+
+    public Cursor cursor() { return new Cursor(createdAt, id); }
+
+    /** Keyset position; summaries are listed newest first, ordered by {@code (createdAt, id)} descending. */
+    public record Cursor(Instant createdAt, ElectionId id) {}
+}
@@ -0,0 +1,4 @@
+-- Lets per-election id-range scans (audit recounts) run as index-only scans.
+CREATE INDEX idx_votes_election_id_id ON votes (election_id, id) INCLUDE (voting_option_id);
+
+DROP INDEX idx_votes_election_id;
@@ -0,0 +1,72 @@
+-- One LIST partition per election: vacuum and index maintenance stay local to an
+-- election, every vote query filters on election_id and is pruned to a single
+-- partition, and archived elections can be detached without touching the rest.
+ALTER TABLE votes RENAME TO votes_unpartitioned;
+ALTER INDEX idx_votes_election_id_id RENAME TO idx_votes_unpartitioned_election_id_id;
+ALTER INDEX idx_votes_voter_id RENAME TO idx_votes_unpartitioned_voter_id;
+ALTER INDEX idx_votes_voting_option_id RENAME TO idx_votes_unpartitioned_voting_option_id;
+
+CREATE TABLE votes (
+    id               UUID      NOT NULL,
+    voter_id         UUID      NOT NULL REFERENCES voters (id),
+    election_id      UUID      NOT NULL REFERENCES elections (id),
+    voting_option_id UUID      NOT NULL REFERENCES voting_options (id),
+    cast_at          TIMESTAMP NOT NULL,
+    PRIMARY KEY (election_id, id) INCLUDE (voting_option_id),
+    UNIQUE (voter_id, election_id)
+) PARTITION BY LIST (election_id);
+
+CREATE INDEX idx_votes_voting_option_id ON votes (voting_option_id);
+
+-- The partition is created standalone and then attached: ATTACH PARTITION only needs a
+-- SHARE UPDATE EXCLUSIVE lock on votes, so creating an election does not block vote traffic.
+CREATE FUNCTION create_votes_partition(p_election_id UUID) RETURNS VOID
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT := 'votes_' || replace(p_election_id::TEXT, '-', '');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE votes INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('ALTER TABLE votes ATTACH PARTITION %I FOR VALUES IN (%L)', partition_name, p_election_id);
+END;
+$$;
+
+CREATE FUNCTION elections_create_votes_partition() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM create_votes_partition(NEW.id);
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_elections_create_votes_partition
+    AFTER INSERT ON elections
+    FOR EACH ROW
+EXECUTE FUNCTION elections_create_votes_partition();
+
+SELECT create_votes_partition(id) FROM elections;
+
+INSERT INTO votes (id, voter_id, election_id, voting_option_id, cast_at)
+SELECT id, voter_id, election_id, voting_option_id, cast_at
+FROM votes_unpartitioned;
+
+DROP TABLE votes_unpartitioned;
+
+-- Detaches an election's partition and moves it to the archive schema. Takes an ACCESS
+-- EXCLUSIVE lock on votes; scripts/detach-election-partitions.sh uses DETACH ... CONCURRENTLY instead.
+CREATE FUNCTION detach_votes_partition(p_election_id UUID, p_archive_schema TEXT DEFAULT 'archive') RETURNS TEXT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT := 'votes_' || replace(p_election_id::TEXT, '-', '');
+BEGIN
+    EXECUTE format('ALTER TABLE votes DETACH PARTITION %I', partition_name);
+    EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', p_archive_schema);
+    EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, p_archive_schema);
+    RETURN p_archive_schema || '.' || partition_name;
+END;
+$$;
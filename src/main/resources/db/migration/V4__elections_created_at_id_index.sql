@@ -0,0 +1,2 @@
+-- Keyset pagination for the election summary listing: ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_elections_created_at_id ON elections (created_at, id);
@@ -0,0 +1,3 @@
+-- Finds elections with recent votes for the results cache preload. Votes are appended in
+-- cast_at order within each partition, so a BRIN index stays a few pages per partition.
+CREATE INDEX idx_votes_cast_at ON votes USING brin (cast_at);
@@ -0,0 +1,13 @@
+-- Votes accepted under a client's Idempotency-Key, so a retried submission is answered with the
+-- original vote instead of being cast again. Rows older than idempotency.retention are purged.
+CREATE TABLE idempotency_keys (
+    idempotency_key  VARCHAR(255) PRIMARY KEY,
+    vote_id          UUID      NOT NULL,
+    voter_id         UUID      NOT NULL,
+    election_id      UUID      NOT NULL,
+    voting_option_id UUID      NOT NULL,
+    cast_at          TIMESTAMP NOT NULL,
+    recorded_at      TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_recorded_at ON idempotency_keys (recorded_at);
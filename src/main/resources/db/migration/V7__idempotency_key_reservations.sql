@@ -0,0 +1,5 @@
+-- A key is reserved before its vote is cast and completed once the vote is stored, so a retry that
+-- lands on another instance, or follows a crash between the two writes, finds the reservation.
+ALTER TABLE idempotency_keys
+    ALTER COLUMN vote_id DROP NOT NULL,
+    ALTER COLUMN cast_at DROP NOT NULL;
@@ -0,0 +1,76 @@
+package pl.election.adapter.in.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.AdmissionLimiter.Limit;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.election.adapter.in.web.RequestPriority.BEST_EFFORT;
+import static pl.election.adapter.in.web.RequestPriority.CRITICAL;
+import static pl.election.adapter.in.web.RequestPriority.NORMAL;
+
+class AdmissionControlWebFilterTest {
+
+    private final AdmissionLimiter limiter = new AdmissionLimiter(Map.of(
+            CRITICAL, new Limit(1, Duration.ofMillis(20)),
+            NORMAL, new Limit(1, Duration.ZERO),
+            BEST_EFFORT, new Limit(0, Duration.ZERO)), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AdmissionControlWebFilter filter = new AdmissionControlWebFilter(limiter, Duration.ofSeconds(2),
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final AtomicInteger calls = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(calls::incrementAndGet);
+
+    @Test
+    void should_returnServiceUnavailableWithRetryAfter_when_requestShed() {
+        // given
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/elections"));
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(503);
+        assertThat(exchange.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("2");
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("SERVICE_OVERLOADED");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void should_releaseSlot_when_requestCompletes() {
+        // given
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/elections/42/votes"));
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void should_shedVoteOffEventLoop_when_queueTimeoutElapses() {
+        // given
+        limiter.tryAcquire(CRITICAL);
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/elections/42/votes"));
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(503);
+        assertThat(limiter.shedding()).contains(CRITICAL);
+        assertThat(calls).hasValue(0);
+    }
+}
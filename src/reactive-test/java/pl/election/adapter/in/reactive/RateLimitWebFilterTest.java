@@ -0,0 +1,61 @@
+package pl.election.adapter.in.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitWebFilterTest {
+
+    private final ClientRateLimiter rateLimiter = new ClientRateLimiter(1, 1, Duration.ofDays(1));
+    private final RateLimitWebFilter filter = new RateLimitWebFilter(rateLimiter,
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final AtomicInteger calls = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(calls::incrementAndGet);
+
+    @Test
+    void should_returnTooManyRequests_when_clientBucketIsEmpty() {
+        // given
+        filter.filter(exchange("10.0.0.1"), chain).block();
+        var exchange = exchange("10.0.0.1");
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(429);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("RATE_LIMIT_EXCEEDED");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_shareBucketWithOtherTransports_when_sameClientAddress() {
+        // given
+        rateLimiter.tryConsume("10.0.0.2");
+
+        var exchange = exchange("10.0.0.2");
+
+        // when
+        filter.filter(exchange, chain).block();
+        filter.filter(exchange("10.0.0.3"), chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(429);
+        assertThat(calls).hasValue(1);
+    }
+
+    private static MockServerWebExchange exchange(String clientAddress) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/elections/42/votes")
+                .remoteAddress(new InetSocketAddress(clientAddress, 50000)));
+    }
+}
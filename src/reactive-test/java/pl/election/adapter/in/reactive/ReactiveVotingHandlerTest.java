@@ -0,0 +1,201 @@
+package pl.election.adapter.in.reactive;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.IdempotentVotingUseCase.IdempotentOutcome;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveVotingHandlerTest {
+
+    private static final UUID ELECTION_UUID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID VOTER_UUID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID OPTION_UUID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Mock
+    private ReactiveVotingUseCase votingUseCase;
+    @Mock
+    private IdempotentVotingUseCase idempotentVotingUseCase;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        var handler = new ReactiveVotingHandler(votingUseCase, idempotentVotingUseCase, new ElectionWebMapperImpl(), validator);
+        client = WebTestClient.bindToRouterFunction(handler.routes()).build();
+    }
+
+    @Test
+    void should_returnCreated_when_validVote() {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID), Instant.now());
+        given(votingUseCase.castVote(VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID), VotingOptionId.of(OPTION_UUID)))
+                .willReturn(completedFuture(vote));
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(VOTER_UUID, OPTION_UUID))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(vote.id().value().toString())
+                .jsonPath("$.votingOptionId").isEqualTo(OPTION_UUID.toString());
+    }
+
+    @Test
+    void should_returnConflict_when_duplicateVote() {
+        // given
+        given(votingUseCase.castVote(any(), any(), any()))
+                .willReturn(failedFuture(new DuplicateVoteException("Voter already voted in this election")));
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(VOTER_UUID, OPTION_UUID))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("DUPLICATE_VOTE")
+                .jsonPath("$.path").isEqualTo("/api/elections/" + ELECTION_UUID + "/votes");
+    }
+
+    @Test
+    void should_returnBadRequest_when_voterIdMissing() {
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"votingOptionId\":\"" + OPTION_UUID + "\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.message").isEqualTo("voterId: must not be null");
+        then(votingUseCase).should(never()).castVote(any(), any(), any());
+    }
+
+    @Test
+    void should_returnBadRequest_when_bodyIsMalformed() {
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"voterId\":")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void should_returnResults_when_electionExists() {
+        // given
+        given(votingUseCase.getResults(ElectionId.of(ELECTION_UUID))).willReturn(completedFuture(new ElectionResults(
+                ElectionId.of(ELECTION_UUID), "Test Election", List.of(new OptionResult(VotingOptionId.of(OPTION_UUID), "Option A", 5)))));
+
+        // when / then
+        client.get().uri("/api/elections/{id}/results", ELECTION_UUID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.electionName").isEqualTo("Test Election")
+                .jsonPath("$.totalVotes").isEqualTo(5);
+    }
+
+    @Test
+    void should_returnNotFound_when_electionDoesNotExist() {
+        // given
+        given(votingUseCase.getResults(any())).willReturn(failedFuture(new ElectionNotFoundException("Election not found")));
+
+        // when / then
+        client.get().uri("/api/elections/{id}/results", ELECTION_UUID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("ELECTION_NOT_FOUND");
+    }
+
+    @Test
+    void should_returnBadRequest_when_electionIdIsNotUuid() {
+        // when / then
+        client.get().uri("/api/elections/not-a-uuid/results")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void should_replayVote_when_idempotencyKeyWasUsedBefore() {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID), Instant.now());
+        given(idempotentVotingUseCase.tryCastVote("key-1", VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID))).willReturn(new IdempotentOutcome(new Accepted(vote), true));
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(VOTER_UUID, OPTION_UUID))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(vote.id().value().toString());
+        then(votingUseCase).should(never()).castVote(any(), any(), any());
+    }
+
+    @Test
+    void should_returnConflict_when_idempotentVoteRejected() {
+        // given
+        given(idempotentVotingUseCase.tryCastVote(any(), any(), any(), any()))
+                .willReturn(new IdempotentOutcome(Rejected.DUPLICATE_VOTE, false));
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", ELECTION_UUID)
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(VOTER_UUID, OPTION_UUID))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().doesNotExist("Idempotent-Replayed")
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("DUPLICATE_VOTE");
+    }
+
+    private static String castVoteRequest(UUID voterId, UUID optionId) {
+        return "{\"voterId\":\"" + voterId + "\",\"votingOptionId\":\"" + optionId + "\"}";
+    }
+}
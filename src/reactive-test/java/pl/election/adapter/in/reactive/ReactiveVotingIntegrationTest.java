@@ -0,0 +1,129 @@
+package pl.election.adapter.in.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import pl.election.SharedPostgresContainer;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.in.VoterUseCase;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.config.ReactiveServerLifecycle;
+import pl.election.domain.model.ElectionId;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** The reactive stack against PostgreSQL through the R2DBC adapters, next to the servlet stack in one context. */
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveVotingIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = SharedPostgresContainer.getInstance();
+
+    @Autowired
+    private ReactiveServerLifecycle server;
+    @Autowired
+    private VoterUseCase voterUseCase;
+    @Autowired
+    private ElectionUseCase electionUseCase;
+    @Autowired
+    private VotingUseCase votingUseCase;
+
+    private WebTestClient client;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+    }
+
+    @Test
+    void should_castVoteAndGetResults_when_allValid() {
+        // given
+        var voter = voterUseCase.createVoter("Jan Kowalski", "jan-reactive@example.com");
+        var election = electionUseCase.createElection("Reactive Election");
+        var option = electionUseCase.addVotingOption(election.id(), "Option Alpha");
+
+        // when
+        client.post().uri("/api/elections/{id}/votes", election.id().value())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(voter.id().value(), option.id().value()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.voterId").isEqualTo(voter.id().value().toString());
+
+        // then
+        client.get().uri("/api/elections/{id}/results", election.id().value())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalVotes").isEqualTo(1)
+                .jsonPath("$.results[0].optionName").isEqualTo("Option Alpha");
+        assertThat(votingUseCase.getResults(election.id()).results().getFirst().voteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_returnConflict_when_voterVotesTwice() {
+        // given
+        var voter = voterUseCase.createVoter("Anna Nowak", "anna-reactive@example.com");
+        var election = electionUseCase.createElection("Reactive Duplicate Election");
+        var option = electionUseCase.addVotingOption(election.id(), "Option Beta");
+        votingUseCase.castVote(voter.id(), election.id(), option.id());
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", election.id().value())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(voter.id().value(), option.id().value()))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("DUPLICATE_VOTE");
+    }
+
+    @Test
+    void should_returnConflict_when_voterBlocked() {
+        // given
+        var voter = voterUseCase.createVoter("Piotr Wisniewski", "piotr-reactive@example.com");
+        voterUseCase.blockVoter(voter.id());
+        var election = electionUseCase.createElection("Reactive Blocked Election");
+        var option = electionUseCase.addVotingOption(election.id(), "Option Gamma");
+
+        // when / then
+        client.post().uri("/api/elections/{id}/votes", election.id().value())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(castVoteRequest(voter.id().value(), option.id().value()))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VOTER_BLOCKED");
+    }
+
+    @Test
+    void should_returnNotFound_when_electionDoesNotExist() {
+        // when / then
+        client.get().uri("/api/elections/{id}/results", ElectionId.generate().value())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("ELECTION_NOT_FOUND");
+    }
+
+    private static String castVoteRequest(UUID voterId, UUID optionId) {
+        return "{\"voterId\":\"" + voterId + "\",\"votingOptionId\":\"" + optionId + "\"}";
+    }
+}
@@ -0,0 +1,78 @@
+package pl.election.adapter.out.r2dbc;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+
+class R2dbcVoteRepositoryTest {
+
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final R2dbcVoteRepository repository = new R2dbcVoteRepository(DatabaseClient.builder()
+            .connectionFactory(connectionFactory)
+            .bindMarkers(BindMarkersFactory.indexed("$", 1))
+            .build());
+
+    @BeforeEach
+    void setUp() {
+        willReturn(Mono.just(connection)).given(connectionFactory).create();
+        willReturn(Mono.empty()).given(connection).close();
+        given(connection.createStatement(anyString())).willReturn(statement);
+        given(statement.bind(anyInt(), any())).willReturn(statement);
+    }
+
+    @Test
+    void should_throwElectionNotFound_when_electionPartitionIsDetached() {
+        // given
+        var vote = vote();
+        willReturn(Mono.error(new R2dbcDataIntegrityViolationException(
+                "no partition of relation \"votes\" found for row", "23514"))).given(statement).execute();
+
+        // when / then
+        assertThatThrownBy(() -> repository.save(vote).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ElectionNotFoundException.class)
+                .hasRootCauseMessage("Election not found: " + vote.electionId().value());
+    }
+
+    @Test
+    void should_throwDuplicateVote_when_uniqueConstraintViolated() {
+        // given
+        willReturn(Mono.error(new R2dbcDataIntegrityViolationException(
+                "duplicate key value violates unique constraint", "23505"))).given(statement).execute();
+
+        // when / then
+        assertThatThrownBy(() -> repository.save(vote()).toCompletableFuture().join())
+                .hasCauseInstanceOf(DuplicateVoteException.class);
+    }
+
+    private static Vote vote() {
+        return Vote.cast(VoteId.generate(), VoterId.generate(), ElectionId.generate(), VotingOptionId.generate(),
+                Instant.parse("2025-01-15T10:00:00Z"));
+    }
+}
@@ -0,0 +1,101 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.out.CachePort;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReactiveVotingServiceTest {
+
+    @Mock
+    private ReactiveVotingUseCase delegate;
+    @Mock
+    private CachePort cachePort;
+    @InjectMocks
+    private CachingReactiveVotingService cachingService;
+
+    private static final VoterId VOTER_ID = VoterId.generate();
+    private static final ElectionId ELECTION_ID = ElectionId.generate();
+    private static final VotingOptionId OPTION_ID = VotingOptionId.generate();
+
+    @Test
+    void should_evictCache_when_voteIsCast() {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
+        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(completedFuture(vote));
+
+        // when
+        var result = cachingService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID).toCompletableFuture().join();
+
+        // then
+        assertThat(result).isEqualTo(vote);
+        then(cachePort).should().evictResults(ELECTION_ID);
+    }
+
+    @Test
+    void should_keepCache_when_voteIsRejected() {
+        // given
+        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID))
+                .willReturn(failedFuture(new DuplicateVoteException("Voter already voted in this election")));
+
+        // when
+        var result = cachingService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID).toCompletableFuture();
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        then(cachePort).should(never()).evictResults(any());
+    }
+
+    @Test
+    void should_returnCachedResults_when_cacheHit() {
+        // given
+        var cached = new ElectionResults(ELECTION_ID, "Election", List.of(new OptionResult(OPTION_ID, "Option A", 5L)));
+        given(cachePort.getResults(ELECTION_ID)).willReturn(Optional.of(cached));
+
+        // when
+        var result = cachingService.getResults(ELECTION_ID).toCompletableFuture().join();
+
+        // then
+        assertThat(result).isEqualTo(cached);
+        then(delegate).should(never()).getResults(any());
+    }
+
+    @Test
+    void should_cacheResults_when_cacheMiss() {
+        // given
+        var fresh = new ElectionResults(ELECTION_ID, "Election", List.of(new OptionResult(OPTION_ID, "Option A", 5L)));
+        given(cachePort.getResults(ELECTION_ID)).willReturn(Optional.empty());
+        given(delegate.getResults(ELECTION_ID)).willReturn(completedFuture(fresh));
+
+        // when
+        var result = cachingService.getResults(ELECTION_ID).toCompletableFuture().join();
+
+        // then
+        assertThat(result).isEqualTo(fresh);
+        then(cachePort).should().putResults(ELECTION_ID, fresh);
+    }
+}
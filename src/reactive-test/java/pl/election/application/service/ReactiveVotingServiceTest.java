@@ -0,0 +1,188 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.IdGeneratorPort;
+import pl.election.application.port.out.ReactiveElectionRepository;
+import pl.election.application.port.out.ReactiveVoteRepository;
+import pl.election.application.port.out.ReactiveVoterRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.VoterBlockedException;
+import pl.election.domain.exception.VoterNotFoundException;
+import pl.election.domain.exception.VotingOptionNotFoundException;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveVotingServiceTest {
+
+    @Mock
+    private ReactiveVoterRepository voterRepository;
+    @Mock
+    private ReactiveElectionRepository electionRepository;
+    @Mock
+    private ReactiveVoteRepository voteRepository;
+    @Mock
+    private IdGeneratorPort idGenerator;
+    @Mock
+    private ClockPort clock;
+    @InjectMocks
+    private ReactiveVotingService votingService;
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Test
+    void should_castVote_when_allValid() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(completedFuture(Optional.of(voter)));
+        given(electionRepository.findById(election.id())).willReturn(completedFuture(Optional.of(election)));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(completedFuture(false));
+        given(idGenerator.generateVoteId()).willReturn(VoteId.generate());
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.save(any(Vote.class))).willAnswer(inv -> completedFuture(inv.getArgument(0)));
+
+        // when
+        var vote = join(votingService.castVote(voter.id(), election.id(), optionId));
+
+        // then
+        assertThat(vote)
+                .extracting(Vote::voterId, Vote::electionId, Vote::votingOptionId, Vote::castAt)
+                .containsExactly(voter.id(), election.id(), optionId, NOW);
+    }
+
+    @Test
+    void should_failWithVoterNotFound_when_voterMissing() {
+        // given
+        var voterId = VoterId.generate();
+        given(voterRepository.findById(voterId)).willReturn(completedFuture(Optional.empty()));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.castVote(voterId, ElectionId.generate(), VotingOptionId.generate())))
+                .isInstanceOf(VoterNotFoundException.class)
+                .hasMessageContaining(voterId.value().toString());
+    }
+
+    @Test
+    void should_notLoadElection_when_voterBlocked() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW).block();
+        given(voterRepository.findById(voter.id())).willReturn(completedFuture(Optional.of(voter)));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.castVote(voter.id(), ElectionId.generate(), VotingOptionId.generate())))
+                .isInstanceOf(VoterBlockedException.class);
+        then(electionRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void should_failWithElectionNotFound_when_electionMissing() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var electionId = ElectionId.generate();
+        given(voterRepository.findById(voter.id())).willReturn(completedFuture(Optional.of(voter)));
+        given(electionRepository.findById(electionId)).willReturn(completedFuture(Optional.empty()));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.castVote(voter.id(), electionId, VotingOptionId.generate())))
+                .isInstanceOf(ElectionNotFoundException.class);
+    }
+
+    @Test
+    void should_failWithVotingOptionNotFound_when_optionInvalid() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW);
+        given(voterRepository.findById(voter.id())).willReturn(completedFuture(Optional.of(voter)));
+        given(electionRepository.findById(election.id())).willReturn(completedFuture(Optional.of(election)));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.castVote(voter.id(), election.id(), VotingOptionId.generate())))
+                .isInstanceOf(VotingOptionNotFoundException.class);
+    }
+
+    @Test
+    void should_notSaveVote_when_alreadyVoted() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(completedFuture(Optional.of(voter)));
+        given(electionRepository.findById(election.id())).willReturn(completedFuture(Optional.of(election)));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(completedFuture(true));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.castVote(voter.id(), election.id(), optionId)))
+                .isInstanceOf(DuplicateVoteException.class);
+        then(voteRepository).should(never()).save(any());
+    }
+
+    @Test
+    void should_returnResults_when_electionExists() {
+        // given
+        var optionAId = VotingOptionId.generate();
+        var optionBId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionAId, "Candidate A"))
+                .addVotingOption(VotingOption.create(optionBId, "Candidate B"));
+        given(electionRepository.findById(election.id())).willReturn(completedFuture(Optional.of(election)));
+        given(voteRepository.countByElectionIdGroupByOption(election.id()))
+                .willReturn(completedFuture(Map.of(optionAId, 3L)));
+
+        // when
+        var results = join(votingService.getResults(election.id()));
+
+        // then
+        assertThat(results.electionName()).isEqualTo("Mayor Election 2025");
+        assertThat(results.results()).extracting("voteCount").containsExactly(3L, 0L);
+    }
+
+    @Test
+    void should_failWithElectionNotFound_when_gettingResultsForNonExistent() {
+        // given
+        var electionId = ElectionId.generate();
+        given(electionRepository.findById(electionId)).willReturn(completedFuture(Optional.empty()));
+
+        // when / then
+        assertThatThrownBy(() -> join(votingService.getResults(electionId)))
+                .isInstanceOf(ElectionNotFoundException.class);
+        then(voteRepository).should(never()).countByElectionIdGroupByOption(any());
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
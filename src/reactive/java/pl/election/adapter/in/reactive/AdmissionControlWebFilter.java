@@ -0,0 +1,52 @@
+package pl.election.adapter.in.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.ErrorCode;
+import pl.election.adapter.in.web.RequestPriority;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * {@code AdmissionControlFilter} for the reactive server, sharing its in-flight count. A free slot is
+ * taken on the event loop; waiting for one in a class's queue happens on a bounded elastic thread.
+ */
+public class AdmissionControlWebFilter implements WebFilter {
+
+    private final AdmissionLimiter admissionLimiter;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlWebFilter(AdmissionLimiter admissionLimiter, Duration retryAfter, ObjectMapper objectMapper) {
+        this.admissionLimiter = admissionLimiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var path = exchange.getRequest().getPath().value();
+        if (!path.startsWith("/api/")) return chain.filter(exchange);
+        var priority = RequestPriority.of(exchange.getRequest().getMethod().name(), path);
+        if (admissionLimiter.tryAcquireNow(priority)) return admitted(exchange, chain);
+        return Mono.fromCallable(() -> admissionLimiter.tryAcquire(priority))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(admitted -> admitted ? admitted(exchange, chain) : shed(exchange));
+    }
+
+    private Mono<Void> admitted(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange).doFinally(signal -> admissionLimiter.release());
+    }
+
+    private Mono<Void> shed(ServerWebExchange exchange) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        return ApiErrorResponses.write(exchange, ErrorCode.SERVICE_OVERLOADED, "Server is overloaded, retry later",
+                objectMapper);
+    }
+}
@@ -0,0 +1,33 @@
+package pl.election.adapter.in.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+import pl.election.adapter.in.web.ErrorCode;
+import pl.election.adapter.in.web.dto.ApiError;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/** Writes the {@link ApiError} body a servlet filter would, for web filters that answer without a handler. */
+final class ApiErrorResponses {
+
+    private ApiErrorResponses() {
+    }
+
+    static Mono<Void> write(ServerWebExchange exchange, ErrorCode code, String message, ObjectMapper objectMapper) {
+        var response = exchange.getResponse();
+        var error = new ApiError(Instant.now(), code.status().value(), code.name(), message,
+                exchange.getRequest().getPath().value());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(code.status());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,29 @@
+package pl.election.adapter.in.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import pl.election.adapter.in.web.ErrorCode;
+import reactor.core.publisher.Mono;
+
+/** {@code RateLimitFilter} for the reactive server, drawing from the same per-client buckets. */
+public class RateLimitWebFilter implements WebFilter {
+
+    private final ClientRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitWebFilter(ClientRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var address = exchange.getRequest().getRemoteAddress();
+        var client = address == null || address.getAddress() == null ? "unknown" : address.getAddress().getHostAddress();
+        if (rateLimiter.tryConsume(client)) return chain.filter(exchange);
+        return ApiErrorResponses.write(exchange, ErrorCode.RATE_LIMIT_EXCEEDED, "Rate limit exceeded", objectMapper);
+    }
+}
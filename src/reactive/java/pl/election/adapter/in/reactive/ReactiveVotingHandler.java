@@ -0,0 +1,134 @@
+package pl.election.adapter.in.reactive;
+
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import pl.election.adapter.in.web.ErrorCode;
+import pl.election.adapter.in.web.VotingController;
+import pl.election.adapter.in.web.dto.ApiError;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
+import pl.election.adapter.in.web.mapper.ElectionWebMapper;
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.in.VoteOutcome;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.joining;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * WebFlux counterpart of {@code VotingController} for the {@code reactive} profile: same paths, bodies,
+ * status codes and {@link ApiError} responses, served without a thread per request. A vote with an
+ * {@code Idempotency-Key} goes through {@link IdempotentVotingUseCase}, whose key store is JDBC, so it
+ * runs on a bounded elastic thread.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveVotingHandler {
+
+    private final ReactiveVotingUseCase votingUseCase;
+    private final IdempotentVotingUseCase idempotentVotingUseCase;
+    private final ElectionWebMapper mapper;
+    private final Validator validator;
+
+    public RouterFunction<ServerResponse> routes() {
+        return route(POST("/api/elections/{electionId}/votes"), this::castVote)
+                .andRoute(GET("/api/elections/{electionId}/results"), this::getResults);
+    }
+
+    Mono<ServerResponse> castVote(ServerRequest request) {
+        var idempotencyKey = request.headers().firstHeader(VotingController.IDEMPOTENCY_KEY);
+        if (idempotencyKey != null) return castVote(request, idempotencyKey);
+        return Mono.fromSupplier(() -> electionId(request))
+                .flatMap(electionId -> request.bodyToMono(CastVoteRequest.class)
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+                        .map(this::validate)
+                        .flatMap(body -> Mono.fromCompletionStage(() -> votingUseCase.castVote(
+                                VoterId.of(body.voterId()), electionId, VotingOptionId.of(body.votingOptionId())))))
+                .flatMap(vote -> ServerResponse.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(mapper.toVoteResponse(vote)))
+                .onErrorResume(e -> error(request, e));
+    }
+
+    private Mono<ServerResponse> castVote(ServerRequest request, String idempotencyKey) {
+        return Mono.fromSupplier(() -> electionId(request))
+                .flatMap(electionId -> request.bodyToMono(CastVoteRequest.class)
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+                        .map(this::validate)
+                        .flatMap(body -> Mono.fromCallable(() -> idempotentVotingUseCase.tryCastVote(idempotencyKey,
+                                        VoterId.of(body.voterId()), electionId, VotingOptionId.of(body.votingOptionId())))
+                                .subscribeOn(Schedulers.boundedElastic())))
+                .flatMap(result -> switch (result.outcome()) {
+                    case VoteOutcome.Accepted(var vote) -> {
+                        var response = ServerResponse.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON);
+                        if (result.replayed()) response.header(VotingController.IDEMPOTENT_REPLAYED, "true");
+                        yield response.bodyValue(mapper.toVoteResponse(vote));
+                    }
+                    case VoteOutcome.Rejected rejected -> rejection(request, ErrorCode.of(rejected), rejected.message());
+                })
+                .onErrorResume(e -> error(request, e));
+    }
+
+    Mono<ServerResponse> getResults(ServerRequest request) {
+        return Mono.fromSupplier(() -> electionId(request))
+                .flatMap(electionId -> Mono.fromCompletionStage(() -> votingUseCase.getResults(electionId)))
+                .flatMap(results -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(mapper.toResultsResponse(results)))
+                .onErrorResume(e -> error(request, e));
+    }
+
+    private static ElectionId electionId(ServerRequest request) {
+        return ElectionId.of(UUID.fromString(request.pathVariable("electionId")));
+    }
+
+    private CastVoteRequest validate(CastVoteRequest body) {
+        var violations = validator.validate(body);
+        if (!violations.isEmpty())
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(joining(", ")));
+        return body;
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, Throwable e) {
+        var code = e instanceof ServerWebInputException || e instanceof DecodingException
+                ? ErrorCode.VALIDATION_ERROR
+                : ErrorCode.of(e);
+        var message = e.getMessage();
+        if (code == ErrorCode.INTERNAL_ERROR) {
+            var correlationId = UUID.randomUUID().toString();
+            log.error("Unhandled exception [correlationId={}]", correlationId, e);
+            message = "Internal server error [" + correlationId + "]";
+        }
+        return rejection(request, code, message);
+    }
+
+    private static Mono<ServerResponse> rejection(ServerRequest request, ErrorCode code, String message) {
+        return ServerResponse.status(code.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ApiError(Instant.now(), code.status().value(), code.name(), message, request.path()));
+    }
+}
@@ -0,0 +1,60 @@
+package pl.election.adapter.out.r2dbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.ReactiveElectionRepository;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcElectionRepository implements ReactiveElectionRepository {
+
+    /** One round trip for the election and its options; an election without options yields one row of NULLs. */
+    private static final String FIND_BY_ID = """
+            SELECT e.name, e.created_at, o.id AS option_id, o.name AS option_name
+            FROM elections e LEFT JOIN voting_options o ON o.election_id = e.id
+            WHERE e.id = :id
+            """;
+
+    private final DatabaseClient client;
+
+    @Override
+    public CompletionStage<Optional<Election>> findById(ElectionId id) {
+        return client.sql(FIND_BY_ID)
+                .bind("id", id.value())
+                .map(row -> new Row(
+                        row.get("name", String.class),
+                        row.get("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                        row.get("option_id", UUID.class),
+                        row.get("option_name", String.class)))
+                .all()
+                .collectList()
+                .map(rows -> rows.isEmpty() ? Optional.<Election>empty() : Optional.of(toElection(id, rows)))
+                .toFuture();
+    }
+
+    private static Election toElection(ElectionId id, List<Row> rows) {
+        var options = rows.stream()
+                .filter(row -> row.optionId() != null)
+                .map(row -> VotingOption.reconstitute(VotingOptionId.of(row.optionId()), row.optionName()))
+                .toList();
+        var first = rows.getFirst();
+        return Election.reconstitute(id, first.name(), options, first.createdAt());
+    }
+
+    private record Row(String name, Instant createdAt, UUID optionId, String optionName) {}
+}
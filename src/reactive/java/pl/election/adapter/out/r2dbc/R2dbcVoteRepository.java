@@ -0,0 +1,87 @@
+package pl.election.adapter.out.r2dbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.ReactiveVoteRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The statements of {@code VoteRepositoryAdapter} over R2DBC. A concurrent duplicate still fails on the
+ * {@code (voter_id, election_id)} constraint and surfaces as {@link DuplicateVoteException}; a vote for an
+ * election whose partition was detached surfaces as {@link ElectionNotFoundException}.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcVoteRepository implements ReactiveVoteRepository {
+
+    private static final String INSERT_VOTE = """
+            INSERT INTO votes (id, voter_id, election_id, voting_option_id, cast_at)
+            VALUES (:id, :voterId, :electionId, :votingOptionId, :castAt)
+            """;
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM votes WHERE voter_id = :voterId AND election_id = :electionId)";
+    private static final String COUNT_BY_OPTION =
+            "SELECT voting_option_id, COUNT(*) AS votes FROM votes WHERE election_id = :electionId GROUP BY voting_option_id";
+    /** Raised by PostgreSQL as "no partition of relation votes found for row"; votes have no CHECK constraints. */
+    private static final String CHECK_VIOLATION = "23514";
+
+    private final DatabaseClient client;
+
+    @Override
+    public CompletionStage<Vote> save(Vote vote) {
+        return client.sql(INSERT_VOTE)
+                .bind("id", vote.id().value())
+                .bind("voterId", vote.voterId().value())
+                .bind("electionId", vote.electionId().value())
+                .bind("votingOptionId", vote.votingOptionId().value())
+                .bind("castAt", LocalDateTime.ofInstant(vote.castAt(), ZoneOffset.UTC))
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(vote)
+                .onErrorMap(DuplicateKeyException.class, e -> new DuplicateVoteException("Voter already voted in this election"))
+                .onErrorMap(DataIntegrityViolationException.class, e -> isCheckViolation(e)
+                        ? new ElectionNotFoundException("Election not found: " + vote.electionId().value())
+                        : e)
+                .toFuture();
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId) {
+        return client.sql(EXISTS)
+                .bind("voterId", voterId.value())
+                .bind("electionId", electionId.value())
+                .map(row -> row.get(0, Boolean.class))
+                .one()
+                .toFuture();
+    }
+
+    @Override
+    public CompletionStage<Map<VotingOptionId, Long>> countByElectionIdGroupByOption(ElectionId electionId) {
+        return client.sql(COUNT_BY_OPTION)
+                .bind("electionId", electionId.value())
+                .map(row -> Map.entry(VotingOptionId.of(row.get("voting_option_id", UUID.class)), row.get("votes", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .toFuture();
+    }
+
+    private static boolean isCheckViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof R2dbcException cause && CHECK_VIOLATION.equals(cause.getSqlState());
+    }
+}
@@ -0,0 +1,42 @@
+package pl.election.adapter.out.r2dbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pl.election.application.port.out.ReactiveVoterRepository;
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VoterStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcVoterRepository implements ReactiveVoterRepository {
+
+    private static final String FIND_BY_ID = "SELECT id, name, email, status, created_at FROM voters WHERE id = :id";
+
+    private final DatabaseClient client;
+
+    @Override
+    public CompletionStage<Optional<Voter>> findById(VoterId id) {
+        return client.sql(FIND_BY_ID)
+                .bind("id", id.value())
+                .map(row -> Voter.reconstitute(
+                        VoterId.of(row.get("id", UUID.class)),
+                        row.get("name", String.class),
+                        row.get("email", String.class),
+                        VoterStatus.valueOf(row.get("status", String.class)),
+                        row.get("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC)))
+                .one()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+}
@@ -0,0 +1,19 @@
+package pl.election.application.port.in;
+
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking counterpart of {@link VotingUseCase}: same rules, but no thread waits for the database.
+ * Failures complete the stage exceptionally with the same domain exceptions.
+ */
+public interface ReactiveVotingUseCase {
+
+    CompletionStage<Vote> castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId);
+
+    CompletionStage<ElectionResults> getResults(ElectionId electionId);
+}
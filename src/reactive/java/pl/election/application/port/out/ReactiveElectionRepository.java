@@ -0,0 +1,12 @@
+package pl.election.application.port.out;
+
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+public interface ReactiveElectionRepository {
+
+    CompletionStage<Optional<Election>> findById(ElectionId id);
+}
@@ -0,0 +1,18 @@
+package pl.election.application.port.out;
+
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+public interface ReactiveVoteRepository {
+
+    CompletionStage<Vote> save(Vote vote);
+
+    CompletionStage<Boolean> existsByVoterIdAndElectionId(VoterId voterId, ElectionId electionId);
+
+    CompletionStage<Map<VotingOptionId, Long>> countByElectionIdGroupByOption(ElectionId electionId);
+}
@@ -0,0 +1,12 @@
+package pl.election.application.port.out;
+
+import pl.election.domain.model.Voter;
+import pl.election.domain.model.VoterId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+public interface ReactiveVoterRepository {
+
+    CompletionStage<Optional<Voter>> findById(VoterId id);
+}
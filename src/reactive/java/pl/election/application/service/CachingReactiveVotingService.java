@@ -0,0 +1,41 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.out.CachePort;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/** {@link CachingVotingService} for the reactive path; both share one results cache. */
+@RequiredArgsConstructor
+public class CachingReactiveVotingService implements ReactiveVotingUseCase {
+
+    private final ReactiveVotingUseCase delegate;
+    private final CachePort cachePort;
+
+    @Override
+    public CompletionStage<Vote> castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        return delegate.castVote(voterId, electionId, votingOptionId)
+                .thenApply(vote -> {
+                    cachePort.evictResults(electionId);
+                    return vote;
+                });
+    }
+
+    @Override
+    public CompletionStage<ElectionResults> getResults(ElectionId electionId) {
+        return cachePort.getResults(electionId)
+                .<CompletionStage<ElectionResults>>map(CompletableFuture::completedFuture)
+                .orElseGet(() -> delegate.getResults(electionId)
+                        .thenApply(results -> {
+                            cachePort.putResults(electionId, results);
+                            return results;
+                        }));
+    }
+}
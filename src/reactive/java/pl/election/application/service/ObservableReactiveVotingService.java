@@ -0,0 +1,46 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.concurrent.CompletionStage;
+
+/** {@link ObservableVotingService} for the reactive path, timed until the stage completes. */
+@RequiredArgsConstructor
+public class ObservableReactiveVotingService implements ReactiveVotingUseCase {
+
+    private final ReactiveVotingUseCase delegate;
+    private final MetricsPort metricsPort;
+
+    @Override
+    public CompletionStage<Vote> castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        metricsPort.recordVoteStarted();
+        var start = System.nanoTime();
+        CompletionStage<Vote> stage;
+        try {
+            stage = delegate.castVote(voterId, electionId, votingOptionId);
+        } catch (RuntimeException e) {
+            metricsPort.recordVoteFinished();
+            throw e;
+        }
+        return stage.whenComplete((vote, error) -> {
+            metricsPort.recordVoteFinished();
+            if (error == null) metricsPort.recordVoteCast(electionId, System.nanoTime() - start);
+        });
+    }
+
+    @Override
+    public CompletionStage<ElectionResults> getResults(ElectionId electionId) {
+        var start = System.nanoTime();
+        return delegate.getResults(electionId)
+                .whenComplete((results, error) -> {
+                    if (error == null) metricsPort.recordResultsQuery(electionId, System.nanoTime() - start);
+                });
+    }
+}
@@ -0,0 +1,68 @@
+package pl.election.application.service;
+
+import lombok.RequiredArgsConstructor;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.IdGeneratorPort;
+import pl.election.application.port.out.ReactiveElectionRepository;
+import pl.election.application.port.out.ReactiveVoteRepository;
+import pl.election.application.port.out.ReactiveVoterRepository;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.VoterBlockedException;
+import pl.election.domain.exception.VoterNotFoundException;
+import pl.election.domain.exception.VotingOptionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.util.concurrent.CompletionStage;
+
+/** The rules of {@link VotingService}, checked in the same order, over non-blocking ports. */
+@RequiredArgsConstructor
+public class ReactiveVotingService implements ReactiveVotingUseCase {
+
+    private final ReactiveVoterRepository voterRepository;
+    private final ReactiveElectionRepository electionRepository;
+    private final ReactiveVoteRepository voteRepository;
+    private final IdGeneratorPort idGenerator;
+    private final ClockPort clock;
+
+    @Override
+    public CompletionStage<Vote> castVote(VoterId voterId, ElectionId electionId, VotingOptionId votingOptionId) {
+        return voterRepository.findById(voterId)
+                .thenCompose(found -> {
+                    var voter = found.orElseThrow(() -> new VoterNotFoundException("Voter not found: " + voterId.value()));
+                    if (voter.isBlocked())
+                        throw new VoterBlockedException("Voter is blocked: " + voterId.value());
+                    return electionRepository.findById(electionId);
+                })
+                .thenCompose(found -> {
+                    var election = found.orElseThrow(
+                            () -> new ElectionNotFoundException("Election not found: " + electionId.value()));
+                    if (!election.hasOption(votingOptionId))
+                        throw new VotingOptionNotFoundException("Voting option not found: " + votingOptionId.value());
+                    return voteRepository.existsByVoterIdAndElectionId(voterId, electionId);
+                })
+                .thenCompose(exists -> {
+                    if (exists)
+                        throw new DuplicateVoteException("Voter already voted in this election");
+                    var voteId = idGenerator.generateVoteId();
+                    var now = clock.now();
+                    return voteRepository.save(Vote.cast(voteId, voterId, electionId, votingOptionId, now));
+                });
+    }
+
+    @Override
+    public CompletionStage<ElectionResults> getResults(ElectionId electionId) {
+        return electionRepository.findById(electionId)
+                .thenCompose(found -> {
+                    var election = found.orElseThrow(
+                            () -> new ElectionNotFoundException("Election not found: " + electionId.value()));
+                    return voteRepository.countByElectionIdGroupByOption(electionId)
+                            .thenApply(counts -> ElectionResults.of(election, counts));
+                });
+    }
+}
@@ -0,0 +1,47 @@
+package pl.election.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * The R2DBC pool behind the {@code reactive} profile. It reaches the same primary as the JDBC pools,
+ * so connection details come from {@code spring.datasource.*} with the {@code jdbc:} scheme swapped for
+ * {@code r2dbc:}; Boot's own R2DBC auto-configuration is excluded in {@code ElectionApplication}.
+ */
+@Configuration
+@Profile("reactive")
+public class R2dbcConfig {
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionPool connectionFactory(DataSourceProperties properties, ReactiveConfig config) {
+        var options = ConnectionFactoryOptions.parse(r2dbcUrl(properties.determineUrl())).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.determineUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.determinePassword())
+                .build();
+        var pool = config.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxAcquireTime(pool.getAcquireTimeout())
+                .build());
+    }
+
+    @Bean
+    DatabaseClient databaseClient(ConnectionPool connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    static String r2dbcUrl(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:"))
+            throw new IllegalArgumentException("Expected a jdbc: URL, got " + jdbcUrl);
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+}
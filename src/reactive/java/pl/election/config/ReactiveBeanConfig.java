@@ -0,0 +1,48 @@
+package pl.election.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import pl.election.adapter.in.reactive.AdmissionControlWebFilter;
+import pl.election.adapter.in.reactive.RateLimitWebFilter;
+import pl.election.adapter.in.reactive.ReactiveVotingHandler;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import pl.election.application.port.in.ReactiveVotingUseCase;
+import pl.election.application.port.out.*;
+import pl.election.application.service.CachingReactiveVotingService;
+import pl.election.application.service.ObservableCachePort;
+import pl.election.application.service.ObservableReactiveVotingService;
+import pl.election.application.service.ReactiveVotingService;
+
+import java.util.List;
+
+/** Wiring of the {@code reactive} profile, compiled only with the {@code reactive} Maven profile. */
+@Configuration
+@Profile("reactive")
+public class ReactiveBeanConfig {
+
+    @Bean
+    ReactiveVotingUseCase reactiveVotingUseCase(ReactiveVoterRepository voterRepository,
+                                                ReactiveElectionRepository electionRepository,
+                                                ReactiveVoteRepository voteRepository,
+                                                IdGeneratorPort idGenerator,
+                                                ClockPort clock,
+                                                CachePort cachePort,
+                                                MetricsPort metricsPort) {
+        var core = new ReactiveVotingService(voterRepository, electionRepository, voteRepository, idGenerator, clock);
+        var cached = new CachingReactiveVotingService(core, new ObservableCachePort(cachePort, metricsPort));
+        return new ObservableReactiveVotingService(cached, metricsPort);
+    }
+
+    @Bean
+    ReactiveServerLifecycle reactiveServerLifecycle(ReactiveConfig config, ReactiveVotingHandler handler,
+                                                    ObjectMapper objectMapper, ClientRateLimiter clientRateLimiter,
+                                                    AdmissionLimiter admissionLimiter, AdmissionConfig admissionConfig) {
+        return new ReactiveServerLifecycle(config, handler.routes(), objectMapper, List.of(
+                new SecurityHeadersWebFilter(),
+                new RateLimitWebFilter(clientRateLimiter, objectMapper),
+                new AdmissionControlWebFilter(admissionLimiter, admissionConfig.getRetryAfter(), objectMapper)));
+    }
+}
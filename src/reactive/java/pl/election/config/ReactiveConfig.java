@@ -0,0 +1,28 @@
+package pl.election.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "reactive")
+public class ReactiveConfig {
+
+    private int port = 8081;
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+    private Pool pool = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int initialSize = 10;
+        /** As many connections as the JDBC vote and interactive pools together, which serve the same two endpoints. */
+        private int maxSize = 18;
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,77 @@
+package pl.election.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.WebFilter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+
+/**
+ * Runs the {@code reactive} profile's WebFlux routes on a Reactor Netty server next to the servlet
+ * container, on {@code reactive.port}. Both stacks share the use cases' cache and the application's
+ * {@link ObjectMapper}, so the two ports answer with identical bodies. {@code filters} run in order in
+ * front of the routes, as the servlet filters do on the main port.
+ */
+@Slf4j
+public class ReactiveServerLifecycle implements SmartLifecycle {
+
+    private final ReactiveConfig config;
+    private final RouterFunction<ServerResponse> routes;
+    private final ObjectMapper objectMapper;
+    private final List<WebFilter> filters;
+    private volatile DisposableServer server;
+
+    public ReactiveServerLifecycle(ReactiveConfig config, RouterFunction<ServerResponse> routes, ObjectMapper objectMapper,
+                                   List<WebFilter> filters) {
+        this.config = config;
+        this.routes = routes;
+        this.objectMapper = objectMapper;
+        this.filters = List.copyOf(filters);
+    }
+
+    @Override
+    public void start() {
+        var builder = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                });
+        filters.forEach(builder::webFilter);
+        var strategies = builder.build();
+        var handler = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies));
+        server = HttpServer.create().port(config.getPort()).handle(handler).bindNow();
+        log.info("Reactive server started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) return;
+        try {
+            server.disposeNow(config.getShutdownTimeout());
+        } catch (IllegalStateException e) {
+            log.warn("Reactive server did not stop within {}", config.getShutdownTimeout());
+        } finally {
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** The bound port, which differs from {@code reactive.port} when that is 0. */
+    public int getPort() {
+        return server == null ? -1 : server.port();
+    }
+}
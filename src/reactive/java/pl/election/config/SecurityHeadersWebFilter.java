@@ -0,0 +1,22 @@
+package pl.election.config;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static pl.election.config.SecurityHeaders.*;
+
+/** {@link SecurityHeadersConfig} for the reactive server. */
+public class SecurityHeadersWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var headers = exchange.getResponse().getHeaders();
+        headers.set(X_CONTENT_TYPE_OPTIONS, VALUE_NOSNIFF);
+        headers.set(X_FRAME_OPTIONS, VALUE_DENY);
+        headers.set(CONTENT_SECURITY_POLICY, VALUE_CSP);
+        headers.set(STRICT_TRANSPORT_SECURITY, VALUE_HSTS);
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,26 @@
+package pl.election;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MigrationOnlyStartupTest {
+
+    @Test
+    void should_skipRunnersAndExitCleanly_when_migrationOnly() {
+        // given
+        var context = SpringApplication.run(ElectionApplication.class, "--spring.profiles.active=inmemory",
+                "--spring.main.web-application-type=none", "--migration.mode=only");
+        var runners = context.getBeansOfType(ApplicationRunner.class);
+
+        // when
+        var exitCode = SpringApplication.exit(context);
+
+        // then
+        assertThat(runners).isEmpty();
+        assertThat(exitCode).isZero();
+        assertThat(context.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,104 @@
+package pl.election;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the time from {@code SpringApplication.run} until readiness accepts traffic. The default
+ * budget suits shared CI runners; pass {@code -Dstartup.budget=PT3S} to hold a build to the production
+ * target on reference hardware. On failure the slowest startup steps are reported. Native builds are
+ * measured with {@code scripts/compare-builds.sh} instead.
+ */
+@DisabledInNativeImage
+class StartupTimeIntegrationTest {
+
+    private static final Duration BUDGET = Duration.parse(System.getProperty("startup.budget", "PT20S"));
+
+    @Test
+    void should_becomeReadyWithinBudget_when_runningInMemory() {
+        // when
+        var startup = start("--spring.profiles.active=inmemory");
+
+        // then
+        assertThat(startup.timeToReady()).as(startup.slowestSteps()).isLessThan(BUDGET);
+    }
+
+    @Test
+    void should_becomeReadyWithinBudget_when_migrationsRunAsSeparateJob() {
+        // given
+        var postgres = SharedPostgresContainer.getInstance();
+        new SpringApplicationBuilder(ElectionApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(datasource(postgres, "--migration.mode=only"))
+                .close();
+
+        // when
+        var startup = start(datasource(postgres, "--migration.mode=skip"));
+
+        // then
+        assertThat(startup.timeToReady()).as(startup.slowestSteps()).isLessThan(BUDGET);
+    }
+
+    private static Startup start(String... args) {
+        var recorder = new BufferingApplicationStartup(10_000);
+        var ready = new AtomicLong();
+        var started = System.nanoTime();
+        var context = new SpringApplicationBuilder(ElectionApplication.class)
+                .applicationStartup(recorder)
+                .listeners((ApplicationListener<AvailabilityChangeEvent<?>>) event -> {
+                    if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) ready.set(System.nanoTime());
+                })
+                .run(concat(args, "--server.port=0"));
+        context.close();
+        return new Startup(Duration.ofNanos(ready.get() - started), recorder.getBufferedTimeline());
+    }
+
+    private static String[] datasource(PostgreSQLContainer<?> postgres, String mode) {
+        return new String[]{
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                mode};
+    }
+
+    private static String[] concat(String[] args, String arg) {
+        var all = Arrays.copyOf(args, args.length + 1);
+        all[args.length] = arg;
+        return all;
+    }
+
+    private record Startup(Duration timeToReady, StartupTimeline timeline) {
+
+        String slowestSteps() {
+            return "time to ready " + timeToReady.toMillis() + " ms, slowest steps:\n" + timeline.getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(10)
+                    .map(event -> event.getDuration().toMillis() + " ms " + describe(event.getStartupStep()))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        private static String describe(StartupStep step) {
+            var tags = new StringJoiner(", ", " [", "]");
+            step.getTags().forEach(tag -> tags.add(tag.getKey() + "=" + tag.getValue()));
+            return step.getName() + tags;
+        }
+    }
+}
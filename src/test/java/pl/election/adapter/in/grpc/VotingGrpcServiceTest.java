@@ -0,0 +1,293 @@
+package pl.election.adapter.in.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.adapter.in.web.AdmissionLimiter;
+import pl.election.adapter.in.web.AdmissionLimiter.Limit;
+import pl.election.adapter.in.web.ClientRateLimiter;
+import pl.election.adapter.in.web.RequestPriority;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class VotingGrpcServiceTest {
+
+    private static final UUID ELECTION_UUID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID VOTER_UUID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID OPTION_UUID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Mock
+    private VotingUseCase votingUseCase;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        start(new ClientRateLimiter(1_000, 1_000, Duration.ofSeconds(1)), admissionLimiter(100));
+    }
+
+    private void start(ClientRateLimiter rateLimiter, AdmissionLimiter admissionLimiter) throws Exception {
+        if (server != null) tearDown();
+        var name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new VotingGrpcService(votingUseCase, new ElectionWebMapperImpl(), rateLimiter, admissionLimiter))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void should_answerEveryCommandInOrder_when_someVotesAreRejected() throws Exception {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID), Instant.now());
+        given(votingUseCase.tryCastVote(VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID), VotingOptionId.of(OPTION_UUID)))
+                .willReturn(new Accepted(vote))
+                .willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var outcomes = castVotes(List.of(
+                command(1, ELECTION_UUID, VOTER_UUID, OPTION_UUID),
+                command(2, ELECTION_UUID, VOTER_UUID, OPTION_UUID),
+                command(3, ELECTION_UUID, null, OPTION_UUID)));
+
+        // then
+        assertThat(outcomes).extracting(outcome -> outcome.getField(1).getVarintList().getFirst())
+                .containsExactly(1L, 2L, 3L);
+        var accepted = UnknownFieldSet.parseFrom(outcomes.get(0).getField(2).getLengthDelimitedList().getFirst());
+        assertThat(accepted.getField(1).getLengthDelimitedList()).containsExactly(uuid(vote.id().value()));
+        assertThat(rejection(outcomes.get(1))).isEqualTo("DUPLICATE_VOTE");
+        assertThat(rejection(outcomes.get(2))).isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void should_stopReadingCommands_when_clientStopsReadingOutcomes() throws Exception {
+        // given
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.DUPLICATE_VOTE);
+        var received = new CopyOnWriteArrayList<byte[]>();
+        var responses = new CompletableFuture<ClientCallStreamObserver<byte[]>>();
+        var requests = ClientCalls.asyncBidiStreamingCall(channel.newCall(VotingGrpcService.CAST_VOTES,
+                io.grpc.CallOptions.DEFAULT), new ClientResponseObserver<byte[], byte[]>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<byte[]> stream) {
+                stream.disableAutoRequestWithInitial(0);
+                responses.complete(stream);
+            }
+
+            @Override public void onNext(byte[] outcome) { received.add(outcome); }
+            @Override public void onError(Throwable t) { }
+            @Override public void onCompleted() { }
+        });
+
+        // when
+        for (int i = 1; i <= 10; i++) requests.onNext(command(i, ELECTION_UUID, VOTER_UUID, OPTION_UUID));
+        Thread.sleep(200);
+
+        // then
+        then(votingUseCase).should(never()).tryCastVote(any(), any(), any());
+
+        // when
+        responses.get().request(3);
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 3);
+        Thread.sleep(200);
+        then(votingUseCase).should(atMost(4)).tryCastVote(any(), any(), any());
+        requests.onCompleted();
+    }
+
+    @Test
+    void should_rejectCommandAndKeepStream_when_rateLimitExceeded() throws Exception {
+        // given
+        start(new ClientRateLimiter(1, 1, Duration.ofDays(1)), admissionLimiter(100));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var outcomes = castVotes(List.of(
+                command(1, ELECTION_UUID, VOTER_UUID, OPTION_UUID),
+                command(2, ELECTION_UUID, VOTER_UUID, OPTION_UUID)));
+
+        // then
+        assertThat(rejection(outcomes.get(0))).isEqualTo("DUPLICATE_VOTE");
+        assertThat(rejection(outcomes.get(1))).isEqualTo("RATE_LIMIT_EXCEEDED");
+        then(votingUseCase).should(atMost(1)).tryCastVote(any(), any(), any());
+    }
+
+    @Test
+    void should_rejectCommand_when_admissionLimitReached() throws Exception {
+        // given
+        var admissionLimiter = admissionLimiter(1);
+        admissionLimiter.tryAcquire(RequestPriority.CRITICAL);
+        start(new ClientRateLimiter(1_000, 1_000, Duration.ofSeconds(1)), admissionLimiter);
+
+        // when
+        var outcomes = castVotes(List.of(command(1, ELECTION_UUID, VOTER_UUID, OPTION_UUID)));
+
+        // then
+        assertThat(rejection(outcomes.getFirst())).isEqualTo("SERVICE_OVERLOADED");
+        then(votingUseCase).should(never()).tryCastVote(any(), any(), any());
+        assertThat(admissionLimiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void should_releaseAdmissionSlot_when_commandAnswered() throws Exception {
+        // given
+        var admissionLimiter = admissionLimiter(1);
+        start(new ClientRateLimiter(1_000, 1_000, Duration.ofSeconds(1)), admissionLimiter);
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var outcomes = castVotes(List.of(
+                command(1, ELECTION_UUID, VOTER_UUID, OPTION_UUID),
+                command(2, ELECTION_UUID, VOTER_UUID, OPTION_UUID)));
+
+        // then
+        assertThat(rejection(outcomes.get(0))).isEqualTo("DUPLICATE_VOTE");
+        assertThat(rejection(outcomes.get(1))).isEqualTo("DUPLICATE_VOTE");
+        assertThat(admissionLimiter.inFlight()).isZero();
+    }
+
+    @Test
+    void should_returnResults_when_electionExists() throws Exception {
+        // given
+        given(votingUseCase.getResults(ElectionId.of(ELECTION_UUID))).willReturn(new ElectionResults(
+                ElectionId.of(ELECTION_UUID), "Test Election", List.of(new OptionResult(VotingOptionId.of(OPTION_UUID), "Option A", 5))));
+
+        // when
+        var response = ClientCalls.blockingUnaryCall(channel, VotingGrpcService.GET_RESULTS, io.grpc.CallOptions.DEFAULT,
+                getResultsRequest(ELECTION_UUID));
+
+        // then
+        var results = UnknownFieldSet.parseFrom(response);
+        assertThat(results.getField(2).getLengthDelimitedList().getFirst().toStringUtf8()).isEqualTo("Test Election");
+        assertThat(results.getField(4).getVarintList()).containsExactly(5L);
+    }
+
+    @Test
+    void should_failWithNotFound_when_electionDoesNotExist() {
+        // given
+        given(votingUseCase.getResults(any())).willThrow(new ElectionNotFoundException("Election not found"));
+
+        // when/then
+        assertThatThrownBy(() -> ClientCalls.blockingUnaryCall(channel, VotingGrpcService.GET_RESULTS,
+                io.grpc.CallOptions.DEFAULT, getResultsRequest(ELECTION_UUID)))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    private static AdmissionLimiter admissionLimiter(int maxInFlight) {
+        return new AdmissionLimiter(Map.of(
+                RequestPriority.CRITICAL, new Limit(maxInFlight, Duration.ZERO),
+                RequestPriority.NORMAL, new Limit(maxInFlight, Duration.ZERO),
+                RequestPriority.BEST_EFFORT, new Limit(maxInFlight, Duration.ZERO)), Duration.ofMinutes(1),
+                new SimpleMeterRegistry());
+    }
+
+    private List<UnknownFieldSet> castVotes(List<byte[]> commands) throws Exception {
+        var outcomes = new CopyOnWriteArrayList<UnknownFieldSet>();
+        var done = new CompletableFuture<Void>();
+        var requests = ClientCalls.asyncBidiStreamingCall(channel.newCall(VotingGrpcService.CAST_VOTES,
+                io.grpc.CallOptions.DEFAULT), new io.grpc.stub.StreamObserver<byte[]>() {
+            @Override
+            public void onNext(byte[] outcome) {
+                try {
+                    outcomes.add(UnknownFieldSet.parseFrom(outcome));
+                } catch (Exception e) {
+                    done.completeExceptionally(e);
+                }
+            }
+
+            @Override public void onError(Throwable t) { done.completeExceptionally(t); }
+            @Override public void onCompleted() { done.complete(null); }
+        });
+        commands.forEach(requests::onNext);
+        requests.onCompleted();
+        done.get(5, TimeUnit.SECONDS);
+        return outcomes;
+    }
+
+    private static String rejection(UnknownFieldSet outcome) throws Exception {
+        var rejection = UnknownFieldSet.parseFrom(outcome.getField(3).getLengthDelimitedList().getFirst());
+        return rejection.getField(1).getLengthDelimitedList().getFirst().toStringUtf8();
+    }
+
+    private static byte[] command(long sequence, UUID electionId, UUID voterId, UUID optionId) throws Exception {
+        var body = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(body);
+        out.writeUInt64(1, sequence);
+        out.writeBytes(2, uuid(electionId));
+        if (voterId != null) out.writeBytes(3, uuid(voterId));
+        out.writeBytes(4, uuid(optionId));
+        out.flush();
+        return body.toByteArray();
+    }
+
+    private static byte[] getResultsRequest(UUID electionId) throws Exception {
+        var body = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(body);
+        out.writeBytes(1, uuid(electionId));
+        out.flush();
+        return body.toByteArray();
+    }
+
+    private static ByteString uuid(UUID uuid) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+}
@@ -0,0 +1,91 @@
+package pl.election.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import pl.election.adapter.in.web.AdmissionLimiter.Limit;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.election.adapter.in.web.RequestPriority.BEST_EFFORT;
+import static pl.election.adapter.in.web.RequestPriority.CRITICAL;
+import static pl.election.adapter.in.web.RequestPriority.NORMAL;
+
+class AdmissionControlFilterTest {
+
+    private final AdmissionLimiter limiter = new AdmissionLimiter(Map.of(
+            CRITICAL, new Limit(2, Duration.ZERO),
+            NORMAL, new Limit(1, Duration.ZERO),
+            BEST_EFFORT, new Limit(0, Duration.ZERO)), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(limiter, Duration.ofSeconds(2),
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @ParameterizedTest
+    @CsvSource({
+            "POST, /api/elections/42/votes, CRITICAL",
+            "GET, /api/elections/42/results, NORMAL",
+            "GET, /api/voters/7, NORMAL",
+            "POST, /api/elections, NORMAL",
+            "GET, /api/elections, BEST_EFFORT",
+            "GET, /api/elections/summary, BEST_EFFORT",
+            "GET, /api/voters, BEST_EFFORT",
+            "POST, /api/elections/42/recounts, BEST_EFFORT"
+    })
+    void should_classifyRequest_when_methodAndPathGiven(String method, String path, RequestPriority expected) {
+        // when / then
+        assertThat(RequestPriority.of(method, path)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_returnServiceUnavailableWithRetryAfter_when_requestShed() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/api/elections");
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("SERVICE_OVERLOADED");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void should_releaseSlot_when_requestCompletes() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("POST", "/api/elections/42/votes");
+        var chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void should_skipAdmission_when_pathOutsideApi() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/actuator/health/readiness");
+        var chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(limiter.shedding()).isEmpty();
+    }
+}
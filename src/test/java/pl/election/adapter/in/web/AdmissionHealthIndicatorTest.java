@@ -0,0 +1,50 @@
+package pl.election.adapter.in.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import pl.election.adapter.in.web.AdmissionLimiter.Limit;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.election.adapter.in.web.RequestPriority.BEST_EFFORT;
+import static pl.election.adapter.in.web.RequestPriority.CRITICAL;
+import static pl.election.adapter.in.web.RequestPriority.NORMAL;
+
+class AdmissionHealthIndicatorTest {
+
+    private final AdmissionLimiter limiter = new AdmissionLimiter(Map.of(
+            CRITICAL, new Limit(1, Duration.ZERO),
+            NORMAL, new Limit(0, Duration.ZERO),
+            BEST_EFFORT, new Limit(0, Duration.ZERO)), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final AdmissionHealthIndicator indicator = new AdmissionHealthIndicator(limiter);
+
+    @Test
+    void should_stayUp_when_onlyReadsAreShed() {
+        // given
+        limiter.tryAcquire(BEST_EFFORT);
+        limiter.tryAcquire(NORMAL);
+
+        // when
+        var health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsKey("shedding");
+    }
+
+    @Test
+    void should_reportOutOfService_when_votesAreShed() {
+        // given
+        limiter.tryAcquire(CRITICAL);
+        limiter.tryAcquire(CRITICAL);
+
+        // when
+        var health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+}
@@ -0,0 +1,113 @@
+package pl.election.adapter.in.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import pl.election.adapter.in.web.AdmissionLimiter.Limit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.election.adapter.in.web.RequestPriority.BEST_EFFORT;
+import static pl.election.adapter.in.web.RequestPriority.CRITICAL;
+import static pl.election.adapter.in.web.RequestPriority.NORMAL;
+
+class AdmissionLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void should_shedLowerClassesFirst_when_inFlightGrows() {
+        // given
+        var limiter = limiter(Duration.ZERO);
+
+        // when
+        var first = limiter.tryAcquire(BEST_EFFORT);
+        var secondBestEffort = limiter.tryAcquire(BEST_EFFORT);
+        var normal = limiter.tryAcquire(NORMAL);
+        var secondNormal = limiter.tryAcquire(NORMAL);
+        var critical = limiter.tryAcquire(CRITICAL);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(secondBestEffort).isFalse();
+        assertThat(normal).isTrue();
+        assertThat(secondNormal).isFalse();
+        assertThat(critical).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(3);
+        assertThat(limiter.shedding()).containsExactlyInAnyOrder(BEST_EFFORT, NORMAL);
+        assertThat(registry.get("http.admission.shed").tag("priority", "BEST_EFFORT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_admitQueuedRequest_when_slotFreesWithinQueueTimeout() throws Exception {
+        // given
+        var limiter = limiter(Duration.ofSeconds(5));
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(CRITICAL);
+        var queued = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(CRITICAL));
+        Thread.sleep(50);
+
+        // when
+        limiter.release();
+
+        // then
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.shedding()).isEmpty();
+        var queueDelay = registry.get("http.admission.queue.delay").tag("priority", "CRITICAL").timer();
+        assertThat(queueDelay.count()).isEqualTo(4);
+        assertThat(queueDelay.max(TimeUnit.MILLISECONDS)).isGreaterThan(0);
+    }
+
+    @Test
+    void should_shedCritical_when_queueTimeoutElapses() {
+        // given
+        var limiter = limiter(Duration.ofMillis(20));
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(CRITICAL);
+
+        // when
+        var admitted = limiter.tryAcquire(CRITICAL);
+
+        // then
+        assertThat(admitted).isFalse();
+        assertThat(limiter.shedding()).contains(CRITICAL);
+    }
+
+    @Test
+    void should_neitherWaitNorShed_when_acquiringNowWithoutFreeSlot() {
+        // given
+        var limiter = limiter(Duration.ofSeconds(5));
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(CRITICAL);
+
+        // when
+        var admitted = limiter.tryAcquireNow(CRITICAL);
+
+        // then
+        assertThat(admitted).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(3);
+        assertThat(limiter.shedding()).isEmpty();
+    }
+
+    @Test
+    void should_forgetShedding_when_readinessWindowPasses() {
+        // given
+        var limiter = new AdmissionLimiter(Map.of(
+                CRITICAL, new Limit(1, Duration.ZERO),
+                NORMAL, new Limit(1, Duration.ZERO),
+                BEST_EFFORT, new Limit(0, Duration.ZERO)), Duration.ZERO, registry);
+
+        // when
+        limiter.tryAcquire(BEST_EFFORT);
+
+        // then
+        assertThat(limiter.shedding()).isEmpty();
+    }
+
+    private AdmissionLimiter limiter(Duration criticalQueueTimeout) {
+        return new AdmissionLimiter(Map.of(
+                CRITICAL, new Limit(3, criticalQueueTimeout),
+                NORMAL, new Limit(2, Duration.ZERO),
+                BEST_EFFORT, new Limit(1, Duration.ZERO)), Duration.ofMinutes(1), registry);
+    }
+}
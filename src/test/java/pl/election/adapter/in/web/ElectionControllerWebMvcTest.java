@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.ElectionSummaryPage;
 import pl.election.application.port.in.ElectionUseCase;
 import pl.election.domain.exception.ElectionNotFoundException;
 import pl.election.domain.model.*;
@@ -150,4 +151,72 @@ class ElectionControllerWebMvcTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode").value("ELECTION_NOT_FOUND"));
     }
+
+    @Test
+    void should_returnCreatedOptions_when_validBulkRequest() throws Exception {
+        // given
+        var options = List.of(
+                VotingOption.create(VotingOptionId.generate(), "Candidate A"),
+                VotingOption.create(VotingOptionId.generate(), "Candidate B"));
+        given(electionUseCase.addVotingOptions(ELECTION_ID, List.of("Candidate A", "Candidate B"))).willReturn(options);
+
+        // when/then
+        mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/options/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"names":["Candidate A","Candidate B"]}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].name").value("Candidate B"));
+    }
+
+    @Test
+    void should_return400_when_bulkRequestContainsBlankName() throws Exception {
+        // when/then
+        mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/options/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"names":["Candidate A"," "]}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_returnSummaryPageWithCursor_when_moreSummariesAvailable() throws Exception {
+        // given
+        var summary = new ElectionSummary(ELECTION_ID, "Summary Election", NOW, 3);
+        given(electionUseCase.getElectionSummaries(null, 1))
+                .willReturn(new ElectionSummaryPage(List.of(summary), summary.cursor()));
+
+        // when/then
+        mockMvc.perform(get("/api/elections/summary").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaries[0].id").value(ELECTION_UUID.toString()))
+                .andExpect(jsonPath("$.summaries[0].optionCount").value(3))
+                .andExpect(jsonPath("$.summaries[0].voteCount").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void should_passDecodedCursor_when_cursorProvided() throws Exception {
+        // given
+        var cursor = new ElectionSummary.Cursor(NOW, ELECTION_ID);
+        var token = new ElectionWebMapperImpl().toCursorToken(cursor);
+        given(electionUseCase.getElectionSummaries(cursor, 50)).willReturn(new ElectionSummaryPage(List.of(), null));
+
+        // when/then
+        mockMvc.perform(get("/api/elections/summary").param("cursor", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summaries").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void should_return400_when_cursorMalformed() throws Exception {
+        // when/then
+        mockMvc.perform(get("/api/elections/summary").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
 }
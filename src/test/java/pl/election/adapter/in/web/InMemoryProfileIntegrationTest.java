@@ -0,0 +1,71 @@
+package pl.election.adapter.in.web;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("inmemory")
+class InMemoryProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void should_castVoteAndRejectDuplicate_when_runningWithoutDatabase() throws Exception {
+        var voterResult = mockMvc.perform(post("/api/voters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Jan Kowalski","email":"jan-inmemory@example.com"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var voterId = JsonPath.read(voterResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var electionResult = mockMvc.perform(post("/api/elections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"In-Memory Election"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var electionId = JsonPath.read(electionResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var optionResult = mockMvc.perform(post("/api/elections/" + electionId + "/options")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Option Alpha"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var optionId = JsonPath.read(optionResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var vote = """
+                {"voterId":"%s","votingOptionId":"%s"}
+                """.formatted(voterId, optionId);
+        mockMvc.perform(post("/api/elections/" + electionId + "/votes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(vote))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/elections/" + electionId + "/votes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(vote))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/elections/" + electionId + "/results"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVotes").value(1))
+                .andExpect(jsonPath("$.results[0].voteCount").value(1));
+    }
+}
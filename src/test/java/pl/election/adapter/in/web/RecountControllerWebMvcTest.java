@@ -0,0 +1,88 @@
+package pl.election.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.application.port.in.Recount;
+import pl.election.application.port.in.Recount.OptionDiff;
+import pl.election.application.port.in.RecountUseCase;
+import pl.election.domain.exception.RecountNotFoundException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+        controllers = RecountController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RateLimitFilter.class)
+)
+@Import(ElectionWebMapperImpl.class)
+class RecountControllerWebMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RecountUseCase recountUseCase;
+
+    private static final UUID ELECTION_UUID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID RECOUNT_UUID = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    private static final UUID OPTION_UUID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Test
+    void should_returnAccepted_when_recountStarted() throws Exception {
+        // given
+        given(recountUseCase.startRecount(ElectionId.of(ELECTION_UUID))).willReturn(
+                new Recount(RECOUNT_UUID, ElectionId.of(ELECTION_UUID), Recount.Status.RUNNING, 16, 0, 0, NOW, null, List.of(), null));
+
+        // when/then
+        mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/recounts"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(RECOUNT_UUID.toString()))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.partitions").value(16));
+    }
+
+    @Test
+    void should_returnDiff_when_recountCompleted() throws Exception {
+        // given
+        var diff = new OptionDiff(VotingOptionId.of(OPTION_UUID), "Option A", 10, 12, 1);
+        given(recountUseCase.getRecount(RECOUNT_UUID)).willReturn(
+                new Recount(RECOUNT_UUID, ElectionId.of(ELECTION_UUID), Recount.Status.COMPLETED, 16, 16, 10, NOW, NOW, List.of(diff), null));
+
+        // when/then
+        mockMvc.perform(get("/api/recounts/" + RECOUNT_UUID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchesLive").value(false))
+                .andExpect(jsonPath("$.options[0].recounted").value(10))
+                .andExpect(jsonPath("$.options[0].live").value(12))
+                .andExpect(jsonPath("$.options[0].castAfterCutoff").value(1))
+                .andExpect(jsonPath("$.options[0].difference").value(-1));
+    }
+
+    @Test
+    void should_return404_when_recountNotFound() throws Exception {
+        // given
+        given(recountUseCase.getRecount(RECOUNT_UUID)).willThrow(new RecountNotFoundException("Recount not found: " + RECOUNT_UUID));
+
+        // when/then
+        mockMvc.perform(get("/api/recounts/" + RECOUNT_UUID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("RECOUNT_NOT_FOUND"));
+    }
+}
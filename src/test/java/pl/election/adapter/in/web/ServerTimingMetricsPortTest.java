@@ -0,0 +1,44 @@
+package pl.election.adapter.in.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.election.adapter.in.web.StageTimings.Stage;
+import pl.election.application.port.out.MetricsPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class ServerTimingMetricsPortTest {
+
+    private final MetricsPort delegate = mock(MetricsPort.class);
+    private final ServerTimingMetricsPort metrics = new ServerTimingMetricsPort(delegate);
+
+    @AfterEach
+    void tearDown() {
+        StageTimings.end();
+    }
+
+    @Test
+    void should_recordStageAndDelegate_when_requestBound() {
+        // given
+        var timings = StageTimings.begin();
+
+        // when
+        metrics.recordPortCall("voteRepository", "countByElectionIdGroupByOption", 2_000L);
+
+        // then
+        assertThat(timings.stages()).containsExactly(new Stage("voteRepository.countByElectionIdGroupByOption", 1, 2_000L));
+        then(delegate).should().recordPortCall("voteRepository", "countByElectionIdGroupByOption", 2_000L);
+    }
+
+    @Test
+    void should_onlyDelegate_when_noRequestBound() {
+        // when
+        metrics.recordPortCall("voteRepository", "save", 1_000L);
+
+        // then
+        assertThat(StageTimings.current()).isEmpty();
+        then(delegate).should().recordPortCall("voteRepository", "save", 1_000L);
+    }
+}
@@ -0,0 +1,52 @@
+package pl.election.adapter.in.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.election.adapter.in.web.StageTimings.Stage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StageTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        StageTimings.end();
+    }
+
+    @Test
+    void should_aggregateStagesByName_when_recordedWithinRequest() {
+        // given
+        var timings = StageTimings.begin();
+
+        // when
+        StageTimings.record("voterRepository.findById", 1_000L);
+        StageTimings.record("voteRepository.save", 3_000L);
+        StageTimings.record("voterRepository.findById", 2_000L);
+
+        // then
+        assertThat(timings.stages()).containsExactly(
+                new Stage("voterRepository.findById", 2, 3_000L),
+                new Stage("voteRepository.save", 1, 3_000L));
+    }
+
+    @Test
+    void should_ignoreRecording_when_noRequestBound() {
+        // when
+        StageTimings.record("voteRepository.save", 1_000L);
+
+        // then
+        assertThat(StageTimings.current()).isEmpty();
+    }
+
+    @Test
+    void should_unbindTimings_when_ended() {
+        // given
+        StageTimings.begin();
+
+        // when
+        StageTimings.end();
+
+        // then
+        assertThat(StageTimings.current()).isEmpty();
+    }
+}
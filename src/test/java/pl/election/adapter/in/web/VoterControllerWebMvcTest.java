@@ -1,5 +1,6 @@
 package pl.election.adapter.in.web;
 
+import com.google.protobuf.UnknownFieldSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -12,6 +13,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import pl.election.adapter.in.web.mapper.VoterWebMapperImpl;
+import pl.election.adapter.in.web.protobuf.ProtobufDtoMessageConverter;
 import pl.election.application.port.in.VoterUseCase;
 import pl.election.domain.exception.DuplicateEmailException;
 import pl.election.domain.exception.VoterNotFoundException;
@@ -22,6 +24,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -139,6 +142,24 @@ class VoterControllerWebMvcTest {
                 .andExpect(jsonPath("$[1].name").value("Second"));
     }
 
+    @Test
+    void should_returnVoterList_when_clientAcceptsProtobuf() throws Exception {
+        // given
+        var voter1 = Voter.create(VoterId.generate(), "First", "first@example.com", NOW);
+        var voter2 = Voter.create(VoterId.generate(), "Second", "second@example.com", NOW);
+        given(voterUseCase.getAllVoters()).willReturn(List.of(voter1, voter2));
+
+        // when
+        var response = mockMvc.perform(get("/api/voters").accept(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        // then
+        var voters = UnknownFieldSet.parseFrom(response.getContentAsByteArray()).getField(1).getLengthDelimitedList();
+        assertThat(voters).extracting(voter -> UnknownFieldSet.parseFrom(voter).getField(2).getLengthDelimitedList()
+                .getFirst().toStringUtf8()).containsExactly("First", "Second");
+    }
+
     @Test
     void should_returnBlockedVoter_when_blockCalled() throws Exception {
         // given
@@ -8,6 +8,7 @@ import java.util.UUID;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -172,4 +173,59 @@ class VotingControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode").value("VOTING_OPTION_NOT_FOUND"));
     }
+
+    @Test
+    void should_replayFirstVote_when_retriedWithSameIdempotencyKey() throws Exception {
+        var voterResult = mockMvc.perform(post("/api/voters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Retry User","email":"retry-vote@example.com"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var voterId = com.jayway.jsonpath.JsonPath.read(voterResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var electionResult = mockMvc.perform(post("/api/elections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Retry Vote Election"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var electionId = com.jayway.jsonpath.JsonPath.read(electionResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var optionResult = mockMvc.perform(post("/api/elections/" + electionId + "/options")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Option Alpha"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var optionId = com.jayway.jsonpath.JsonPath.read(optionResult.getResponse().getContentAsString(), "$.id").toString();
+
+        var key = UUID.randomUUID().toString();
+        var vote = """
+                {"voterId":"%s","votingOptionId":"%s"}
+                """.formatted(voterId, optionId);
+        var first = mockMvc.perform(post("/api/elections/" + electionId + "/votes")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(vote))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        var voteId = com.jayway.jsonpath.JsonPath.read(first.getResponse().getContentAsString(), "$.id").toString();
+
+        mockMvc.perform(post("/api/elections/" + electionId + "/votes")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(vote))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(voteId));
+
+        mockMvc.perform(get("/api/elections/" + electionId + "/results"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVotes").value(1));
+    }
 }
@@ -1,5 +1,9 @@
 package pl.election.adapter.in.web;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -9,25 +13,35 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import pl.election.adapter.in.web.dto.CastVoteRequest;
 import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.adapter.in.web.protobuf.ProtobufDtoMessageConverter;
 import pl.election.application.port.in.ElectionResults;
 import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.IdempotentVotingUseCase.IdempotentOutcome;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
 import pl.election.application.port.in.VotingUseCase;
-import pl.election.domain.exception.DuplicateVoteException;
 import pl.election.domain.exception.ElectionNotFoundException;
-import pl.election.domain.exception.VoterBlockedException;
-import pl.election.domain.exception.VoterNotFoundException;
-import pl.election.domain.exception.VotingOptionNotFoundException;
+import pl.election.domain.exception.IdempotencyKeyReusedException;
 import pl.election.domain.model.*;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,9 +54,13 @@ class VotingControllerWebMvcTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private VotingController votingController;
 
     @MockBean
     private VotingUseCase votingUseCase;
+    @MockBean
+    private IdempotentVotingUseCase idempotentVotingUseCase;
 
     private static final UUID ELECTION_UUID = UUID.fromString("22222222-2222-2222-2222-222222222222");
     private static final UUID VOTER_UUID = UUID.fromString("11111111-1111-1111-1111-111111111111");
@@ -57,10 +75,10 @@ class VotingControllerWebMvcTest {
                 ElectionId.of(ELECTION_UUID),
                 VotingOptionId.of(OPTION_UUID),
                 Instant.now());
-        given(votingUseCase.castVote(
+        given(votingUseCase.tryCastVote(
                 VoterId.of(VOTER_UUID),
                 ElectionId.of(ELECTION_UUID),
-                VotingOptionId.of(OPTION_UUID))).willReturn(vote);
+                VotingOptionId.of(OPTION_UUID))).willReturn(new Accepted(vote));
 
         // when/then
         mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
@@ -77,8 +95,7 @@ class VotingControllerWebMvcTest {
     @Test
     void should_return404_when_voterNotFoundForVote() throws Exception {
         // given
-        given(votingUseCase.castVote(any(), any(), any()))
-                .willThrow(new VoterNotFoundException("Voter not found"));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTER_NOT_FOUND);
 
         // when/then
         mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
@@ -93,8 +110,7 @@ class VotingControllerWebMvcTest {
     @Test
     void should_return404_when_electionNotFoundForVote() throws Exception {
         // given
-        given(votingUseCase.castVote(any(), any(), any()))
-                .willThrow(new ElectionNotFoundException("Election not found"));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.ELECTION_NOT_FOUND);
 
         // when/then
         mockMvc.perform(post("/api/elections/" + UUID.randomUUID() + "/votes")
@@ -109,8 +125,7 @@ class VotingControllerWebMvcTest {
     @Test
     void should_return404_when_votingOptionNotFound() throws Exception {
         // given
-        given(votingUseCase.castVote(any(), any(), any()))
-                .willThrow(new VotingOptionNotFoundException("Option not found"));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTING_OPTION_NOT_FOUND);
 
         // when/then
         mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
@@ -125,8 +140,7 @@ class VotingControllerWebMvcTest {
     @Test
     void should_return409_when_voterBlocked() throws Exception {
         // given
-        given(votingUseCase.castVote(any(), any(), any()))
-                .willThrow(new VoterBlockedException("Voter is blocked"));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTER_BLOCKED);
 
         // when/then
         mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
@@ -141,8 +155,7 @@ class VotingControllerWebMvcTest {
     @Test
     void should_return409_when_duplicateVote() throws Exception {
         // given
-        given(votingUseCase.castVote(any(), any(), any()))
-                .willThrow(new DuplicateVoteException("Already voted"));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.DUPLICATE_VOTE);
 
         // when/then
         mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
@@ -151,7 +164,64 @@ class VotingControllerWebMvcTest {
                                 {"voterId":"%s","votingOptionId":"%s"}
                                 """.formatted(VOTER_UUID, OPTION_UUID)))
                 .andExpect(status().isConflict())
-                .andExpect(jsonPath("$.errorCode").value("DUPLICATE_VOTE"));
+                .andExpect(jsonPath("$.errorCode").value("DUPLICATE_VOTE"))
+                .andExpect(jsonPath("$.message").value("Voter already voted in this election"))
+                .andExpect(jsonPath("$.timestamp").doesNotExist())
+                .andExpect(jsonPath("$.path").doesNotExist());
+    }
+
+    @Test
+    void should_shareRejectionResponse_when_rejectedRepeatedly() {
+        // given
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTER_BLOCKED);
+        var request = new CastVoteRequest(VOTER_UUID, OPTION_UUID);
+
+        // when
+        var first = votingController.castVote(ELECTION_UUID, request, null);
+        var second = votingController.castVote(ELECTION_UUID, request, null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStatusCode().value()).isEqualTo(409);
+    }
+
+    @Test
+    void should_replayStoredVote_when_idempotencyKeyRepeated() throws Exception {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID), Instant.now());
+        given(idempotentVotingUseCase.tryCastVote("retry-7f3a", VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID))).willReturn(new IdempotentOutcome(new Accepted(vote), true));
+
+        // when/then
+        mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
+                        .header("Idempotency-Key", "retry-7f3a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"voterId":"%s","votingOptionId":"%s"}
+                                """.formatted(VOTER_UUID, OPTION_UUID)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(vote.id().value().toString()));
+        then(votingUseCase).should(never()).tryCastVote(any(), any(), any());
+    }
+
+    @Test
+    void should_return422_when_idempotencyKeyReusedForDifferentVote() throws Exception {
+        // given
+        given(idempotentVotingUseCase.tryCastVote(any(), any(), any(), any()))
+                .willThrow(new IdempotencyKeyReusedException("Idempotency key retry-7f3a was already used"));
+
+        // when/then
+        mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
+                        .header("Idempotency-Key", "retry-7f3a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"voterId":"%s","votingOptionId":"%s"}
+                                """.formatted(VOTER_UUID, OPTION_UUID)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"))
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
     }
 
     @Test
@@ -212,4 +282,82 @@ class VotingControllerWebMvcTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
     }
+
+    @Test
+    void should_exchangeProtobuf_when_clientSendsAndAcceptsProtobuf() throws Exception {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID),
+                VotingOptionId.of(OPTION_UUID), Instant.now());
+        given(votingUseCase.tryCastVote(VoterId.of(VOTER_UUID), ElectionId.of(ELECTION_UUID), VotingOptionId.of(OPTION_UUID)))
+                .willReturn(new Accepted(vote));
+
+        // when
+        var response = mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
+                        .contentType(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF)
+                        .content(castVoteRequest(uuid(VOTER_UUID), uuid(OPTION_UUID))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse();
+
+        // then
+        var fields = UnknownFieldSet.parseFrom(response.getContentAsByteArray());
+        assertThat(fields.getField(1).getLengthDelimitedList()).containsExactly(uuid(vote.id().value()));
+        assertThat(fields.getField(3).getLengthDelimitedList()).containsExactly(uuid(ELECTION_UUID));
+    }
+
+    @Test
+    void should_returnProtobufError_when_protobufClientVotesTwice() throws Exception {
+        // given
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var response = mockMvc.perform(post("/api/elections/" + ELECTION_UUID + "/votes")
+                        .contentType(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(ProtobufDtoMessageConverter.APPLICATION_PROTOBUF)
+                        .content(castVoteRequest(uuid(VOTER_UUID), uuid(OPTION_UUID))))
+                .andExpect(status().isConflict())
+                .andReturn().getResponse();
+
+        // then
+        var fields = UnknownFieldSet.parseFrom(response.getContentAsByteArray());
+        assertThat(fields.getField(3).getLengthDelimitedList().getFirst().toStringUtf8()).isEqualTo("DUPLICATE_VOTE");
+    }
+
+    @Test
+    void should_writeUuidsAsBinary_when_clientAcceptsCbor() throws Exception {
+        // given
+        var results = new ElectionResults(ElectionId.of(ELECTION_UUID), "Test Election",
+                List.of(new OptionResult(VotingOptionId.of(OPTION_UUID), "Option A", 5)));
+        given(votingUseCase.getResults(ElectionId.of(ELECTION_UUID))).willReturn(results);
+
+        // when
+        var response = mockMvc.perform(get("/api/elections/" + ELECTION_UUID + "/results")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse();
+
+        // then
+        var body = new CBORMapper().readTree(response.getContentAsByteArray());
+        assertThat(body.get("electionId").isBinary()).isTrue();
+        assertThat(body.get("electionId").binaryValue()).isEqualTo(uuid(ELECTION_UUID).toByteArray());
+        assertThat(body.get("results").get(0).get("voteCount").asLong()).isEqualTo(5);
+    }
+
+    private static ByteString uuid(UUID uuid) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    private static byte[] castVoteRequest(ByteString voterId, ByteString votingOptionId) throws Exception {
+        var body = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(body);
+        out.writeBytes(1, voterId);
+        out.writeBytes(2, votingOptionId);
+        out.flush();
+        return body.toByteArray();
+    }
 }
@@ -0,0 +1,147 @@
+package pl.election.adapter.in.web.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+import pl.election.adapter.in.web.dto.ElectionResultsResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryPageResponse;
+import pl.election.adapter.in.web.dto.ElectionSummaryResponse;
+import pl.election.adapter.in.web.dto.OptionResultResponse;
+import pl.election.adapter.in.web.dto.VoteResponse;
+import pl.election.adapter.in.web.dto.VoterResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProtobufWireFormatTest {
+
+    private static final UUID VOTE_ID = UUID.fromString("00112233-4455-6677-8899-aabbccddeeff");
+    private static final UUID VOTER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID ELECTION_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    private static final UUID OPTION_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final Instant CAST_AT = Instant.parse("2025-01-15T10:00:00.123456Z");
+
+    @Test
+    void should_encodeUuidsAs16BigEndianBytes_when_encodingVoteResponse() throws Exception {
+        // given
+        var vote = new VoteResponse(VOTE_ID, VOTER_ID, ELECTION_ID, OPTION_ID, CAST_AT);
+
+        // when
+        var fields = UnknownFieldSet.parseFrom(ProtobufWireFormat.encode(vote));
+
+        // then
+        assertThat(bytes(fields, 1)).isEqualTo(uuid(VOTE_ID));
+        assertThat(bytes(fields, 1).toByteArray()).hasSize(16).startsWith(0x00, 0x11, 0x22);
+        assertThat(bytes(fields, 2)).isEqualTo(uuid(VOTER_ID));
+        assertThat(bytes(fields, 3)).isEqualTo(uuid(ELECTION_ID));
+        assertThat(bytes(fields, 4)).isEqualTo(uuid(OPTION_ID));
+        var castAt = UnknownFieldSet.parseFrom(bytes(fields, 5));
+        assertThat(castAt.getField(1).getVarintList()).containsExactly(CAST_AT.getEpochSecond());
+        assertThat(castAt.getField(2).getVarintList()).containsExactly((long) CAST_AT.getNano());
+    }
+
+    @Test
+    void should_encodeRepeatedOptionsAndOmitDefaults_when_encodingResults() throws Exception {
+        // given
+        var results = new ElectionResultsResponse(ELECTION_ID, "Election", List.of(
+                new OptionResultResponse(OPTION_ID, "Option A", 3, 75.0),
+                new OptionResultResponse(VOTER_ID, "Option B", 0, 0.0)), 3);
+
+        // when
+        var fields = UnknownFieldSet.parseFrom(ProtobufWireFormat.encode(results));
+
+        // then
+        assertThat(fields.getField(2).getLengthDelimitedList()).containsExactly(ByteString.copyFromUtf8("Election"));
+        assertThat(fields.getField(4).getVarintList()).containsExactly(3L);
+        var options = fields.getField(3).getLengthDelimitedList();
+        assertThat(options).hasSize(2);
+        var first = UnknownFieldSet.parseFrom(options.get(0));
+        assertThat(first.getField(3).getVarintList()).containsExactly(3L);
+        assertThat(first.getField(4).getFixed64List()).containsExactly(Double.doubleToRawLongBits(75.0));
+        var second = UnknownFieldSet.parseFrom(options.get(1));
+        assertThat(second.hasField(3)).isFalse();
+        assertThat(second.hasField(4)).isFalse();
+    }
+
+    @Test
+    void should_wrapEachVoterInVoterList_when_encodingVoterList() throws Exception {
+        // given
+        var voters = List.of(
+                new VoterResponse(VOTER_ID, "Jan", "jan@example.com", "ACTIVE", CAST_AT),
+                new VoterResponse(OPTION_ID, "Anna", "anna@example.com", "BLOCKED", CAST_AT));
+
+        // when
+        var fields = UnknownFieldSet.parseFrom(ProtobufWireFormat.encode(voters));
+
+        // then
+        assertThat(fields.getField(1).getLengthDelimitedList())
+                .extracting(voter -> UnknownFieldSet.parseFrom(voter).getField(4).getLengthDelimitedList().getFirst().toStringUtf8())
+                .containsExactly("ACTIVE", "BLOCKED");
+    }
+
+    @Test
+    void should_omitNextCursor_when_lastPage() throws Exception {
+        // given
+        var page = new ElectionSummaryPageResponse(
+                List.of(new ElectionSummaryResponse(ELECTION_ID, "Election", CAST_AT, 2)), null);
+
+        // when
+        var fields = UnknownFieldSet.parseFrom(ProtobufWireFormat.encode(page));
+
+        // then
+        assertThat(fields.getField(1).getLengthDelimitedList()).hasSize(1);
+        assertThat(fields.hasField(2)).isFalse();
+    }
+
+    @Test
+    void should_decodeCastVoteRequest_when_uuidsAre16Bytes() throws Exception {
+        // given
+        var body = castVoteRequest(uuid(VOTER_ID), uuid(OPTION_ID));
+
+        // when
+        var request = ProtobufWireFormat.decodeCastVoteRequest(body);
+
+        // then
+        assertThat(request.voterId()).isEqualTo(VOTER_ID);
+        assertThat(request.votingOptionId()).isEqualTo(OPTION_ID);
+    }
+
+    @Test
+    void should_rejectCastVoteRequest_when_uuidHasWrongLength() throws Exception {
+        // given
+        var body = castVoteRequest(ByteString.copyFromUtf8(VOTER_ID.toString()), uuid(OPTION_ID));
+
+        // when/then
+        assertThatThrownBy(() -> ProtobufWireFormat.decodeCastVoteRequest(body))
+                .isInstanceOf(InvalidProtocolBufferException.class)
+                .hasMessageContaining("16 bytes");
+    }
+
+    private static ByteString bytes(UnknownFieldSet fields, int field) {
+        return fields.getField(field).getLengthDelimitedList().getFirst();
+    }
+
+    private static ByteString uuid(UUID uuid) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    private static byte[] castVoteRequest(ByteString voterId, ByteString votingOptionId) throws Exception {
+        var body = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(body);
+        out.writeBytes(1, voterId);
+        out.writeBytes(2, votingOptionId);
+        out.flush();
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,190 @@
+package pl.election.adapter.out.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class DatabaseHealthIndicatorTest {
+
+    private final HikariPoolMXBean voteStats = mock(HikariPoolMXBean.class);
+    private final HikariPoolMXBean bulkStats = mock(HikariPoolMXBean.class);
+    private final DataSource pingTarget = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+
+    @Test
+    void should_reportUpFromCachedPing_when_probedRepeatedly() throws Exception {
+        // given
+        var indicator = indicator(Duration.ZERO);
+        given(pingTarget.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        indicator.ping();
+
+        // when
+        indicator.health();
+        var health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsKeys("lastPingAt", "pools");
+        then(pingTarget).should(times(1)).getConnection();
+    }
+
+    @Test
+    void should_reportOutOfService_when_pendingStaysAboveThreshold() throws Exception {
+        // given
+        var indicator = pingedIndicator(Duration.ZERO);
+        given(voteStats.getThreadsAwaitingConnection()).willReturn(11);
+
+        // when
+        indicator.samplePools();
+
+        // then
+        var health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("saturatedPools", Set.of("vote"));
+    }
+
+    @Test
+    void should_stayUp_when_pendingSpikeIsShorterThanPendingFor() throws Exception {
+        // given
+        var indicator = pingedIndicator(Duration.ofMinutes(1));
+        given(voteStats.getThreadsAwaitingConnection()).willReturn(11);
+
+        // when
+        indicator.samplePools();
+
+        // then
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void should_stayUp_when_onlyNonReadinessPoolIsSaturated() throws Exception {
+        // given
+        var indicator = pingedIndicator(Duration.ZERO);
+        given(bulkStats.getThreadsAwaitingConnection()).willReturn(50);
+
+        // when
+        indicator.samplePools();
+
+        // then
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void should_reportDown_when_pingFails() throws Exception {
+        // given
+        var indicator = indicator(Duration.ZERO);
+        given(pingTarget.getConnection()).willThrow(new SQLException("Connection refused"));
+
+        // when
+        indicator.ping();
+
+        // then
+        var health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "Connection refused");
+    }
+
+    @Test
+    void should_reportDown_when_pingConnectionTimesOut() throws Exception {
+        // given
+        var indicator = pingedIndicator(Duration.ZERO);
+        given(pingTarget.getConnection()).willThrow(new SQLTransientConnectionException("health - Connection is not available"));
+
+        // when
+        indicator.ping();
+
+        // then
+        var health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "health - Connection is not available");
+    }
+
+    @Test
+    void should_closePingPool_when_closed() throws Exception {
+        // given
+        var pingPool = mock(HikariDataSource.class);
+        var indicator = new DatabaseHealthIndicator(Map.of("vote", pool(voteStats)), Set.of("vote"), pingPool,
+                Duration.ofSeconds(1), Duration.ofMinutes(1), 10, Duration.ZERO, new SimpleMeterRegistry());
+
+        // when
+        indicator.close();
+
+        // then
+        then(pingPool).should().close();
+    }
+
+    @Test
+    void should_reportDown_when_pingTimesOutBecauseDatabaseIsUnreachable() throws Exception {
+        // given
+        var indicator = pingedIndicator(Duration.ZERO);
+        given(pingTarget.getConnection()).willThrow(new SQLTransientConnectionException("Connection is not available",
+                "08001", new SQLException("Connection refused")));
+
+        // when
+        indicator.ping();
+
+        // then
+        var health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "Connection refused");
+    }
+
+    @Test
+    void should_reportDown_when_lastPingIsStale() throws Exception {
+        // given
+        var indicator = indicator(Duration.ZERO, Duration.ofMillis(10));
+        given(pingTarget.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        indicator.ping();
+
+        // when
+        Thread.sleep(20);
+
+        // then
+        var health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails().get("error").toString()).startsWith("No ping completed since");
+    }
+
+    private DatabaseHealthIndicator pingedIndicator(Duration pendingFor) throws SQLException {
+        var indicator = indicator(pendingFor);
+        given(pingTarget.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        indicator.ping();
+        return indicator;
+    }
+
+    private DatabaseHealthIndicator indicator(Duration pendingFor) {
+        return indicator(pendingFor, Duration.ofMinutes(1));
+    }
+
+    private DatabaseHealthIndicator indicator(Duration pendingFor, Duration staleAfter) {
+        return new DatabaseHealthIndicator(Map.of("vote", pool(voteStats), "bulk", pool(bulkStats)),
+                Set.of("vote", "interactive"), pingTarget, Duration.ofSeconds(1), staleAfter, 10, pendingFor,
+                new SimpleMeterRegistry());
+    }
+
+    private static HikariDataSource pool(HikariPoolMXBean stats) {
+        var pool = mock(HikariDataSource.class);
+        given(pool.getHikariPoolMXBean()).willReturn(stats);
+        return pool;
+    }
+}
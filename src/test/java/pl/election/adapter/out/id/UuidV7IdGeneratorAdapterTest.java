@@ -0,0 +1,94 @@
+package pl.election.adapter.out.id;
+
+import org.junit.jupiter.api.Test;
+import pl.election.application.port.out.VoteIdRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7IdGeneratorAdapterTest {
+
+    private static final long MILLIS = 1_735_689_600_000L;
+
+    @Test
+    void should_encodeVersionVariantAndTimestamp_when_generatingId() {
+        // given
+        var generator = new UuidV7IdGeneratorAdapter(() -> MILLIS);
+
+        // when
+        var id = generator.generateVoteId().value();
+
+        // then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+    }
+
+    @Test
+    void should_increaseStrictly_when_manyIdsWithinSameMillisecond() {
+        // given
+        var generator = new UuidV7IdGeneratorAdapter(() -> MILLIS);
+
+        // when
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        // then
+        assertThat(ids).isSortedAccordingTo(VoteIdRange.ORDER).doesNotHaveDuplicates();
+        assertThat(ids.getLast().getMostSignificantBits() >>> 16).isGreaterThan(MILLIS);
+    }
+
+    @Test
+    void should_stayMonotonic_when_clockMovesBackwards() {
+        // given
+        var clock = new long[]{MILLIS};
+        var generator = new UuidV7IdGeneratorAdapter(() -> clock[0]);
+        var before = generator.next();
+
+        // when
+        clock[0] = MILLIS - 1_000;
+        var after = generator.next();
+
+        // then
+        assertThat(VoteIdRange.ORDER.compare(before, after)).isNegative();
+    }
+
+    @Test
+    void should_generateUniqueOrderedIds_when_calledConcurrently() throws Exception {
+        // given
+        var generator = new UuidV7IdGeneratorAdapter();
+        var executor = Executors.newFixedThreadPool(8);
+        var ids = new ConcurrentLinkedQueue<UUID>();
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    var previous = generator.next();
+                    ids.add(previous);
+                    for (int i = 0; i < 20_000; i++) {
+                        var next = generator.next();
+                        assertThat(VoteIdRange.ORDER.compare(previous, next)).isNegative();
+                        ids.add(next);
+                        previous = next;
+                    }
+                }));
+            }
+            for (var future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(ids).hasSize(8 * 20_001).doesNotHaveDuplicates();
+    }
+}
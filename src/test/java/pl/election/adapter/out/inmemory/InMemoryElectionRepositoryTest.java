@@ -0,0 +1,12 @@
+package pl.election.adapter.out.inmemory;
+
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.ElectionRepositoryContract;
+
+class InMemoryElectionRepositoryTest implements ElectionRepositoryContract {
+
+    private final InMemoryElectionRepository electionRepository = new InMemoryElectionRepository();
+
+    @Override
+    public ElectionRepository electionRepository() { return electionRepository; }
+}
@@ -0,0 +1,12 @@
+package pl.election.adapter.out.inmemory;
+
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.application.port.out.IdempotencyStoreContract;
+
+class InMemoryIdempotencyStoreTest implements IdempotencyStoreContract {
+
+    private final InMemoryIdempotencyStore idempotencyStore = new InMemoryIdempotencyStore();
+
+    @Override
+    public IdempotencyStore idempotencyStore() { return idempotencyStore; }
+}
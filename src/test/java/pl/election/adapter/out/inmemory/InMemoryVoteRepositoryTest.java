@@ -0,0 +1,22 @@
+package pl.election.adapter.out.inmemory;
+
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.application.port.out.VoteRepositoryContract;
+import pl.election.application.port.out.VoterRepository;
+
+class InMemoryVoteRepositoryTest implements VoteRepositoryContract {
+
+    private final InMemoryVoteRepository voteRepository = new InMemoryVoteRepository();
+    private final InMemoryVoterRepository voterRepository = new InMemoryVoterRepository();
+    private final InMemoryElectionRepository electionRepository = new InMemoryElectionRepository();
+
+    @Override
+    public VoteRepository voteRepository() { return voteRepository; }
+
+    @Override
+    public VoterRepository voterRepository() { return voterRepository; }
+
+    @Override
+    public ElectionRepository electionRepository() { return electionRepository; }
+}
@@ -0,0 +1,12 @@
+package pl.election.adapter.out.inmemory;
+
+import pl.election.application.port.out.VoterRepository;
+import pl.election.application.port.out.VoterRepositoryContract;
+
+class InMemoryVoterRepositoryTest implements VoterRepositoryContract {
+
+    private final InMemoryVoterRepository voterRepository = new InMemoryVoterRepository();
+
+    @Override
+    public VoterRepository voterRepository() { return voterRepository; }
+}
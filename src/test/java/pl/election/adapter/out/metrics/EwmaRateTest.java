@@ -0,0 +1,58 @@
+package pl.election.adapter.out.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static pl.election.adapter.out.metrics.EwmaRate.TICK_NANOS;
+
+class EwmaRateTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final EwmaRate rate = new EwmaRate(Duration.ofMinutes(1), now::get);
+
+    @Test
+    void should_reportTickRate_when_firstTickCompletes() {
+        // given
+        mark(50);
+
+        // when
+        now.addAndGet(TICK_NANOS);
+
+        // then
+        assertThat(rate.perSecond()).isCloseTo(10.0, within(1e-9));
+    }
+
+    @Test
+    void should_convergeToArrivalRate_when_loadIsSteady() {
+        // when
+        for (int tick = 0; tick < 120; tick++) {
+            mark(100);
+            now.addAndGet(TICK_NANOS);
+        }
+
+        // then
+        assertThat(rate.perSecond()).isCloseTo(20.0, within(0.01));
+    }
+
+    @Test
+    void should_decayTowardsZero_when_arrivalsStop() {
+        // given
+        mark(100);
+        now.addAndGet(TICK_NANOS);
+        var steady = rate.perSecond();
+
+        // when
+        now.addAndGet(12 * TICK_NANOS);
+
+        // then
+        assertThat(rate.perSecond()).isCloseTo(steady * Math.exp(-1), within(1e-6));
+    }
+
+    private void mark(int events) {
+        for (int i = 0; i < events; i++) rate.mark();
+    }
+}
@@ -0,0 +1,15 @@
+package pl.election.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.election.adapter.out.persistence.adapter.IdempotencyKeyRepositoryAdapter;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.application.port.out.IdempotencyStoreContract;
+
+class IdempotencyKeyRepositoryAdapterTest extends BaseRepositoryTest implements IdempotencyStoreContract {
+
+    @Autowired
+    private IdempotencyKeyRepositoryAdapter idempotencyStore;
+
+    @Override
+    public IdempotencyStore idempotencyStore() { return idempotencyStore; }
+}
@@ -0,0 +1,109 @@
+package pl.election.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.election.adapter.out.persistence.adapter.ElectionRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoteRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoterRepositoryAdapter;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.*;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VotesPartitioningIntegrationTest extends BaseRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ElectionRepositoryAdapter electionRepository;
+    @Autowired
+    private VoterRepositoryAdapter voterRepository;
+    @Autowired
+    private VoteRepositoryAdapter voteRepository;
+
+    @Test
+    void should_attachPartition_when_electionCreated() {
+        // when
+        var election = electionRepository.save(Election.create(ElectionId.generate(), "Partitioned Election", Instant.now()));
+
+        // then
+        var attached = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = 'votes'::regclass AND inhrelid = to_regclass(?)",
+                Long.class, partitionOf(election.id()));
+        assertThat(attached).isEqualTo(1L);
+    }
+
+    @Test
+    void should_storeVoteInElectionPartition_when_voteCast() {
+        // given
+        var fixture = givenElectionWithVote();
+
+        // when
+        var rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partitionOf(fixture.electionId()), Long.class);
+
+        // then
+        assertThat(rows).isEqualTo(1L);
+    }
+
+    @Test
+    void should_scanOnlyElectionPartition_when_queryFiltersOnElection() {
+        // given
+        var target = givenElectionWithVote();
+        var other = givenElectionWithVote();
+
+        // when
+        var plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT voting_option_id, count(*) FROM votes WHERE election_id = '%s' GROUP BY voting_option_id"
+                        .formatted(target.electionId().value()), String.class));
+
+        // then
+        assertThat(plan).contains(partitionOf(target.electionId())).doesNotContain(partitionOf(other.electionId()));
+    }
+
+    @Test
+    void should_moveVotesToArchive_when_partitionDetached() {
+        // given
+        var fixture = givenElectionWithVote();
+
+        // when
+        var archived = jdbcTemplate.queryForObject("SELECT detach_votes_partition(?::uuid)", String.class,
+                fixture.electionId().value().toString());
+
+        // then
+        assertThat(archived).isEqualTo("archive." + partitionOf(fixture.electionId()));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + archived, Long.class)).isEqualTo(1L);
+        assertThat(voteRepository.countByElectionIdGroupByOption(fixture.electionId())).isEmpty();
+    }
+
+    @Test
+    void should_rejectVoteAsElectionNotFound_when_partitionDetached() {
+        // given
+        var fixture = givenElectionWithVote();
+        jdbcTemplate.queryForObject("SELECT detach_votes_partition(?::uuid)", String.class,
+                fixture.electionId().value().toString());
+        var voter = voterRepository.save(
+                Voter.create(VoterId.generate(), "Late Voter", "late-" + System.nanoTime() + "@example.com", Instant.now()));
+
+        // when / then
+        assertThatThrownBy(() -> voteRepository.save(
+                Vote.cast(VoteId.generate(), voter.id(), fixture.electionId(), fixture.votingOptionId(), Instant.now())))
+                .isInstanceOf(ElectionNotFoundException.class);
+    }
+
+    private Vote givenElectionWithVote() {
+        var voter = voterRepository.save(
+                Voter.create(VoterId.generate(), "Partition Voter", "partition-" + System.nanoTime() + "@example.com", Instant.now()));
+        var option = VotingOption.create(VotingOptionId.generate(), "Partition Option");
+        var election = electionRepository.save(
+                Election.create(ElectionId.generate(), "Partition Election", Instant.now()).addVotingOption(option));
+        return voteRepository.save(Vote.cast(VoteId.generate(), voter.id(), election.id(), option.id(), Instant.now()));
+    }
+
+    private static String partitionOf(ElectionId electionId) {
+        return "votes_" + electionId.value().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,86 @@
+package pl.election.adapter.out.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import pl.election.adapter.out.persistence.pool.Workload;
+import pl.election.adapter.out.persistence.pool.WorkloadContext;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.in.VoterUseCase;
+import pl.election.application.port.in.VotingUseCase;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Holds every bulk connection with long sleeps, queues more bulk work behind them, and checks the
+ * vote write path keeps its latency because it is served from its own pool.
+ */
+class WorkloadPoolIsolationIntegrationTest extends BaseRepositoryTest {
+
+    private static final int BULK_POOL_SIZE = 2;
+    private static final int VOTES = 200;
+
+    @Autowired
+    private VotingUseCase votingUseCase;
+    @Autowired
+    private VoterUseCase voterUseCase;
+    @Autowired
+    private ElectionUseCase electionUseCase;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry registry;
+
+    @DynamicPropertySource
+    static void configurePools(DynamicPropertyRegistry registry) {
+        registry.add("db-pools.bulk.max-size", () -> BULK_POOL_SIZE);
+        registry.add("db-pools.bulk.connection-timeout", () -> "60s");
+    }
+
+    @Test
+    void should_keepVoteLatency_when_bulkPoolSaturated() throws InterruptedException {
+        // given
+        var election = electionUseCase.createElection("Isolation " + UUID.randomUUID());
+        var option = electionUseCase.addVotingOption(election.id(), "Option");
+        var voters = IntStream.range(0, VOTES)
+                .mapToObj(i -> voterUseCase.createVoter("Voter " + i, UUID.randomUUID() + "@test.com"))
+                .toList();
+        var bulk = Executors.newFixedThreadPool(BULK_POOL_SIZE * 3);
+        for (int i = 0; i < BULK_POOL_SIZE * 3; i++) {
+            bulk.submit(() -> WorkloadContext.run(Workload.BULK,
+                    () -> jdbcTemplate.queryForObject("SELECT pg_sleep(5)::text", String.class)));
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> pending("bulk") > 0);
+
+        // when
+        var latencies = new ArrayList<Long>();
+        for (var voter : voters) {
+            var start = System.nanoTime();
+            votingUseCase.castVote(voter.id(), election.id(), option.id());
+            latencies.add(System.nanoTime() - start);
+        }
+
+        // then
+        assertThat(pending("bulk")).isPositive();
+        assertThat(registry.get("db.pool.saturation").tag("pool", "bulk").gauge().value()).isEqualTo(1.0);
+        latencies.sort(null);
+        var p99 = TimeUnit.NANOSECONDS.toMillis(latencies.get((int) (latencies.size() * 0.99) - 1));
+        assertThat(p99).isLessThan(250);
+        bulk.shutdownNow();
+        bulk.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private double pending(String pool) {
+        return registry.get("hikaricp.connections.pending").tag("pool", pool).gauge().value();
+    }
+}
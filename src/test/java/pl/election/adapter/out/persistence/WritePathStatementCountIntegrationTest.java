@@ -0,0 +1,145 @@
+package pl.election.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import pl.election.adapter.out.persistence.adapter.ElectionRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoteRepositoryAdapter;
+import pl.election.adapter.out.persistence.adapter.VoterRepositoryAdapter;
+import pl.election.domain.model.*;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WritePathStatementCountIntegrationTest extends BaseRepositoryTest {
+
+    private static final ThreadLocal<List<String>> PREPARED = ThreadLocal.withInitial(ArrayList::new);
+
+    @Autowired
+    private VoterRepositoryAdapter voterRepository;
+    @Autowired
+    private VoteRepositoryAdapter voteRepository;
+    @Autowired
+    private ElectionRepositoryAdapter electionRepository;
+
+    @BeforeEach
+    void setUp() {
+        PREPARED.get().clear();
+    }
+
+    @Test
+    void should_issueSingleInsert_when_voterSaved() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Single Insert", UUID.randomUUID() + "@test.com", Instant.now());
+        PREPARED.get().clear();
+
+        // when
+        voterRepository.save(voter);
+
+        // then
+        assertThat(PREPARED.get()).singleElement().asString().startsWith("INSERT INTO voters");
+    }
+
+    @Test
+    void should_issueSingleStatement_when_voterBlocked() {
+        // given
+        var voter = voterRepository.save(
+                Voter.create(VoterId.generate(), "Single Update", UUID.randomUUID() + "@test.com", Instant.now()));
+        PREPARED.get().clear();
+
+        // when
+        voterRepository.save(voter.block());
+
+        // then
+        assertThat(PREPARED.get()).hasSize(1);
+        assertThat(voterRepository.findById(voter.id())).hasValueSatisfying(saved -> assertThat(saved.isBlocked()).isTrue());
+    }
+
+    @Test
+    void should_issueSingleInsert_when_voteSaved() {
+        // given
+        var voter = voterRepository.save(
+                Voter.create(VoterId.generate(), "Single Vote", UUID.randomUUID() + "@test.com", Instant.now()));
+        var optionId = VotingOptionId.generate();
+        var election = electionRepository.save(Election.create(ElectionId.generate(), "Single Insert Election", Instant.now())
+                .addVotingOption(VotingOption.create(optionId, "Option")));
+        var vote = Vote.cast(VoteId.generate(), voter.id(), election.id(), optionId, Instant.now());
+        PREPARED.get().clear();
+
+        // when
+        voteRepository.save(vote);
+
+        // then
+        assertThat(PREPARED.get()).singleElement().asString().startsWith("INSERT INTO votes");
+    }
+
+    @TestConfiguration
+    @ImportRuntimeHints(StatementCountingConfig.ConnectionProxyHints.class)
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new StatementCountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        static class ConnectionProxyHints implements RuntimeHintsRegistrar {
+
+            @Override
+            public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+                hints.proxies().registerJdkProxy(Connection.class);
+            }
+        }
+    }
+
+    private static final class StatementCountingDataSource extends DelegatingDataSource {
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                            PREPARED.get().add(sql.strip());
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package pl.election.adapter.out.persistence.pool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static pl.election.adapter.out.persistence.pool.Workload.BULK;
+import static pl.election.adapter.out.persistence.pool.Workload.INTERACTIVE;
+import static pl.election.adapter.out.persistence.pool.Workload.VOTE;
+
+class WorkloadRoutingDataSourceTest {
+
+    private final Connection voteConnection = mock(Connection.class);
+    private final Connection interactiveConnection = mock(Connection.class);
+    private final Connection bulkConnection = mock(Connection.class);
+    private WorkloadRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        routing = new WorkloadRoutingDataSource(Map.of(
+                VOTE, pool(voteConnection),
+                INTERACTIVE, pool(interactiveConnection),
+                BULK, pool(bulkConnection)));
+    }
+
+    @Test
+    void should_usePoolOfWorkload_when_connectionOpenedInsideWorkload() {
+        // when
+        var vote = WorkloadContext.run(VOTE, this::connect);
+        var bulk = WorkloadContext.run(BULK, this::connect);
+
+        // then
+        assertThat(vote).isSameAs(voteConnection);
+        assertThat(bulk).isSameAs(bulkConnection);
+    }
+
+    @Test
+    void should_useInteractivePool_when_noWorkloadSet() throws SQLException {
+        // when
+        var connection = routing.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(interactiveConnection);
+    }
+
+    @Test
+    void should_restoreOuterWorkload_when_nestedWorkloadReturns() {
+        // when
+        var connection = WorkloadContext.run(BULK, () -> {
+            WorkloadContext.run(VOTE, this::connect);
+            return connect();
+        });
+
+        // then
+        assertThat(connection).isSameAs(bulkConnection);
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    private Connection connect() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource pool(Connection connection) throws SQLException {
+        var pool = mock(DataSource.class);
+        given(pool.getConnection()).willReturn(connection);
+        return pool;
+    }
+}
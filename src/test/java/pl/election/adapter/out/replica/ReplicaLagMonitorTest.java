@@ -0,0 +1,93 @@
+package pl.election.adapter.out.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final Replica replica = new Replica("replica-1", mock(DataSource.class));
+    private final AtomicReference<Duration> measuredLag = new AtomicReference<>(Duration.ZERO);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replica), MAX_LAG, dataSource -> {
+        var lag = measuredLag.get();
+        if (lag == null) throw new SQLException("connection refused");
+        return lag;
+    }, registry);
+
+    @Test
+    void should_putReplicaInRotation_when_lagWithinThreshold() {
+        // given
+        measuredLag.set(Duration.ofMillis(200));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(replica.inRotation()).isTrue();
+        assertThat(replica.lag()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void should_takeReplicaOutOfRotation_when_lagExceedsThreshold() {
+        // given
+        monitor.check();
+        measuredLag.set(MAX_LAG.plusSeconds(1));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(replica.inRotation()).isFalse();
+    }
+
+    @Test
+    void should_returnReplicaToRotation_when_caughtUp() {
+        // given
+        measuredLag.set(MAX_LAG.plusSeconds(1));
+        monitor.check();
+        measuredLag.set(Duration.ZERO);
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(replica.inRotation()).isTrue();
+    }
+
+    @Test
+    void should_takeReplicaOutOfRotation_when_lagCheckFails() {
+        // given
+        monitor.check();
+        measuredLag.set(null);
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(replica.inRotation()).isFalse();
+    }
+
+    @Test
+    void should_exposeLagAndRotationGauges_when_checked() {
+        // given
+        measuredLag.set(Duration.ofMillis(1500));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(registry.get("db.replica.lag").tag("replica", "replica-1").gauge().value()).isEqualTo(1.5);
+        assertThat(registry.get("db.replica.in.rotation").tag("replica", "replica-1").gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,165 @@
+package pl.election.adapter.out.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaDataSource = mock(DataSource.class);
+    private final Replica replica = new Replica("replica-1", replicaDataSource);
+    private final ReadRoutingAdapter readRouting = new ReadRoutingAdapter(Duration.ofSeconds(5));
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replicaDataSource.getConnection()).willReturn(replicaConnection);
+        replica.update(Duration.ZERO, true);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void should_usePrimary_when_callNotMarkedReadOnly() throws SQLException {
+        // when
+        var connection = routing.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void should_useReplica_when_readOnlyCall() {
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void should_usePrimary_when_replicaOutOfRotation() {
+        // given
+        replica.update(Duration.ofMinutes(1), false);
+
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void should_fallBackToPrimaryAndRotateOut_when_replicaConnectionFails() throws SQLException {
+        // given
+        given(replicaDataSource.getConnection()).willThrow(new SQLException("connection refused"));
+
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(replica.inRotation()).isFalse();
+    }
+
+    @Test
+    void should_usePrimary_when_queryNestedInCommand() {
+        // when
+        var connection = readRouting.readWrite(() -> readRouting.readOnly(this::connect));
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void should_usePrimary_when_queryFollowsWriteInSameRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        readRouting.readWrite(() -> "written");
+
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void should_useReplica_when_writeHappenedInAnotherClientsRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        readRouting.readWrite(() -> "written");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void should_usePrimary_when_clientWroteWithinPinWindow() {
+        // given
+        var response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        readRouting.readWrite(() -> "written");
+        var nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(response.getCookies());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(nextRequest));
+
+        // when
+        var connection = readRouting.readOnly(this::connect);
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(response.getCookie(RoutingContext.PRIMARY_PIN_COOKIE).getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    void should_roundRobin_when_severalReplicasInRotation() throws SQLException {
+        // given
+        var secondConnection = mock(Connection.class);
+        var secondDataSource = mock(DataSource.class);
+        given(secondDataSource.getConnection()).willReturn(secondConnection);
+        var second = new Replica("replica-2", secondDataSource);
+        second.update(Duration.ZERO, true);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica, second));
+
+        // when
+        var connections = List.of(readRouting.readOnly(this::connect), readRouting.readOnly(this::connect));
+
+        // then
+        assertThat(connections).containsExactlyInAnyOrder(replicaConnection, secondConnection);
+    }
+
+    private Connection connect() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
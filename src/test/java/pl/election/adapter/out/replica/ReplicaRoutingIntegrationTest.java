@@ -0,0 +1,187 @@
+package pl.election.adapter.out.replica;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.MountableFile;
+import pl.election.application.port.in.VoterUseCase;
+import pl.election.application.port.out.ReadRoutingPort;
+import pl.election.domain.exception.VoterNotFoundException;
+
+import javax.sql.DataSource;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Primary plus one hot standby fed by streaming replication, with the application routing
+ * query-only use-case calls through {@link ReplicaRoutingDataSource}.
+ */
+@SpringBootTest
+@ImportRuntimeHints(ReplicaRoutingIntegrationTest.ReplicationScriptHints.class)
+class ReplicaRoutingIntegrationTest {
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withDatabaseName("election")
+            .withUsername("election")
+            .withPassword("election")
+            .withCopyToContainer(MountableFile.forClasspathResource("replica/allow-replication.sh"),
+                    "/docker-entrypoint-initdb.d/allow-replication.sh")
+            .withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=4", "-c", "fsync=off");
+
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>("postgres:16-alpine")
+            .withNetwork(NETWORK)
+            .withEnv("PGPASSWORD", "election")
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", """
+                    until pg_basebackup -h primary -U election -D /tmp/standby -R -X stream; do sleep 1; done
+                    chmod 700 /tmp/standby
+                    exec postgres -D /tmp/standby -c listen_addresses='*'""")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    static {
+        PRIMARY.start();
+        REPLICA.start();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("replica.enabled", () -> "true");
+        registry.add("replica.nodes[0].name", () -> "replica-1");
+        registry.add("replica.nodes[0].url", ReplicaRoutingIntegrationTest::replicaUrl);
+        registry.add("replica.nodes[0].username", () -> "election");
+        registry.add("replica.nodes[0].password", () -> "election");
+        registry.add("replica.max-lag", () -> "1s");
+        registry.add("replica.lag-check-interval", () -> "100ms");
+    }
+
+    @Autowired
+    private ReadRoutingPort readRouting;
+    @Autowired
+    private VoterUseCase voterUseCase;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource routingDataSource;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = routingDataSource.unwrap(ReplicaRoutingDataSource.class);
+        await().atMost(Duration.ofSeconds(30)).until(() -> dataSource.replicas().getFirst().inRotation());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        RequestContextHolder.resetRequestAttributes();
+        onReplica("SELECT pg_wal_replay_resume()");
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        REPLICA.stop();
+        PRIMARY.stop();
+        NETWORK.close();
+    }
+
+    @Test
+    void should_queryReplica_when_callIsReadOnly() {
+        // when
+        var inRecovery = readRouting.readOnly(this::inRecovery);
+
+        // then
+        assertThat(inRecovery).isTrue();
+        assertThat(inRecovery()).isFalse();
+    }
+
+    @Test
+    void should_queryPrimary_when_readFollowsWriteInSameRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        voterUseCase.createVoter("Replica Writer", "writer-" + UUID.randomUUID() + "@example.com");
+
+        // when
+        var inRecovery = readRouting.readOnly(this::inRecovery);
+
+        // then
+        assertThat(inRecovery).isFalse();
+    }
+
+    @Test
+    void should_serveReplicatedVoter_when_readFromReplica() {
+        // given
+        var voter = voterUseCase.createVoter("Replicated Voter", "replicated-" + UUID.randomUUID() + "@example.com");
+
+        // when / then
+        await().atMost(Duration.ofSeconds(10)).ignoreException(VoterNotFoundException.class)
+                .until(() -> voterUseCase.getVoter(voter.id()).equals(voter));
+    }
+
+    @Test
+    void should_takeReplicaOutOfRotation_when_lagExceedsThreshold() throws SQLException {
+        // given
+        onReplica("SELECT pg_wal_replay_pause()");
+
+        // when
+        await().atMost(Duration.ofSeconds(30)).pollInterval(Duration.ofMillis(200)).until(() -> {
+            voterUseCase.createVoter("Lagging Voter", "lagging-" + UUID.randomUUID() + "@example.com");
+            return !dataSource.replicas().getFirst().inRotation();
+        });
+
+        // then
+        assertThat(dataSource.replicas().getFirst().lag()).isGreaterThan(Duration.ofSeconds(1));
+        assertThat(readRouting.readOnly(this::inRecovery)).isFalse();
+    }
+
+    private boolean inRecovery() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+    }
+
+    private static void onReplica(String sql) throws SQLException {
+        try (var connection = DriverManager.getConnection(replicaUrl(), "election", "election");
+             var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String replicaUrl() {
+        return "jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(5432) + "/election";
+    }
+
+    static class ReplicationScriptHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("replica/allow-replication.sh");
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package pl.election.adapter.out.votelog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.election.adapter.out.inmemory.InMemoryElectionRepository;
+import pl.election.adapter.out.inmemory.InMemoryVoterRepository;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.application.port.out.VoteRepositoryContract;
+import pl.election.application.port.out.VoterRepository;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.model.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.election.adapter.out.votelog.VoteLogFormat.HEADER_SIZE;
+import static pl.election.adapter.out.votelog.VoteLogFormat.RECORD_SIZE;
+
+class MappedVoteLogRepositoryTest implements VoteRepositoryContract {
+
+    private static final int SEGMENT_RECORDS = 1_000;
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(5);
+
+    @TempDir
+    Path directory;
+
+    private MappedVoteLogRepository voteRepository;
+    private final InMemoryVoterRepository voterRepository = new InMemoryVoterRepository();
+    private InMemoryElectionRepository electionRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        voteRepository = open();
+        electionRepository = new InMemoryElectionRepository();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        voteRepository.close();
+    }
+
+    @Override
+    public VoteRepository voteRepository() { return voteRepository; }
+
+    @Override
+    public VoterRepository voterRepository() { return voterRepository; }
+
+    @Override
+    public ElectionRepository electionRepository() { return electionRepository; }
+
+    @Test
+    void should_rebuildTallyAndDuplicateIndex_when_reopened() throws IOException {
+        // given
+        var electionId = ElectionId.generate();
+        var optionA = VotingOptionId.generate();
+        var optionB = VotingOptionId.generate();
+        var voter = VoterId.generate();
+        voteRepository.save(vote(voter, electionId, optionA));
+        voteRepository.save(vote(VoterId.generate(), electionId, optionA));
+        voteRepository.save(vote(VoterId.generate(), electionId, optionB));
+
+        // when
+        reopen();
+
+        // then
+        assertThat(voteRepository.countByElectionIdGroupByOption(electionId))
+                .containsEntry(optionA, 2L)
+                .containsEntry(optionB, 1L);
+        assertThat(voteRepository.existsByVoterIdAndElectionId(voter, electionId)).isTrue();
+        assertThat(voteRepository.findByElectionId(electionId)).hasSize(3);
+        assertThat(voteRepository.recovery().votes()).isEqualTo(3);
+    }
+
+    @Test
+    void should_roundTripVoteFields_when_replayed() throws IOException {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VoterId.generate(), ElectionId.generate(), VotingOptionId.generate(),
+                Instant.parse("2026-03-01T10:15:30.123456789Z"));
+        voteRepository.save(vote);
+
+        // when
+        reopen();
+
+        // then
+        assertThat(voteRepository.findByElectionId(vote.electionId())).singleElement().satisfies(v -> {
+            assertThat(v.id()).isEqualTo(vote.id());
+            assertThat(v.voterId()).isEqualTo(vote.voterId());
+            assertThat(v.votingOptionId()).isEqualTo(vote.votingOptionId());
+            assertThat(v.castAt()).isEqualTo(Instant.parse("2026-03-01T10:15:30.123456Z"));
+        });
+    }
+
+    @Test
+    void should_rollSegments_when_segmentFull() throws IOException {
+        // given
+        var electionId = ElectionId.generate();
+        var option = VotingOptionId.generate();
+
+        // when
+        for (int i = 0; i < SEGMENT_RECORDS * 2 + 10; i++) {
+            voteRepository.save(vote(VoterId.generate(), electionId, option));
+        }
+        reopen();
+
+        // then
+        assertThat(voteRepository.segmentCount()).isEqualTo(3);
+        assertThat(voteRepository.countByElectionIdGroupByOption(electionId)).containsEntry(option, SEGMENT_RECORDS * 2L + 10);
+    }
+
+    @Test
+    void should_skipTornRecord_when_checksumMismatch() throws IOException {
+        // given
+        var electionId = ElectionId.generate();
+        var option = VotingOptionId.generate();
+        voteRepository.save(vote(VoterId.generate(), electionId, option));
+        voteRepository.save(vote(VoterId.generate(), electionId, option));
+        voteRepository.close();
+        try (var file = new RandomAccessFile(firstSegment().toFile(), "rw")) {
+            file.seek(HEADER_SIZE + RECORD_SIZE + 20);
+            file.write(0x7F);
+        }
+
+        // when
+        voteRepository = open();
+
+        // then
+        assertThat(voteRepository.recovery().tornRecords()).isEqualTo(1);
+        assertThat(voteRepository.countByElectionIdGroupByOption(electionId)).containsEntry(option, 1L);
+    }
+
+    @Test
+    void should_keepAcceptedVotes_when_concurrentWritersAppend() throws Exception {
+        // given
+        var electionId = ElectionId.generate();
+        var option = VotingOptionId.generate();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        voteRepository.save(vote(VoterId.generate(), electionId, option));
+                    }
+                }));
+            }
+            for (var future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+        reopen();
+
+        // then
+        assertThat(voteRepository.countByElectionIdGroupByOption(electionId)).containsEntry(option, 8_000L);
+        assertThat(voteRepository.recovery().tornRecords()).isZero();
+    }
+
+    @Test
+    void should_dropRetiredElectionsAndPackSegments_when_compacted() throws IOException {
+        // given
+        var retired = ElectionId.generate();
+        var live = ElectionId.generate();
+        var option = VotingOptionId.generate();
+        for (int i = 0; i < SEGMENT_RECORDS * 2; i++) {
+            voteRepository.save(vote(VoterId.generate(), i % 2 == 0 ? retired : live, option));
+        }
+        voteRepository.save(vote(VoterId.generate(), live, option));
+        voteRepository.flush();
+
+        voteRepository.retire(Set.of(retired));
+
+        // when
+        var compaction = voteRepository.compact();
+        reopen();
+
+        // then
+        assertThat(compaction.segmentsBefore()).isEqualTo(2);
+        assertThat(compaction.segmentsAfter()).isEqualTo(1);
+        assertThat(compaction.votesDropped()).isEqualTo(SEGMENT_RECORDS);
+        assertThat(voteRepository.segmentCount()).isEqualTo(2);
+        assertThat(voteRepository.countByElectionIdGroupByOption(retired)).isEmpty();
+        assertThat(voteRepository.countByElectionIdGroupByOption(live)).containsEntry(option, SEGMENT_RECORDS + 1L);
+        assertThat(voteRepository.findByElectionId(live)).hasSize(SEGMENT_RECORDS + 1);
+        assertThat(voteRepository.isCompactionDue()).isFalse();
+    }
+
+    @Test
+    void should_rejectVote_when_electionRetiredBeforeReopen() throws IOException {
+        // given
+        var retired = ElectionId.generate();
+        var voter = VoterId.generate();
+        voteRepository.save(vote(voter, retired, VotingOptionId.generate()));
+        voteRepository.retire(Set.of(retired));
+        reopen();
+
+        // when / then
+        assertThatThrownBy(() -> voteRepository.save(vote(VoterId.generate(), retired, VotingOptionId.generate())))
+                .isInstanceOf(ElectionNotFoundException.class);
+        assertThat(voteRepository.existsByVoterIdAndElectionId(voter, retired)).isTrue();
+    }
+
+    @Test
+    void should_keepRetiredVotesInActiveSegmentCounted_when_compacted() throws IOException {
+        // given
+        var retired = ElectionId.generate();
+        var option = VotingOptionId.generate();
+        for (int i = 0; i < SEGMENT_RECORDS; i++) {
+            voteRepository.save(vote(VoterId.generate(), retired, option));
+        }
+        var lateVoter = VoterId.generate();
+        voteRepository.save(vote(lateVoter, retired, option));
+        voteRepository.flush();
+        voteRepository.retire(Set.of(retired));
+
+        // when
+        var compaction = voteRepository.compact();
+
+        // then
+        assertThat(compaction.votesDropped()).isEqualTo(SEGMENT_RECORDS);
+        assertThat(voteRepository.countByElectionIdGroupByOption(retired)).containsExactly(Map.entry(option, 1L));
+        assertThat(voteRepository.existsByVoterIdAndElectionId(lateVoter, retired)).isTrue();
+        assertThat(voteRepository.isCompactionDue()).isFalse();
+    }
+
+    @Test
+    void should_notBeDue_when_retiredVotesOnlyInActiveSegment() throws IOException {
+        // given
+        var retired = ElectionId.generate();
+        voteRepository.save(vote(VoterId.generate(), retired, VotingOptionId.generate()));
+        voteRepository.retire(Set.of(retired));
+
+        // when
+        var due = voteRepository.isCompactionDue();
+
+        // then
+        assertThat(due).isFalse();
+        assertThat(voteRepository.hasRetiredElections()).isTrue();
+    }
+
+    @Test
+    void should_recoverMillionVotesWithinBudget_when_replayingLog() throws IOException {
+        // given
+        var votes = 1_000_000;
+        voteRepository.close();
+        voteRepository = new MappedVoteLogRepository(directory.resolve("large"), 1 << 18, FLUSH_INTERVAL);
+        var elections = List.of(ElectionId.generate(), ElectionId.generate(), ElectionId.generate());
+        var options = List.of(VotingOptionId.generate(), VotingOptionId.generate(), VotingOptionId.generate());
+        for (int i = 0; i < votes; i++) {
+            voteRepository.save(vote(VoterId.generate(), elections.get(i % 3), options.get(i % 3)));
+        }
+        voteRepository.close();
+
+        // when
+        voteRepository = new MappedVoteLogRepository(directory.resolve("large"), 1 << 18, FLUSH_INTERVAL);
+        var recovery = voteRepository.recovery();
+
+        // then
+        assertThat(recovery.votes()).isEqualTo(votes);
+        assertThat(recovery.segments()).isEqualTo(4);
+        assertThat(recovery.tornRecords()).isZero();
+        assertThat(recovery.duration()).isLessThan(Duration.ofSeconds(10));
+    }
+
+    private MappedVoteLogRepository open() throws IOException {
+        return new MappedVoteLogRepository(directory, SEGMENT_RECORDS, FLUSH_INTERVAL);
+    }
+
+    private void reopen() throws IOException {
+        voteRepository.close();
+        voteRepository = open();
+    }
+
+    private Path firstSegment() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".seg")).sorted().findFirst().orElseThrow();
+        }
+    }
+
+    private static Vote vote(VoterId voterId, ElectionId electionId, VotingOptionId optionId) {
+        return Vote.cast(VoteId.generate(), voterId, electionId, optionId, Instant.now());
+    }
+}
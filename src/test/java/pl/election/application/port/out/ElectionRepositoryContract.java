@@ -0,0 +1,240 @@
+package pl.election.application.port.out;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public interface ElectionRepositoryContract {
+
+    ElectionRepository electionRepository();
+
+    @Test
+    default void should_persistAndRetrieveElection_when_validDomainObject() {
+        // given
+        var election = Election.create(ElectionId.generate(), "Presidential Election", Instant.now());
+
+        // when
+        var saved = electionRepository().save(election);
+        var found = electionRepository().findById(saved.id());
+
+        // then
+        assertThat(found).isPresent().hasValueSatisfying(e -> {
+            assertThat(e.name()).isEqualTo("Presidential Election");
+            assertThat(e.votingOptions()).isEmpty();
+            assertThat(e.id()).isEqualTo(saved.id());
+        });
+    }
+
+    @Test
+    default void should_returnEmpty_when_electionNotExists() {
+        // given
+        var nonExistentId = ElectionId.of(UUID.randomUUID());
+
+        // when
+        var found = electionRepository().findById(nonExistentId);
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    default void should_persistVotingOptions_when_addedToElection() {
+        // given
+        var election = Election.create(ElectionId.generate(), "Options Election", Instant.now());
+        var saved = electionRepository().save(election);
+        var option = VotingOption.create(VotingOptionId.generate(), "Candidate Alpha");
+        var withOption = saved.addVotingOption(option);
+
+        // when
+        electionRepository().save(withOption);
+        var found = electionRepository().findById(saved.id());
+
+        // then
+        assertThat(found).isPresent().hasValueSatisfying(e -> {
+            assertThat(e.votingOptions()).hasSize(1);
+            assertThat(e.votingOptions().getFirst().name()).isEqualTo("Candidate Alpha");
+        });
+    }
+
+    @Test
+    default void should_persistMultipleOptions_when_addedSequentially() {
+        // given
+        var election = Election.create(ElectionId.generate(), "Multi Options", Instant.now());
+        var saved = electionRepository().save(election);
+        var optionA = VotingOption.create(VotingOptionId.generate(), "Option A");
+        var optionB = VotingOption.create(VotingOptionId.generate(), "Option B");
+        var optionC = VotingOption.create(VotingOptionId.generate(), "Option C");
+        var withOptions = saved.addVotingOption(optionA).addVotingOption(optionB).addVotingOption(optionC);
+
+        // when
+        electionRepository().save(withOptions);
+        var found = electionRepository().findById(saved.id());
+
+        // then
+        assertThat(found).isPresent().hasValueSatisfying(e -> {
+            assertThat(e.votingOptions()).hasSize(3)
+                    .extracting(VotingOption::name)
+                    .containsExactlyInAnyOrder("Option A", "Option B", "Option C");
+        });
+    }
+
+    @Test
+    default void should_returnAllElections_when_multipleExist() {
+        // given
+        var election1 = Election.create(ElectionId.generate(), "Election One", Instant.now());
+        var election2 = Election.create(ElectionId.generate(), "Election Two", Instant.now());
+        electionRepository().save(election1);
+        electionRepository().save(election2);
+
+        // when
+        var all = electionRepository().findAll();
+
+        // then
+        assertThat(all).hasSizeGreaterThanOrEqualTo(2)
+                .extracting(Election::name)
+                .contains("Election One", "Election Two");
+    }
+
+    @Test
+    default void should_returnOnlyExistingElections_when_findingAllById() {
+        // given
+        var election1 = electionRepository().save(Election.create(ElectionId.generate(), "Batch One", Instant.now())
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Batch Option")));
+        var election2 = electionRepository().save(Election.create(ElectionId.generate(), "Batch Two", Instant.now()));
+        var missing = ElectionId.generate();
+
+        // when
+        var found = electionRepository().findAllById(List.of(election1.id(), election2.id(), missing));
+
+        // then
+        assertThat(found).extracting(Election::id).containsExactlyInAnyOrder(election1.id(), election2.id());
+        assertThat(found).filteredOn(election -> election.id().equals(election1.id()))
+                .singleElement()
+                .satisfies(election -> assertThat(election.votingOptions()).extracting(VotingOption::name)
+                        .containsExactly("Batch Option"));
+    }
+
+    @Test
+    default void should_findOptionById_when_optionPersisted() {
+        // given
+        var election = Election.create(ElectionId.generate(), "FindOption Election", Instant.now());
+        var optionId = VotingOptionId.generate();
+        var option = VotingOption.create(optionId, "Findable Option");
+        var withOption = election.addVotingOption(option);
+        electionRepository().save(withOption);
+
+        // when
+        var found = electionRepository().findById(election.id());
+
+        // then
+        assertThat(found).isPresent().hasValueSatisfying(e ->
+                assertThat(e.hasOption(optionId)).isTrue());
+    }
+
+    @Test
+    default void should_keepExistingOptions_when_optionsAppended() {
+        // given
+        var existing = VotingOption.create(VotingOptionId.generate(), "Existing Option");
+        var election = electionRepository().save(
+                Election.create(ElectionId.generate(), "Append Election", Instant.now()).addVotingOption(existing));
+        var appended = List.of(
+                VotingOption.create(VotingOptionId.generate(), "Appended One"),
+                VotingOption.create(VotingOptionId.generate(), "Appended Two"));
+
+        // when
+        electionRepository().appendVotingOptions(election.id(), appended);
+        var found = electionRepository().findById(election.id());
+
+        // then
+        assertThat(found).isPresent().hasValueSatisfying(e ->
+                assertThat(e.votingOptions()).extracting(VotingOption::name)
+                        .containsExactlyInAnyOrder("Existing Option", "Appended One", "Appended Two"));
+    }
+
+    @Test
+    default void should_appendThousandsOfOptions_when_bulkAppended() {
+        // given
+        var election = electionRepository().save(Election.create(ElectionId.generate(), "Bulk Election", Instant.now()));
+        var options = IntStream.range(0, 5_000)
+                .mapToObj(i -> VotingOption.create(VotingOptionId.generate(), "Option " + i))
+                .toList();
+
+        // when
+        electionRepository().appendVotingOptions(election.id(), options);
+
+        // then
+        assertThat(electionRepository().findById(election.id()))
+                .hasValueSatisfying(e -> assertThat(e.votingOptions()).hasSize(5_000));
+    }
+
+    @Test
+    default void should_rejectAppend_when_electionNotExists() {
+        // given
+        var option = VotingOption.create(VotingOptionId.generate(), "Orphan Option");
+
+        // when / then
+        assertThatThrownBy(() -> electionRepository().appendVotingOptions(ElectionId.generate(), List.of(option)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    default void should_reportExistence_when_checkingById() {
+        // given
+        var election = electionRepository().save(Election.create(ElectionId.generate(), "Existing Election", Instant.now()));
+
+        // when / then
+        assertThat(electionRepository().existsById(election.id())).isTrue();
+        assertThat(electionRepository().existsById(ElectionId.generate())).isFalse();
+    }
+
+    @Test
+    default void should_pageSummariesNewestFirst_when_followingCursor() {
+        // given
+        var base = Instant.parse("2100-01-01T00:00:00Z").plus(ThreadLocalRandom.current().nextInt(1_000_000), ChronoUnit.DAYS);
+        var oldest = electionRepository().save(Election.create(ElectionId.generate(), "Summary One", base.plusSeconds(1)));
+        var middle = electionRepository().save(Election.create(ElectionId.generate(), "Summary Two", base.plusSeconds(2))
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option A"))
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option B")));
+        var newest = electionRepository().save(Election.create(ElectionId.generate(), "Summary Three", base.plusSeconds(3)));
+        var start = new ElectionSummary.Cursor(base.plusSeconds(4), ElectionId.generate());
+
+        // when
+        var first = electionRepository().findSummaries(start, 2);
+        var second = electionRepository().findSummaries(first.getLast().cursor(), 1);
+
+        // then
+        assertThat(first).extracting(ElectionSummary::id).containsExactly(newest.id(), middle.id());
+        assertThat(first.get(1).optionCount()).isEqualTo(2);
+        assertThat(second).extracting(ElectionSummary::id).containsExactly(oldest.id());
+    }
+
+    @Test
+    default void should_breakTiesById_when_electionsShareCreationTime() {
+        // given
+        var createdAt = Instant.parse("2100-01-01T00:00:00Z").plus(ThreadLocalRandom.current().nextInt(1_000_000), ChronoUnit.DAYS);
+        var a = electionRepository().save(Election.create(ElectionId.generate(), "Tie A", createdAt));
+        var b = electionRepository().save(Election.create(ElectionId.generate(), "Tie B", createdAt));
+        var start = new ElectionSummary.Cursor(createdAt.plusSeconds(1), ElectionId.generate());
+
+        // when
+        var first = electionRepository().findSummaries(start, 1);
+        var second = electionRepository().findSummaries(first.getFirst().cursor(), 1);
+
+        // then
+        assertThat(List.of(first.getFirst().id(), second.getFirst().id())).containsExactlyInAnyOrder(a.id(), b.id());
+    }
+}
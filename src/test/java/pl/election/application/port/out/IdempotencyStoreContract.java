@@ -0,0 +1,145 @@
+package pl.election.application.port.out;
+
+import org.junit.jupiter.api.Test;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public interface IdempotencyStoreContract {
+
+    Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    IdempotencyStore idempotencyStore();
+
+    @Test
+    default void should_findVote_when_keyRecordedWithinWindow() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var vote = vote();
+        idempotencyStore().save(key, vote, NOW);
+
+        // when
+        var found = idempotencyStore().find(key, NOW.minusSeconds(60));
+
+        // then
+        assertThat(found).contains(vote);
+    }
+
+    @Test
+    default void should_returnEmpty_when_keyRecordedBeforeWindow() {
+        // given
+        var key = UUID.randomUUID().toString();
+        idempotencyStore().save(key, vote(), NOW.minusSeconds(120));
+
+        // when
+        var found = idempotencyStore().find(key, NOW.minusSeconds(60));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    default void should_keepFirstVote_when_keySavedTwice() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var first = vote();
+        idempotencyStore().save(key, first, NOW);
+
+        // when
+        idempotencyStore().save(key, vote(), NOW);
+
+        // then
+        assertThat(idempotencyStore().find(key, NOW.minusSeconds(60))).contains(first);
+    }
+
+    @Test
+    default void should_resumeSameSubmissionAndRejectOthers_when_keyReserved() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var vote = vote();
+        var reserved = idempotencyStore().reserve(key, vote.voterId(), vote.electionId(), vote.votingOptionId(), NOW);
+
+        // when
+        var again = idempotencyStore().reserve(key, vote.voterId(), vote.electionId(), vote.votingOptionId(), NOW);
+        var other = idempotencyStore().reserve(key, vote.voterId(), vote.electionId(), VotingOptionId.generate(), NOW);
+
+        // then
+        assertThat(reserved).isEqualTo(IdempotencyStore.Reservation.NEW);
+        assertThat(again).isEqualTo(IdempotencyStore.Reservation.RESUMED);
+        assertThat(other).isEqualTo(IdempotencyStore.Reservation.CONFLICT);
+        assertThat(idempotencyStore().find(key, NOW.minusSeconds(60))).isEmpty();
+    }
+
+    @Test
+    default void should_findVote_when_reservationCompleted() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var vote = vote();
+        idempotencyStore().reserve(key, vote.voterId(), vote.electionId(), vote.votingOptionId(), NOW);
+
+        // when
+        idempotencyStore().save(key, vote, NOW);
+
+        // then
+        assertThat(idempotencyStore().find(key, NOW.minusSeconds(60))).contains(vote);
+    }
+
+    @Test
+    default void should_freeKey_when_reservationReleased() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var vote = vote();
+        idempotencyStore().reserve(key, vote.voterId(), vote.electionId(), vote.votingOptionId(), NOW);
+
+        // when
+        idempotencyStore().release(key);
+
+        // then
+        assertThat(idempotencyStore().reserve(key, VoterId.generate(), vote.electionId(), vote.votingOptionId(), NOW))
+                .isEqualTo(IdempotencyStore.Reservation.NEW);
+    }
+
+    @Test
+    default void should_keepRecordedVote_when_released() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var vote = vote();
+        idempotencyStore().save(key, vote, NOW);
+
+        // when
+        idempotencyStore().release(key);
+
+        // then
+        assertThat(idempotencyStore().find(key, NOW.minusSeconds(60))).contains(vote);
+    }
+
+    @Test
+    default void should_deleteOnlyExpiredKeys_when_purging() {
+        // given
+        var expired = UUID.randomUUID().toString();
+        var recent = UUID.randomUUID().toString();
+        idempotencyStore().save(expired, vote(), NOW.minus(2, ChronoUnit.DAYS));
+        idempotencyStore().save(recent, vote(), NOW);
+
+        // when
+        var deleted = idempotencyStore().deleteRecordedBefore(NOW.minus(1, ChronoUnit.DAYS));
+
+        // then
+        assertThat(deleted).isGreaterThanOrEqualTo(1);
+        assertThat(idempotencyStore().find(expired, Instant.EPOCH)).isEmpty();
+        assertThat(idempotencyStore().find(recent, Instant.EPOCH)).isPresent();
+    }
+
+    private static Vote vote() {
+        return Vote.cast(VoteId.generate(), VoterId.generate(), ElectionId.generate(), VotingOptionId.generate(),
+                NOW.truncatedTo(ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,77 @@
+package pl.election.application.port.out;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteIdRangeTest {
+
+    private static final VoteIdRange WHOLE_ID_SPACE = new VoteIdRange(new UUID(0L, 0L), new UUID(-1L, -1L));
+
+    @Test
+    void should_coverWholeIdSpaceContiguously_when_split() {
+        // when
+        var ranges = WHOLE_ID_SPACE.split(7);
+
+        // then
+        assertThat(ranges).hasSize(7);
+        assertThat(ranges.getFirst().first()).isEqualTo(WHOLE_ID_SPACE.first());
+        assertThat(ranges.getLast().last()).isEqualTo(WHOLE_ID_SPACE.last());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).first()).isEqualTo(successor(ranges.get(i - 1).last()));
+        }
+    }
+
+    @Test
+    void should_placeEveryIdInExactlyOneRange_when_split() {
+        // given
+        var ranges = WHOLE_ID_SPACE.split(16);
+
+        // when/then
+        for (int i = 0; i < 1_000; i++) {
+            var id = UUID.randomUUID();
+            assertThat(ranges.stream().filter(r -> r.contains(id))).hasSize(1);
+        }
+        assertThat(ranges.getLast().contains(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"))).isTrue();
+        assertThat(ranges.getFirst().contains(UUID.fromString("80000000-0000-0000-0000-000000000000"))).isFalse();
+    }
+
+    @Test
+    void should_splitAcrossLowBits_when_rangeNarrowerThanHighWord() {
+        // given
+        var range = new VoteIdRange(
+                UUID.fromString("01900000-0000-7000-8000-000000000000"),
+                UUID.fromString("01900000-0001-7000-ffff-ffffffffffff"));
+
+        // when
+        var ranges = range.split(4);
+
+        // then
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.getFirst().first()).isEqualTo(range.first());
+        assertThat(ranges.getLast().last()).isEqualTo(range.last());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).first()).isEqualTo(successor(ranges.get(i - 1).last()));
+        }
+    }
+
+    @Test
+    void should_returnSingleIdRanges_when_fewerIdsThanPartitions() {
+        // given
+        var id = UUID.fromString("01900000-0000-7000-8000-000000000005");
+        var range = new VoteIdRange(id, successor(id));
+
+        // when
+        var ranges = range.split(8);
+
+        // then
+        assertThat(ranges).containsExactly(new VoteIdRange(id, id), new VoteIdRange(successor(id), successor(id)));
+    }
+
+    private static UUID successor(UUID id) {
+        var lsb = id.getLeastSignificantBits() + 1;
+        return new UUID(lsb == 0 ? id.getMostSignificantBits() + 1 : id.getMostSignificantBits(), lsb);
+    }
+}
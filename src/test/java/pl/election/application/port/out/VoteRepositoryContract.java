@@ -0,0 +1,292 @@
+package pl.election.application.port.out;
+
+import org.junit.jupiter.api.Test;
+import pl.election.domain.exception.DuplicateVoteException;
+import pl.election.domain.model.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public interface VoteRepositoryContract {
+
+    VoteRepository voteRepository();
+
+    VoterRepository voterRepository();
+
+    ElectionRepository electionRepository();
+
+    record Fixture(Voter voter, Election election, VotingOption option) {}
+
+    default Fixture givenVoterAndElection() {
+        var voter = voterRepository().save(
+                Voter.create(VoterId.generate(), "Test Voter", "vote-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        var election = Election.create(ElectionId.generate(), "Vote Adapter Election", Instant.now());
+        var option = VotingOption.create(VotingOptionId.generate(), "Test Option");
+        var savedElection = electionRepository().save(election.addVotingOption(option));
+        return new Fixture(voter, savedElection, savedElection.votingOptions().getFirst());
+    }
+
+    @Test
+    default void should_persistAndRetrieveVote_when_validDomainObject() {
+        // given
+        var fixture = givenVoterAndElection();
+        var vote = Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now());
+
+        // when
+        var saved = voteRepository().save(vote);
+
+        // then
+        assertThat(saved.id()).isEqualTo(vote.id());
+        assertThat(saved.voterId()).isEqualTo(fixture.voter().id());
+        assertThat(saved.electionId()).isEqualTo(fixture.election().id());
+        assertThat(saved.votingOptionId()).isEqualTo(fixture.option().id());
+    }
+
+    @Test
+    default void should_findVoterVote_when_voterVotedInElection() {
+        // given
+        var fixture = givenVoterAndElection();
+        var vote = voteRepository().save(Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(),
+                fixture.option().id(), Instant.now()));
+
+        // when
+        var found = voteRepository().findByVoterIdAndElectionId(fixture.voter().id(), fixture.election().id());
+
+        // then
+        assertThat(found).hasValueSatisfying(existing -> {
+            assertThat(existing.id()).isEqualTo(vote.id());
+            assertThat(existing.votingOptionId()).isEqualTo(fixture.option().id());
+        });
+        assertThat(voteRepository().findByVoterIdAndElectionId(VoterId.generate(), fixture.election().id())).isEmpty();
+    }
+
+    @Test
+    default void should_returnTrue_when_voterAlreadyVotedInElection() {
+        // given
+        var fixture = givenVoterAndElection();
+        var vote = Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now());
+        voteRepository().save(vote);
+
+        // when
+        var exists = voteRepository().existsByVoterIdAndElectionId(fixture.voter().id(), fixture.election().id());
+
+        // then
+        assertThat(exists).isTrue();
+    }
+
+    @Test
+    default void should_returnFalse_when_voterHasNotVotedInElection() {
+        // given
+        var fixture = givenVoterAndElection();
+
+        // when
+        var exists = voteRepository().existsByVoterIdAndElectionId(fixture.voter().id(), fixture.election().id());
+
+        // then
+        assertThat(exists).isFalse();
+    }
+
+    @Test
+    default void should_findVotesByElection_when_votesExist() {
+        // given
+        var fixture = givenVoterAndElection();
+        var vote = Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now());
+        voteRepository().save(vote);
+
+        // when
+        var found = voteRepository().findByElectionId(fixture.election().id());
+
+        // then
+        assertThat(found).hasSize(1)
+                .first()
+                .satisfies(v -> assertThat(v.voterId()).isEqualTo(fixture.voter().id()));
+    }
+
+    @Test
+    default void should_returnEmptyList_when_noVotesForElection() {
+        // given
+        var fixture = givenVoterAndElection();
+
+        // when
+        var found = voteRepository().findByElectionId(fixture.election().id());
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    default void should_countVotesGroupedByOption_when_multipleVotersVote() {
+        // given
+        var fixture = givenVoterAndElection();
+        var optionB = VotingOption.create(VotingOptionId.generate(), "Option B");
+        var election = electionRepository().save(fixture.election().addVotingOption(optionB));
+        var firstOption = fixture.option();
+        var secondOption = election.votingOptions().stream()
+                .filter(o -> o.name().equals("Option B"))
+                .findFirst()
+                .orElseThrow();
+
+        var voter2 = voterRepository().save(
+                Voter.create(VoterId.generate(), "Voter Two", "voter2-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        var voter3 = voterRepository().save(
+                Voter.create(VoterId.generate(), "Voter Three", "voter3-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+
+        voteRepository().save(Vote.cast(VoteId.generate(), fixture.voter().id(), election.id(), firstOption.id(), Instant.now()));
+        voteRepository().save(Vote.cast(VoteId.generate(), voter2.id(), election.id(), firstOption.id(), Instant.now()));
+        voteRepository().save(Vote.cast(VoteId.generate(), voter3.id(), election.id(), secondOption.id(), Instant.now()));
+
+        // when
+        var counts = voteRepository().countByElectionIdGroupByOption(election.id());
+
+        // then
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(firstOption.id())).isEqualTo(2L);
+        assertThat(counts.get(secondOption.id())).isEqualTo(1L);
+    }
+
+    @Test
+    default void should_returnEmptyMap_when_noVotesForCounting() {
+        // given
+        var fixture = givenVoterAndElection();
+
+        // when
+        var counts = voteRepository().countByElectionIdGroupByOption(fixture.election().id());
+
+        // then
+        assertThat(counts).isEmpty();
+    }
+
+    @Test
+    default void should_rejectSecondVote_when_voterAlreadyVotedInElection() {
+        // given
+        var fixture = givenVoterAndElection();
+        voteRepository().save(Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now()));
+        var second = Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now());
+
+        // when/then
+        assertThatThrownBy(() -> voteRepository().save(second))
+                .isInstanceOf(DuplicateVoteException.class);
+        assertThat(voteRepository().countByElectionIdGroupByOption(fixture.election().id()))
+                .containsEntry(fixture.option().id(), 1L);
+    }
+
+    @Test
+    default void should_countOnlyVotesInRange_when_countingByVoteIdRange() {
+        // given
+        var fixture = givenVoterAndElection();
+        var otherVoter = voterRepository().save(
+                Voter.create(VoterId.generate(), "Range Voter", "range-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        var low = VoteId.of(new UUID(0x1000_0000_0000_0000L + System.nanoTime() % (1L << 48), System.nanoTime()));
+        var high = VoteId.of(new UUID(0xF000_0000_0000_0000L + System.nanoTime() % (1L << 48), System.nanoTime()));
+        voteRepository().save(Vote.cast(low, fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now()));
+        voteRepository().save(Vote.cast(high, otherVoter.id(), fixture.election().id(), fixture.option().id(), Instant.now()));
+        var ranges = new VoteIdRange(new UUID(0L, 0L), new UUID(-1L, -1L)).split(2);
+
+        // when
+        var castBefore = Instant.now().plusSeconds(60);
+        var lower = voteRepository().countByElectionIdAndVoteIdRange(fixture.election().id(), ranges.get(0), castBefore);
+        var upper = voteRepository().countByElectionIdAndVoteIdRange(fixture.election().id(), ranges.get(1), castBefore);
+
+        // then
+        assertThat(lower).containsExactly(Map.entry(fixture.option().id(), 1L));
+        assertThat(upper).containsExactly(Map.entry(fixture.option().id(), 1L));
+    }
+
+    @Test
+    default void should_countOnlyVotesCastBeforeCutoff_when_countingWithCutoff() {
+        // given
+        var fixture = givenVoterAndElection();
+        var otherVoter = voterRepository().save(
+                Voter.create(VoterId.generate(), "Late Voter", "late-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        var cutoff = Instant.parse("2025-01-15T10:00:00Z");
+        var early = Vote.cast(VoteId.generate(), fixture.voter().id(), fixture.election().id(), fixture.option().id(), cutoff.minusSeconds(1));
+        var late = Vote.cast(VoteId.generate(), otherVoter.id(), fixture.election().id(), fixture.option().id(), cutoff);
+        voteRepository().save(early);
+        voteRepository().save(late);
+        var bounds = voteRepository().findVoteIdBounds(fixture.election().id()).orElseThrow();
+
+        // when
+        var live = voteRepository().countByElectionIdCastBeforeGroupByOption(fixture.election().id(), cutoff);
+        var ranged = voteRepository().countByElectionIdAndVoteIdRange(fixture.election().id(), bounds, cutoff);
+
+        // then
+        assertThat(live).containsExactly(Map.entry(fixture.option().id(), 1L));
+        assertThat(ranged).containsExactly(Map.entry(fixture.option().id(), 1L));
+    }
+
+    @Test
+    default void should_returnLowestAndHighestVoteId_when_findingVoteIdBounds() {
+        // given
+        var fixture = givenVoterAndElection();
+        var otherVoter = voterRepository().save(
+                Voter.create(VoterId.generate(), "Bounds Voter", "bounds-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        var low = VoteId.of(new UUID(0x2000_0000_0000_0000L + System.nanoTime() % (1L << 48), System.nanoTime()));
+        var high = VoteId.of(new UUID(0xE000_0000_0000_0000L + System.nanoTime() % (1L << 48), System.nanoTime()));
+        voteRepository().save(Vote.cast(high, fixture.voter().id(), fixture.election().id(), fixture.option().id(), Instant.now()));
+        voteRepository().save(Vote.cast(low, otherVoter.id(), fixture.election().id(), fixture.option().id(), Instant.now()));
+
+        // when
+        var bounds = voteRepository().findVoteIdBounds(fixture.election().id());
+
+        // then
+        assertThat(bounds).contains(new VoteIdRange(low.value(), high.value()));
+    }
+
+    @Test
+    default void should_returnEmptyBounds_when_noVotesForElection() {
+        // given
+        var fixture = givenVoterAndElection();
+
+        // when
+        var bounds = voteRepository().findVoteIdBounds(fixture.election().id());
+
+        // then
+        assertThat(bounds).isEmpty();
+    }
+
+    @Test
+    default void should_listMostRecentlyVotedFirst_when_findingRecentlyActiveElections() {
+        // given
+        var now = Instant.now();
+        var stale = givenVoterAndElection();
+        var older = givenVoterAndElection();
+        var newer = givenVoterAndElection();
+        voteRepository().save(Vote.cast(VoteId.generate(), stale.voter().id(), stale.election().id(), stale.option().id(), now.minusSeconds(7200)));
+        voteRepository().save(Vote.cast(VoteId.generate(), older.voter().id(), older.election().id(), older.option().id(), now.minusSeconds(600)));
+        voteRepository().save(Vote.cast(VoteId.generate(), newer.voter().id(), newer.election().id(), newer.option().id(), now.minusSeconds(60)));
+
+        // when
+        var active = voteRepository().findRecentlyActiveElectionIds(now.minusSeconds(3600), 1000);
+
+        // then
+        assertThat(active).containsSubsequence(newer.election().id(), older.election().id())
+                .doesNotContain(stale.election().id());
+    }
+
+    @Test
+    default void should_countEachElectionSeparately_when_countingSeveralElections() {
+        // given
+        var first = givenVoterAndElection();
+        var second = givenVoterAndElection();
+        var empty = givenVoterAndElection();
+        var otherVoter = voterRepository().save(
+                Voter.create(VoterId.generate(), "Batch Voter", "batch-adapter-" + System.nanoTime() + "@example.com", Instant.now()));
+        voteRepository().save(Vote.cast(VoteId.generate(), first.voter().id(), first.election().id(), first.option().id(), Instant.now()));
+        voteRepository().save(Vote.cast(VoteId.generate(), otherVoter.id(), first.election().id(), first.option().id(), Instant.now()));
+        voteRepository().save(Vote.cast(VoteId.generate(), second.voter().id(), second.election().id(), second.option().id(), Instant.now()));
+
+        // when
+        var counts = voteRepository().countByElectionIdsGroupByOption(
+                List.of(first.election().id(), second.election().id(), empty.election().id()));
+
+        // then
+        assertThat(counts).containsOnlyKeys(first.election().id(), second.election().id());
+        assertThat(counts.get(first.election().id())).containsExactly(Map.entry(first.option().id(), 2L));
+        assertThat(counts.get(second.election().id())).containsExactly(Map.entry(second.option().id(), 1L));
+    }
+}
@@ -7,6 +7,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.election.application.port.in.ElectionResults;
 import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.CachePort;
 import pl.election.domain.model.ElectionId;
@@ -42,21 +44,21 @@ class CachingVotingServiceTest {
     void should_delegateCastVote_when_called() {
         // given
         var expectedVote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
-        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(expectedVote);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(expectedVote));
 
         // when
         var result = cachingService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
 
         // then
         assertThat(result).isEqualTo(expectedVote);
-        then(delegate).should().castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
+        then(delegate).should().tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID);
     }
 
     @Test
     void should_evictCache_when_voteIsCast() {
         // given
         var expectedVote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
-        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(expectedVote);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(expectedVote));
 
         // when
         cachingService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
@@ -65,6 +67,19 @@ class CachingVotingServiceTest {
         then(cachePort).should().evictResults(ELECTION_ID);
     }
 
+    @Test
+    void should_keepCache_when_voteRejected() {
+        // given
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var outcome = cachingService.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(outcome).isEqualTo(Rejected.DUPLICATE_VOTE);
+        then(cachePort).should(never()).evictResults(ELECTION_ID);
+    }
+
     @Test
     void should_returnCachedResults_when_cacheHit() {
         // given
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.application.port.out.CachePort;
 import pl.election.application.port.out.ClockPort;
 import pl.election.application.port.out.ElectionRepository;
 import pl.election.application.port.out.IdGeneratorPort;
@@ -23,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ElectionServiceTest {
@@ -33,6 +36,8 @@ class ElectionServiceTest {
     private IdGeneratorPort idGenerator;
     @Mock
     private ClockPort clock;
+    @Mock
+    private CachePort cachePort;
     @InjectMocks
     private ElectionService electionService;
 
@@ -60,11 +65,9 @@ class ElectionServiceTest {
     @Test
     void should_addOption_when_electionExists() {
         // given
-        var election = Election.create(ELECTION_ID, "Mayor Election 2025", NOW);
         var optionId = VotingOptionId.generate();
-        given(electionRepository.findById(ELECTION_ID)).willReturn(Optional.of(election));
+        given(electionRepository.existsById(ELECTION_ID)).willReturn(true);
         given(idGenerator.generateVotingOptionId()).willReturn(optionId);
-        given(electionRepository.save(any(Election.class))).willAnswer(inv -> inv.getArgument(0));
 
         // when
         var option = electionService.addVotingOption(ELECTION_ID, "Candidate A");
@@ -72,13 +75,43 @@ class ElectionServiceTest {
         // then
         assertThat(option.name()).isEqualTo("Candidate A");
         assertThat(option.id()).isEqualTo(optionId);
-        then(electionRepository).should().save(any(Election.class));
+        then(electionRepository).should().appendVotingOptions(ELECTION_ID, List.of(option));
+        then(electionRepository).should(never()).save(any(Election.class));
+    }
+
+    @Test
+    void should_evictCachedResults_when_optionAdded() {
+        // given
+        given(electionRepository.existsById(ELECTION_ID)).willReturn(true);
+        given(idGenerator.generateVotingOptionId()).willReturn(VotingOptionId.generate());
+
+        // when
+        electionService.addVotingOption(ELECTION_ID, "Candidate A");
+
+        // then
+        then(cachePort).should().evictResults(ELECTION_ID);
+    }
+
+    @Test
+    void should_appendAllOptionsInOneCall_when_addingInBulk() {
+        // given
+        given(electionRepository.existsById(ELECTION_ID)).willReturn(true);
+        given(idGenerator.generateVotingOptionId()).willAnswer(inv -> VotingOptionId.generate());
+        var names = List.of("Candidate A", "Candidate B", "Candidate C");
+
+        // when
+        var options = electionService.addVotingOptions(ELECTION_ID, names);
+
+        // then
+        assertThat(options).extracting(VotingOption::name).containsExactlyElementsOf(names);
+        then(electionRepository).should().appendVotingOptions(ELECTION_ID, options);
+        then(cachePort).should().evictResults(ELECTION_ID);
     }
 
     @Test
     void should_throwElectionNotFound_when_addingOptionToNonExistent() {
         // given
-        given(electionRepository.findById(ELECTION_ID)).willReturn(Optional.empty());
+        given(electionRepository.existsById(ELECTION_ID)).willReturn(false);
 
         // when / then
         assertThatThrownBy(() -> electionService.addVotingOption(ELECTION_ID, "Candidate A"))
@@ -140,15 +173,10 @@ class ElectionServiceTest {
     @Test
     void should_addMultipleOptions_when_calledSequentially() {
         // given
-        var election = Election.create(ELECTION_ID, "Mayor Election 2025", NOW);
         var optionId1 = VotingOptionId.generate();
         var optionId2 = VotingOptionId.generate();
-
-        given(electionRepository.findById(ELECTION_ID))
-                .willReturn(Optional.of(election))
-                .willReturn(Optional.of(election.addVotingOption(VotingOption.create(optionId1, "Candidate A"))));
+        given(electionRepository.existsById(ELECTION_ID)).willReturn(true);
         given(idGenerator.generateVotingOptionId()).willReturn(optionId1).willReturn(optionId2);
-        given(electionRepository.save(any(Election.class))).willAnswer(inv -> inv.getArgument(0));
 
         // when
         var option1 = electionService.addVotingOption(ELECTION_ID, "Candidate A");
@@ -158,4 +186,46 @@ class ElectionServiceTest {
         assertThat(option1.name()).isEqualTo("Candidate A");
         assertThat(option2.name()).isEqualTo("Candidate B");
     }
+
+    @Test
+    void should_returnNextCursor_when_moreSummariesThanLimit() {
+        // given
+        var summaries = List.of(summary(NOW.plusSeconds(3)), summary(NOW.plusSeconds(2)), summary(NOW.plusSeconds(1)));
+        given(electionRepository.findSummaries(null, 3)).willReturn(summaries);
+
+        // when
+        var page = electionService.getElectionSummaries(null, 2);
+
+        // then
+        assertThat(page.summaries()).containsExactlyElementsOf(summaries.subList(0, 2));
+        assertThat(page.next()).isEqualTo(summaries.get(1).cursor());
+    }
+
+    @Test
+    void should_returnNoCursor_when_lastPage() {
+        // given
+        var after = new ElectionSummary.Cursor(NOW, ElectionId.generate());
+        var summaries = List.of(summary(NOW.minusSeconds(1)));
+        given(electionRepository.findSummaries(after, 3)).willReturn(summaries);
+
+        // when
+        var page = electionService.getElectionSummaries(after, 2);
+
+        // then
+        assertThat(page.summaries()).containsExactlyElementsOf(summaries);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void should_rejectPageSize_when_outOfRange() {
+        // when / then
+        assertThatThrownBy(() -> electionService.getElectionSummaries(null, ElectionService.MAX_SUMMARY_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> electionService.getElectionSummaries(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ElectionSummary summary(Instant createdAt) {
+        return new ElectionSummary(ElectionId.generate(), "Election " + createdAt, createdAt, 2);
+    }
 }
@@ -0,0 +1,226 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.IdempotentVotingUseCase.IdempotentOutcome;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.IdempotencyStore;
+import pl.election.application.port.out.IdempotencyStore.Reservation;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.IdempotencyKeyReusedException;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentVotingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final String KEY = "retry-7f3a";
+    private static final VoterId VOTER_ID = VoterId.generate();
+    private static final ElectionId ELECTION_ID = ElectionId.generate();
+    private static final VotingOptionId OPTION_ID = VotingOptionId.generate();
+
+    @Mock
+    private VotingUseCase delegate;
+    @Mock
+    private IdempotencyStore store;
+    @Mock
+    private VoteRepository voteRepository;
+
+    private IdempotentVotingService service;
+
+    @BeforeEach
+    void setUp() {
+        ClockPort clock = () -> NOW;
+        service = new IdempotentVotingService(delegate, store, voteRepository, clock, RETENTION);
+    }
+
+    @Test
+    void should_castAndRecordVote_when_keyIsNew() {
+        // given
+        var vote = vote(OPTION_ID);
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.NEW);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(vote));
+
+        // when
+        var result = service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(new IdempotentOutcome(new Accepted(vote), false));
+        then(store).should().save(KEY, vote, NOW);
+        then(store).should(never()).release(anyString());
+    }
+
+    @Test
+    void should_replayStoredVote_when_keyAlreadyRecorded() {
+        // given
+        var vote = vote(OPTION_ID);
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.of(vote));
+
+        // when
+        var result = service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(new IdempotentOutcome(new Accepted(vote), true));
+        then(delegate).should(never()).tryCastVote(any(), any(), any());
+        then(store).should(never()).save(anyString(), any(), any());
+    }
+
+    @Test
+    void should_rejectReplay_when_keyRecordedForDifferentVote() {
+        // given
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.of(vote(VotingOptionId.generate())));
+
+        // when / then
+        assertThatThrownBy(() -> service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IdempotencyKeyReusedException.class)
+                .hasMessageContaining(KEY);
+        then(delegate).should(never()).tryCastVote(any(), any(), any());
+    }
+
+    @Test
+    void should_releaseKey_when_voteRejected() {
+        // given
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.NEW);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(Rejected.VOTER_BLOCKED);
+
+        // when
+        var result = service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(new IdempotentOutcome(Rejected.VOTER_BLOCKED, false));
+        then(store).should(never()).save(anyString(), any(), any());
+        then(store).should().release(KEY);
+    }
+
+    @Test
+    void should_reportDuplicate_when_voterVotedUnderAnotherKey() {
+        // given
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.NEW);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(Rejected.DUPLICATE_VOTE);
+
+        // when
+        var result = service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(new IdempotentOutcome(Rejected.DUPLICATE_VOTE, false));
+        then(voteRepository).shouldHaveNoInteractions();
+        then(store).should().release(KEY);
+    }
+
+    @Test
+    void should_replayVoterVote_when_earlierAttemptCastItBeforeRecordingKey() {
+        // given
+        var vote = vote(OPTION_ID);
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.RESUMED);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(Rejected.DUPLICATE_VOTE);
+        given(voteRepository.findByVoterIdAndElectionId(VOTER_ID, ELECTION_ID)).willReturn(Optional.of(vote));
+
+        // when
+        var result = service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(new IdempotentOutcome(new Accepted(vote), true));
+        then(store).should().save(KEY, vote, NOW);
+        then(store).should(never()).release(anyString());
+    }
+
+    @Test
+    void should_rejectKey_when_reservedForDifferentSubmission() {
+        // given
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.CONFLICT);
+
+        // when / then
+        assertThatThrownBy(() -> service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        then(delegate).should(never()).tryCastVote(any(), any(), any());
+    }
+
+    @Test
+    void should_keepReservation_when_castingFails() {
+        // given
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.NEW);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willThrow(new IllegalStateException("connection reset"));
+
+        // when / then
+        assertThatThrownBy(() -> service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IllegalStateException.class);
+        then(store).should(never()).release(anyString());
+    }
+
+    @Test
+    void should_rejectKey_when_blankOrTooLong() {
+        // when / then
+        assertThatThrownBy(() -> service.tryCastVote(" ", VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.tryCastVote("k".repeat(IdempotentVotingService.MAX_KEY_LENGTH + 1),
+                VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(store).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_castOnce_when_duplicateArrivesWhileFirstInFlight() throws Exception {
+        // given
+        var vote = vote(OPTION_ID);
+        var casting = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        given(store.find(KEY, NOW.minus(RETENTION))).willReturn(Optional.empty());
+        given(store.reserve(KEY, VOTER_ID, ELECTION_ID, OPTION_ID, NOW)).willReturn(Reservation.NEW);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willAnswer(inv -> {
+            casting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Accepted(vote);
+        });
+        var first = CompletableFuture.supplyAsync(() -> service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID));
+        assertThat(casting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var second = CompletableFuture.supplyAsync(() -> service.tryCastVote(KEY, VOTER_ID, ELECTION_ID, OPTION_ID));
+        await().during(100, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).until(() -> !second.isDone());
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotentOutcome(new Accepted(vote), false));
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotentOutcome(new Accepted(vote), true));
+        then(delegate).should(times(1)).tryCastVote(any(), any(), any());
+        then(store).should(times(1)).find(anyString(), any());
+    }
+
+    private static Vote vote(VotingOptionId optionId) {
+        return Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, optionId, NOW);
+    }
+}
@@ -0,0 +1,83 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ObservableVoteRepositoryTest {
+
+    @Mock
+    private VoteRepository delegate;
+    @Mock
+    private MetricsPort metricsPort;
+
+    private ObservableVoteRepository repository;
+
+    private static final VoterId VOTER_ID = VoterId.generate();
+    private static final ElectionId ELECTION_ID = ElectionId.generate();
+    private static final VotingOptionId OPTION_ID = VotingOptionId.generate();
+
+    @BeforeEach
+    void setUp() {
+        repository = new ObservableVoteRepository(delegate, metricsPort);
+    }
+
+    @Test
+    void should_delegateSave_when_called() {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
+        given(delegate.save(vote)).willReturn(vote);
+
+        // when
+        var result = repository.save(vote);
+
+        // then
+        assertThat(result).isEqualTo(vote);
+    }
+
+    @Test
+    void should_recordPortCallInNanos_when_called() {
+        // given
+        given(delegate.existsByVoterIdAndElectionId(VOTER_ID, ELECTION_ID)).willReturn(true);
+
+        // when
+        repository.existsByVoterIdAndElectionId(VOTER_ID, ELECTION_ID);
+
+        // then
+        var durationCaptor = ArgumentCaptor.forClass(Long.class);
+        then(metricsPort).should().recordPortCall(
+                eq("voteRepository"), eq("existsByVoterIdAndElectionId"), durationCaptor.capture());
+        assertThat(durationCaptor.getValue()).isGreaterThanOrEqualTo(0L);
+    }
+
+    @Test
+    void should_recordPortCall_when_delegateThrows() {
+        // given
+        given(delegate.findByElectionId(ELECTION_ID)).willThrow(new IllegalStateException("db down"));
+
+        // when/then
+        assertThatThrownBy(() -> repository.findByElectionId(ELECTION_ID))
+                .isInstanceOf(IllegalStateException.class);
+        then(metricsPort).should().recordPortCall(eq("voteRepository"), eq("findByElectionId"), anyLong());
+    }
+}
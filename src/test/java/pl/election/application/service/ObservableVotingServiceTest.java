@@ -8,6 +8,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.election.application.port.in.ElectionResults;
 import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
 import pl.election.application.port.in.VotingUseCase;
 import pl.election.application.port.out.MetricsPort;
 import pl.election.domain.model.ElectionId;
@@ -20,10 +22,12 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ObservableVotingServiceTest {
@@ -43,7 +47,7 @@ class ObservableVotingServiceTest {
     void should_delegateCastVote_when_called() {
         // given
         var expectedVote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
-        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(expectedVote);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(expectedVote));
 
         // when
         var result = observableService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
@@ -56,7 +60,7 @@ class ObservableVotingServiceTest {
     void should_recordVoteCastMetric_when_voteCast() {
         // given
         var expectedVote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
-        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(expectedVote);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(expectedVote));
 
         // when
         observableService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
@@ -67,6 +71,18 @@ class ObservableVotingServiceTest {
         assertThat(durationCaptor.getValue()).isGreaterThanOrEqualTo(0L);
     }
 
+    @Test
+    void should_notRecordVoteCastMetric_when_voteRejected() {
+        // given
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(Rejected.VOTER_BLOCKED);
+
+        // when
+        observableService.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        then(metricsPort).should(never()).recordVoteCast(eq(ELECTION_ID), anyLong());
+    }
+
     @Test
     void should_delegateGetResults_when_called() {
         // given
@@ -99,7 +115,7 @@ class ObservableVotingServiceTest {
     void should_recordNonNegativeDuration_when_voteCast() {
         // given
         var expectedVote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
-        given(delegate.castVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(expectedVote);
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(expectedVote));
 
         // when
         observableService.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
@@ -124,4 +140,16 @@ class ObservableVotingServiceTest {
         then(metricsPort).should().recordResultsQuery(eq(ELECTION_ID), durationCaptor.capture());
         assertThat(durationCaptor.getValue()).isGreaterThanOrEqualTo(0L);
     }
+
+    @Test
+    void should_pairVoteStartedWithFinished_when_delegateThrows() {
+        // given
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willThrow(new IllegalStateException("Database unavailable"));
+
+        // when / then
+        assertThatThrownBy(() -> observableService.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID))
+                .isInstanceOf(IllegalStateException.class);
+        then(metricsPort).should().recordVoteStarted();
+        then(metricsPort).should().recordVoteFinished();
+    }
 }
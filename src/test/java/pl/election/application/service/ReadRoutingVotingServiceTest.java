@@ -0,0 +1,82 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ReadRoutingPort;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReadRoutingVotingServiceTest {
+
+    private static final VoterId VOTER_ID = VoterId.generate();
+    private static final ElectionId ELECTION_ID = ElectionId.generate();
+    private static final VotingOptionId OPTION_ID = VotingOptionId.generate();
+
+    @Mock
+    private VotingUseCase delegate;
+    private final List<String> routed = new ArrayList<>();
+    private ReadRoutingVotingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReadRoutingVotingService(delegate, new ReadRoutingPort() {
+            @Override
+            public <T> T readOnly(Supplier<T> query) {
+                routed.add("readOnly");
+                return query.get();
+            }
+
+            @Override
+            public <T> T readWrite(Supplier<T> command) {
+                routed.add("readWrite");
+                return command.get();
+            }
+        });
+    }
+
+    @Test
+    void should_routeAsCommand_when_castingVote() {
+        // given
+        var vote = Vote.cast(VoteId.generate(), VOTER_ID, ELECTION_ID, OPTION_ID, Instant.now());
+        given(delegate.tryCastVote(VOTER_ID, ELECTION_ID, OPTION_ID)).willReturn(new Accepted(vote));
+
+        // when
+        var result = service.castVote(VOTER_ID, ELECTION_ID, OPTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(vote);
+        assertThat(routed).containsExactly("readWrite");
+    }
+
+    @Test
+    void should_readPrimary_when_readingResults() {
+        // given
+        var results = new ElectionResults(ELECTION_ID, "Election", List.of());
+        given(delegate.getResults(ELECTION_ID)).willReturn(results);
+
+        // when
+        var result = service.getResults(ELECTION_ID);
+
+        // then
+        assertThat(result).isEqualTo(results);
+        assertThat(routed).isEmpty();
+    }
+}
@@ -0,0 +1,297 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.Recount;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteIdRange;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.exception.ElectionNotFoundException;
+import pl.election.domain.exception.RecountNotFoundException;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class RecountServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+    private static final int PARTITIONS = 8;
+    private static final Duration COMMIT_GRACE = Duration.ofSeconds(5);
+    private static final Duration RETENTION = Duration.ofHours(1);
+    private static final VoteIdRange BOUNDS = new VoteIdRange(new UUID(0L, 0L), new UUID(-1L, -1L));
+
+    @Mock
+    private ElectionRepository electionRepository;
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private VotingUseCase votingUseCase;
+    @Mock
+    private ClockPort clock;
+
+    private RecountService recountService;
+
+    private final ElectionId electionId = ElectionId.generate();
+    private final VotingOptionId optionA = VotingOptionId.generate();
+    private final VotingOptionId optionB = VotingOptionId.generate();
+
+    @AfterEach
+    void tearDown() {
+        if (recountService != null) recountService.shutdown();
+    }
+
+    @Test
+    void should_mergePartitionCountsAndMatchLive_when_countsAgree() {
+        // given
+        givenElectionExists();
+        recountService = service(2, 1_000);
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE))))
+                .willReturn(Map.of(optionA, 3L, optionB, 1L));
+        givenLive(3L * PARTITIONS, PARTITIONS);
+
+        // when
+        var recount = awaitFinished(recountService.startRecount(electionId).id());
+
+        // then
+        assertThat(recount.status()).isEqualTo(Recount.Status.COMPLETED);
+        assertThat(recount.partitionsCompleted()).isEqualTo(PARTITIONS);
+        assertThat(recount.votesCounted()).isEqualTo(4L * PARTITIONS);
+        assertThat(recount.matchesLive()).isTrue();
+        assertThat(recount.options()).extracting(Recount.OptionDiff::recounted)
+                .containsExactly(3L * PARTITIONS, (long) PARTITIONS);
+    }
+
+    @Test
+    void should_reportDifference_when_liveCountersDrift() {
+        // given
+        givenElectionExists();
+        recountService = service(2, 1_000);
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE))))
+                .willReturn(Map.of(optionA, 1L));
+        givenLive(PARTITIONS + 2, 0);
+
+        // when
+        var recount = awaitFinished(recountService.startRecount(electionId).id());
+
+        // then
+        assertThat(recount.matchesLive()).isFalse();
+        assertThat(recount.options()).first().satisfies(o -> {
+            assertThat(o.optionId()).isEqualTo(optionA);
+            assertThat(o.difference()).isEqualTo(-2L);
+        });
+    }
+
+    @Test
+    void should_reportVotesCastAfterCutoffApart_when_servedResultsIncludeThem() {
+        // given
+        givenElectionExists();
+        recountService = service(2, 1_000);
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE))))
+                .willReturn(Map.of(optionA, 1L));
+        given(votingUseCase.getResults(electionId))
+                .willReturn(ElectionResults.of(election(), Map.of(optionA, PARTITIONS + 3L, optionB, 0L)));
+        given(voteRepository.countByElectionIdCastBeforeGroupByOption(electionId, NOW.minus(COMMIT_GRACE)))
+                .willReturn(Map.of(optionA, (long) PARTITIONS));
+        given(voteRepository.countByElectionIdCastBeforeGroupByOption(electionId, NOW))
+                .willReturn(Map.of(optionA, PARTITIONS + 3L));
+
+        // when
+        var recount = awaitFinished(recountService.startRecount(electionId).id());
+
+        // then
+        assertThat(recount.matchesLive()).isTrue();
+        assertThat(recount.options()).first().satisfies(o -> {
+            assertThat(o.recounted()).isEqualTo(PARTITIONS);
+            assertThat(o.live()).isEqualTo(PARTITIONS + 3L);
+            assertThat(o.castAfterCutoff()).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void should_neverExceedParallelism_when_scanningPartitions() {
+        // given
+        givenElectionExists();
+        recountService = service(2, 1_000);
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE)))).willAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return Map.of(optionA, 1L);
+        });
+        givenLive(PARTITIONS, 0);
+
+        // when
+        var first = recountService.startRecount(electionId);
+        var second = recountService.startRecount(electionId);
+        awaitFinished(first.id());
+        awaitFinished(second.id());
+
+        // then
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_stopScanning_when_cancelled() throws InterruptedException {
+        // given
+        givenElectionExists();
+        recountService = service(1, 1_000);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE)))).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Map.of(optionA, 1L);
+        });
+        var recount = recountService.startRecount(electionId);
+        started.await();
+
+        // when
+        recountService.cancelRecount(recount.id());
+        release.countDown();
+        var finished = awaitFinished(recount.id());
+
+        // then
+        assertThat(finished.status()).isEqualTo(Recount.Status.CANCELLED);
+        assertThat(finished.options()).isEmpty();
+        then(voteRepository).should(atMost(1)).countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE)));
+        then(voteRepository).should(never()).countByElectionIdCastBeforeGroupByOption(any(), any());
+        then(votingUseCase).should(never()).getResults(any());
+    }
+
+    @Test
+    void should_completeWithoutScanning_when_electionHasNoVotes() {
+        // given
+        given(electionRepository.findById(electionId)).willReturn(Optional.of(election()));
+        given(voteRepository.findVoteIdBounds(electionId)).willReturn(Optional.empty());
+        givenLive(0, 0);
+        recountService = service(1, 1_000);
+
+        // when
+        var recount = awaitFinished(recountService.startRecount(electionId).id());
+
+        // then
+        assertThat(recount.status()).isEqualTo(Recount.Status.COMPLETED);
+        assertThat(recount.partitions()).isZero();
+        assertThat(recount.matchesLive()).isTrue();
+        then(voteRepository).should(never()).countByElectionIdAndVoteIdRange(any(), any(), any());
+    }
+
+    @Test
+    void should_keepFailureCause_when_partitionQueryFails() {
+        // given
+        givenElectionExists();
+        recountService = service(1, 1_000);
+        given(voteRepository.countByElectionIdAndVoteIdRange(eq(electionId), any(), eq(NOW.minus(COMMIT_GRACE))))
+                .willThrow(new IllegalStateException("statement timeout"));
+
+        // when
+        var recount = awaitFinished(recountService.startRecount(electionId).id());
+
+        // then
+        assertThat(recount.status()).isEqualTo(Recount.Status.FAILED);
+        assertThat(recount.failure()).isEqualTo("IllegalStateException: statement timeout");
+    }
+
+    @Test
+    void should_evictFinishedRecount_when_retentionElapsed() {
+        // given
+        given(electionRepository.findById(electionId)).willReturn(Optional.of(election()));
+        given(voteRepository.findVoteIdBounds(electionId)).willReturn(Optional.empty());
+        given(voteRepository.countByElectionIdCastBeforeGroupByOption(eq(electionId), any())).willReturn(Map.of());
+        given(votingUseCase.getResults(electionId)).willReturn(ElectionResults.of(election(), Map.of()));
+        recountService = service(1, 1_000);
+        var finished = awaitFinished(recountService.startRecount(electionId).id());
+        given(clock.now()).willReturn(NOW.plus(RETENTION).plusSeconds(1));
+
+        // when
+        recountService.startRecount(electionId);
+
+        // then
+        assertThatThrownBy(() -> recountService.getRecount(finished.id()))
+                .isInstanceOf(RecountNotFoundException.class);
+    }
+
+    @Test
+    void should_throwElectionNotFound_when_electionMissing() {
+        // given
+        recountService = service(1, 1_000);
+        given(electionRepository.findById(electionId)).willReturn(Optional.empty());
+
+        // when/then
+        assertThatThrownBy(() -> recountService.startRecount(electionId))
+                .isInstanceOf(ElectionNotFoundException.class);
+    }
+
+    @Test
+    void should_throwRecountNotFound_when_unknownId() {
+        // given
+        recountService = service(1, 1_000);
+
+        // when/then
+        assertThatThrownBy(() -> recountService.getRecount(UUID.randomUUID()))
+                .isInstanceOf(RecountNotFoundException.class);
+    }
+
+    private RecountService service(int parallelism, double partitionsPerSecond) {
+        lenient().when(clock.now()).thenReturn(NOW);
+        return new RecountService(electionRepository, voteRepository, votingUseCase, clock, COMMIT_GRACE, RETENTION,
+                PARTITIONS, parallelism, partitionsPerSecond);
+    }
+
+    private void givenElectionExists() {
+        given(electionRepository.findById(electionId)).willReturn(Optional.of(election()));
+        given(voteRepository.findVoteIdBounds(electionId)).willReturn(Optional.of(BOUNDS));
+    }
+
+    private Election election() {
+        return Election.reconstitute(electionId, "Audited Election", List.of(
+                VotingOption.reconstitute(optionA, "Option A"),
+                VotingOption.reconstitute(optionB, "Option B")), NOW);
+    }
+
+    private void givenLive(long countA, long countB) {
+        given(votingUseCase.getResults(electionId))
+                .willReturn(ElectionResults.of(election(), Map.of(optionA, countA, optionB, countB)));
+        given(voteRepository.countByElectionIdCastBeforeGroupByOption(eq(electionId), any()))
+                .willReturn(Map.of(optionA, countA, optionB, countB));
+    }
+
+    private Recount awaitFinished(UUID recountId) {
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            var recount = recountService.getRecount(recountId);
+            if (recount.status() != Recount.Status.RUNNING) return recount;
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Recount did not finish: " + recountId);
+    }
+}
@@ -0,0 +1,129 @@
+package pl.election.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionResults.OptionResult;
+import pl.election.application.port.out.CachePort;
+import pl.election.application.port.out.ClockPort;
+import pl.election.application.port.out.ElectionRepository;
+import pl.election.application.port.out.VoteRepository;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ResultsPreloadServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Mock
+    private ElectionRepository electionRepository;
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private CachePort cachePort;
+    @Mock
+    private ClockPort clock;
+
+    @Test
+    void should_cacheResultsOfActiveElections_when_preloading() {
+        // given
+        var voted = VotingOption.create(VotingOptionId.generate(), "Voted");
+        var unvoted = VotingOption.create(VotingOptionId.generate(), "Unvoted");
+        var election = Election.create(ElectionId.generate(), "Active", NOW).addVotingOption(voted).addVotingOption(unvoted);
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.findRecentlyActiveElectionIds(NOW.minus(Duration.ofHours(1)), 500))
+                .willReturn(List.of(election.id()));
+        given(electionRepository.findAllById(List.of(election.id()))).willReturn(List.of(election));
+        given(voteRepository.countByElectionIdsGroupByOption(List.of(election.id())))
+                .willReturn(Map.of(election.id(), Map.of(voted.id(), 3L)));
+
+        // when
+        var preload = service(100_000, Duration.ofSeconds(10)).preload();
+
+        // then
+        assertThat(preload).isEqualTo(new ResultsPreloadService.Preload(1, 1, 2, true));
+        then(cachePort).should().putResults(election.id(), new ElectionResults(election.id(), "Active", List.of(
+                new OptionResult(voted.id(), "Voted", 3L),
+                new OptionResult(unvoted.id(), "Unvoted", 0L))));
+    }
+
+    @Test
+    void should_loadInBatches_when_moreActiveElectionsThanBatchSize() {
+        // given
+        var ids = IntStream.range(0, ResultsPreloadService.BATCH_SIZE + 1).mapToObj(i -> ElectionId.generate()).toList();
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.findRecentlyActiveElectionIds(any(), any(Integer.class))).willReturn(ids);
+        given(electionRepository.findAllById(anyList())).willReturn(List.of());
+        given(voteRepository.countByElectionIdsGroupByOption(anyList())).willReturn(Map.of());
+
+        // when
+        service(100_000, Duration.ofSeconds(10)).preload();
+
+        // then
+        then(electionRepository).should(times(2)).findAllById(anyList());
+        then(voteRepository).should(times(2)).countByElectionIdsGroupByOption(anyList());
+    }
+
+    @Test
+    void should_stopBeforeExceedingOptionLimit_when_maxOptionsReached() {
+        // given
+        var first = Election.create(ElectionId.generate(), "First", NOW)
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option A"))
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option B"));
+        var second = Election.create(ElectionId.generate(), "Second", NOW)
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option C"));
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.findRecentlyActiveElectionIds(any(), any(Integer.class)))
+                .willReturn(List.of(first.id(), second.id()));
+        given(electionRepository.findAllById(anyList())).willReturn(List.of(second, first));
+        given(voteRepository.countByElectionIdsGroupByOption(anyList())).willReturn(Map.of());
+
+        // when
+        var preload = service(2, Duration.ofSeconds(10)).preload();
+
+        // then
+        assertThat(preload).isEqualTo(new ResultsPreloadService.Preload(2, 1, 2, false));
+        then(cachePort).should().putResults(any(), any());
+        then(cachePort).should().putResults(first.id(), ElectionResults.of(first, Map.of()));
+    }
+
+    @Test
+    void should_cacheNothing_when_timeBudgetIsExhausted() {
+        // given
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.findRecentlyActiveElectionIds(any(), any(Integer.class)))
+                .willReturn(List.of(ElectionId.generate()));
+
+        // when
+        var preload = service(100_000, Duration.ZERO).preload();
+
+        // then
+        assertThat(preload.complete()).isFalse();
+        then(electionRepository).should(never()).findAllById(anyList());
+        then(cachePort).should(never()).putResults(any(), any());
+    }
+
+    private ResultsPreloadService service(long maxOptions, Duration maxDuration) {
+        return new ResultsPreloadService(electionRepository, voteRepository, cachePort, clock,
+                Duration.ofHours(1), 500, maxOptions, maxDuration);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.application.port.in.VoteOutcome;
 import pl.election.application.port.out.ClockPort;
 import pl.election.application.port.out.ElectionRepository;
 import pl.election.application.port.out.IdGeneratorPort;
@@ -186,6 +187,90 @@ class VotingServiceTest {
         then(voteRepository).should(never()).save(any());
     }
 
+    @Test
+    void should_returnSharedRejection_when_alreadyVoted() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(Optional.of(voter));
+        given(electionRepository.findById(election.id())).willReturn(Optional.of(election));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(true);
+
+        // when
+        var first = votingService.tryCastVote(voter.id(), election.id(), optionId);
+        var second = votingService.tryCastVote(voter.id(), election.id(), optionId);
+
+        // then
+        assertThat(first).isSameAs(VoteOutcome.Rejected.DUPLICATE_VOTE).isSameAs(second);
+        then(voteRepository).should(never()).save(any());
+    }
+
+    @Test
+    void should_returnAcceptedVote_when_allValid() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(Optional.of(voter));
+        given(electionRepository.findById(election.id())).willReturn(Optional.of(election));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(false);
+        given(idGenerator.generateVoteId()).willReturn(VoteId.generate());
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.save(any(Vote.class))).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        var outcome = votingService.tryCastVote(voter.id(), election.id(), optionId);
+
+        // then
+        assertThat(outcome).isInstanceOfSatisfying(VoteOutcome.Accepted.class, accepted ->
+                assertThat(accepted.vote().votingOptionId()).isEqualTo(optionId));
+    }
+
+    @Test
+    void should_returnSharedRejection_when_concurrentVoteWinsInsert() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(Optional.of(voter));
+        given(electionRepository.findById(election.id())).willReturn(Optional.of(election));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(false);
+        given(idGenerator.generateVoteId()).willReturn(VoteId.generate());
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.save(any(Vote.class))).willThrow(new DuplicateVoteException("Voter already voted in this election"));
+
+        // when
+        var outcome = votingService.tryCastVote(voter.id(), election.id(), optionId);
+
+        // then
+        assertThat(outcome).isSameAs(VoteOutcome.Rejected.DUPLICATE_VOTE);
+    }
+
+    @Test
+    void should_rejectAsElectionNotFound_when_electionVotesWereArchived() {
+        // given
+        var voter = Voter.create(VoterId.generate(), "Jan Kowalski", "jan@example.com", NOW);
+        var optionId = VotingOptionId.generate();
+        var election = Election.create(ElectionId.generate(), "Mayor Election 2025", NOW)
+                .addVotingOption(VotingOption.create(optionId, "Candidate A"));
+        given(voterRepository.findById(voter.id())).willReturn(Optional.of(voter));
+        given(electionRepository.findById(election.id())).willReturn(Optional.of(election));
+        given(voteRepository.existsByVoterIdAndElectionId(voter.id(), election.id())).willReturn(false);
+        given(idGenerator.generateVoteId()).willReturn(VoteId.generate());
+        given(clock.now()).willReturn(NOW);
+        given(voteRepository.save(any(Vote.class))).willThrow(new ElectionNotFoundException("Election not found"));
+
+        // when
+        var outcome = votingService.tryCastVote(voter.id(), election.id(), optionId);
+
+        // then
+        assertThat(outcome).isSameAs(VoteOutcome.Rejected.ELECTION_NOT_FOUND);
+    }
+
     @Test
     void should_returnResults_when_electionExists() {
         // given
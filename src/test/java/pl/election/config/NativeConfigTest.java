@@ -0,0 +1,60 @@
+package pl.election.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import pl.election.adapter.in.web.dto.ApiError;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeConfigTest() {
+        new NativeConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void should_registerCacheAndNodeClasses_when_cachesBuiltFromSpecsInUse() throws Exception {
+        // given
+        var rateLimitCache = Caffeine.newBuilder().expireAfterAccess(Duration.ofHours(1)).maximumSize(10).build();
+        var resultsCache = Caffeine.from("maximumSize=1000,expireAfterWrite=600s").build();
+
+        // when
+        rateLimitCache.put("key", "value");
+        resultsCache.put("key", "value");
+
+        // then
+        for (var cache : new Object[]{local(rateLimitCache), local(resultsCache)}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(cache.getClass())).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onType(node(cache).getClass())).accepts(hints);
+        }
+    }
+
+    @Test
+    void should_registerBindingHints_when_apiErrorSerializedOutsideController() {
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onType(ApiError.class)).accepts(hints);
+    }
+
+    private static Object local(Object cache) throws ReflectiveOperationException {
+        return read(cache.getClass(), "cache", cache);
+    }
+
+    private static Object node(Object local) throws ReflectiveOperationException {
+        var data = (Map<?, ?>) read(Class.forName("com.github.benmanes.caffeine.cache.BoundedLocalCache"), "data", local);
+        return data.values().iterator().next();
+    }
+
+    private static Object read(Class<?> type, String name, Object target) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
@@ -0,0 +1,73 @@
+package pl.election.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.election.adapter.out.votelog.MappedVoteLogRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class VoteLogCompactorTest {
+
+    @Mock
+    private MappedVoteLogRepository voteLog;
+
+    @Test
+    void should_compact_when_sealedSegmentsHoldRetiredVotes() throws IOException {
+        // given
+        var compactor = new VoteLogCompactor(voteLog, Duration.ofHours(1));
+        given(voteLog.isCompactionDue()).willReturn(true);
+
+        // when
+        compactor.compact();
+
+        // then
+        then(voteLog).should().compact();
+    }
+
+    @Test
+    void should_skipCompaction_when_noSealedSegmentHoldsRetiredVotes() throws IOException {
+        // given
+        var compactor = new VoteLogCompactor(voteLog, Duration.ofHours(1));
+        given(voteLog.isCompactionDue()).willReturn(false);
+
+        // when
+        compactor.compact();
+
+        // then
+        then(voteLog).should(never()).compact();
+    }
+
+    @Test
+    void should_keepScheduling_when_compactionFails() throws IOException {
+        // given
+        var compactor = new VoteLogCompactor(voteLog, Duration.ofHours(1));
+        given(voteLog.isCompactionDue()).willReturn(true);
+        given(voteLog.compact()).willThrow(new IOException("No space left on device"));
+
+        // when / then
+        assertThatCode(compactor::compact).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_notStart_when_noElectionIsRetired() {
+        // given
+        var compactor = new VoteLogCompactor(voteLog, Duration.ofHours(1));
+        given(voteLog.hasRetiredElections()).willReturn(false);
+
+        // when
+        compactor.start();
+
+        // then
+        assertThat(compactor.isRunning()).isFalse();
+    }
+}
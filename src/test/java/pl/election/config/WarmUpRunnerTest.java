@@ -0,0 +1,189 @@
+package pl.election.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import pl.election.adapter.in.web.VotingController;
+import pl.election.adapter.in.web.mapper.ElectionWebMapperImpl;
+import pl.election.adapter.out.persistence.pool.Workload;
+import pl.election.adapter.out.persistence.pool.WorkloadRoutingDataSource;
+import pl.election.application.port.in.ElectionResults;
+import pl.election.application.port.in.ElectionSummaryPage;
+import pl.election.application.port.in.ElectionUseCase;
+import pl.election.application.port.in.IdempotentVotingUseCase;
+import pl.election.application.port.in.VoteOutcome.Accepted;
+import pl.election.application.port.in.VoteOutcome.Rejected;
+import pl.election.application.port.in.VotingUseCase;
+import pl.election.application.port.out.MetricsPort;
+import pl.election.domain.model.Election;
+import pl.election.domain.model.ElectionId;
+import pl.election.domain.model.ElectionSummary;
+import pl.election.domain.model.Vote;
+import pl.election.domain.model.VoteId;
+import pl.election.domain.model.VoterId;
+import pl.election.domain.model.VotingOption;
+import pl.election.domain.model.VotingOptionId;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class WarmUpRunnerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WarmUpConfig config = new WarmUpConfig();
+    private final VotingUseCase votingUseCase = mock(VotingUseCase.class);
+    private final ElectionUseCase electionUseCase = mock(ElectionUseCase.class);
+    private final MetricsPort recordedMetrics = mock(MetricsPort.class);
+    private final WarmUpMetricsPort metrics = new WarmUpMetricsPort(recordedMetrics);
+
+    @Test
+    void should_replayVoteAndResultsAndPublishMetrics_when_electionExists() throws Exception {
+        // given
+        config.setIterations(200);
+        config.setMaxDuration(Duration.ofMinutes(1));
+        var election = Election.create(ElectionId.generate(), "Warm-up", NOW)
+                .addVotingOption(VotingOption.create(VotingOptionId.generate(), "Option A"));
+        given(electionUseCase.getElectionSummaries(null, 1)).willReturn(new ElectionSummaryPage(
+                List.of(new ElectionSummary(election.id(), election.name(), NOW, 1)), null));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTER_NOT_FOUND);
+        given(votingUseCase.getResults(election.id())).willReturn(ElectionResults.of(election, Map.of()));
+
+        // when
+        runner(null).run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(registry.get("warmup.iterations").gauge().value()).isEqualTo(200);
+        assertThat(registry.get("warmup.duration").timeGauge().value()).isPositive();
+        then(votingUseCase).should(times(200)).tryCastVote(any(), any(), any());
+        then(votingUseCase).should(times(200)).getResults(election.id());
+    }
+
+    @Test
+    void should_warmVotePathOnly_when_noElectionExists() throws Exception {
+        // given
+        config.setIterations(10);
+        given(electionUseCase.getElectionSummaries(null, 1)).willReturn(new ElectionSummaryPage(List.of(), null));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(Rejected.VOTER_NOT_FOUND);
+
+        // when
+        runner(null).run(new DefaultApplicationArguments());
+
+        // then
+        then(votingUseCase).should(times(10)).tryCastVote(any(), any(), any());
+        then(votingUseCase).should(never()).getResults(any());
+    }
+
+    @Test
+    void should_dropMetrics_when_recordedByWarmUp() throws Exception {
+        // given
+        config.setIterations(5);
+        given(electionUseCase.getElectionSummaries(null, 1)).willReturn(new ElectionSummaryPage(List.of(), null));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willAnswer(invocation -> {
+            metrics.recordVoteStarted();
+            metrics.recordVoteFinished();
+            return Rejected.VOTER_NOT_FOUND;
+        });
+
+        // when
+        runner(null).run(new DefaultApplicationArguments());
+        metrics.recordVoteStarted();
+
+        // then
+        then(recordedMetrics).should(times(1)).recordVoteStarted();
+        then(recordedMetrics).should(never()).recordVoteFinished();
+    }
+
+    @Test
+    void should_fail_when_warmUpVoteIsAccepted() {
+        // given
+        config.setIterations(1);
+        var missing = new UUID(0, 0);
+        given(electionUseCase.getElectionSummaries(null, 1)).willReturn(new ElectionSummaryPage(List.of(), null));
+        given(votingUseCase.tryCastVote(any(), any(), any())).willReturn(new Accepted(Vote.cast(VoteId.of(UUID.randomUUID()),
+                VoterId.of(missing), ElectionId.of(missing), VotingOptionId.of(missing), NOW)));
+
+        // when / then
+        assertThatThrownBy(() -> runner(null).run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Warm-up vote was accepted");
+    }
+
+    @Test
+    void should_stopEarly_when_maxDurationReached() throws Exception {
+        // given
+        config.setIterations(Integer.MAX_VALUE);
+        config.setMaxDuration(Duration.ZERO);
+        given(electionUseCase.getElectionSummaries(null, 1)).willReturn(new ElectionSummaryPage(List.of(), null));
+
+        // when
+        runner(null).run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(registry.get("warmup.iterations").gauge().value()).isZero();
+    }
+
+    @Test
+    void should_openMinimumIdleConnectionsOfEveryPool_when_dataSourcePresent() throws Exception {
+        // given
+        config.setIterations(0);
+        var pools = new EnumMap<Workload, DataSource>(Workload.class);
+        for (var workload : Workload.values()) pools.put(workload, pool(3));
+
+        // when
+        runner(new WorkloadRoutingDataSource(pools)).run(new DefaultApplicationArguments());
+
+        // then
+        for (var pool : pools.values()) {
+            then(pool).should(times(3)).getConnection();
+        }
+    }
+
+    @Test
+    void should_doNothing_when_disabled() throws Exception {
+        // given
+        config.setEnabled(false);
+
+        // when
+        runner(null).run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(registry.find("warmup.iterations").gauge()).isNull();
+        then(votingUseCase).shouldHaveNoInteractions();
+    }
+
+    private WarmUpRunner runner(DataSource dataSource) {
+        var controller = new VotingController(votingUseCase, mock(IdempotentVotingUseCase.class), new ElectionWebMapperImpl());
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        return new WarmUpRunner(config, electionUseCase, controller, objectMapper, validator, metrics,
+                dataSource, registry);
+    }
+
+    private static HikariDataSource pool(int minimumIdle) throws Exception {
+        var pool = mock(HikariDataSource.class);
+        given(pool.getMinimumIdle()).willReturn(minimumIdle);
+        given(pool.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        return pool;
+    }
+}
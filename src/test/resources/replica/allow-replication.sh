@@ -0,0 +1,3 @@
+#!/bin/sh
+# Lets the standby container stream WAL from the primary with the regular superuser.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"